@@ -0,0 +1,90 @@
+package model;
+
+/**
+ * Modellklasse fuer ein Service-Depot.
+ * Speichert Name, Koordinaten und die Anzahl der dort stationierten Wartungsteams.
+ *
+ * Verwendung: Startpunkt der Wartungsrouten bei der depotbasierten Planung.
+ *
+ * Pre: name nicht null
+ * Post: Objekt ist unveraenderlich und vollstaendig initialisiert
+ */
+public final class Depot {
+
+    private final String name;
+    private final float breitengrad;
+    private final float laengengrad;
+    private final int anzahlTeams;
+
+    /**
+     * Erstellt ein neues Depot.
+     *
+     * Pre: name nicht null; anzahlTeams >= 1
+     * Post: Objekt mit allen Werten erstellt
+     *
+     * @param name Name des Depots
+     * @param breitengrad Breitengrad
+     * @param laengengrad Laengengrad
+     * @param anzahlTeams Anzahl stationierter Teams
+     */
+    public Depot(String name, float breitengrad, float laengengrad, int anzahlTeams) {
+        if (name == null) {
+            throw new IllegalArgumentException("Depotname darf nicht null sein");
+        }
+        if (anzahlTeams < 1) {
+            throw new IllegalArgumentException("Depot braucht mindestens ein Team: " + name);
+        }
+        this.name = name;
+        this.breitengrad = breitengrad;
+        this.laengengrad = laengengrad;
+        this.anzahlTeams = anzahlTeams;
+    }
+
+    /**
+     * Gibt den Namen des Depots zurueck.
+     *
+     * Pre: keine
+     * Post: Name wird zurueckgegeben
+     *
+     * @return Name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gibt den Breitengrad zurueck.
+     *
+     * Pre: keine
+     * Post: Breitengrad wird zurueckgegeben
+     *
+     * @return Breitengrad
+     */
+    public float getBreitengrad() {
+        return breitengrad;
+    }
+
+    /**
+     * Gibt den Laengengrad zurueck.
+     *
+     * Pre: keine
+     * Post: Laengengrad wird zurueckgegeben
+     *
+     * @return Laengengrad
+     */
+    public float getLaengengrad() {
+        return laengengrad;
+    }
+
+    /**
+     * Gibt die Anzahl der stationierten Teams zurueck.
+     *
+     * Pre: keine
+     * Post: Teamanzahl wird zurueckgegeben
+     *
+     * @return Anzahl Teams (>= 1)
+     */
+    public int getAnzahlTeams() {
+        return anzahlTeams;
+    }
+}
@@ -1,6 +1,7 @@
 package model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -23,6 +24,9 @@ public class Graphknoten {
     /** Liste der Nachbarknoten (Adjazenzliste) */
     private final List<Graphknoten> nachbarn;
 
+    /** Kantendistanzen in km, parallel zur Nachbarliste (gleicher Index, Kapazitaet >= Anzahl Nachbarn) */
+    private float[] nachbarDistanzen;
+
     /**
      * Erstellt einen neuen Graphknoten für eine Windkraftanlage.
      * 
@@ -37,6 +41,7 @@ public class Graphknoten {
         }
         this.anlage = anlage;
         this.nachbarn = new ArrayList<>();
+        this.nachbarDistanzen = new float[0];
     }
 
     /**
@@ -65,6 +70,7 @@ public class Graphknoten {
 
     /**
      * Fügt einen Nachbarknoten hinzu.
+     * Die Kantendistanz ist unbekannt und wird als NaN gespeichert.
      * 
      * Pre: nachbar darf nicht null sein
      * Post: nachbar ist zur Nachbarliste hinzugefügt
@@ -72,14 +78,67 @@ public class Graphknoten {
      * @param nachbar Der hinzuzufügende Nachbarknoten
      */
     public void fuegeNachbarHinzu(Graphknoten nachbar) {
+        fuegeNachbarHinzu(nachbar, Float.NaN);
+    }
+
+    /**
+     * Fügt einen Nachbarknoten zusammen mit der Kantendistanz hinzu.
+     * 
+     * Pre: nachbar darf nicht null sein
+     * Post: nachbar und distanzKm sind unter gleichem Index gespeichert
+     * 
+     * @param nachbar Der hinzuzufügende Nachbarknoten
+     * @param distanzKm Distanz der Kante in km
+     */
+    public void fuegeNachbarHinzu(Graphknoten nachbar, float distanzKm) {
         if (nachbar == null) {
             throw new IllegalArgumentException("Nachbar darf nicht null sein");
         }
         if (!nachbarn.contains(nachbar)) {
+            int anzahl = nachbarn.size();
+            if (anzahl == nachbarDistanzen.length) {
+                nachbarDistanzen = Arrays.copyOf(nachbarDistanzen, Math.max(4, 2 * anzahl));
+            }
+            nachbarDistanzen[anzahl] = distanzKm;
             nachbarn.add(nachbar);
         }
     }
 
+    /**
+     * Entfernt einen Nachbarknoten samt Kantendistanz.
+     * 
+     * Pre: -
+     * Post: nachbar ist nicht mehr in der Nachbarliste
+     * 
+     * @param nachbar Der zu entfernende Nachbarknoten
+     * @return true wenn nachbar enthalten war
+     */
+    public boolean entferneNachbar(Graphknoten nachbar) {
+        int index = nachbarn.indexOf(nachbar);
+        if (index < 0) {
+            return false;
+        }
+        nachbarn.remove(index);
+        System.arraycopy(nachbarDistanzen, index + 1, nachbarDistanzen, index, nachbarn.size() - index);
+        return true;
+    }
+
+    /**
+     * Gibt die Distanz der Kante zum Nachbarn mit dem gegebenen Index zurück.
+     * 
+     * Pre: 0 <= index < getAnzahlNachbarn()
+     * Post: Rückgabe ist Distanz in km (NaN wenn unbekannt)
+     * 
+     * @param index Index des Nachbarn in der Nachbarliste
+     * @return Kantendistanz in km
+     */
+    public float getNachbarDistanzKm(int index) {
+        if (index < 0 || index >= nachbarn.size()) {
+            throw new IndexOutOfBoundsException("Nachbarindex " + index + " bei " + nachbarn.size() + " Nachbarn");
+        }
+        return nachbarDistanzen[index];
+    }
+
     /**
      * Gibt die Anzahl der Nachbarn zurück.
      * 
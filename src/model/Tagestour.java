@@ -0,0 +1,90 @@
+package model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Modellklasse fuer die Tagestour eines Wartungsteams.
+ * Speichert Team, Arbeitstag, die Anlagen in Besuchsreihenfolge und die Fahrstrecke des Tages.
+ *
+ * Verwendung: Ergebnis der Tourenplanung (ein Eintrag pro Team und Arbeitstag).
+ *
+ * Pre: anlagen nicht null
+ * Post: Objekt ist unveraenderlich und vollstaendig initialisiert
+ */
+public final class Tagestour {
+
+    private final int team;
+    private final int tag;
+    private final List<Windkraftanlage> anlagen;
+    private final float fahrstreckeKm;
+
+    /**
+     * Erstellt eine neue Tagestour.
+     *
+     * Pre: team >= 1; tag >= 1; anlagen nicht null
+     * Post: Objekt mit allen Werten erstellt
+     *
+     * @param team Nummer des Teams (1-basiert)
+     * @param tag Arbeitstag des Teams (1-basiert, Reisetage eingerechnet)
+     * @param anlagen Anlagen in Besuchsreihenfolge
+     * @param fahrstreckeKm Fahrstrecke zwischen den Anlagen des Tages in km
+     */
+    public Tagestour(int team, int tag, List<Windkraftanlage> anlagen, float fahrstreckeKm) {
+        if (anlagen == null) {
+            throw new IllegalArgumentException("Anlagenliste darf nicht null sein");
+        }
+        this.team = team;
+        this.tag = tag;
+        this.anlagen = Collections.unmodifiableList(anlagen);
+        this.fahrstreckeKm = fahrstreckeKm;
+    }
+
+    /**
+     * Gibt die Nummer des Teams zurueck.
+     *
+     * Pre: keine
+     * Post: Teamnummer wird zurueckgegeben
+     *
+     * @return Team (1-basiert)
+     */
+    public int getTeam() {
+        return team;
+    }
+
+    /**
+     * Gibt den Arbeitstag des Teams zurueck.
+     *
+     * Pre: keine
+     * Post: Tag wird zurueckgegeben
+     *
+     * @return Tag (1-basiert)
+     */
+    public int getTag() {
+        return tag;
+    }
+
+    /**
+     * Gibt die Anlagen in Besuchsreihenfolge zurueck.
+     *
+     * Pre: keine
+     * Post: Unveraenderliche Liste wird zurueckgegeben
+     *
+     * @return Anlagen der Tour
+     */
+    public List<Windkraftanlage> getAnlagen() {
+        return anlagen;
+    }
+
+    /**
+     * Gibt die Fahrstrecke des Tages zurueck.
+     *
+     * Pre: keine
+     * Post: Fahrstrecke wird zurueckgegeben
+     *
+     * @return Fahrstrecke in km
+     */
+    public float getFahrstreckeKm() {
+        return fahrstreckeKm;
+    }
+}
@@ -0,0 +1,105 @@
+package model;
+
+/**
+ * Modellklasse fuer einen Satz Planungsparameter der Wartungsplanung (ein Szenario).
+ * Speichert Anlagen pro Tag, Transportgeschwindigkeit, Transportstunden pro Tag und die
+ * Anzahl betrachteter Top-Hersteller; das Transportlimit ergibt sich daraus.
+ *
+ * Verwendung: Szenarien der Parameterstudie (Standardwerte entsprechen Konstanten).
+ *
+ * Pre: Alle Werte positiv
+ * Post: Objekt ist unveraenderlich und vollstaendig initialisiert
+ */
+public final class WartungsParameter {
+
+    private final int anlagenProTag;
+    private final float geschwindigkeitKmh;
+    private final float transportStundenProTag;
+    private final int topHersteller;
+
+    /**
+     * Erstellt einen neuen Parametersatz.
+     *
+     * Pre: anlagenProTag >= 1; geschwindigkeitKmh > 0; transportStundenProTag > 0; topHersteller >= 1
+     * Post: Objekt mit allen Werten erstellt
+     *
+     * @param anlagenProTag Maximale Anlagen pro Arbeitstag
+     * @param geschwindigkeitKmh Transportgeschwindigkeit in km/h
+     * @param transportStundenProTag Verfuegbare Transportstunden pro Tag
+     * @param topHersteller Anzahl betrachteter Top-Hersteller
+     */
+    public WartungsParameter(int anlagenProTag, float geschwindigkeitKmh, float transportStundenProTag,
+                             int topHersteller) {
+        if (anlagenProTag < 1 || topHersteller < 1) {
+            throw new IllegalArgumentException("Anlagen pro Tag und Top-Hersteller muessen mindestens 1 sein");
+        }
+        if (!(geschwindigkeitKmh > 0f) || !(transportStundenProTag > 0f)) {
+            throw new IllegalArgumentException("Geschwindigkeit und Transportstunden muessen positiv sein");
+        }
+        this.anlagenProTag = anlagenProTag;
+        this.geschwindigkeitKmh = geschwindigkeitKmh;
+        this.transportStundenProTag = transportStundenProTag;
+        this.topHersteller = topHersteller;
+    }
+
+    /**
+     * Gibt die maximalen Anlagen pro Arbeitstag zurueck.
+     *
+     * Pre: keine
+     * Post: Wert wird zurueckgegeben
+     *
+     * @return Anlagen pro Tag (>= 1)
+     */
+    public int getAnlagenProTag() {
+        return anlagenProTag;
+    }
+
+    /**
+     * Gibt die Transportgeschwindigkeit zurueck.
+     *
+     * Pre: keine
+     * Post: Wert wird zurueckgegeben
+     *
+     * @return Geschwindigkeit in km/h
+     */
+    public float getGeschwindigkeitKmh() {
+        return geschwindigkeitKmh;
+    }
+
+    /**
+     * Gibt die Transportstunden pro Tag zurueck.
+     *
+     * Pre: keine
+     * Post: Wert wird zurueckgegeben
+     *
+     * @return Transportstunden pro Tag
+     */
+    public float getTransportStundenProTag() {
+        return transportStundenProTag;
+    }
+
+    /**
+     * Gibt die Anzahl betrachteter Top-Hersteller zurueck.
+     *
+     * Pre: keine
+     * Post: Wert wird zurueckgegeben
+     *
+     * @return Anzahl Top-Hersteller (>= 1)
+     */
+    public int getTopHersteller() {
+        return topHersteller;
+    }
+
+    /**
+     * Berechnet das Transportlimit pro Tag (Geschwindigkeit mal Transportstunden).
+     * Es ist zugleich die Kantenlaenge fuer die Cluster-Erkennung.
+     *
+     * Pre: keine
+     * Post: Wert wird zurueckgegeben
+     *
+     * @return Maximale Transportdistanz in km
+     */
+    public float getMaxTransportDistanzKm() {
+        return geschwindigkeitKmh * transportStundenProTag;
+    }
+}
@@ -12,6 +12,7 @@ import java.util.List;
  * - Wiederverwendbarkeit: Alle Ausgaben erfolgen über diese Klasse
  * - Konsistenz: Einheitliche Formatierung
  * - KISS: Einfache Liste für Pufferung
+ * - Parallelitaet: Ist im aktuellen Thread ein AusgabePuffer aktiv, wird dorthin umgeleitet
  * 
  * Verwendung:
  * - AusgabeManager.gebeAus(text) - einfache Ausgabe
@@ -65,6 +66,11 @@ public final class AusgabeManager {
      * @param text Der auszugebende Text
      */
     public static void gebeAus(String text) {
+        AusgabePuffer aufgabenPuffer = AusgabePuffer.aktueller();
+        if (aufgabenPuffer != null) {
+            aufgabenPuffer.zeichneAuf(() -> gebeAus(text));
+            return;
+        }
         if (istPufferungAktiv) {
             String zeile = (text == null) ? Konstanten.LEERSTRING : text;
             pufferZeilen.add(zeile);
@@ -83,7 +89,21 @@ public final class AusgabeManager {
      * @param args Argumente für die Formatierung
      */
     public static void gebeAusFormat(String format, Object... args) {
-        String formatierterText = String.format(format, args);
+        gebeFormatiertAus(String.format(format, args));
+    }
+
+    /**
+     * Gibt einen bereits formatierten Text wie gebeAusFormat aus.
+     * 
+     * @param text Formatierter Text (Zeilenumbrueche sind enthalten)
+     */
+    private static void gebeFormatiertAus(String text) {
+        AusgabePuffer aufgabenPuffer = AusgabePuffer.aktueller();
+        if (aufgabenPuffer != null) {
+            aufgabenPuffer.zeichneAuf(() -> gebeFormatiertAus(text));
+            return;
+        }
+        String formatierterText = text;
         if (istPufferungAktiv) {
             // Entferne abschließenden Zeilenumbruch wenn vorhanden
             if (formatierterText.endsWith(System.lineSeparator())) {
@@ -115,6 +135,11 @@ public final class AusgabeManager {
      * Post: Leere Zeile wurde auf stdout ausgegeben oder gepuffert
      */
     public static void gebeLeereZeileAus() {
+        AusgabePuffer aufgabenPuffer = AusgabePuffer.aktueller();
+        if (aufgabenPuffer != null) {
+            aufgabenPuffer.zeichneAuf(AusgabeManager::gebeLeereZeileAus);
+            return;
+        }
         if (istPufferungAktiv) {
             pufferZeilen.add(Konstanten.LEERSTRING);
         } else {
@@ -132,6 +157,11 @@ public final class AusgabeManager {
      */
     public static void gebeTrennstrichAus(int laenge) {
         String trennstrich = Konstanten.TRENNSTRICH_ZEICHEN.repeat(Math.max(0, laenge));
+        AusgabePuffer aufgabenPuffer = AusgabePuffer.aktueller();
+        if (aufgabenPuffer != null) {
+            aufgabenPuffer.zeichneAuf(() -> gebeTrennstrichAus(laenge));
+            return;
+        }
         if (istPufferungAktiv) {
             pufferZeilen.add(trennstrich);
         } else {
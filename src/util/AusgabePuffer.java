@@ -0,0 +1,80 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ausgabepuffer fuer eine parallel laufende Teilaufgabe.
+ * Solange eine Aufgabe ueber fuehreAus laeuft, leiten AusgabeManager und ZeitStatistiken
+ * Ausgaben und Statistik-Aenderungen des aktuellen Threads in diesen Puffer um. gebeAus spielt
+ * sie spaeter in der aufgezeichneten Reihenfolge ab, sodass die Gesamtausgabe unabhaengig von
+ * der Ausfuehrungsreihenfolge der Aufgaben bleibt.
+ *
+ * Verschachtelung: fuehreAus merkt sich den vorher aktiven Puffer und stellt ihn danach wieder her.
+ * Damit bleibt die Zuordnung korrekt, wenn ein ForkJoin-Thread beim Warten eine andere Aufgabe ausfuehrt.
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur Aufzeichnen und Abspielen von Ausgaben
+ * - KISS: Aufzeichnung als Liste von Aufrufen der normalen Ausgabemethoden
+ *
+ * Pre: Ein Puffer wird von genau einer Aufgabe befuellt
+ * Post: gebeAus liefert dieselbe Ausgabe wie eine direkte Ausfuehrung der Aufgabe
+ */
+public final class AusgabePuffer {
+
+    private static final ThreadLocal<AusgabePuffer> AKTIVER_PUFFER = new ThreadLocal<>();
+
+    private final List<Runnable> eintraege = new ArrayList<>();
+
+    /**
+     * Fuehrt eine Aufgabe aus und zeichnet dabei alle Ausgaben des aktuellen Threads auf.
+     *
+     * Pre: aufgabe nicht null
+     * Post: Ausgaben der Aufgabe liegen im Puffer, vorheriger Puffer des Threads ist wieder aktiv
+     *
+     * @param aufgabe Auszufuehrende Aufgabe
+     */
+    public void fuehreAus(Runnable aufgabe) {
+        AusgabePuffer vorher = AKTIVER_PUFFER.get();
+        AKTIVER_PUFFER.set(this);
+        try {
+            aufgabe.run();
+        } finally {
+            if (vorher == null) {
+                AKTIVER_PUFFER.remove();
+            } else {
+                AKTIVER_PUFFER.set(vorher);
+            }
+        }
+    }
+
+    /**
+     * Spielt alle aufgezeichneten Ausgaben in ihrer Reihenfolge ab.
+     *
+     * Pre: Aufgabe ist abgeschlossen
+     * Post: Ausgaben wurden ueber AusgabeManager bzw. ZeitStatistiken ausgegeben
+     */
+    public void gebeAus() {
+        for (Runnable eintrag : eintraege) {
+            eintrag.run();
+        }
+    }
+
+    /**
+     * Liefert den im aktuellen Thread aktiven Puffer.
+     *
+     * @return Aktiver Puffer oder null, wenn direkt ausgegeben wird
+     */
+    static AusgabePuffer aktueller() {
+        return AKTIVER_PUFFER.get();
+    }
+
+    /**
+     * Zeichnet einen Ausgabeaufruf zum spaeteren Abspielen auf.
+     *
+     * @param eintrag Aufruf der Ausgabemethode mit bereits berechneten Argumenten
+     */
+    void zeichneAuf(Runnable eintrag) {
+        eintraege.add(eintrag);
+    }
+}
@@ -0,0 +1,134 @@
+package util;
+
+import model.Depot;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Liest Service-Depots aus einer lokalen CSV-Datei.
+ *
+ * Dateiformat (Kopfzeile wird uebersprungen, Trennzeichen Komma):
+ * Name, Breitengrad, Laengengrad, Teams
+ *
+ * Ungueltige Zeilen (fehlende Koordinaten, Teams < 1) werden mit Fehlermeldung uebersprungen.
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur Einlesen, die Zuordnung macht DepotZuordnung
+ * - Wiederverwendung: Zeilen und Felder ueber CsvParser und FeldParser wie beim Anlagenimport
+ *
+ * Pre: Datei im beschriebenen Format (UTF-8)
+ * Post: Liefert alle gueltigen Depots in Dateireihenfolge
+ */
+public final class DepotLeser {
+
+    /** Spalte: Name */
+    private static final int SPALTE_NAME = 0;
+
+    /** Spalte: Breitengrad */
+    private static final int SPALTE_BREITENGRAD = 1;
+
+    /** Spalte: Laengengrad */
+    private static final int SPALTE_LAENGENGRAD = 2;
+
+    /** Spalte: Anzahl Teams */
+    private static final int SPALTE_TEAMS = 3;
+
+    private static List<Depot> standard;
+    private static boolean standardGeladen;
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private DepotLeser() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Liefert die konfigurierten Depots (einmal gelesen, danach wiederverwendet).
+     *
+     * Pre: -
+     * Post: Rueckgabe ist unveraenderliche Liste oder null, wenn abgeschaltet, Datei fehlt oder leer ist
+     *
+     * @return Depots oder null (dann beginnen Routen bei der ersten Clusteranlage)
+     */
+    public static synchronized List<Depot> holeStandard() {
+        if (!standardGeladen) {
+            standardGeladen = true;
+            if (Konstanten.DEPOT_PLANUNG_AKTIVIERT) {
+                Path datei = Paths.get(Konstanten.DEPOT_DATEI);
+                try {
+                    List<Depot> depots = lese(datei);
+                    if (depots.isEmpty()) {
+                        AusgabeManager.gebeFehlerAus(Konstanten.DEPOT_FEHLER + datei);
+                    } else {
+                        standard = Collections.unmodifiableList(depots);
+                    }
+                } catch (IOException e) {
+                    AusgabeManager.gebeFehlerAus(Konstanten.DEPOT_FEHLER + e.getMessage());
+                }
+            }
+        }
+        return standard;
+    }
+
+    /**
+     * Liest alle gueltigen Depots einer Datei.
+     *
+     * Pre: datei nicht null
+     * Post: Rueckgabe enthaelt alle gueltigen Zeilen
+     *
+     * @param datei CSV-Datei
+     * @return Depots in Dateireihenfolge
+     * @throws IOException bei Lesefehlern
+     */
+    public static List<Depot> lese(Path datei) throws IOException {
+        List<Depot> depots = new ArrayList<>();
+        try (BufferedReader leser = Files.newBufferedReader(datei, StandardCharsets.UTF_8)) {
+            // Kopfzeile ueberspringen
+            String zeile = CsvParser.leseNaechstenDatensatz(leser);
+            int zeilenNummer = 1;
+            while ((zeile = CsvParser.leseNaechstenDatensatz(leser)) != null) {
+                zeilenNummer++;
+                if (zeile.isBlank()) {
+                    continue;
+                }
+                Depot depot = parseZeile(CsvParser.teileZeileInFelder(zeile));
+                if (depot == null) {
+                    AusgabeManager.gebeFehlerAus(String.format(Konstanten.DEPOT_ZEILE_UNGUELTIG, zeilenNummer, zeile));
+                } else {
+                    depots.add(depot);
+                }
+            }
+        }
+        return depots;
+    }
+
+    /**
+     * Erstellt ein Depot aus den Feldern einer Zeile.
+     *
+     * @param felder Felder der Zeile
+     * @return Depot oder null bei ungueltigen Werten
+     */
+    private static Depot parseZeile(String[] felder) {
+        if (felder.length <= SPALTE_TEAMS) {
+            return null;
+        }
+        String name = FeldParser.leerZuNull(CsvParser.bereinigesFeld(felder[SPALTE_NAME]));
+        Float breitengrad = FeldParser.parseGleitkommaZahlNullbar(felder[SPALTE_BREITENGRAD]);
+        Float laengengrad = FeldParser.parseGleitkommaZahlNullbar(felder[SPALTE_LAENGENGRAD]);
+        Integer teams = FeldParser.parseGanzzahlNullbar(felder[SPALTE_TEAMS]);
+        if (name == null || breitengrad == null || laengengrad == null || teams == null || teams < 1
+            || Math.abs(breitengrad) > 90f || Math.abs(laengengrad) > 180f) {
+            return null;
+        }
+        return new Depot(name, breitengrad, laengengrad, teams);
+    }
+}
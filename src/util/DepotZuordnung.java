@@ -0,0 +1,247 @@
+package util;
+
+import model.Depot;
+import model.Windkraftanlage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ordnet Wartungscluster aller Hersteller in einem Durchlauf Service-Depots zu.
+ *
+ * Ablauf:
+ * 1. Ein KdBaum enthaelt Depots (Label 1) und alle Anlagen (Label 0). Fuer jede Anlage liefert
+ *    die Suche nach fremden Punkten ihre DEPOT_KANDIDATEN naechsten Depots; Anlagen-Teilbaeume
+ *    werden dabei komplett uebersprungen.
+ * 2. Je Cluster ist die Anfahrt zu einem Depot die kleinste Distanz einer seiner Anlagen zum Depot.
+ *    Kandidaten sind die DEPOT_KANDIDATEN Depots mit der kuerzesten Anfahrt.
+ * 3. Cluster werden absteigend nach geschaetzten Wartungstagen vergeben. Jeder Cluster geht an den
+ *    Kandidaten, dessen Teams damit am fruehesten fertig werden (belegte Tage / Teams plus
+ *    Reisetage der Anfahrt), bei Gleichstand an den naeheren.
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur Zuordnung und Startanlage, die Routen plant RoutenOptimierer
+ * - Wiederverwendung: KdBaum mit Label-Pruning, Reisetage aus WartungsZeitBerechner
+ * - Performance: O(n log n) fuer n Anlagen, unabhaengig von der Anzahl Cluster
+ *
+ * Pre: Depots nicht leer
+ * Post: Jeder Cluster mit Koordinaten hat ein Depot
+ */
+public final class DepotZuordnung {
+
+    /** Markierung fuer Cluster ohne Anlage mit Koordinaten */
+    public static final int KEIN_DEPOT = -1;
+
+    /** Label der Anlagen im KdBaum */
+    private static final int LABEL_ANLAGE = 0;
+
+    /** Label der Depots im KdBaum */
+    private static final int LABEL_DEPOT = 1;
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private DepotZuordnung() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Ordnet jeden Cluster einem Depot zu.
+     *
+     * Pre: cluster und depots nicht null, depots nicht leer
+     * Post: Rueckgabe[i] ist Depotindex fuer cluster.get(i) oder KEIN_DEPOT
+     *
+     * @param cluster Cluster aller Hersteller
+     * @param depots Verfuegbare Depots
+     * @return Depotindex je Cluster
+     */
+    public static int[] ordneZu(List<List<Windkraftanlage>> cluster, List<Depot> depots) {
+        if (cluster == null || depots == null || depots.isEmpty()) {
+            throw new IllegalArgumentException("Cluster und mindestens ein Depot erforderlich");
+        }
+        int anzahlDepots = depots.size();
+
+        // Schritt 1: Depots und Anlagen in einem Baum, Anlagen mit Clusterzugehoerigkeit
+        List<Windkraftanlage> anlagen = new ArrayList<>();
+        IntListe clusterVonAnlage = new IntListe();
+        for (int c = 0; c < cluster.size(); c++) {
+            for (Windkraftanlage anlage : cluster.get(c)) {
+                if (anlage.getBreitengrad() != null && anlage.getLaengengrad() != null) {
+                    anlagen.add(anlage);
+                    clusterVonAnlage.fuegeHinzu(c);
+                }
+            }
+        }
+        double[] positionen = new double[3 * (anzahlDepots + anlagen.size())];
+        int[] labels = new int[anzahlDepots + anlagen.size()];
+        for (int d = 0; d < anzahlDepots; d++) {
+            Depot depot = depots.get(d);
+            DistanzBerechner.berechneKartesischePosition(depot.getBreitengrad(), depot.getLaengengrad(),
+                positionen, 3 * d);
+            labels[d] = LABEL_DEPOT;
+        }
+        for (int a = 0; a < anlagen.size(); a++) {
+            Windkraftanlage anlage = anlagen.get(a);
+            DistanzBerechner.berechneKartesischePosition(anlage.getBreitengrad(), anlage.getLaengengrad(),
+                positionen, 3 * (anzahlDepots + a));
+            labels[anzahlDepots + a] = LABEL_ANLAGE;
+        }
+        KdBaum baum = new KdBaum(positionen);
+        baum.setzeLabels(labels);
+
+        // Schritt 2: Kleinste Anfahrt je (Cluster, Depot) ueber die naechsten Depots jeder Anlage
+        float[][] anfahrtKm = new float[cluster.size()][];
+        int[][] kandidaten = new int[cluster.size()][];
+        float[] minimum = new float[anzahlDepots];
+        Arrays.fill(minimum, Float.MAX_VALUE);
+        IntListe beruehrt = new IntListe();
+        IntListe treffer = new IntListe();
+        int k = Math.min(Konstanten.DEPOT_KANDIDATEN, anzahlDepots);
+
+        int a = 0;
+        while (a < anlagen.size()) {
+            int c = clusterVonAnlage.hole(a);
+            for (; a < anlagen.size() && clusterVonAnlage.hole(a) == c; a++) {
+                Windkraftanlage anlage = anlagen.get(a);
+                baum.sucheKNaechsteFremde(anzahlDepots + a, k, treffer);
+                for (int t = 0; t < treffer.groesse(); t++) {
+                    int d = treffer.hole(t);
+                    Depot depot = depots.get(d);
+                    float km = DistanzBerechner.berechneDistanzKm(anlage.getBreitengrad(), anlage.getLaengengrad(),
+                        depot.getBreitengrad(), depot.getLaengengrad());
+                    if (minimum[d] == Float.MAX_VALUE) {
+                        beruehrt.fuegeHinzu(d);
+                    }
+                    minimum[d] = Math.min(minimum[d], km);
+                }
+            }
+            uebernehmeBesteKandidaten(c, k, beruehrt, minimum, kandidaten, anfahrtKm);
+        }
+
+        // Schritt 3: Groesste Cluster zuerst an den Kandidaten mit dem fruehesten Ende
+        Integer[] reihenfolge = new Integer[cluster.size()];
+        for (int c = 0; c < reihenfolge.length; c++) {
+            reihenfolge[c] = c;
+        }
+        Arrays.sort(reihenfolge, (x, y) -> Integer.compare(cluster.get(y).size(), cluster.get(x).size()));
+
+        int[] zuordnung = new int[cluster.size()];
+        Arrays.fill(zuordnung, KEIN_DEPOT);
+        int[] belegteTage = new int[anzahlDepots];
+        for (int c : reihenfolge) {
+            if (kandidaten[c] == null) {
+                continue;
+            }
+            int tage = schaetzeTage(cluster.get(c).size());
+            int bester = KEIN_DEPOT;
+            double besteEnde = Double.MAX_VALUE;
+            float besteKm = Float.MAX_VALUE;
+            for (int i = 0; i < kandidaten[c].length; i++) {
+                int d = kandidaten[c][i];
+                double ende = (double) (belegteTage[d] + tage) / depots.get(d).getAnzahlTeams()
+                    + WartungsZeitBerechner.berechneReisetage(anfahrtKm[c][i]);
+                if (ende < besteEnde || (ende == besteEnde && anfahrtKm[c][i] < besteKm)) {
+                    besteEnde = ende;
+                    besteKm = anfahrtKm[c][i];
+                    bester = d;
+                }
+            }
+            zuordnung[c] = bester;
+            belegteTage[bester] += tage;
+        }
+        return zuordnung;
+    }
+
+    /**
+     * Liefert die Clusteranlagen so umgeordnet, dass die dem Depot naechste Anlage vorne steht.
+     * Alle Routenverfahren beginnen bei der ersten Anlage, die Route startet damit am Depot.
+     *
+     * Pre: cluster und depot nicht null
+     * Post: Rueckgabe enthaelt dieselben Anlagen, uebrige Reihenfolge unveraendert
+     *
+     * @param cluster Anlagen des Clusters
+     * @param depot Zugeordnetes Depot
+     * @return Neue Liste mit depotnaechster Anlage an erster Stelle
+     */
+    public static List<Windkraftanlage> beginneBeiDepot(List<Windkraftanlage> cluster, Depot depot) {
+        int naechste = 0;
+        float besteKm = Float.MAX_VALUE;
+        for (int i = 0; i < cluster.size(); i++) {
+            float km = berechneAnfahrtKm(cluster.get(i), depot);
+            if (km < besteKm) {
+                besteKm = km;
+                naechste = i;
+            }
+        }
+        List<Windkraftanlage> ergebnis = new ArrayList<>(cluster.size());
+        ergebnis.add(cluster.get(naechste));
+        for (int i = 0; i < cluster.size(); i++) {
+            if (i != naechste) {
+                ergebnis.add(cluster.get(i));
+            }
+        }
+        return ergebnis;
+    }
+
+    /**
+     * Berechnet die Luftlinie von einem Depot zu einer Anlage.
+     *
+     * Pre: anlage und depot nicht null
+     * Post: Rueckgabe ist Distanz in km (Float.MAX_VALUE ohne Koordinaten)
+     *
+     * @param anlage Anlage
+     * @param depot Depot
+     * @return Distanz in km
+     */
+    public static float berechneAnfahrtKm(Windkraftanlage anlage, Depot depot) {
+        if (anlage.getBreitengrad() == null || anlage.getLaengengrad() == null) {
+            return Float.MAX_VALUE;
+        }
+        return DistanzBerechner.berechneDistanzKm(anlage.getBreitengrad(), anlage.getLaengengrad(),
+            depot.getBreitengrad(), depot.getLaengengrad());
+    }
+
+    /**
+     * Schaetzt die Wartungstage eines Clusters ohne Reisetage.
+     *
+     * @param anzahlAnlagen Anzahl Anlagen
+     * @return Tage (aufgerundet)
+     */
+    private static int schaetzeTage(int anzahlAnlagen) {
+        return (anzahlAnlagen + Konstanten.ANLAGEN_PRO_TAG - 1) / Konstanten.ANLAGEN_PRO_TAG;
+    }
+
+    /**
+     * Uebernimmt die k Depots mit der kuerzesten Anfahrt eines Clusters und setzt die
+     * Arbeitsarrays zurueck.
+     *
+     * @param c Clusterindex
+     * @param k Anzahl Kandidaten
+     * @param beruehrt Depots mit gesetztem Minimum
+     * @param minimum Kleinste Anfahrt je Depot (wird zurueckgesetzt)
+     * @param kandidaten Ausgabe: Kandidaten je Cluster
+     * @param anfahrtKm Ausgabe: Anfahrt je Kandidat
+     */
+    private static void uebernehmeBesteKandidaten(int c, int k, IntListe beruehrt, float[] minimum,
+                                                  int[][] kandidaten, float[][] anfahrtKm) {
+        int[] depots = beruehrt.alsArray();
+        // Sortierung nach Anfahrt (Float-Bits in den oberen 32 Bit, nicht negative Werte), dann Index
+        long[] sortierung = new long[depots.length];
+        for (int i = 0; i < depots.length; i++) {
+            sortierung[i] = ((long) Float.floatToIntBits(minimum[depots[i]]) << 32) | depots[i];
+        }
+        Arrays.sort(sortierung);
+        int anzahl = Math.min(k, depots.length);
+        kandidaten[c] = new int[anzahl];
+        anfahrtKm[c] = new float[anzahl];
+        for (int i = 0; i < anzahl; i++) {
+            kandidaten[c][i] = (int) sortierung[i];
+            anfahrtKm[c][i] = minimum[kandidaten[c][i]];
+        }
+        for (int d : depots) {
+            minimum[d] = Float.MAX_VALUE;
+        }
+        beruehrt.leere();
+    }
+}
@@ -13,6 +13,12 @@ package util;
  */
 public final class DistanzBerechner {
 
+    /** Relativer Zuschlag auf Sehnenlaengen (Rundung der float-Haversine) */
+    private static final double SEHNEN_RESERVE_FAKTOR = 1.0001;
+
+    /** Absoluter Zuschlag auf Sehnenlaengen in km */
+    private static final double SEHNEN_RESERVE_KM = 0.001;
+
     /**
      * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
      */
@@ -43,13 +49,35 @@ public final class DistanzBerechner {
         float lat2Rad = gradZuRadianten(breitengrad2);
         float lon2Rad = gradZuRadianten(laengengrad2);
 
+        return berechneDistanzKmAusRadianten(lat1Rad, lon1Rad, (float) Math.cos(lat1Rad),
+                                             lat2Rad, lon2Rad, (float) Math.cos(lat2Rad));
+    }
+
+    /**
+     * Berechnet die Haversine-Distanz aus vorab umgerechneten Koordinaten.
+     * Liefert bitgenau dasselbe Ergebnis wie berechneDistanzKm, spart aber die Umrechnung
+     * und den Kosinus, wenn dieselben Punkte sehr oft verglichen werden (z.B. Routenoptimierung).
+     * 
+     * Pre: Radianten und Kosinus stammen aus gradZuRadianten bzw. (float) Math.cos
+     * Post: Rückgabe ist die Distanz in Kilometern (>= 0)
+     * 
+     * @param lat1Rad Breitengrad des ersten Punkts in Radianten
+     * @param lon1Rad Längengrad des ersten Punkts in Radianten
+     * @param cosLat1 Kosinus des ersten Breitengrads
+     * @param lat2Rad Breitengrad des zweiten Punkts in Radianten
+     * @param lon2Rad Längengrad des zweiten Punkts in Radianten
+     * @param cosLat2 Kosinus des zweiten Breitengrads
+     * @return Distanz zwischen den beiden Punkten in Kilometern
+     */
+    public static float berechneDistanzKmAusRadianten(float lat1Rad, float lon1Rad, float cosLat1,
+                                                      float lat2Rad, float lon2Rad, float cosLat2) {
         // Berechne Differenzen
         float deltaLat = lat2Rad - lat1Rad;
         float deltaLon = lon2Rad - lon1Rad;
 
         // Haversine-Formel
         float a = berechneSinusQuadrat(deltaLat / 2.0f) 
-                + (float) Math.cos(lat1Rad) * (float) Math.cos(lat2Rad) * berechneSinusQuadrat(deltaLon / 2.0f);
+                + cosLat1 * cosLat2 * berechneSinusQuadrat(deltaLon / 2.0f);
         
         float c = 2.0f * (float) Math.atan2(Math.sqrt(a), Math.sqrt(1.0f - a));
 
@@ -57,6 +85,59 @@ public final class DistanzBerechner {
         return Konstanten.ERDRADIUS_KM * c;
     }
 
+    /**
+     * Berechnet die kartesische Position eines Punktes auf der Erdkugel (Ursprung im Erdmittelpunkt).
+     * Die euklidische Distanz zweier Positionen (Sehne) waechst streng monoton mit der
+     * Grosskreis-Distanz, raeumliche Indizes koennen daher ohne Haversine suchen.
+     * 
+     * Pre: ziel hat mindestens offset + 3 Elemente
+     * Post: ziel[offset..offset+2] enthaelt x, y, z in km
+     * 
+     * @param breitengrad Breitengrad in Dezimalgrad
+     * @param laengengrad Längengrad in Dezimalgrad
+     * @param ziel Zielarray fuer die Position
+     * @param offset Startindex im Zielarray
+     */
+    public static void berechneKartesischePosition(float breitengrad, float laengengrad,
+                                                   double[] ziel, int offset) {
+        double breiteRad = Math.toRadians(breitengrad);
+        double laengeRad = Math.toRadians(laengengrad);
+        double cosBreite = Math.cos(breiteRad);
+
+        ziel[offset] = Konstanten.ERDRADIUS_KM * cosBreite * Math.cos(laengeRad);
+        ziel[offset + 1] = Konstanten.ERDRADIUS_KM * cosBreite * Math.sin(laengeRad);
+        ziel[offset + 2] = Konstanten.ERDRADIUS_KM * Math.sin(breiteRad);
+    }
+
+    /**
+     * Rechnet eine Grosskreis-Distanz in die Laenge der zugehoerigen Sehne um.
+     * 
+     * Pre: distanzKm >= 0
+     * Post: Rückgabe ist Sehnenlaenge in km (<= distanzKm)
+     * 
+     * @param distanzKm Grosskreis-Distanz in km
+     * @return Sehnenlaenge in km
+     */
+    public static double berechneSehnenlaengeKm(double distanzKm) {
+        double halberWinkel = Math.min(distanzKm / (2.0 * Konstanten.ERDRADIUS_KM), Math.PI / 2.0);
+        return 2.0 * Konstanten.ERDRADIUS_KM * Math.sin(halberWinkel);
+    }
+
+    /**
+     * Vergroessert eine Sehnenlaenge um eine Reserve fuer Rundungsfehler der float-Haversine.
+     * Punkte, deren Haversine-Distanz hoechstens der zur Sehne gehoerigen Distanz entspricht,
+     * liegen damit sicher innerhalb der erweiterten Sehne.
+     * 
+     * Pre: sehnenlaengeKm >= 0
+     * Post: Rueckgabe > sehnenlaengeKm
+     * 
+     * @param sehnenlaengeKm Sehnenlaenge in km
+     * @return Sehnenlaenge mit Rundungsreserve in km
+     */
+    public static double erweitereUmRundungsreserve(double sehnenlaengeKm) {
+        return sehnenlaengeKm * SEHNEN_RESERVE_FAKTOR + SEHNEN_RESERVE_KM;
+    }
+
     /**
      * Konvertiert Grad zu Radianten.
      * 
@@ -66,7 +147,7 @@ public final class DistanzBerechner {
      * @param grad Winkel in Grad
      * @return Winkel in Radianten
      */
-    private static float gradZuRadianten(float grad) {
+    public static float gradZuRadianten(float grad) {
         return grad * (float) Math.PI / 180.0f;
     }
 
@@ -0,0 +1,253 @@
+package util;
+
+import model.Windkraftanlage;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleBiFunction;
+
+/**
+ * Groessenbeschraenkter, threadsicherer LRU-Cache fuer Distanzen zwischen Anlagenpaaren.
+ * Sitzt zwischen Routen-, Cluster- und Zeitplanungscode und einer teuren Distanzquelle
+ * (z.B. Fahrdistanzen im StrassenNetz), damit wiederholte Paare nur einmal berechnet werden.
+ *
+ * Schluessel: Beide Anlagen als Objektreferenz (nicht ueber die Objekt-ID, das Register enthaelt
+ * doppelte IDs) plus ihre Generation. (a, b) und (b, a) teilen sich einen Eintrag; die Quelle
+ * muss symmetrisch sein. Aendern sich die Koordinaten einer Anlage, erhoeht verwerfeAnlage ihre
+ * Generation in O(1); alte Eintraege werden nicht mehr gefunden und per LRU verdraengt.
+ *
+ * Nebenlaeufigkeit: Die Eintraege sind nach Schluessel-Hash auf Streifen verteilt, jeder Streifen
+ * ist eine LinkedHashMap in Zugriffsreihenfolge mit eigener Sperre. Die Quelle wird ausserhalb der
+ * Sperre aufgerufen, parallele Fehlgriffe auf dasselbe Paar berechnen es hoechstens doppelt.
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur Zwischenspeichern, die Berechnung macht die Quelle
+ * - KISS: LinkedHashMap mit removeEldestEntry statt eigener LRU-Liste
+ * - Performance: Streifen statt globaler Sperre, LongAdder fuer Treffer und Fehlgriffe
+ *
+ * Pre: Quelle symmetrisch und deterministisch; nach Koordinatenaenderung verwerfeAnlage aufrufen
+ * Post: hole liefert denselben Wert wie die Quelle fuer die aktuellen Koordinaten
+ */
+public final class DistanzCache {
+
+    private final ToDoubleBiFunction<Windkraftanlage, Windkraftanlage> quelle;
+    private final Streifen[] streifen;
+    private final LongAdder treffer = new LongAdder();
+    private final LongAdder fehlgriffe = new LongAdder();
+
+    /** Generation je Anlage, nur fuer verworfene Anlagen eingetragen (Windkraftanlage vergleicht per Referenz) */
+    private final Map<Windkraftanlage, Integer> generation = new ConcurrentHashMap<>();
+
+    /**
+     * Erstellt einen leeren Cache.
+     *
+     * Pre: quelle nicht null; kapazitaet > 0; anzahlStreifen > 0
+     * Post: Cache haelt hoechstens etwa kapazitaet Eintraege
+     *
+     * @param quelle Distanzquelle fuer Fehlgriffe
+     * @param kapazitaet Maximale Anzahl Eintraege (gleichmaessig auf die Streifen verteilt)
+     * @param anzahlStreifen Anzahl unabhaengig gesperrter Streifen
+     */
+    public DistanzCache(ToDoubleBiFunction<Windkraftanlage, Windkraftanlage> quelle,
+                        int kapazitaet, int anzahlStreifen) {
+        if (quelle == null) {
+            throw new IllegalArgumentException("Distanzquelle darf nicht null sein");
+        }
+        if (kapazitaet <= 0 || anzahlStreifen <= 0) {
+            throw new IllegalArgumentException("Kapazitaet und Streifenanzahl muessen positiv sein");
+        }
+        this.quelle = quelle;
+        this.streifen = new Streifen[anzahlStreifen];
+        int proStreifen = Math.max(1, kapazitaet / anzahlStreifen);
+        for (int i = 0; i < anzahlStreifen; i++) {
+            streifen[i] = new Streifen(proStreifen);
+        }
+    }
+
+    /**
+     * Liefert die Distanz zweier Anlagen aus dem Cache oder berechnet und speichert sie.
+     *
+     * Pre: a und b nicht null
+     * Post: Rueckgabe entspricht quelle(a, b)
+     *
+     * @param a Erste Anlage
+     * @param b Zweite Anlage
+     * @return Distanz in km
+     */
+    public float hole(Windkraftanlage a, Windkraftanlage b) {
+        Paar schluessel = new Paar(a, generationVon(a), b, generationVon(b));
+        Streifen ziel = streifen[streifenIndex(schluessel)];
+
+        Float vorhanden;
+        synchronized (ziel) {
+            vorhanden = ziel.get(schluessel);
+        }
+        if (vorhanden != null) {
+            treffer.increment();
+            return vorhanden;
+        }
+
+        fehlgriffe.increment();
+        float distanz = (float) quelle.applyAsDouble(a, b);
+        synchronized (ziel) {
+            ziel.put(schluessel, distanz);
+        }
+        return distanz;
+    }
+
+    /**
+     * Verwirft alle Eintraege einer Anlage, z.B. nach Aenderung ihrer Koordinaten.
+     *
+     * Pre: anlage nicht null
+     * Post: Folgende Abfragen mit dieser Anlage rufen die Quelle neu auf
+     *
+     * @param anlage Geaenderte Anlage
+     */
+    public void verwerfeAnlage(Windkraftanlage anlage) {
+        if (anlage == null) {
+            throw new IllegalArgumentException("Anlage darf nicht null sein");
+        }
+        generation.merge(anlage, 1, Integer::sum);
+    }
+
+    /**
+     * Liefert die Anzahl der Cache-Treffer.
+     *
+     * @return Treffer seit Erstellung
+     */
+    public long getTreffer() {
+        return treffer.sum();
+    }
+
+    /**
+     * Liefert die Anzahl der Fehlgriffe (Aufrufe der Quelle).
+     *
+     * @return Fehlgriffe seit Erstellung
+     */
+    public long getFehlgriffe() {
+        return fehlgriffe.sum();
+    }
+
+    /**
+     * Liefert die aktuelle Anzahl gespeicherter Eintraege.
+     *
+     * @return Anzahl Eintraege
+     */
+    public int getAnzahl() {
+        int anzahl = 0;
+        for (Streifen s : streifen) {
+            synchronized (s) {
+                anzahl += s.size();
+            }
+        }
+        return anzahl;
+    }
+
+    /**
+     * Traegt Treffer, Fehlgriffe und Trefferquote als Statistik ein.
+     *
+     * Pre: name nicht null
+     * Post: Statistik wurde in ZeitStatistiken eingetragen
+     *
+     * @param name Name der Statistik
+     */
+    public void zeichneStatistikAuf(String name) {
+        long t = getTreffer();
+        long f = getFehlgriffe();
+        float quote = t + f == 0 ? 0f : 100f * t / (t + f);
+        ZeitStatistiken.zeichneStat(name, String.format(Konstanten.DISTANZ_CACHE_STAT_FORMAT, t, f, quote));
+    }
+
+    /**
+     * Liefert die aktuelle Generation einer Anlage.
+     *
+     * @param anlage Anlage
+     * @return Generation (0, solange die Anlage nie verworfen wurde)
+     */
+    private int generationVon(Windkraftanlage anlage) {
+        if (generation.isEmpty()) {
+            return 0;
+        }
+        Integer wert = generation.get(anlage);
+        return wert == null ? 0 : wert;
+    }
+
+    /**
+     * Verteilt Schluessel gleichmaessig auf die Streifen.
+     *
+     * @param schluessel Paarschluessel
+     * @return Streifenindex
+     */
+    private int streifenIndex(Paar schluessel) {
+        long h = schluessel.hashCode() * 0x9E3779B97F4A7C15L;
+        return (int) ((h >>> 33) % streifen.length);
+    }
+
+    /**
+     * Unsortiertes Anlagenpaar mit Generationen; Gleichheit per Referenz, symmetrisch in (a, b).
+     */
+    private static final class Paar {
+
+        private final Windkraftanlage a;
+        private final Windkraftanlage b;
+        private final int generationA;
+        private final int generationB;
+        private final int hash;
+
+        Paar(Windkraftanlage a, int generationA, Windkraftanlage b, int generationB) {
+            this.a = a;
+            this.b = b;
+            this.generationA = generationA;
+            this.generationB = generationB;
+            // Summe ist symmetrisch, damit (a, b) und (b, a) denselben Hash haben
+            this.hash = mische(a, generationA) + mische(b, generationB);
+        }
+
+        private static int mische(Windkraftanlage anlage, int generation) {
+            return (System.identityHashCode(anlage) * 31 + generation) * 0x9E3779B9;
+        }
+
+        @Override
+        public boolean equals(Object objekt) {
+            if (!(objekt instanceof Paar)) {
+                return false;
+            }
+            Paar anderes = (Paar) objekt;
+            if (hash != anderes.hash) {
+                return false;
+            }
+            return (a == anderes.a && generationA == anderes.generationA
+                    && b == anderes.b && generationB == anderes.generationB)
+                || (a == anderes.b && generationA == anderes.generationB
+                    && b == anderes.a && generationB == anderes.generationA);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Ein Streifen: LinkedHashMap in Zugriffsreihenfolge, verdraengt den am laengsten
+     * nicht genutzten Eintrag bei Ueberschreiten der Kapazitaet.
+     */
+    private static final class Streifen extends LinkedHashMap<Paar, Float> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int kapazitaet;
+
+        Streifen(int kapazitaet) {
+            super(16, 0.75f, true);
+            this.kapazitaet = kapazitaet;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Paar, Float> aeltester) {
+            return size() > kapazitaet;
+        }
+    }
+}
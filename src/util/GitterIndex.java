@@ -0,0 +1,238 @@
+package util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dynamischer Gitter-Index fuer Umkreissuchen um Windkraftanlagen.
+ * Punkte werden als kartesische Positionen auf der Erdkugel in Wuerfelzellen einsortiert,
+ * deren Kantenlaenge der Sehne des Suchradius entspricht. Alle Punkte im Suchradius
+ * liegen damit in der eigenen oder einer der 26 angrenzenden Zellen.
+ *
+ * Der Index liefert nur Kandidaten; die exakte Distanzpruefung (Haversine) macht der Aufrufer,
+ * damit Ergebnisse bitgenau zur bisherigen Distanzberechnung passen.
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur raeumliche Vorauswahl
+ * - KISS: HashMap von Zellschluessel auf int-Liste, keine Baumstruktur
+ * - Erweiterbarkeit: Einfuegen und Entfernen einzelner Punkte in O(1) (amortisiert)
+ *
+ * Nicht threadsicher: Parallele Aufrufer verwenden je einen eigenen Index.
+ *
+ * Pre: radiusKm > 0
+ * Post: Index verwaltet int-IDs mit Position
+ */
+public final class GitterIndex {
+
+    /** Markierung fuer IDs, die nicht im Index stehen */
+    private static final long KEINE_ZELLE = Long.MIN_VALUE;
+
+    /** Bits pro Koordinate im Zellschluessel */
+    private static final int BITS_PRO_ACHSE = 21;
+
+    /** Maske fuer eine Koordinate im Zellschluessel */
+    private static final long ACHSEN_MASKE = (1L << BITS_PRO_ACHSE) - 1;
+
+    private final double zellenGroesseKm;
+    private final Map<Long, IntListe> zellen;
+    private final double[] position;
+    private long[] zelleVonId;
+    private int anzahl;
+
+    /**
+     * Erstellt einen leeren Index fuer Umkreissuchen mit dem gegebenen Radius.
+     *
+     * Pre: radiusKm > 0
+     * Post: Leerer Index
+     *
+     * @param radiusKm Suchradius (Grosskreis-Distanz) in km
+     */
+    public GitterIndex(float radiusKm) {
+        if (radiusKm <= 0) {
+            throw new IllegalArgumentException("Suchradius muss positiv sein");
+        }
+        this.zellenGroesseKm = DistanzBerechner.erweitereUmRundungsreserve(
+            DistanzBerechner.berechneSehnenlaengeKm(radiusKm));
+        this.zellen = new HashMap<>();
+        this.position = new double[3];
+        this.zelleVonId = new long[0];
+        this.anzahl = 0;
+    }
+
+    /**
+     * Fuegt eine ID an einer Position ein.
+     *
+     * Pre: id >= 0 und noch nicht im Index
+     * Post: id ist unter ihrer Zelle gespeichert
+     *
+     * @param id ID des Punktes (z.B. Knotenindex)
+     * @param breitengrad Breitengrad
+     * @param laengengrad Längengrad
+     */
+    public void fuegeEin(int id, float breitengrad, float laengengrad) {
+        if (id < 0) {
+            throw new IllegalArgumentException("ID darf nicht negativ sein");
+        }
+        stelleKapazitaetSicher(id);
+        if (zelleVonId[id] != KEINE_ZELLE) {
+            throw new IllegalArgumentException("ID ist bereits im Index: " + id);
+        }
+
+        long schluessel = berechneZellSchluessel(breitengrad, laengengrad);
+        IntListe zelle = zellen.get(schluessel);
+        if (zelle == null) {
+            zelle = new IntListe();
+            zellen.put(schluessel, zelle);
+        }
+        zelle.fuegeHinzu(id);
+        zelleVonId[id] = schluessel;
+        anzahl++;
+    }
+
+    /**
+     * Entfernt eine ID aus dem Index.
+     *
+     * Pre: -
+     * Post: id ist nicht mehr im Index
+     *
+     * @param id Zu entfernende ID
+     * @return true wenn die ID enthalten war
+     */
+    public boolean entferne(int id) {
+        if (!enthaelt(id)) {
+            return false;
+        }
+        long schluessel = zelleVonId[id];
+        IntListe zelle = zellen.get(schluessel);
+        zelle.entferneWertUngeordnet(id);
+        if (zelle.istLeer()) {
+            zellen.remove(schluessel);
+        }
+        zelleVonId[id] = KEINE_ZELLE;
+        anzahl--;
+        return true;
+    }
+
+    /**
+     * Vergibt einer gespeicherten ID eine neue ID an derselben Position.
+     * Wird benoetigt, wenn der Aufrufer seine Indizes verschiebt (z.B. Swap-Remove).
+     *
+     * Pre: alteId im Index, neueId nicht im Index
+     * Post: neueId steht in der Zelle von alteId, alteId ist entfernt
+     *
+     * @param alteId Bisherige ID
+     * @param neueId Neue ID
+     */
+    public void ersetzeId(int alteId, int neueId) {
+        if (!enthaelt(alteId)) {
+            throw new IllegalArgumentException("ID ist nicht im Index: " + alteId);
+        }
+        stelleKapazitaetSicher(neueId);
+        long schluessel = zelleVonId[alteId];
+        IntListe zelle = zellen.get(schluessel);
+        for (int i = 0; i < zelle.groesse(); i++) {
+            if (zelle.hole(i) == alteId) {
+                zelle.setze(i, neueId);
+                break;
+            }
+        }
+        zelleVonId[alteId] = KEINE_ZELLE;
+        zelleVonId[neueId] = schluessel;
+    }
+
+    /**
+     * Prueft ob eine ID im Index steht.
+     *
+     * @param id Zu pruefende ID
+     * @return true wenn enthalten
+     */
+    public boolean enthaelt(int id) {
+        return id >= 0 && id < zelleVonId.length && zelleVonId[id] != KEINE_ZELLE;
+    }
+
+    /**
+     * Sammelt alle IDs aus der Zelle der Position und den 26 Nachbarzellen.
+     * Jeder Punkt im Suchradius ist enthalten, weitere Punkte koennen enthalten sein.
+     *
+     * Pre: ziel nicht null
+     * Post: ziel wurde um die Kandidaten-IDs ergaenzt (nicht geleert)
+     *
+     * @param breitengrad Breitengrad des Suchzentrums
+     * @param laengengrad Längengrad des Suchzentrums
+     * @param ziel Liste, an die Kandidaten angehaengt werden
+     */
+    public void sammleKandidaten(float breitengrad, float laengengrad, IntListe ziel) {
+        DistanzBerechner.berechneKartesischePosition(breitengrad, laengengrad, position, 0);
+        long zx = (long) Math.floor(position[0] / zellenGroesseKm);
+        long zy = (long) Math.floor(position[1] / zellenGroesseKm);
+        long zz = (long) Math.floor(position[2] / zellenGroesseKm);
+
+        for (long dx = -1; dx <= 1; dx++) {
+            for (long dy = -1; dy <= 1; dy++) {
+                for (long dz = -1; dz <= 1; dz++) {
+                    IntListe zelle = zellen.get(packeSchluessel(zx + dx, zy + dy, zz + dz));
+                    if (zelle == null) {
+                        continue;
+                    }
+                    for (int i = 0; i < zelle.groesse(); i++) {
+                        ziel.fuegeHinzu(zelle.hole(i));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Liefert die Anzahl gespeicherter IDs.
+     *
+     * @return Anzahl IDs
+     */
+    public int getAnzahl() {
+        return anzahl;
+    }
+
+    /**
+     * Berechnet den Schluessel der Zelle einer Position.
+     *
+     * @param breitengrad Breitengrad
+     * @param laengengrad Längengrad
+     * @return Zellschluessel
+     */
+    private long berechneZellSchluessel(float breitengrad, float laengengrad) {
+        DistanzBerechner.berechneKartesischePosition(breitengrad, laengengrad, position, 0);
+        return packeSchluessel((long) Math.floor(position[0] / zellenGroesseKm),
+                               (long) Math.floor(position[1] / zellenGroesseKm),
+                               (long) Math.floor(position[2] / zellenGroesseKm));
+    }
+
+    /**
+     * Packt drei Zellkoordinaten in einen long. Kollisionen bei sehr kleinen Zellen
+     * liefern nur zusaetzliche Kandidaten und sind damit unschaedlich.
+     *
+     * @param x Zellkoordinate x
+     * @param y Zellkoordinate y
+     * @param z Zellkoordinate z
+     * @return Gepackter Schluessel
+     */
+    private static long packeSchluessel(long x, long y, long z) {
+        return ((x & ACHSEN_MASKE) << (2 * BITS_PRO_ACHSE))
+            | ((y & ACHSEN_MASKE) << BITS_PRO_ACHSE)
+            | (z & ACHSEN_MASKE);
+    }
+
+    /**
+     * Vergroessert die ID-Tabelle bei Bedarf.
+     *
+     * @param id Groesste benoetigte ID
+     */
+    private void stelleKapazitaetSicher(int id) {
+        if (id < zelleVonId.length) {
+            return;
+        }
+        int alteLaenge = zelleVonId.length;
+        int neueLaenge = Math.max(id + 1, alteLaenge * 2);
+        zelleVonId = Arrays.copyOf(zelleVonId, neueLaenge);
+        Arrays.fill(zelleVonId, alteLaenge, neueLaenge, KEINE_ZELLE);
+    }
+}
@@ -0,0 +1,343 @@
+package util;
+
+import model.Graphknoten;
+import model.Windkraftanlage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Speichert einen aufgebauten Windkraftanlagen-Graphen als Binaerdatei und laedt ihn
+ * bei spaeteren Laeufen per Memory-Mapping, statt ihn neu aufzubauen.
+ *
+ * Die Datei ist ueber einen Hash des Datensatzes (Objekt-IDs und Koordinaten in
+ * Listenreihenfolge) und die maximale Kantendistanz eindeutig zugeordnet.
+ * Aendert sich der Datensatz, passt der Dateiname nicht mehr und der Graph wird neu gebaut.
+ *
+ * Dateiformat (Big Endian):
+ * magic, version, hash, maxDistanzKm, anzahlAnlagen, anzahlKnoten, anzahlEintraege,
+ * anlagenIndex[anzahlKnoten], offsets[anzahlKnoten + 1], nachbar[anzahlEintraege],
+ * distanz[anzahlEintraege]
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur Persistenz des Graphen
+ * - KISS: Kompakte Adjazenz-Arrays (CSR) statt Objekt-Serialisierung
+ * - Modularisierung: Graph-Aufbau bleibt in WindkraftanlageGraph
+ *
+ * Pre: Anlagen-Liste ist vollstaendig geladen und korrigiert
+ * Post: Liefert einen Graphen, der einem frisch aufgebauten Graphen entspricht
+ */
+public final class GraphDateiSpeicher {
+
+    /** Groesse des Datei-Kopfes in Bytes */
+    private static final int KOPF_GROESSE = 4 + 4 + 8 + 4 + 4 + 4 + 4;
+
+    /** FNV-1a Startwert (64 Bit) */
+    static final long FNV_START = 0xcbf29ce484222325L;
+
+    /** FNV-1a Primzahl (64 Bit) */
+    private static final long FNV_PRIMZAHL = 0x100000001b3L;
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private GraphDateiSpeicher() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Laedt den Graphen aus der Cache-Datei oder baut ihn neu auf und speichert ihn.
+     * Fehler beim Lesen oder Schreiben fuehren nur zu einem Neuaufbau, nie zum Abbruch.
+     *
+     * Pre: anlagen nicht null, maxDistanzKm > 0
+     * Post: Rueckgabe ist vollstaendiger Graph; Cache-Ergebnis in ZeitStatistiken vermerkt
+     *
+     * @param anlagen Liste aller Windkraftanlagen
+     * @param maxDistanzKm Maximale Distanz fuer Kantenbildung
+     * @return Aufgebauter oder geladener Graph
+     */
+    public static WindkraftanlageGraph ladeOderBaueGraph(List<Windkraftanlage> anlagen, float maxDistanzKm) {
+        if (anlagen == null) {
+            throw new IllegalArgumentException("Anlagen-Liste darf nicht null sein");
+        }
+
+        if (!Konstanten.GRAPH_CACHE_AKTIVIERT) {
+            WindkraftanlageGraph graph = new WindkraftanlageGraph(maxDistanzKm);
+            graph.baueGraphAuf(anlagen);
+            return graph;
+        }
+
+        long hash = berechneDatensatzHash(anlagen);
+        Path datei = ermittleDateipfad(hash, maxDistanzKm);
+
+        if (Files.isRegularFile(datei)) {
+            try {
+                WindkraftanlageGraph geladen = ladeGraph(datei, anlagen, hash, maxDistanzKm);
+                if (geladen != null) {
+                    ZeitStatistiken.zeichneStat(Konstanten.STAT_GRAPH_CACHE, Konstanten.GRAPH_CACHE_TREFFER);
+                    return geladen;
+                }
+            } catch (IOException | RuntimeException fehler) {
+                AusgabeManager.gebeFehlerAus(Konstanten.GRAPH_CACHE_FEHLER + fehler.getMessage());
+            }
+        }
+
+        WindkraftanlageGraph graph = new WindkraftanlageGraph(maxDistanzKm);
+        graph.baueGraphAuf(anlagen);
+
+        try {
+            speichereGraph(datei, graph, anlagen, hash);
+            ZeitStatistiken.zeichneStat(Konstanten.STAT_GRAPH_CACHE, Konstanten.GRAPH_CACHE_NEU);
+        } catch (IOException fehler) {
+            AusgabeManager.gebeFehlerAus(Konstanten.GRAPH_CACHE_FEHLER + fehler.getMessage());
+        }
+
+        return graph;
+    }
+
+    /**
+     * Berechnet einen 64-Bit FNV-1a Hash ueber Objekt-IDs und Koordinaten aller Anlagen.
+     * Die Reihenfolge der Liste geht in den Hash ein, da sie die Knotenreihenfolge bestimmt.
+     *
+     * Pre: anlagen nicht null
+     * Post: Rueckgabe ist Hash des Datensatzes
+     *
+     * @param anlagen Liste aller Windkraftanlagen
+     * @return Hash des Datensatzes
+     */
+    public static long berechneDatensatzHash(List<Windkraftanlage> anlagen) {
+        long hash = FNV_START;
+        hash = mischeInt(hash, anlagen.size());
+
+        for (int i = 0; i < anlagen.size(); i++) {
+            Windkraftanlage anlage = anlagen.get(i);
+            hash = mischeInt(hash, anlage.getObjektId());
+
+            Float breitengrad = anlage.getBreitengrad();
+            Float laengengrad = anlage.getLaengengrad();
+            if (breitengrad != null && laengengrad != null) {
+                hash = mischeInt(hash, Float.floatToIntBits(breitengrad));
+                hash = mischeInt(hash, Float.floatToIntBits(laengengrad));
+            } else {
+                hash = mischeInt(hash, Konstanten.UNGUELTIGE_ID);
+            }
+        }
+
+        return hash;
+    }
+
+    /**
+     * Mischt einen int-Wert byteweise in einen FNV-1a Hash.
+     *
+     * @param hash Bisheriger Hash
+     * @param wert Einzumischender Wert
+     * @return Neuer Hash
+     */
+    static long mischeInt(long hash, int wert) {
+        for (int verschiebung = 0; verschiebung < 32; verschiebung += 8) {
+            hash ^= (wert >>> verschiebung) & 0xff;
+            hash *= FNV_PRIMZAHL;
+        }
+        return hash;
+    }
+
+    /**
+     * Ermittelt den Pfad der Cache-Datei fuer Datensatz-Hash und Distanzlimit.
+     *
+     * Pre: -
+     * Post: Rueckgabe ist Pfad im Cache-Verzeichnis
+     *
+     * @param hash Hash des Datensatzes
+     * @param maxDistanzKm Maximale Kantendistanz
+     * @return Pfad zur Graph-Datei
+     */
+    public static Path ermittleDateipfad(long hash, float maxDistanzKm) {
+        String dateiname = String.format(Konstanten.GRAPH_CACHE_DATEI_FORMAT,
+            hash, Float.floatToIntBits(maxDistanzKm));
+        return Paths.get(Konstanten.CACHE_VERZEICHNIS, dateiname);
+    }
+
+    /**
+     * Schreibt den Graphen als Binaerdatei. Es wird zuerst in eine temporaere Datei
+     * geschrieben und diese dann umbenannt, damit nie eine halbe Datei gelesen wird.
+     *
+     * Pre: graph wurde aus anlagen aufgebaut
+     * Post: Datei enthaelt Knoten, Adjazenz und Kantendistanzen
+     *
+     * @param datei Zieldatei
+     * @param graph Aufgebauter Graph
+     * @param anlagen Anlagen-Liste, aus der der Graph gebaut wurde
+     * @param hash Hash des Datensatzes
+     * @throws IOException bei Schreibfehlern
+     */
+    public static void speichereGraph(Path datei, WindkraftanlageGraph graph,
+                                      List<Windkraftanlage> anlagen, long hash) throws IOException {
+        List<Graphknoten> knoten = graph.getKnoten();
+        int anzahlKnoten = knoten.size();
+
+        // Knoten -> Knotenindex, Anlage -> Listenindex
+        Map<Graphknoten, Integer> knotenIndex = new IdentityHashMap<>();
+        for (int i = 0; i < anzahlKnoten; i++) {
+            knotenIndex.put(knoten.get(i), i);
+        }
+        Map<Windkraftanlage, Integer> anlagenIndex = new IdentityHashMap<>();
+        for (int i = 0; i < anlagen.size(); i++) {
+            anlagenIndex.put(anlagen.get(i), i);
+        }
+
+        int anzahlEintraege = 0;
+        for (int i = 0; i < anzahlKnoten; i++) {
+            anzahlEintraege += knoten.get(i).getAnzahlNachbarn();
+        }
+
+        Path verzeichnis = datei.toAbsolutePath().getParent();
+        Files.createDirectories(verzeichnis);
+        Path temporaer = Files.createTempFile(verzeichnis, datei.getFileName().toString(), null);
+
+        try (OutputStream strom = Files.newOutputStream(temporaer);
+             DataOutputStream ausgabe = new DataOutputStream(new BufferedOutputStream(strom))) {
+            ausgabe.writeInt(Konstanten.GRAPH_CACHE_MAGIC);
+            ausgabe.writeInt(Konstanten.GRAPH_CACHE_VERSION);
+            ausgabe.writeLong(hash);
+            ausgabe.writeFloat(graph.getMaxDistanzKm());
+            ausgabe.writeInt(anlagen.size());
+            ausgabe.writeInt(anzahlKnoten);
+            ausgabe.writeInt(anzahlEintraege);
+
+            for (int i = 0; i < anzahlKnoten; i++) {
+                ausgabe.writeInt(anlagenIndex.get(knoten.get(i).getAnlage()));
+            }
+
+            int offset = 0;
+            ausgabe.writeInt(offset);
+            for (int i = 0; i < anzahlKnoten; i++) {
+                offset += knoten.get(i).getAnzahlNachbarn();
+                ausgabe.writeInt(offset);
+            }
+
+            for (int i = 0; i < anzahlKnoten; i++) {
+                List<Graphknoten> nachbarn = knoten.get(i).getNachbarn();
+                for (int n = 0; n < nachbarn.size(); n++) {
+                    ausgabe.writeInt(knotenIndex.get(nachbarn.get(n)));
+                }
+            }
+
+            for (int i = 0; i < anzahlKnoten; i++) {
+                Graphknoten k = knoten.get(i);
+                for (int n = 0; n < k.getAnzahlNachbarn(); n++) {
+                    ausgabe.writeFloat(k.getNachbarDistanzKm(n));
+                }
+            }
+        } catch (IOException fehler) {
+            Files.deleteIfExists(temporaer);
+            throw fehler;
+        }
+
+        Files.move(temporaer, datei, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Laedt einen Graphen per Memory-Mapping aus einer Cache-Datei.
+     *
+     * Pre: datei existiert; anlagen ist derselbe Datensatz wie beim Speichern
+     * Post: Rueckgabe ist Graph oder null, wenn Kopf, Groesse, Offsets oder Indizes nicht passen
+     *
+     * @param datei Graph-Datei
+     * @param anlagen Liste aller Windkraftanlagen
+     * @param hash Erwarteter Hash des Datensatzes
+     * @param maxDistanzKm Erwartete maximale Kantendistanz
+     * @return Geladener Graph oder null bei ungueltiger Datei
+     * @throws IOException bei Lesefehlern
+     */
+    public static WindkraftanlageGraph ladeGraph(Path datei, List<Windkraftanlage> anlagen,
+                                                 long hash, float maxDistanzKm) throws IOException {
+        try (FileChannel kanal = FileChannel.open(datei, StandardOpenOption.READ)) {
+            long dateiGroesse = kanal.size();
+            // Ein MappedByteBuffer fasst hoechstens Integer.MAX_VALUE Bytes
+            if (dateiGroesse < KOPF_GROESSE || dateiGroesse > Integer.MAX_VALUE) {
+                return null;
+            }
+
+            MappedByteBuffer puffer = kanal.map(FileChannel.MapMode.READ_ONLY, 0, dateiGroesse);
+
+            if (puffer.getInt() != Konstanten.GRAPH_CACHE_MAGIC
+                || puffer.getInt() != Konstanten.GRAPH_CACHE_VERSION
+                || puffer.getLong() != hash
+                || Float.floatToIntBits(puffer.getFloat()) != Float.floatToIntBits(maxDistanzKm)
+                || puffer.getInt() != anlagen.size()) {
+                return null;
+            }
+
+            int anzahlKnoten = puffer.getInt();
+            int anzahlEintraege = puffer.getInt();
+            if (anzahlKnoten < 0 || anzahlKnoten > anlagen.size() || anzahlEintraege < 0) {
+                return null;
+            }
+
+            // Abschnittsgrenzen in long, damit beschaedigte Zaehler nicht ueberlaufen
+            long offsetStartLang = KOPF_GROESSE + 4L * anzahlKnoten;
+            long nachbarStartLang = offsetStartLang + 4L * (anzahlKnoten + 1);
+            long distanzStartLang = nachbarStartLang + 4L * anzahlEintraege;
+            if (distanzStartLang + 4L * anzahlEintraege != puffer.limit()) {
+                return null;
+            }
+
+            // Ab hier liegen alle Positionen innerhalb von puffer.limit() <= Integer.MAX_VALUE
+            int anlagenIndexStart = KOPF_GROESSE;
+            int offsetStart = (int) offsetStartLang;
+            int nachbarStart = (int) nachbarStartLang;
+            int distanzStart = (int) distanzStartLang;
+
+            // Schritt 1: Knoten in gespeicherter Reihenfolge anlegen
+            List<Graphknoten> knoten = new ArrayList<>(anzahlKnoten);
+            for (int i = 0; i < anzahlKnoten; i++) {
+                int anlagenIndex = puffer.getInt(anlagenIndexStart + 4 * i);
+                if (anlagenIndex < 0 || anlagenIndex >= anlagen.size()) {
+                    return null;
+                }
+                knoten.add(new Graphknoten(anlagen.get(anlagenIndex)));
+            }
+
+            // Schritt 2: Adjazenz mit Kantendistanzen uebernehmen (Offsets 0 .. anzahlEintraege, aufsteigend)
+            if (puffer.getInt(offsetStart) != 0 || puffer.getInt(offsetStart + 4 * anzahlKnoten) != anzahlEintraege) {
+                return null;
+            }
+            for (int i = 0; i < anzahlKnoten; i++) {
+                Graphknoten k = knoten.get(i);
+                int von = puffer.getInt(offsetStart + 4 * i);
+                int bis = puffer.getInt(offsetStart + 4 * (i + 1));
+                if (bis < von || bis > anzahlEintraege) {
+                    return null;
+                }
+
+                for (int e = von; e < bis; e++) {
+                    int nachbarIndex = puffer.getInt(nachbarStart + 4 * e);
+                    if (nachbarIndex < 0 || nachbarIndex >= anzahlKnoten) {
+                        return null;
+                    }
+                    float distanz = puffer.getFloat(distanzStart + 4 * e);
+                    k.fuegeNachbarHinzu(knoten.get(nachbarIndex), distanz);
+                }
+            }
+
+            WindkraftanlageGraph graph = new WindkraftanlageGraph(maxDistanzKm);
+            for (int i = 0; i < anzahlKnoten; i++) {
+                graph.uebernehmeKnoten(knoten.get(i));
+            }
+            return graph;
+        }
+    }
+}
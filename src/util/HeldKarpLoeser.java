@@ -0,0 +1,107 @@
+package util;
+
+import java.util.Arrays;
+
+/**
+ * Exakte Loesung kleiner offener Routen mit dynamischer Programmierung ueber Teilmengen
+ * (Held-Karp). Die Route beginnt fest bei Index 0, das Ende ist frei.
+ *
+ * Zustand: (Menge besuchter Anlagen ohne Start, letzte Anlage) -> kuerzeste Pfadlaenge ab 0.
+ * Aufwand O(2^n * n^2) Zeit und O(2^n * n) Speicher, daher nur fuer sehr kleine Cluster.
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur exakte Loesung, Auswahl trifft RoutenOptimierer
+ * - KISS: Bitmasken als int, Tabellen als flache Arrays
+ * - Determinismus: Bei gleicher Laenge gewinnt der kleinere Vorgaenger- bzw. Endindex
+ *
+ * Pre: Tabelle mit hoechstens Konstanten.ROUTEN_EXAKT_MAX_ANLAGEN Anlagen, alle mit Koordinaten
+ * Post: Liefert eine kuerzeste offene Route ab Index 0
+ */
+public final class HeldKarpLoeser {
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private HeldKarpLoeser() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Berechnet eine kuerzeste offene Route durch alle Anlagen der Tabelle.
+     *
+     * Pre: 1 <= tabelle.getAnzahl() <= Konstanten.ROUTEN_EXAKT_MAX_ANLAGEN
+     * Post: Rueckgabe ist Permutation aller Indizes, beginnend mit 0
+     *
+     * @param tabelle Distanzen
+     * @return Optimale Route als Indexfolge
+     */
+    public static int[] loese(RoutenDistanzTabelle tabelle) {
+        int anzahl = tabelle.getAnzahl();
+        if (anzahl < 1 || anzahl > Konstanten.ROUTEN_EXAKT_MAX_ANLAGEN) {
+            throw new IllegalArgumentException("Held-Karp nur fuer 1 bis "
+                + Konstanten.ROUTEN_EXAKT_MAX_ANLAGEN + " Anlagen: " + anzahl);
+        }
+        if (anzahl <= 2) {
+            int[] tour = new int[anzahl];
+            for (int i = 0; i < anzahl; i++) {
+                tour[i] = i;
+            }
+            return tour;
+        }
+
+        // Anlage j (1..anzahl-1) entspricht Bit j-1
+        int m = anzahl - 1;
+        int anzahlMengen = 1 << m;
+        float[] laenge = new float[anzahlMengen * m];
+        byte[] vorgaenger = new byte[anzahlMengen * m];
+        Arrays.fill(laenge, Float.MAX_VALUE);
+        for (int j = 0; j < m; j++) {
+            laenge[(1 << j) * m + j] = tabelle.distanz(0, j + 1);
+            vorgaenger[(1 << j) * m + j] = -1;
+        }
+
+        for (int menge = 1; menge < anzahlMengen; menge++) {
+            for (int j = 0; j < m; j++) {
+                int bitJ = 1 << j;
+                if ((menge & bitJ) == 0 || menge == bitJ) {
+                    continue;
+                }
+                int ohneJ = menge ^ bitJ;
+                float beste = Float.MAX_VALUE;
+                int besterVorgaenger = -1;
+                for (int i = 0; i < m; i++) {
+                    if ((ohneJ & (1 << i)) == 0) {
+                        continue;
+                    }
+                    float kandidat = laenge[ohneJ * m + i] + tabelle.distanz(i + 1, j + 1);
+                    if (kandidat < beste) {
+                        beste = kandidat;
+                        besterVorgaenger = i;
+                    }
+                }
+                laenge[menge * m + j] = beste;
+                vorgaenger[menge * m + j] = (byte) besterVorgaenger;
+            }
+        }
+
+        // Bestes Ende ueber alle Anlagen, dann Pfad rueckwaerts rekonstruieren
+        int voll = anzahlMengen - 1;
+        int ende = 0;
+        for (int j = 1; j < m; j++) {
+            if (laenge[voll * m + j] < laenge[voll * m + ende]) {
+                ende = j;
+            }
+        }
+        int[] tour = new int[anzahl];
+        int menge = voll;
+        int aktuell = ende;
+        for (int stelle = anzahl - 1; stelle >= 1; stelle--) {
+            tour[stelle] = aktuell + 1;
+            int vorher = vorgaenger[menge * m + aktuell];
+            menge ^= 1 << aktuell;
+            aktuell = vorher;
+        }
+        tour[0] = 0;
+        return tour;
+    }
+}
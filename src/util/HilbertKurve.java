@@ -0,0 +1,109 @@
+package util;
+
+import java.util.Arrays;
+
+/**
+ * Hilbert-Kurve zur raeumlich lokalen Sortierung ebener Punkte.
+ * Punkte, die auf der Kurve benachbart sind, liegen auch in der Ebene nahe beieinander.
+ * Wird fuer Einfuegereihenfolgen (Triangulierung) und schnelle Startrouten genutzt.
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur Berechnung von Kurvenpositionen
+ * - KISS: Klassische iterative Umrechnung (x, y) -> Kurvenindex
+ * - Performance: Sortierung ueber gepackte long-Schluessel ohne Objekte
+ *
+ * Pre: -
+ * Post: Liefert Kurvenpositionen bzw. Sortierreihenfolgen
+ */
+public final class HilbertKurve {
+
+    /** Aufloesung pro Achse in Bits (2^15 x 2^15 Gitter, Kurvenindex passt in 30 Bit) */
+    private static final int ORDNUNG = 15;
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private HilbertKurve() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Berechnet die Position einer Gitterzelle auf der Hilbert-Kurve.
+     *
+     * Pre: 0 <= x, y < 2^ordnung, ordnung <= 31
+     * Post: Rueckgabe in [0, 4^ordnung)
+     *
+     * @param x Gitterspalte
+     * @param y Gitterzeile
+     * @param ordnung Anzahl Bits pro Achse
+     * @return Position auf der Kurve
+     */
+    public static long berechneIndex(int x, int y, int ordnung) {
+        int seitenlaenge = 1 << ordnung;
+        long index = 0;
+        int px = x;
+        int py = y;
+        for (int s = seitenlaenge >>> 1; s > 0; s >>>= 1) {
+            int rx = (px & s) > 0 ? 1 : 0;
+            int ry = (py & s) > 0 ? 1 : 0;
+            index += (long) s * s * ((3 * rx) ^ ry);
+
+            // Quadrant spiegeln bzw. drehen, damit die Teilkurve richtig orientiert ist
+            if (ry == 0) {
+                if (rx == 1) {
+                    px = seitenlaenge - 1 - px;
+                    py = seitenlaenge - 1 - py;
+                }
+                int tausch = px;
+                px = py;
+                py = tausch;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Sortiert Punkte entlang der Hilbert-Kurve ueber ihrer Bounding-Box.
+     * Gleiche Kurvenpositionen behalten ihre Eingabereihenfolge.
+     *
+     * Pre: x.length == y.length
+     * Post: Rueckgabe ist Permutation der Punktindizes
+     *
+     * @param x x-Koordinaten
+     * @param y y-Koordinaten
+     * @return Punktindizes in Kurvenreihenfolge
+     */
+    public static int[] sortiere(double[] x, double[] y) {
+        int anzahl = x.length;
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < anzahl; i++) {
+            minX = Math.min(minX, x[i]);
+            minY = Math.min(minY, y[i]);
+            maxX = Math.max(maxX, x[i]);
+            maxY = Math.max(maxY, y[i]);
+        }
+
+        // Gleicher Massstab fuer beide Achsen, damit die Kurve nicht verzerrt wird
+        double ausdehnung = Math.max(maxX - minX, maxY - minY);
+        int maxZelle = (1 << ORDNUNG) - 1;
+        double skala = ausdehnung > 0 ? maxZelle / ausdehnung : 0;
+
+        // Kurvenindex in den oberen, Punktindex in den unteren 32 Bit
+        long[] schluessel = new long[anzahl];
+        for (int i = 0; i < anzahl; i++) {
+            int gx = (int) Math.min(maxZelle, (x[i] - minX) * skala);
+            int gy = (int) Math.min(maxZelle, (y[i] - minY) * skala);
+            schluessel[i] = (berechneIndex(gx, gy, ORDNUNG) << 32) | i;
+        }
+        Arrays.sort(schluessel);
+
+        int[] reihenfolge = new int[anzahl];
+        for (int i = 0; i < anzahl; i++) {
+            reihenfolge[i] = (int) schluessel[i];
+        }
+        return reihenfolge;
+    }
+}
@@ -0,0 +1,563 @@
+package util;
+
+import model.Graphknoten;
+import model.Windkraftanlage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Wartungsplan eines Herstellers, der einzelne Aenderungen am Anlagenregister
+ * (Anlage hinzugefuegt, entfernt, verschoben) lokal nachfuehrt, statt Cluster und
+ * Routen neu zu berechnen.
+ *
+ * Cluster: Der Graph (Kanten bis WARTUNG_GRAPH_MAX_DISTANZ_KM) wird ueber seine
+ * inkrementelle Schnittstelle aktualisiert. Eine neue Anlage verbindet hoechstens die
+ * Cluster ihrer Nachbarn, eine entfernte Anlage kann nur ihren eigenen Cluster teilen;
+ * geprueft wird das per Breitensuche ab ihren frueheren Nachbarn mit Abbruch, sobald
+ * alle erreicht sind. Die Mitglieder entsprechen damit jederzeit
+ * WartungsClusterDetector.erkenneClustersAusAnlagen.
+ *
+ * Routen: Die bestehende Route wird repariert - guenstigste Einfuegeposition bzw.
+ * Herausloesen der Anlage, danach 2-opt nur im Fenster INKREMENT_2OPT_FENSTER um die
+ * Aenderungsstelle. Zusammengefuehrte Cluster werden an der guenstigsten Stelle
+ * eingefuegt, geteilte behalten die Reihenfolge der alten Route. Die Startanlage
+ * (Position 0) bleibt erhalten, solange sie nicht selbst entfernt wird.
+ * Bei jeder Aenderung werden die zwischengespeicherten Fahrdistanzen der Anlage
+ * verworfen (DistanzCache ueber StrassenNetz.verwerfeAnlage).
+ *
+ * Design-Prinzipien:
+ * - Wiederverwendung: Graph-Aktualisierung ueber WindkraftanlageGraph, Erstaufbau ueber
+ *   RoutenDateiSpeicher wie in der Wartungsplanung, Distanzen ueber RoutenOptimierer
+ * - Lokalitaet: Aufwand je Aenderung O(Clustergroesse + Fenster^2), kein Neuaufbau
+ * - Nicht threadsicher: Aenderungen muessen nacheinander erfolgen
+ *
+ * Pre: Anlagen eines Herstellers
+ * Post: Cluster und Routen bleiben nach jeder Aenderung gueltig
+ */
+public final class InkrementellerWartungsPlan {
+
+    /** Mindestverbesserung in km, ab der ein 2-opt-Zug ausgefuehrt wird */
+    private static final float EPSILON = 1e-4f;
+
+    private final WindkraftanlageGraph graph;
+    private final Map<Windkraftanlage, PlanCluster> zuordnung;
+    private final Set<PlanCluster> cluster;
+
+    /**
+     * Erstellt den Plan mit vollstaendiger Cluster-Erkennung und Routenoptimierung
+     * (wie WartungsRoutenPlaner, inklusive Routen-Cache).
+     *
+     * Pre: anlagen nicht null
+     * Post: Jede Anlage mit Koordinaten gehoert genau einem Cluster mit Route an
+     *
+     * @param anlagen Anlagen eines Herstellers (Anlagen ohne Koordinaten werden ignoriert)
+     */
+    public InkrementellerWartungsPlan(List<Windkraftanlage> anlagen) {
+        if (anlagen == null) {
+            throw new IllegalArgumentException("Anlagen duerfen nicht null sein");
+        }
+        this.graph = new WindkraftanlageGraph(Konstanten.WARTUNG_GRAPH_MAX_DISTANZ_KM);
+        this.zuordnung = new HashMap<>();
+        this.cluster = new LinkedHashSet<>();
+
+        graph.baueGraphAuf(anlagen);
+        List<List<Windkraftanlage>> erkannt = WartungsClusterDetector.erkenneClusters(graph);
+        for (int i = 0; i < erkannt.size(); i++) {
+            List<Windkraftanlage> route = RoutenDateiSpeicher.ladeOderErstelleRoute(erkannt.get(i),
+                Konstanten.WARTUNG_ROUTEN_ZEITBUDGET_MS, Konstanten.WARTUNG_ROUTEN_MEHRFACHSTART_AKTIVIERT,
+                Konstanten.WARTUNG_ROUTEN_TAGEOPTIMIERUNG_AKTIVIERT);
+            registriere(new PlanCluster(new ArrayList<>(route)));
+        }
+    }
+
+    /**
+     * Nimmt eine neue Anlage auf. Liegt sie in Reichweite mehrerer Cluster, werden diese vereinigt.
+     *
+     * Pre: anlage nicht null und noch nicht im Plan
+     * Post: Anlage ist in der Route ihres Clusters (ohne Koordinaten: unveraendert)
+     *
+     * @param anlage Neue Anlage
+     * @return true wenn die Anlage aufgenommen wurde (sie hat Koordinaten)
+     */
+    public boolean fuegeHinzu(Windkraftanlage anlage) {
+        ZeitMessung timer = ZeitMessung.starte();
+        verwerfeFahrDistanzen(anlage);
+        Graphknoten knoten = graph.fuegeAnlageHinzu(anlage);
+        if (knoten == null) {
+            return false;
+        }
+        nimmAuf(knoten);
+        ZeitStatistiken.zeichneZeitAuf(Konstanten.OPERATION_ROUTEN_REPARATUR, timer.stoppeUndGibMillis());
+        return true;
+    }
+
+    /**
+     * Entfernt eine Anlage. Zerfaellt ihr Cluster dadurch, entstehen mehrere Cluster.
+     *
+     * Pre: anlage nicht null
+     * Post: Anlage ist in keiner Route mehr
+     *
+     * @param anlage Zu entfernende Anlage
+     * @return true wenn die Anlage im Plan war
+     */
+    public boolean entferne(Windkraftanlage anlage) {
+        ZeitMessung timer = ZeitMessung.starte();
+        boolean entfernt = loese(anlage);
+        verwerfeFahrDistanzen(anlage);
+        if (entfernt) {
+            ZeitStatistiken.zeichneZeitAuf(Konstanten.OPERATION_ROUTEN_REPARATUR, timer.stoppeUndGibMillis());
+        }
+        return entfernt;
+    }
+
+    /**
+     * Setzt neue Koordinaten fuer eine Anlage und ordnet sie neu ein
+     * (Herausloesen an der alten, Einfuegen an der neuen Position).
+     *
+     * Pre: anlage nicht null
+     * Post: Koordinaten gesetzt; Anlage im Plan genau dann, wenn sie Koordinaten hat
+     *
+     * @param anlage Zu verschiebende Anlage (auch eine noch nicht geplante)
+     * @param neuerBreitengrad Neuer Breitengrad (kann null sein)
+     * @param neuerLaengengrad Neuer Laengengrad (kann null sein)
+     * @return true wenn die Anlage danach im Plan ist
+     */
+    public boolean verschiebe(Windkraftanlage anlage, Float neuerBreitengrad, Float neuerLaengengrad) {
+        ZeitMessung timer = ZeitMessung.starte();
+        loese(anlage);
+        Graphknoten knoten = graph.verschiebeAnlage(anlage, neuerBreitengrad, neuerLaengengrad);
+        verwerfeFahrDistanzen(anlage);
+        if (knoten != null) {
+            nimmAuf(knoten);
+        }
+        ZeitStatistiken.zeichneZeitAuf(Konstanten.OPERATION_ROUTEN_REPARATUR, timer.stoppeUndGibMillis());
+        return knoten != null;
+    }
+
+    /**
+     * Liefert die aktuellen Routen aller Cluster (je Cluster eine Route, Reihenfolge der Entstehung).
+     *
+     * Pre: -
+     * Post: Rueckgabe sind nicht veraenderbare Sichten, gueltig bis zur naechsten Aenderung
+     *
+     * @return Routen der Cluster
+     */
+    public List<List<Windkraftanlage>> getRouten() {
+        List<List<Windkraftanlage>> routen = new ArrayList<>(cluster.size());
+        for (PlanCluster c : cluster) {
+            routen.add(Collections.unmodifiableList(c.route));
+        }
+        return routen;
+    }
+
+    /**
+     * Liefert die Route des Clusters einer Anlage.
+     *
+     * Pre: -
+     * Post: Rueckgabe ist nicht veraenderbare Sicht oder null
+     *
+     * @param anlage Gesuchte Anlage
+     * @return Route oder null, wenn die Anlage nicht im Plan ist
+     */
+    public List<Windkraftanlage> getRoute(Windkraftanlage anlage) {
+        PlanCluster c = zuordnung.get(anlage);
+        return c == null ? null : Collections.unmodifiableList(c.route);
+    }
+
+    /**
+     * Liefert die Anzahl der Cluster.
+     *
+     * @return Anzahl Cluster
+     */
+    public int getAnzahlCluster() {
+        return cluster.size();
+    }
+
+    /**
+     * Berechnet die Wartungsdauer aller Cluster wie WartungsZeitBerechner.berechneGesamtdauer.
+     *
+     * Pre: -
+     * Post: Rueckgabe ist Summe der Tage ueber alle Cluster
+     *
+     * @return Gesamtdauer in Tagen
+     */
+    public int berechneGesamtdauer() {
+        int tage = 0;
+        for (PlanCluster c : cluster) {
+            tage += WartungsZeitBerechner.berechneGesamtdauer(c.route);
+        }
+        return tage;
+    }
+
+    // ==================== Cluster-Aenderungen ====================
+
+    /**
+     * Ordnet einen frisch verbundenen Knoten ein: neuer Cluster, Einfuegen oder Vereinigen.
+     *
+     * Pre: knoten ist im Graphen und noch keinem Cluster zugeordnet
+     * Post: Anlage des Knotens ist in genau einer Route
+     *
+     * @param knoten Knoten der neuen Anlage
+     */
+    private void nimmAuf(Graphknoten knoten) {
+        Windkraftanlage anlage = knoten.getAnlage();
+
+        // Verschiedene Cluster der Nachbarn, der groesste bleibt bestehen
+        List<PlanCluster> betroffen = new ArrayList<>();
+        PlanCluster ziel = null;
+        List<Graphknoten> nachbarn = knoten.getNachbarn();
+        for (int i = 0; i < nachbarn.size(); i++) {
+            PlanCluster c = zuordnung.get(nachbarn.get(i).getAnlage());
+            if (!betroffen.contains(c)) {
+                betroffen.add(c);
+                if (ziel == null || c.route.size() > ziel.route.size()) {
+                    ziel = c;
+                }
+            }
+        }
+
+        if (ziel == null) {
+            List<Windkraftanlage> route = new ArrayList<>();
+            route.add(anlage);
+            registriere(new PlanCluster(route));
+            return;
+        }
+
+        for (int i = 0; i < betroffen.size(); i++) {
+            PlanCluster c = betroffen.get(i);
+            if (c != ziel) {
+                vereinige(ziel, c);
+            }
+        }
+        int position = findeEinfuegePosition(ziel.route, anlage);
+        ziel.route.add(position, anlage);
+        zuordnung.put(anlage, ziel);
+        verbessereLokal(ziel.route, position);
+    }
+
+    /**
+     * Loest eine Anlage aus Graph und Route und teilt ihren Cluster, falls er zerfaellt.
+     *
+     * Pre: anlage nicht null
+     * Post: Anlage ist weder im Graphen noch in einer Route
+     *
+     * @param anlage Zu entfernende Anlage
+     * @return true wenn die Anlage im Plan war
+     */
+    private boolean loese(Windkraftanlage anlage) {
+        if (anlage == null) {
+            throw new IllegalArgumentException("Anlage darf nicht null sein");
+        }
+        PlanCluster c = zuordnung.remove(anlage);
+        if (c == null) {
+            return false;
+        }
+        List<Graphknoten> nachbarn = new ArrayList<>(graph.findeKnoten(anlage).getNachbarn());
+        graph.entferneAnlage(anlage);
+
+        int position = c.route.indexOf(anlage);
+        c.route.remove(position);
+        if (c.route.isEmpty()) {
+            cluster.remove(c);
+            return true;
+        }
+
+        if (bleibtZusammenhaengend(nachbarn)) {
+            verbessereLokal(c.route, Math.max(0, position - 1));
+        } else {
+            teile(c, nachbarn);
+        }
+        return true;
+    }
+
+    /**
+     * Prueft per Breitensuche ab dem ersten frueheren Nachbarn, ob alle anderen noch erreichbar sind.
+     * Sind die Nachbarn schon untereinander verbunden, entfaellt die Suche.
+     *
+     * Pre: Anlage ist bereits aus dem Graphen entfernt
+     * Post: Graph unveraendert
+     *
+     * @param nachbarn Fruehere Nachbarn der entfernten Anlage
+     * @return true wenn der Cluster zusammenhaengend bleibt
+     */
+    private boolean bleibtZusammenhaengend(List<Graphknoten> nachbarn) {
+        if (nachbarn.size() <= 1) {
+            return true;
+        }
+        Set<Graphknoten> offen = new HashSet<>(nachbarn);
+
+        // Schnelltest: Nachbarn untereinander direkt verbunden
+        Set<Graphknoten> erreicht = new HashSet<>();
+        ArrayDeque<Graphknoten> warteschlange = new ArrayDeque<>();
+        erreicht.add(nachbarn.get(0));
+        warteschlange.add(nachbarn.get(0));
+        offen.remove(nachbarn.get(0));
+        while (!warteschlange.isEmpty() && !offen.isEmpty()) {
+            List<Graphknoten> naechste = warteschlange.poll().getNachbarn();
+            for (int i = 0; i < naechste.size(); i++) {
+                Graphknoten k = naechste.get(i);
+                if (offen.remove(k)) {
+                    erreicht.add(k);
+                    warteschlange.add(k);
+                }
+            }
+        }
+        if (offen.isEmpty()) {
+            return true;
+        }
+
+        // Breitensuche im ganzen Cluster mit Abbruch, sobald alle Nachbarn erreicht sind
+        warteschlange.clear();
+        warteschlange.addAll(erreicht);
+        while (!warteschlange.isEmpty()) {
+            List<Graphknoten> naechste = warteschlange.poll().getNachbarn();
+            for (int i = 0; i < naechste.size(); i++) {
+                Graphknoten k = naechste.get(i);
+                if (erreicht.add(k)) {
+                    if (offen.remove(k) && offen.isEmpty()) {
+                        return true;
+                    }
+                    warteschlange.add(k);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Teilt einen zerfallenen Cluster in seine Zusammenhangskomponenten. Jede Teilroute
+     * behaelt die Reihenfolge der alten Route und wird an den Luecken lokal verbessert.
+     *
+     * Pre: c ohne die entfernte Anlage, nachbarn sind ihre frueheren Nachbarn
+     * Post: c ist durch je einen Cluster pro Komponente ersetzt
+     *
+     * @param c Zerfallener Cluster
+     * @param nachbarn Fruehere Nachbarn der entfernten Anlage
+     */
+    private void teile(PlanCluster c, List<Graphknoten> nachbarn) {
+        Map<Windkraftanlage, Integer> komponente = new HashMap<>();
+        int anzahl = 0;
+        ArrayDeque<Graphknoten> warteschlange = new ArrayDeque<>();
+        for (int n = 0; n < nachbarn.size(); n++) {
+            Graphknoten start = nachbarn.get(n);
+            if (komponente.containsKey(start.getAnlage())) {
+                continue;
+            }
+            komponente.put(start.getAnlage(), anzahl);
+            warteschlange.add(start);
+            while (!warteschlange.isEmpty()) {
+                List<Graphknoten> naechste = warteschlange.poll().getNachbarn();
+                for (int i = 0; i < naechste.size(); i++) {
+                    Graphknoten k = naechste.get(i);
+                    if (komponente.putIfAbsent(k.getAnlage(), anzahl) == null) {
+                        warteschlange.add(k);
+                    }
+                }
+            }
+            anzahl++;
+        }
+
+        // Teilrouten in alter Reihenfolge, Luecken merken
+        List<List<Windkraftanlage>> teilRouten = new ArrayList<>(anzahl);
+        List<IntListe> luecken = new ArrayList<>(anzahl);
+        int[] letzteAltePosition = new int[anzahl];
+        for (int k = 0; k < anzahl; k++) {
+            teilRouten.add(new ArrayList<>());
+            luecken.add(new IntListe());
+            letzteAltePosition[k] = -1;
+        }
+        for (int i = 0; i < c.route.size(); i++) {
+            Windkraftanlage anlage = c.route.get(i);
+            int k = komponente.get(anlage);
+            List<Windkraftanlage> teil = teilRouten.get(k);
+            if (letzteAltePosition[k] >= 0 && letzteAltePosition[k] != i - 1) {
+                luecken.get(k).fuegeHinzu(teil.size() - 1);
+            }
+            teil.add(anlage);
+            letzteAltePosition[k] = i;
+        }
+
+        cluster.remove(c);
+        for (int k = 0; k < anzahl; k++) {
+            List<Windkraftanlage> teil = teilRouten.get(k);
+            IntListe stellen = luecken.get(k);
+            for (int i = 0; i < stellen.groesse(); i++) {
+                verbessereLokal(teil, stellen.hole(i));
+            }
+            registriere(new PlanCluster(teil));
+        }
+        ZeitStatistiken.erhoeheStat(Konstanten.STAT_INKREMENT_CLUSTER_GETEILT);
+    }
+
+    /**
+     * Fuegt die Route von quelle an der guenstigsten Stelle (vorwaerts oder rueckwaerts)
+     * in die Route von ziel ein und loest quelle auf.
+     *
+     * Pre: ziel != quelle
+     * Post: Alle Anlagen von quelle gehoeren zu ziel
+     *
+     * @param ziel Bestehender Cluster
+     * @param quelle Aufzuloesender Cluster
+     */
+    private void vereinige(PlanCluster ziel, PlanCluster quelle) {
+        List<Windkraftanlage> route = ziel.route;
+        List<Windkraftanlage> teil = quelle.route;
+        Windkraftanlage anfang = teil.get(0);
+        Windkraftanlage ende = teil.get(teil.size() - 1);
+
+        // Position hinter route[i]; i == letzte Position haengt an (offene Route)
+        int bestePosition = route.size();
+        boolean umgekehrt = false;
+        float besteKosten = Float.MAX_VALUE;
+        for (int i = 0; i < route.size(); i++) {
+            Windkraftanlage vor = route.get(i);
+            float vorwaerts = RoutenOptimierer.berechneFahrDistanz(vor, anfang);
+            float rueckwaerts = RoutenOptimierer.berechneFahrDistanz(vor, ende);
+            if (i + 1 < route.size()) {
+                Windkraftanlage nach = route.get(i + 1);
+                float alt = RoutenOptimierer.berechneFahrDistanz(vor, nach);
+                vorwaerts += RoutenOptimierer.berechneFahrDistanz(ende, nach) - alt;
+                rueckwaerts += RoutenOptimierer.berechneFahrDistanz(anfang, nach) - alt;
+            }
+            if (vorwaerts < besteKosten) {
+                besteKosten = vorwaerts;
+                bestePosition = i + 1;
+                umgekehrt = false;
+            }
+            if (rueckwaerts < besteKosten) {
+                besteKosten = rueckwaerts;
+                bestePosition = i + 1;
+                umgekehrt = true;
+            }
+        }
+
+        if (umgekehrt) {
+            Collections.reverse(teil);
+        }
+        route.addAll(bestePosition, teil);
+        for (int i = 0; i < teil.size(); i++) {
+            zuordnung.put(teil.get(i), ziel);
+        }
+        cluster.remove(quelle);
+        verbessereLokal(route, bestePosition - 1);
+        verbessereLokal(route, bestePosition + teil.size() - 1);
+        ZeitStatistiken.erhoeheStat(Konstanten.STAT_INKREMENT_CLUSTER_VEREINIGT);
+    }
+
+    /**
+     * Nimmt einen Cluster in die Verwaltung auf.
+     *
+     * @param c Neuer Cluster
+     */
+    private void registriere(PlanCluster c) {
+        cluster.add(c);
+        for (int i = 0; i < c.route.size(); i++) {
+            zuordnung.put(c.route.get(i), c);
+        }
+    }
+
+    // ==================== Routen-Reparatur ====================
+
+    /**
+     * Verwirft die zwischengespeicherten Fahrdistanzen einer Anlage im aktiven Strassennetz,
+     * damit Einfuegen und 2-opt mit ihren aktuellen Koordinaten rechnen.
+     *
+     * Pre: anlage nicht null
+     * Post: Ohne Strassennetz unveraendert (Haversine wird nicht zwischengespeichert)
+     *
+     * @param anlage Geaenderte Anlage
+     */
+    private static void verwerfeFahrDistanzen(Windkraftanlage anlage) {
+        StrassenNetz netz = StrassenNetz.holeStandard();
+        if (netz != null) {
+            netz.verwerfeAnlage(anlage);
+        }
+    }
+
+    /**
+     * Sucht die guenstigste Einfuegeposition (hinter der Startanlage oder am offenen Ende).
+     *
+     * Pre: route nicht leer
+     * Post: Rueckgabe ist Position in [1, route.size()]
+     *
+     * @param route Bestehende Route
+     * @param anlage Einzufuegende Anlage
+     * @return Einfuegeposition
+     */
+    private static int findeEinfuegePosition(List<Windkraftanlage> route, Windkraftanlage anlage) {
+        int letzte = route.size() - 1;
+        int bestePosition = route.size();
+        float besteKosten = RoutenOptimierer.berechneFahrDistanz(route.get(letzte), anlage);
+        float zuVorgaenger = RoutenOptimierer.berechneFahrDistanz(route.get(0), anlage);
+        for (int i = 0; i < letzte; i++) {
+            float zuNachfolger = RoutenOptimierer.berechneFahrDistanz(anlage, route.get(i + 1));
+            float kosten = zuVorgaenger + zuNachfolger
+                - RoutenOptimierer.berechneFahrDistanz(route.get(i), route.get(i + 1));
+            if (kosten < besteKosten) {
+                besteKosten = kosten;
+                bestePosition = i + 1;
+            }
+            zuVorgaenger = zuNachfolger;
+        }
+        return bestePosition;
+    }
+
+    /**
+     * 2-opt auf der offenen Route, beschraenkt auf INKREMENT_2OPT_FENSTER Positionen
+     * um die Aenderungsstelle. Position 0 (Startanlage) bleibt fest.
+     *
+     * Pre: 0 <= position < route.size()
+     * Post: Route ist im Fenster 2-opt-optimal (hoechstens INKREMENT_2OPT_MAX_DURCHLAEUFE Durchlaeufe)
+     *
+     * @param route Zu verbessernde Route (wird veraendert)
+     * @param position Aenderungsstelle
+     */
+    private static void verbessereLokal(List<Windkraftanlage> route, int position) {
+        int n = route.size();
+        int von = Math.max(0, position - Konstanten.INKREMENT_2OPT_FENSTER);
+        int bis = Math.min(n - 1, position + Konstanten.INKREMENT_2OPT_FENSTER);
+        boolean verbessert = true;
+        for (int durchlauf = 0; verbessert && durchlauf < Konstanten.INKREMENT_2OPT_MAX_DURCHLAEUFE; durchlauf++) {
+            verbessert = false;
+            for (int i = von; i < bis - 1; i++) {
+                Windkraftanlage a = route.get(i);
+                Windkraftanlage b = route.get(i + 1);
+                float ab = RoutenOptimierer.berechneFahrDistanz(a, b);
+                for (int j = i + 2; j <= bis; j++) {
+                    Windkraftanlage c = route.get(j);
+                    // Kante (j, j+1) tauschen; am offenen Ende entfaellt sie
+                    float delta = RoutenOptimierer.berechneFahrDistanz(a, c) - ab;
+                    if (j + 1 < n) {
+                        Windkraftanlage d = route.get(j + 1);
+                        delta += RoutenOptimierer.berechneFahrDistanz(b, d) - RoutenOptimierer.berechneFahrDistanz(c, d);
+                    }
+                    if (delta < -EPSILON) {
+                        Collections.reverse(route.subList(i + 1, j + 1));
+                        b = route.get(i + 1);
+                        ab = RoutenOptimierer.berechneFahrDistanz(a, b);
+                        verbessert = true;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Ein Cluster mit seiner Route (Identitaet ueber die Objektreferenz).
+     */
+    private static final class PlanCluster {
+        final List<Windkraftanlage> route;
+
+        PlanCluster(List<Windkraftanlage> route) {
+            this.route = route;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package util;
+
+import java.util.Arrays;
+
+/**
+ * Wachsende Liste primitiver int-Werte ohne Boxing.
+ * Wird von Index-Strukturen und Graph-Algorithmen als Stack und Ergebnispuffer genutzt.
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur Speicherung von int-Werten
+ * - KISS: Ein Array mit Fuellstand, Verdopplung bei Bedarf
+ * - Performance: Keine Integer-Objekte in heissen Schleifen
+ *
+ * Pre: -
+ * Post: Liste verwaltet int-Werte in Einfuegereihenfolge
+ */
+public final class IntListe {
+
+    /** Anfangskapazitaet einer neuen Liste */
+    private static final int STANDARD_KAPAZITAET = 8;
+
+    private int[] werte;
+    private int anzahl;
+
+    /**
+     * Erstellt eine leere Liste mit Standardkapazitaet.
+     *
+     * Pre: -
+     * Post: Leere Liste
+     */
+    public IntListe() {
+        this(STANDARD_KAPAZITAET);
+    }
+
+    /**
+     * Erstellt eine leere Liste mit gegebener Anfangskapazitaet.
+     *
+     * Pre: kapazitaet >= 0
+     * Post: Leere Liste
+     *
+     * @param kapazitaet Anfangskapazitaet
+     */
+    public IntListe(int kapazitaet) {
+        this.werte = new int[Math.max(1, kapazitaet)];
+        this.anzahl = 0;
+    }
+
+    /**
+     * Haengt einen Wert an.
+     *
+     * Pre: -
+     * Post: Wert steht am Ende der Liste
+     *
+     * @param wert Anzuhaengender Wert
+     */
+    public void fuegeHinzu(int wert) {
+        if (anzahl == werte.length) {
+            werte = Arrays.copyOf(werte, werte.length * 2);
+        }
+        werte[anzahl] = wert;
+        anzahl++;
+    }
+
+    /**
+     * Liefert den Wert an einer Position.
+     *
+     * Pre: 0 <= index < groesse()
+     * Post: Rueckgabe ist gespeicherter Wert
+     *
+     * @param index Position
+     * @return Wert an der Position
+     */
+    public int hole(int index) {
+        return werte[index];
+    }
+
+    /**
+     * Ueberschreibt den Wert an einer Position.
+     *
+     * Pre: 0 <= index < groesse()
+     * Post: Position enthaelt wert
+     *
+     * @param index Position
+     * @param wert Neuer Wert
+     */
+    public void setze(int index, int wert) {
+        werte[index] = wert;
+    }
+
+    /**
+     * Entfernt den letzten Wert und gibt ihn zurueck (Stack-Verhalten).
+     *
+     * Pre: Liste nicht leer
+     * Post: Liste ist um ein Element kuerzer
+     *
+     * @return Entfernter Wert
+     */
+    public int entferneLetzten() {
+        anzahl--;
+        return werte[anzahl];
+    }
+
+    /**
+     * Entfernt das erste Vorkommen eines Wertes, indem der letzte Wert an seine Stelle rueckt.
+     * Die Reihenfolge der uebrigen Werte bleibt dabei nicht erhalten.
+     *
+     * Pre: -
+     * Post: Ein Vorkommen von wert wurde entfernt, falls vorhanden
+     *
+     * @param wert Zu entfernender Wert
+     * @return true wenn ein Wert entfernt wurde
+     */
+    public boolean entferneWertUngeordnet(int wert) {
+        for (int i = 0; i < anzahl; i++) {
+            if (werte[i] == wert) {
+                anzahl--;
+                werte[i] = werte[anzahl];
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Liefert die Anzahl gespeicherter Werte.
+     *
+     * @return Anzahl Werte
+     */
+    public int groesse() {
+        return anzahl;
+    }
+
+    /**
+     * Prueft ob die Liste leer ist.
+     *
+     * @return true wenn keine Werte gespeichert sind
+     */
+    public boolean istLeer() {
+        return anzahl == 0;
+    }
+
+    /**
+     * Entfernt alle Werte, die Kapazitaet bleibt erhalten.
+     *
+     * Pre: -
+     * Post: groesse() == 0
+     */
+    public void leere() {
+        anzahl = 0;
+    }
+
+    /**
+     * Kopiert die Werte in ein neues Array passender Laenge.
+     *
+     * Pre: -
+     * Post: Rueckgabe ist Kopie der Werte
+     *
+     * @return Array mit allen Werten
+     */
+    public int[] alsArray() {
+        return Arrays.copyOf(werte, anzahl);
+    }
+}
@@ -0,0 +1,164 @@
+package util;
+
+import java.util.Random;
+
+/**
+ * Iterierte lokale Suche im Stil von Chained Lin-Kernighan fuer offene Routen.
+ * Nach einer ersten Nachbarlisten-Verbesserung (2-Opt und Or-Opt) wird die Route wiederholt
+ * durch einen lokalen Double-Bridge-Kick gestoert und erneut lokal verbessert. Nur eine
+ * Verkuerzung wird behalten, sonst wird der geaenderte Bereich zurueckgesetzt.
+ * Die Suche endet spaetestens mit Ablauf des Zeitbudgets und liefert die beste gefundene Route.
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur Verbesserung einer bestehenden Route unter Zeitbudget
+ * - Wiederverwendung: Lokale Suche aus NachbarlistenOptimierer, nur gestoerte Anlagen sind aktiv
+ * - Performance: Kick, Bewertung und Ruecksetzen kosten nur den geaenderten Bereich
+ *
+ * Pre: tour ist Permutation der Tabellenindizes
+ * Post: tour ist nicht laenger als vorher, tour[0] ist unveraendert
+ */
+public final class IterierteLokaleSuche {
+
+    /** Mindestverkuerzung in km, damit ein Kick uebernommen wird */
+    private static final double MIN_GEWINN_KM = 1.0e-4;
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private IterierteLokaleSuche() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Verbessert die Route bis zum Ablauf des Zeitbudgets.
+     * Bei gleichem Seed ist die Folge der Kicks identisch; wie viele davon ausgefuehrt werden,
+     * haengt vom Zeitbudget ab.
+     *
+     * Pre: tour, tabelle und nachbarn nicht null, zeitbudgetMs >= 0
+     * Post: tour wurde in-place verbessert
+     *
+     * @param tour Route als Folge von Tabellenindizes
+     * @param tabelle Distanzen
+     * @param nachbarn Nachbarlisten (siehe NachbarlistenOptimierer.berechneNachbarlisten)
+     * @param k Laenge jeder Nachbarliste
+     * @param zeitbudgetMs Maximale Laufzeit in Millisekunden
+     * @param seed Startwert fuer die Auswahl der Kicks
+     * @return Anzahl uebernommener Kicks
+     */
+    public static int verbessere(int[] tour, RoutenDistanzTabelle tabelle, int[] nachbarn, int k,
+                                 long zeitbudgetMs, long seed) {
+        return verbessere(tour, tabelle, nachbarn, k, zeitbudgetMs, seed, Long.MAX_VALUE);
+    }
+
+    /**
+     * Wie verbessere(tour, tabelle, nachbarn, k, zeitbudgetMs, seed), endet aber zusaetzlich
+     * nach maxKicks Kicks. Reicht das Zeitbudget dafuer aus, ist das Ergebnis fuer gleichen Seed
+     * unabhaengig von der Laufzeit.
+     *
+     * Pre: tour, tabelle und nachbarn nicht null, zeitbudgetMs >= 0, maxKicks >= 0
+     * Post: tour wurde in-place verbessert
+     *
+     * @param tour Route als Folge von Tabellenindizes
+     * @param tabelle Distanzen
+     * @param nachbarn Nachbarlisten (siehe NachbarlistenOptimierer.berechneNachbarlisten)
+     * @param k Laenge jeder Nachbarliste
+     * @param zeitbudgetMs Maximale Laufzeit in Millisekunden
+     * @param seed Startwert fuer die Auswahl der Kicks
+     * @param maxKicks Hoechstanzahl Kicks
+     * @return Anzahl uebernommener Kicks
+     */
+    static int verbessere(int[] tour, RoutenDistanzTabelle tabelle, int[] nachbarn, int k,
+                          long zeitbudgetMs, long seed, long maxKicks) {
+        if (zeitbudgetMs < 0) {
+            throw new IllegalArgumentException("Zeitbudget darf nicht negativ sein: " + zeitbudgetMs);
+        }
+        if (maxKicks < 0) {
+            throw new IllegalArgumentException("Anzahl Kicks darf nicht negativ sein: " + maxKicks);
+        }
+        long ende = System.nanoTime() + zeitbudgetMs * 1_000_000L;
+        int n = tour.length;
+        if (n < 4) {
+            return 0;
+        }
+
+        NachbarlistenOptimierer.Suche suche = new NachbarlistenOptimierer.Suche(tour, tabelle, nachbarn, k);
+        suche.aktiviereAlle();
+        suche.laufe();
+        if (n < 8) {
+            return 0;
+        }
+
+        int[] beste = tour.clone();
+        int[] puffer = new int[2 * Konstanten.ROUTEN_KICK_MAX_SEGMENT];
+        Random zufall = new Random(seed);
+        int uebernommen = 0;
+
+        for (long kick = 0; kick < maxKicks && System.nanoTime() < ende; kick++) {
+            suche.setzeBilanzZurueck();
+            double kickKosten = kicke(tour, tabelle, suche, zufall, puffer);
+            suche.laufe();
+
+            int von = suche.getGeaendertVon();
+            int bis = suche.getGeaendertBis();
+            if (suche.getGewinnSumme() - kickKosten > MIN_GEWINN_KM) {
+                System.arraycopy(tour, von, beste, von, bis - von + 1);
+                uebernommen++;
+            } else {
+                System.arraycopy(beste, von, tour, von, bis - von + 1);
+                suche.uebernimmPositionen(von, bis);
+            }
+        }
+        return uebernommen;
+    }
+
+    /**
+     * Fuehrt einen lokalen Double-Bridge-Kick aus: A B C D wird zu A C B D, wobei B und C
+     * kurze, aufeinanderfolgende Abschnitte sind. Die Endpunkte der neuen Kanten werden aktiviert.
+     *
+     * @param tour Route
+     * @param tabelle Distanzen
+     * @param suche Lokale Suche auf derselben Route
+     * @param zufall Zufallsquelle
+     * @param puffer Zwischenspeicher mit mindestens 2 * ROUTEN_KICK_MAX_SEGMENT Plaetzen
+     * @return Verlaengerung der Route durch den Kick in km
+     */
+    private static double kicke(int[] tour, RoutenDistanzTabelle tabelle, NachbarlistenOptimierer.Suche suche,
+                                Random zufall, int[] puffer) {
+        int n = tour.length;
+        int maxSegment = Math.min(Konstanten.ROUTEN_KICK_MAX_SEGMENT, (n - 1) / 2);
+        int laengeB = 1 + zufall.nextInt(maxSegment);
+        int laengeC = 1 + zufall.nextInt(maxSegment);
+        // Position 0 bleibt fest, B beginnt fruehestens bei 1
+        int p1 = 1 + zufall.nextInt(n - laengeB - laengeC);
+        int p2 = p1 + laengeB;
+        int p3 = p2 + laengeC;
+
+        int aEnde = tour[p1 - 1];
+        int bStart = tour[p1];
+        int bEnde = tour[p2 - 1];
+        int cStart = tour[p2];
+        int cEnde = tour[p3 - 1];
+        int dStart = p3 < n ? tour[p3] : -1;
+
+        double kosten = tabelle.distanz(aEnde, cStart) + tabelle.distanz(cEnde, bStart)
+            - tabelle.distanz(aEnde, bStart) - tabelle.distanz(bEnde, cStart);
+        if (dStart >= 0) {
+            kosten += tabelle.distanz(bEnde, dStart) - tabelle.distanz(cEnde, dStart);
+        }
+
+        System.arraycopy(tour, p1, puffer, 0, laengeB + laengeC);
+        System.arraycopy(puffer, laengeB, tour, p1, laengeC);
+        System.arraycopy(puffer, 0, tour, p1 + laengeC, laengeB);
+        suche.uebernimmPositionen(p1, p3 - 1);
+
+        suche.aktiviere(aEnde);
+        suche.aktiviere(bStart);
+        suche.aktiviere(bEnde);
+        suche.aktiviere(cStart);
+        suche.aktiviere(cEnde);
+        if (dStart >= 0) {
+            suche.aktiviere(dStart);
+        }
+        return kosten;
+    }
+}
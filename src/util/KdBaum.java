@@ -0,0 +1,542 @@
+package util;
+
+/**
+ * Statischer k-d-Baum ueber dreidimensionale Punkte (kartesische Positionen auf der Erdkugel).
+ * Jeder Punkt traegt ein Label (z.B. Cluster-Nummer). Knoten merken sich, ob ihr Teilbaum
+ * nur ein einziges Label enthaelt; Suchen nach dem naechsten Punkt mit fremdem Label
+ * ueberspringen solche Teilbaeume des eigenen Labels vollstaendig.
+ *
+ * Distanzen sind euklidisch (Sehnenlaenge in km). Da die Sehne monoton in der
+ * Grosskreis-Distanz ist, eignet sich der Baum als exakte Vorauswahl fuer Haversine-Vergleiche.
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur raeumliche Suchen auf festen Punkten
+ * - KISS: Knoten als parallele Arrays, Median-Teilung entlang der groessten Ausdehnung
+ * - Performance: Bounding-Box-Schranken und Label-Pruning
+ *
+ * Suchen sind threadsicher, solange keine Labels gesetzt werden.
+ *
+ * Pre: positionen.length == 3 * Anzahl Punkte
+ * Post: Baum ist aufgebaut, alle Labels sind 0
+ */
+public final class KdBaum {
+
+    /** Maximale Anzahl Punkte in einem Blatt */
+    private static final int BLATT_GROESSE = 8;
+
+    /** Label-Markierung fuer Teilbaeume mit mehreren Labels */
+    private static final int MEHRERE_LABELS = -1;
+
+    private final double[] positionen;
+    private final int[] reihenfolge;
+    private final int[] labels;
+
+    private final int[] knotenVon;
+    private final int[] knotenBis;
+    private final int[] knotenLinks;
+    private final int[] knotenRechts;
+    private final int[] knotenLabel;
+    private final double[] knotenBox;
+    private int anzahlKnoten;
+
+    /**
+     * Baut den Baum ueber die gegebenen Punkte auf.
+     *
+     * Pre: positionen nicht null, Laenge durch 3 teilbar
+     * Post: Baum enthaelt alle Punkte mit Label 0
+     *
+     * @param positionen x, y, z je Punkt hintereinander (wird nicht kopiert)
+     */
+    public KdBaum(double[] positionen) {
+        if (positionen == null || positionen.length % 3 != 0) {
+            throw new IllegalArgumentException("Positionen muessen aus x, y, z-Tripeln bestehen");
+        }
+        int anzahlPunkte = positionen.length / 3;
+        this.positionen = positionen;
+        this.reihenfolge = new int[anzahlPunkte];
+        this.labels = new int[anzahlPunkte];
+        for (int i = 0; i < anzahlPunkte; i++) {
+            reihenfolge[i] = i;
+        }
+
+        // Geteilte Knoten haben mehr als BLATT_GROESSE Punkte, jedes Blatt also mindestens die Haelfte davon
+        int maxKnoten = Math.max(1, anzahlPunkte);
+        this.knotenVon = new int[maxKnoten];
+        this.knotenBis = new int[maxKnoten];
+        this.knotenLinks = new int[maxKnoten];
+        this.knotenRechts = new int[maxKnoten];
+        this.knotenLabel = new int[maxKnoten];
+        this.knotenBox = new double[6 * maxKnoten];
+        this.anzahlKnoten = 0;
+
+        if (anzahlPunkte > 0) {
+            baueKnoten(0, anzahlPunkte);
+        }
+    }
+
+    /**
+     * Liefert die Anzahl der Punkte im Baum.
+     *
+     * @return Anzahl Punkte
+     */
+    public int getAnzahlPunkte() {
+        return reihenfolge.length;
+    }
+
+    /**
+     * Setzt die Labels aller Punkte und aktualisiert die Teilbaum-Markierungen in O(n).
+     *
+     * Pre: neueLabels.length == Anzahl Punkte, alle Labels >= 0
+     * Post: Label-Pruning arbeitet mit den neuen Labels
+     *
+     * @param neueLabels Label je Punkt
+     */
+    public void setzeLabels(int[] neueLabels) {
+        if (neueLabels == null || neueLabels.length != labels.length) {
+            throw new IllegalArgumentException("Ein Label pro Punkt erforderlich");
+        }
+        System.arraycopy(neueLabels, 0, labels, 0, labels.length);
+
+        // Kinder haben groessere Knotennummern als ihr Elternknoten: rueckwaerts = von unten nach oben
+        for (int knoten = anzahlKnoten - 1; knoten >= 0; knoten--) {
+            if (knotenLinks[knoten] < 0) {
+                int label = labels[reihenfolge[knotenVon[knoten]]];
+                for (int i = knotenVon[knoten] + 1; i < knotenBis[knoten]; i++) {
+                    if (labels[reihenfolge[i]] != label) {
+                        label = MEHRERE_LABELS;
+                        break;
+                    }
+                }
+                knotenLabel[knoten] = label;
+            } else {
+                int links = knotenLabel[knotenLinks[knoten]];
+                knotenLabel[knoten] = links == knotenLabel[knotenRechts[knoten]] ? links : MEHRERE_LABELS;
+            }
+        }
+    }
+
+    /**
+     * Liefert das Label eines Punktes.
+     *
+     * @param punkt Punktnummer
+     * @return Label
+     */
+    public int getLabel(int punkt) {
+        return labels[punkt];
+    }
+
+    /**
+     * Berechnet den euklidischen Abstand zweier Punkte des Baums.
+     *
+     * @param a Erster Punkt
+     * @param b Zweiter Punkt
+     * @return Abstand (Sehnenlaenge in km)
+     */
+    public double berechneAbstand(int a, int b) {
+        return Math.sqrt(berechneAbstandQuadrat(a, b));
+    }
+
+    /**
+     * Sucht den naechsten Punkt mit anderem Label als der Anfragepunkt.
+     * Es werden nur Punkte mit Abstand kleiner als die Schranke beruecksichtigt.
+     *
+     * Pre: 0 <= punkt < Anzahl Punkte
+     * Post: Rueckgabe ist naechster fremder Punkt oder -1
+     *
+     * @param punkt Anfragepunkt
+     * @param schranke Obere Schranke fuer den Abstand (Double.POSITIVE_INFINITY fuer unbeschraenkt)
+     * @return Punktnummer des naechsten fremden Punktes oder -1 wenn keiner innerhalb der Schranke liegt
+     */
+    public int sucheNaechstenFremden(int punkt, double schranke) {
+        if (anzahlKnoten == 0) {
+            return -1;
+        }
+        Suche suche = new Suche(punkt, labels[punkt], schranke * schranke);
+        sucheFremdRekursiv(0, suche);
+        return suche.besterPunkt;
+    }
+
+    /**
+     * Sammelt alle Punkte mit anderem Label im Umkreis eines Punktes.
+     *
+     * Pre: 0 <= punkt < Anzahl Punkte, ziel nicht null
+     * Post: ziel wurde um alle fremden Punkte mit Abstand <= radius ergaenzt
+     *
+     * @param punkt Anfragepunkt
+     * @param radius Suchradius (Sehnenlaenge in km)
+     * @param ziel Liste, an die die Punktnummern angehaengt werden
+     */
+    public void sammleFremdeImRadius(int punkt, double radius, IntListe ziel) {
+        if (anzahlKnoten == 0) {
+            return;
+        }
+        sammleFremdeRekursiv(0, punkt, labels[punkt], radius * radius, ziel);
+    }
+
+    /**
+     * Sucht die k naechsten anderen Punkte eines Punktes (Labels werden ignoriert).
+     *
+     * Pre: 0 <= punkt < Anzahl Punkte, k >= 0, ziel nicht null
+     * Post: ziel enthaelt hoechstens k Punktnummern, aufsteigend nach Abstand
+     *
+     * @param punkt Anfragepunkt
+     * @param k Anzahl gesuchter Nachbarn
+     * @param ziel Ergebnisliste (wird geleert)
+     */
+    public void sucheKNaechste(int punkt, int k, IntListe ziel) {
+        ziel.leere();
+        if (anzahlKnoten == 0 || k <= 0) {
+            return;
+        }
+        NachbarSuche suche = new NachbarSuche(punkt, k);
+        sucheKNaechsteRekursiv(0, suche);
+        for (int i = 0; i < suche.anzahl; i++) {
+            ziel.fuegeHinzu(suche.punkte[i]);
+        }
+    }
+
+    /**
+     * Sucht die k naechsten Punkte mit anderem Label als der Anfragepunkt.
+     * Teilbaeume, die nur das eigene Label enthalten, werden uebersprungen.
+     *
+     * Pre: 0 <= punkt < Anzahl Punkte, k >= 0, ziel nicht null
+     * Post: ziel enthaelt hoechstens k fremde Punktnummern, aufsteigend nach Abstand
+     *
+     * @param punkt Anfragepunkt
+     * @param k Anzahl gesuchter Nachbarn
+     * @param ziel Ergebnisliste (wird geleert)
+     */
+    public void sucheKNaechsteFremde(int punkt, int k, IntListe ziel) {
+        ziel.leere();
+        if (anzahlKnoten == 0 || k <= 0) {
+            return;
+        }
+        NachbarSuche suche = new NachbarSuche(punkt, k);
+        sucheKNaechsteFremdeRekursiv(0, labels[punkt], suche);
+        for (int i = 0; i < suche.anzahl; i++) {
+            ziel.fuegeHinzu(suche.punkte[i]);
+        }
+    }
+
+    /**
+     * Baut rekursiv den Knoten fuer den Bereich [von, bis) der Reihenfolge.
+     *
+     * @param von Erster Index (inklusive)
+     * @param bis Letzter Index (exklusive)
+     * @return Knotennummer
+     */
+    private int baueKnoten(int von, int bis) {
+        int knoten = anzahlKnoten;
+        anzahlKnoten++;
+        knotenVon[knoten] = von;
+        knotenBis[knoten] = bis;
+        knotenLinks[knoten] = -1;
+        knotenRechts[knoten] = -1;
+        knotenLabel[knoten] = 0;
+
+        int box = 6 * knoten;
+        for (int achse = 0; achse < 3; achse++) {
+            knotenBox[box + achse] = Double.POSITIVE_INFINITY;
+            knotenBox[box + 3 + achse] = Double.NEGATIVE_INFINITY;
+        }
+        for (int i = von; i < bis; i++) {
+            int basis = 3 * reihenfolge[i];
+            for (int achse = 0; achse < 3; achse++) {
+                double wert = positionen[basis + achse];
+                knotenBox[box + achse] = Math.min(knotenBox[box + achse], wert);
+                knotenBox[box + 3 + achse] = Math.max(knotenBox[box + 3 + achse], wert);
+            }
+        }
+
+        if (bis - von <= BLATT_GROESSE) {
+            return knoten;
+        }
+
+        int teilungsAchse = 0;
+        double groessteAusdehnung = -1;
+        for (int achse = 0; achse < 3; achse++) {
+            double ausdehnung = knotenBox[box + 3 + achse] - knotenBox[box + achse];
+            if (ausdehnung > groessteAusdehnung) {
+                groessteAusdehnung = ausdehnung;
+                teilungsAchse = achse;
+            }
+        }
+
+        int mitte = (von + bis) >>> 1;
+        waehleMedian(von, bis - 1, mitte, teilungsAchse);
+        int links = baueKnoten(von, mitte);
+        int rechts = baueKnoten(mitte, bis);
+        knotenLinks[knoten] = links;
+        knotenRechts[knoten] = rechts;
+        return knoten;
+    }
+
+    /**
+     * Ordnet die Reihenfolge so, dass an Position k das k-kleinste Element entlang der Achse steht
+     * und links davon nur kleinere oder gleiche, rechts nur groessere oder gleiche (Quickselect).
+     *
+     * @param links Linke Grenze (inklusive)
+     * @param rechts Rechte Grenze (inklusive)
+     * @param k Zielposition
+     * @param achse Koordinatenachse 0..2
+     */
+    private void waehleMedian(int links, int rechts, int k, int achse) {
+        while (rechts > links) {
+            double pivot = koordinate((links + rechts) >>> 1, achse);
+            int i = links;
+            int j = rechts;
+            while (i <= j) {
+                while (koordinate(i, achse) < pivot) {
+                    i++;
+                }
+                while (koordinate(j, achse) > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    int tausch = reihenfolge[i];
+                    reihenfolge[i] = reihenfolge[j];
+                    reihenfolge[j] = tausch;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                rechts = j;
+            } else if (k >= i) {
+                links = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Liefert eine Koordinate des Punktes an einer Position der Reihenfolge.
+     *
+     * @param position Position in der Reihenfolge
+     * @param achse Koordinatenachse 0..2
+     * @return Koordinatenwert
+     */
+    private double koordinate(int position, int achse) {
+        return positionen[3 * reihenfolge[position] + achse];
+    }
+
+    /**
+     * Berechnet das Abstandsquadrat zweier Punkte.
+     *
+     * @param a Erster Punkt
+     * @param b Zweiter Punkt
+     * @return Quadrierter euklidischer Abstand
+     */
+    private double berechneAbstandQuadrat(int a, int b) {
+        double dx = positionen[3 * a] - positionen[3 * b];
+        double dy = positionen[3 * a + 1] - positionen[3 * b + 1];
+        double dz = positionen[3 * a + 2] - positionen[3 * b + 2];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Berechnet das minimale Abstandsquadrat eines Punktes zur Bounding-Box eines Knotens.
+     *
+     * @param knoten Knotennummer
+     * @param punkt Punktnummer
+     * @return Quadrierter Abstand (0 wenn der Punkt in der Box liegt)
+     */
+    private double berechneBoxAbstandQuadrat(int knoten, int punkt) {
+        int box = 6 * knoten;
+        double summe = 0;
+        for (int achse = 0; achse < 3; achse++) {
+            double wert = positionen[3 * punkt + achse];
+            double unter = knotenBox[box + achse] - wert;
+            double ueber = wert - knotenBox[box + 3 + achse];
+            double abstand = Math.max(0, Math.max(unter, ueber));
+            summe += abstand * abstand;
+        }
+        return summe;
+    }
+
+    /**
+     * Rekursive Suche nach dem naechsten fremden Punkt.
+     *
+     * @param knoten Aktueller Knoten
+     * @param suche Suchzustand
+     */
+    private void sucheFremdRekursiv(int knoten, Suche suche) {
+        if (knotenLabel[knoten] == suche.label) {
+            return;
+        }
+        if (berechneBoxAbstandQuadrat(knoten, suche.punkt) >= suche.besteQuadrat) {
+            return;
+        }
+
+        if (knotenLinks[knoten] < 0) {
+            for (int i = knotenVon[knoten]; i < knotenBis[knoten]; i++) {
+                int kandidat = reihenfolge[i];
+                if (labels[kandidat] == suche.label) {
+                    continue;
+                }
+                double quadrat = berechneAbstandQuadrat(suche.punkt, kandidat);
+                if (quadrat < suche.besteQuadrat) {
+                    suche.besteQuadrat = quadrat;
+                    suche.besterPunkt = kandidat;
+                }
+            }
+            return;
+        }
+
+        // Naeheres Kind zuerst, damit die Schranke frueh sinkt
+        int links = knotenLinks[knoten];
+        int rechts = knotenRechts[knoten];
+        if (berechneBoxAbstandQuadrat(links, suche.punkt) <= berechneBoxAbstandQuadrat(rechts, suche.punkt)) {
+            sucheFremdRekursiv(links, suche);
+            sucheFremdRekursiv(rechts, suche);
+        } else {
+            sucheFremdRekursiv(rechts, suche);
+            sucheFremdRekursiv(links, suche);
+        }
+    }
+
+    /**
+     * Rekursive Umkreissuche nach fremden Punkten.
+     *
+     * @param knoten Aktueller Knoten
+     * @param punkt Anfragepunkt
+     * @param label Eigenes Label
+     * @param radiusQuadrat Quadrierter Suchradius
+     * @param ziel Ergebnisliste
+     */
+    private void sammleFremdeRekursiv(int knoten, int punkt, int label, double radiusQuadrat, IntListe ziel) {
+        if (knotenLabel[knoten] == label || berechneBoxAbstandQuadrat(knoten, punkt) > radiusQuadrat) {
+            return;
+        }
+        if (knotenLinks[knoten] < 0) {
+            for (int i = knotenVon[knoten]; i < knotenBis[knoten]; i++) {
+                int kandidat = reihenfolge[i];
+                if (labels[kandidat] != label && berechneAbstandQuadrat(punkt, kandidat) <= radiusQuadrat) {
+                    ziel.fuegeHinzu(kandidat);
+                }
+            }
+            return;
+        }
+        sammleFremdeRekursiv(knotenLinks[knoten], punkt, label, radiusQuadrat, ziel);
+        sammleFremdeRekursiv(knotenRechts[knoten], punkt, label, radiusQuadrat, ziel);
+    }
+
+    /**
+     * Rekursive Suche nach den k naechsten Punkten.
+     *
+     * @param knoten Aktueller Knoten
+     * @param suche Suchzustand
+     */
+    private void sucheKNaechsteRekursiv(int knoten, NachbarSuche suche) {
+        if (berechneBoxAbstandQuadrat(knoten, suche.punkt) >= suche.schrankeQuadrat()) {
+            return;
+        }
+        if (knotenLinks[knoten] < 0) {
+            for (int i = knotenVon[knoten]; i < knotenBis[knoten]; i++) {
+                int kandidat = reihenfolge[i];
+                if (kandidat != suche.punkt) {
+                    suche.pruefe(kandidat, berechneAbstandQuadrat(suche.punkt, kandidat));
+                }
+            }
+            return;
+        }
+        int links = knotenLinks[knoten];
+        int rechts = knotenRechts[knoten];
+        if (berechneBoxAbstandQuadrat(links, suche.punkt) <= berechneBoxAbstandQuadrat(rechts, suche.punkt)) {
+            sucheKNaechsteRekursiv(links, suche);
+            sucheKNaechsteRekursiv(rechts, suche);
+        } else {
+            sucheKNaechsteRekursiv(rechts, suche);
+            sucheKNaechsteRekursiv(links, suche);
+        }
+    }
+
+    /**
+     * Rekursive Suche nach den k naechsten Punkten mit fremdem Label.
+     *
+     * @param knoten Aktueller Knoten
+     * @param label Eigenes Label
+     * @param suche Suchzustand
+     */
+    private void sucheKNaechsteFremdeRekursiv(int knoten, int label, NachbarSuche suche) {
+        if (knotenLabel[knoten] == label
+            || berechneBoxAbstandQuadrat(knoten, suche.punkt) >= suche.schrankeQuadrat()) {
+            return;
+        }
+        if (knotenLinks[knoten] < 0) {
+            for (int i = knotenVon[knoten]; i < knotenBis[knoten]; i++) {
+                int kandidat = reihenfolge[i];
+                if (labels[kandidat] != label) {
+                    suche.pruefe(kandidat, berechneAbstandQuadrat(suche.punkt, kandidat));
+                }
+            }
+            return;
+        }
+        int links = knotenLinks[knoten];
+        int rechts = knotenRechts[knoten];
+        if (berechneBoxAbstandQuadrat(links, suche.punkt) <= berechneBoxAbstandQuadrat(rechts, suche.punkt)) {
+            sucheKNaechsteFremdeRekursiv(links, label, suche);
+            sucheKNaechsteFremdeRekursiv(rechts, label, suche);
+        } else {
+            sucheKNaechsteFremdeRekursiv(rechts, label, suche);
+            sucheKNaechsteFremdeRekursiv(links, label, suche);
+        }
+    }
+
+    /**
+     * Zustand einer k-Naechste-Nachbarn-Suche: sortierte Liste der bisher besten k Punkte.
+     */
+    private static final class NachbarSuche {
+        private final int punkt;
+        private final int[] punkte;
+        private final double[] quadrate;
+        private int anzahl;
+
+        NachbarSuche(int punkt, int k) {
+            this.punkt = punkt;
+            this.punkte = new int[k];
+            this.quadrate = new double[k];
+            this.anzahl = 0;
+        }
+
+        double schrankeQuadrat() {
+            return anzahl < punkte.length ? Double.POSITIVE_INFINITY : quadrate[anzahl - 1];
+        }
+
+        void pruefe(int kandidat, double quadrat) {
+            if (quadrat >= schrankeQuadrat()) {
+                return;
+            }
+            // Einfuegen durch Verschieben (k ist klein)
+            int position = anzahl < punkte.length ? anzahl : anzahl - 1;
+            while (position > 0 && quadrate[position - 1] > quadrat) {
+                punkte[position] = punkte[position - 1];
+                quadrate[position] = quadrate[position - 1];
+                position--;
+            }
+            punkte[position] = kandidat;
+            quadrate[position] = quadrat;
+            if (anzahl < punkte.length) {
+                anzahl++;
+            }
+        }
+    }
+
+    /**
+     * Zustand einer einzelnen Naechster-Nachbar-Suche (pro Anfrage, daher threadsicher).
+     */
+    private static final class Suche {
+        private final int punkt;
+        private final int label;
+        private double besteQuadrat;
+        private int besterPunkt;
+
+        Suche(int punkt, int label, double besteQuadrat) {
+            this.punkt = punkt;
+            this.label = label;
+            this.besteQuadrat = besteQuadrat;
+            this.besterPunkt = -1;
+        }
+    }
+}
@@ -479,6 +479,67 @@ public final class Konstanten {
     /** Anzahl der Beispiel-Nachbarschaften die ausgegeben werden */
     public static final int GRAPH_BEISPIEL_ANZAHL = 5;
 
+    // ==================== Graph-Cache ====================
+
+    /** Aktiviert das Speichern und Laden des Graphen als Binaerdatei */
+    public static final boolean GRAPH_CACHE_AKTIVIERT = true;
+
+    /** Verzeichnis fuer Cache-Dateien (relativ zum Projektverzeichnis) */
+    public static final String CACHE_VERZEICHNIS = "cache";
+
+    /** Dateiname der Graph-Datei: Datensatz-Hash und Bits der maximalen Distanz */
+    public static final String GRAPH_CACHE_DATEI_FORMAT = "graph_%016x_%08x.bin";
+
+    /** Kennung am Dateianfang ("WKAG") */
+    public static final int GRAPH_CACHE_MAGIC = 0x574B4147;
+
+    /** Version des Dateiformats (bei Formataenderung erhoehen) */
+    public static final int GRAPH_CACHE_VERSION = 1;
+
+    /** Statistik: Ergebnis des Graph-Caches */
+    public static final String STAT_GRAPH_CACHE = "Graph-Cache";
+
+    /** Text: Graph wurde aus Datei geladen */
+    public static final String GRAPH_CACHE_TREFFER = "Treffer (aus Datei geladen)";
+
+    /** Text: Graph wurde neu aufgebaut und gespeichert */
+    public static final String GRAPH_CACHE_NEU = "Neu aufgebaut und gespeichert";
+
+    /** Fehler-Praefix: Graph-Cache nicht nutzbar */
+    public static final String GRAPH_CACHE_FEHLER = "Graph-Cache nicht nutzbar: ";
+
+    // ==================== Routen-Cache ====================
+
+    /** Aktiviert das Speichern und Wiederverwenden optimierter Routen je Cluster */
+    public static final boolean ROUTEN_CACHE_AKTIVIERT = true;
+
+    /** Version der Routenoptimierung (bei Aenderung des Verfahrens erhoehen, alte Routen verfallen) */
+    public static final int ROUTEN_OPTIMIERER_VERSION = 2;
+
+    /** Dateiname einer Routen-Datei: Hash aus Cluster, Startanlage und Parametern */
+    public static final String ROUTEN_CACHE_DATEI_FORMAT = "route_%016x.bin";
+
+    /** Kennung am Dateianfang ("WKAR") */
+    public static final int ROUTEN_CACHE_MAGIC = 0x574B4152;
+
+    /** Version des Dateiformats (bei Formataenderung erhoehen) */
+    public static final int ROUTEN_CACHE_VERSION = 2;
+
+    /** Dateimuster aller Routen-Dateien im Cache-Verzeichnis */
+    public static final String ROUTEN_CACHE_DATEI_MUSTER = "route_*.bin";
+
+    /** Hoechstanzahl Routen-Dateien; darueber werden die am laengsten unbenutzten geloescht */
+    public static final int ROUTEN_CACHE_MAX_DATEIEN = 20_000;
+
+    /** Statistik: Aus dem Routen-Cache uebernommene Cluster */
+    public static final String STAT_ROUTEN_CACHE_TREFFER = "Routen-Cache Treffer (Cluster)";
+
+    /** Statistik: Neu optimierte und gespeicherte Cluster */
+    public static final String STAT_ROUTEN_CACHE_NEU = "Routen-Cache neu optimiert (Cluster)";
+
+    /** Fehler-Praefix: Routen-Cache nicht nutzbar */
+    public static final String ROUTEN_CACHE_FEHLER = "Routen-Cache nicht nutzbar: ";
+
     // ==================== Graph-Ausgabe ====================
 
     /** Überschrift: Graph-Zusammenfassung */
@@ -551,6 +612,247 @@ public final class Konstanten {
     /** Leerzeichen als Trennzeichen fuer Hersteller-Extraktion */
     public static final String LEERZEICHEN = " ";
 
+    /** Anzahl Knoten pro Teilaufgabe bei paralleler Cluster-Erkennung */
+    public static final int CLUSTER_PARALLEL_BLOCKGROESSE = 4096;
+
+    /** Grosse Graphen parallel in Cluster zerlegen (siehe WartungsClusterDetector.erkenneClusters) */
+    public static final boolean CLUSTER_PARALLEL_AKTIVIERT = true;
+
+    /** Mindestanzahl Knoten fuer die parallele Cluster-Erkennung */
+    public static final int CLUSTER_PARALLEL_MIN_KNOTEN = 50_000;
+
+    /** Hersteller und Cluster der Wartungsplanung parallel als ForkJoin-Aufgaben planen */
+    public static final boolean WARTUNG_PARALLEL_AKTIVIERT = true;
+
+    /** Dichtebasierte Cluster (DBSCAN) statt reiner Erreichbarkeit fuer die Wartungsplanung */
+    public static final boolean WARTUNG_DICHTE_CLUSTER_AKTIVIERT = false;
+
+    /** DBSCAN: Nachbarschaftsradius in km */
+    public static final float DBSCAN_EPS_KM = 10.0f;
+
+    /** DBSCAN: Mindestanzahl Anlagen im Radius (inkl. selbst) fuer einen Kernpunkt */
+    public static final int DBSCAN_MIN_PUNKTE = 4;
+
+    // ==================== Routenoptimierung ====================
+
+    /** Bis zu dieser Clustergroesse werden alle Distanzen vorab in einer Matrix gespeichert */
+    public static final int ROUTEN_DISTANZMATRIX_MAX_ANLAGEN = 2048;
+
+    /** Ab dieser Clustergroesse ersetzt die Nachbarlisten-Suche das vollstaendige 2-Opt */
+    public static final int ROUTEN_NACHBARLISTEN_AB_ANLAGEN = 5000;
+
+    /** Anzahl naechster Nachbarn je Anlage fuer die Nachbarlisten-Suche */
+    public static final int ROUTEN_NACHBARLISTEN_K = 10;
+
+    /** Maximale Segmentlaenge (Anlagen) fuer Or-Opt-Verschiebungen */
+    public static final int ROUTEN_OR_OPT_MAX_SEGMENT = 3;
+
+    /** Maximale Abschnittslaenge (Anlagen) beim Double-Bridge-Kick der iterierten Suche */
+    public static final int ROUTEN_KICK_MAX_SEGMENT = 50;
+
+    /** Startwert fuer die Zufallsauswahl der Kicks (fester Wert fuer reproduzierbare Laeufe) */
+    public static final long ROUTEN_ZUFALLS_SEED = 42L;
+
+    /** Anzahl paralleler Starts der Mehrfachstart-Optimierung */
+    public static final int ROUTEN_MULTISTART_ANZAHL = 8;
+
+    /** Gestreute Nearest-Neighbor Starts waehlen zufaellig unter so vielen naechsten Anlagen */
+    public static final int ROUTEN_MULTISTART_KANDIDATEN = 3;
+
+    /** Bis zu dieser Clustergroesse wird die Route exakt mit Held-Karp bestimmt */
+    public static final int ROUTEN_EXAKT_MAX_ANLAGEN = 14;
+
+    /** Routenstrategie: exakte dynamische Programmierung */
+    public static final String ROUTEN_STRATEGIE_EXAKT = "Held-Karp (exakt)";
+
+    /** Routenstrategie: Nearest-Neighbor mit vollstaendigem 2-Opt */
+    public static final String ROUTEN_STRATEGIE_ZWEI_OPT = "Nearest-Neighbor + 2-Opt";
+
+    /** Routenstrategie: Greedy-Edge mit Nachbarlisten-2-Opt und Or-Opt */
+    public static final String ROUTEN_STRATEGIE_NACHBARLISTEN = "Greedy-Edge + Nachbarlisten-2-Opt/Or-Opt";
+
+    /** Routenstrategie: iterierte lokale Suche mit Zeitbudget */
+    public static final String ROUTEN_STRATEGIE_ITERIERT = "Iterierte lokale Suche (Zeitbudget)";
+
+    /** Routenstrategie: parallele Mehrfachstarts */
+    public static final String ROUTEN_STRATEGIE_MEHRFACHSTART = "Parallele Mehrfachstarts";
+
+    /** Statistik: Anzahl Cluster je Routenstrategie */
+    public static final String STAT_ROUTEN_STRATEGIE_FORMAT = "Routenstrategie %s (Cluster)";
+
+    /** Zeitbudget je Cluster fuer die iterierte Routensuche in ms (0 = klassisches 2-Opt ohne Limit) */
+    public static final long WARTUNG_ROUTEN_ZEITBUDGET_MS = 0L;
+
+    /** Schaltet die parallele Mehrfachstart-Optimierung fuer die Wartungsplanung ein */
+    public static final boolean WARTUNG_ROUTEN_MEHRFACHSTART_AKTIVIERT = false;
+
+    /** Verbessert jede Route anschliessend auf minimale Wartungs- plus Reisetage (Strecke nachrangig) */
+    public static final boolean WARTUNG_ROUTEN_TAGEOPTIMIERUNG_AKTIVIERT = false;
+
+    /** Statistik: durch die Tagesoptimierung eingesparte Tage */
+    public static final String STAT_ROUTEN_TAGEOPTIMIERUNG = "Tagesoptimierung eingesparte Tage";
+
+    // ==================== Tourenplanung ====================
+
+    /** Schaltet die Tourenplanung (Tagestouren je Team statt zerlegter Gesamtroute) ein */
+    public static final boolean WARTUNG_TOURENPLANUNG_AKTIVIERT = false;
+
+    /** Anzahl parallel arbeitender Wartungsteams in der Tourenplanung */
+    public static final int WARTUNG_ANZAHL_TEAMS = 1;
+
+    /** Kandidatennachbarn je Anlage fuer Verbinden und Aufloesen von Tagestouren */
+    public static final int TOURENPLANUNG_NACHBARN_K = 30;
+
+    /** Bis zu dieser Tourgroesse wird die Reihenfolge einer Tagestour vollstaendig durchsucht */
+    public static final int TOURENPLANUNG_EXAKT_MAX_ANLAGEN = 7;
+
+    // ==================== Parameterstudie ====================
+
+    /** Programmargument: startet die Parameterstudie statt der normalen Analyse */
+    public static final String STUDIE_ARGUMENT = "--studie";
+
+    /** Rastername: Anlagen pro Tag */
+    public static final String STUDIE_PARAM_ANLAGEN_PRO_TAG = "anlagenProTag";
+
+    /** Rastername: Transportgeschwindigkeit in km/h */
+    public static final String STUDIE_PARAM_GESCHWINDIGKEIT = "geschwindigkeit";
+
+    /** Rastername: Transportstunden pro Tag */
+    public static final String STUDIE_PARAM_TRANSPORTSTUNDEN = "transportStunden";
+
+    /** Rastername: Anzahl Top-Hersteller */
+    public static final String STUDIE_PARAM_TOP_HERSTELLER = "top";
+
+    /** Fehler-Praefix: unbekannter Rasterparameter */
+    public static final String STUDIE_UNBEKANNTER_PARAMETER = "Unbekannter Studienparameter: ";
+
+    /** Fehler-Praefix: ungueltiger Rasterwert */
+    public static final String STUDIE_UNGUELTIGER_WERT = "Ungueltiger Wert im Studienraster: ";
+
+    /** Ueberschrift: Parameterstudie */
+    public static final String STUDIE_UEBERSCHRIFT = "\n=== Parameterstudie Wartungsplanung ===";
+
+    /** Kopfzeile der Vergleichstabelle */
+    public static final String STUDIE_TABELLENKOPF = "%-10s %8s %8s %10s %5s %8s %8s%n";
+
+    /** Spaltennamen der Vergleichstabelle */
+    public static final Object[] STUDIE_SPALTEN = {"Anl./Tag", "km/h", "Transp.h", "Limit km", "Top", "Cluster", "Tage"};
+
+    /** Format: Zeile der Vergleichstabelle */
+    public static final String STUDIE_ZEILE_FORMAT = "%-10d %8.1f %8.1f %10.1f %5d %8d %8d%n";
+
+    /** Statistik: Wiederverwendung in der Parameterstudie */
+    public static final String STAT_STUDIE_WIEDERVERWENDUNG = "Parameterstudie";
+
+    /** Format: Szenarien, Hierarchien, Clusterungen (Limits) und verschiedene Cluster */
+    public static final String STUDIE_WIEDERVERWENDUNG_FORMAT = "%d Szenarien: %d Hierarchien, %d Transportlimits, %d Routen";
+
+    /** Name: Parameterstudie Operation (fuer Zeitmessung) */
+    public static final String OPERATION_PARAMETERSTUDIE = "Parameterstudie";
+
+    // ==================== Wartungsfenster ====================
+
+    /** Beruecksichtigt erlaubte Wartungszeitraeume einzelner Anlagen (z.B. Vogelschutz-Sperrzeiten) */
+    public static final boolean WARTUNG_ZEITFENSTER_AKTIVIERT = false;
+
+    /** CSV-Datei der Wartungsfenster (OBJECTID, FruehesterTag, SpaetesterTag) */
+    public static final String WARTUNG_ZEITFENSTER_DATEI = "src/res/wartungsfenster.csv";
+
+    /** Maximaler Positionsabstand je Zug der Fensteroptimierung (begrenzt den Aufwand auf O(n * Weite)) */
+    public static final int ZEITFENSTER_SUCHWEITE = 250;
+
+    /** Statistik: Anzahl auf Wartungsfenster optimierter Routen */
+    public static final String STAT_ZEITFENSTER_OPTIMIERUNG = "Zeitfenster-Optimierung (Cluster)";
+
+    /** Statistik: Anlagen ausserhalb ihres Wartungsfensters */
+    public static final String STAT_ZEITFENSTER_VERLETZT = "Zeitfenster verletzt (Anlagen)";
+
+    /** Fehler-Praefix: Wartungsfenster nicht nutzbar */
+    public static final String ZEITFENSTER_FEHLER = "Wartungsfenster nicht nutzbar, plane ohne Fenster: ";
+
+    /** Fehler: ungueltige Zeile der Fenster-Datei (Zeilennummer, Inhalt) */
+    public static final String ZEITFENSTER_ZEILE_UNGUELTIG = "Ungueltige Wartungsfenster-Zeile %d uebersprungen: %s";
+
+    // ==================== Inkrementelle Planaenderung ====================
+
+    /** Positionen links und rechts der Aenderungsstelle, in denen 2-opt nach einer Aenderung sucht */
+    public static final int INKREMENT_2OPT_FENSTER = 30;
+
+    /** Maximale 2-opt-Durchlaeufe je Aenderungsstelle */
+    public static final int INKREMENT_2OPT_MAX_DURCHLAEUFE = 10;
+
+    /** Statistik: durch eine neue Anlage vereinigte Cluster */
+    public static final String STAT_INKREMENT_CLUSTER_VEREINIGT = "Inkrementell vereinigte Cluster";
+
+    /** Statistik: durch eine entfernte Anlage geteilte Cluster */
+    public static final String STAT_INKREMENT_CLUSTER_GETEILT = "Inkrementell geteilte Cluster";
+
+    /** Name: Routenreparatur nach einer Registeraenderung (fuer Zeitmessung) */
+    public static final String OPERATION_ROUTEN_REPARATUR = "Routenreparatur (Aenderung)";
+
+    // ==================== Depots ====================
+
+    /** Startet Routen an Service-Depots und ordnet die Cluster aller Hersteller den Depots zu */
+    public static final boolean DEPOT_PLANUNG_AKTIVIERT = false;
+
+    /** CSV-Datei der Depots (Name, Breitengrad, Laengengrad, Teams) */
+    public static final String DEPOT_DATEI = "src/res/depots.csv";
+
+    /** Anzahl naechster Depots je Cluster, unter denen nach Auslastung gewaehlt wird */
+    public static final int DEPOT_KANDIDATEN = 3;
+
+    /** Fehler-Praefix: Depots nicht nutzbar */
+    public static final String DEPOT_FEHLER = "Depots nicht nutzbar, Routen beginnen bei der ersten Anlage: ";
+
+    /** Fehler: ungueltige Zeile der Depot-Datei (Zeilennummer, Inhalt) */
+    public static final String DEPOT_ZEILE_UNGUELTIG = "Ungueltige Depot-Zeile %d uebersprungen: %s";
+
+    // ==================== Strassennetz ====================
+
+    /** Verwendet Fahrdistanzen aus dem Offline-Strassennetz statt Haversine fuer die Routenoptimierung */
+    public static final boolean STRASSENNETZ_AKTIVIERT = false;
+
+    /** Binaerdatei des Strassennetzes (Format siehe StrassenNetz) */
+    public static final String STRASSENNETZ_DATEI = "src/res/strassennetz_DE.bin";
+
+    /** Kennung am Dateianfang ("WKSG") */
+    public static final int STRASSENNETZ_MAGIC = 0x574B5347;
+
+    /** Version des Dateiformats (bei Formataenderung erhoehen) */
+    public static final int STRASSENNETZ_VERSION = 1;
+
+    /** Maximale Luftlinie in km zwischen Anlage und angebundenem Strassenknoten */
+    public static final float STRASSEN_ANBINDUNG_MAX_KM = 5.0f;
+
+    /**
+     * Bis zu dieser Clustergroesse werden Fahrdistanzen als Matrix berechnet, darueber einzeln ueber
+     * den Distanz-Cache. Gilt fuer einen Arbeiter; bei paralleler Planung sinkt die Grenze mit der
+     * Wurzel der Arbeiterzahl, damit alle Matrizen zusammen (je n^2 Matrix plus m^2 Tabelle,
+     * bei 4096 Anlagen rund 134 MB) im selben Rahmen bleiben.
+     */
+    public static final int STRASSEN_MATRIX_MAX_ANLAGEN = 4096;
+
+    /** Abgeschlossene Knoten je Zeugensuche bei der Kontraktion (Abbruch fuegt hoechstens Abkuerzungen zu viel ein) */
+    public static final int STRASSEN_CH_ZEUGEN_MAX_KNOTEN = 50;
+
+    /** Maximale Anzahl zwischengespeicherter Fahrdistanzen (Anlagenpaare) */
+    public static final int FAHRDISTANZ_CACHE_KAPAZITAET = 1 << 20;
+
+    /** Anzahl unabhaengig gesperrter Streifen des Distanz-Caches */
+    public static final int DISTANZ_CACHE_STREIFEN = 16;
+
+    /** Statistik: Cluster ueber der Matrixgrenze, Fahrdistanzen einzeln ueber den Cache */
+    public static final String STAT_FAHRDISTANZ_OHNE_MATRIX = "Fahrdistanzen ohne Matrix (Cluster)";
+
+    /** Statistik: Treffer des Fahrdistanz-Caches */
+    public static final String STAT_FAHRDISTANZ_CACHE = "Fahrdistanz-Cache";
+
+    /** Format: Treffer, Fehlgriffe und Trefferquote eines Distanz-Caches */
+    public static final String DISTANZ_CACHE_STAT_FORMAT = "%d Treffer / %d Fehlgriffe (%.1f %%)";
+
+    /** Fehler-Praefix: Strassennetz nicht nutzbar */
+    public static final String STRASSENNETZ_FEHLER = "Strassennetz nicht nutzbar, verwende Haversine: ";
+
     // ==================== Wartungsplanung Ausgabetexte ====================
 
     /** Ueberschrift: Wartungsplanung */
@@ -577,6 +879,15 @@ public final class Konstanten {
     /** Format: Distanz-Warnung bei Ueberschreitung */
     public static final String WARTUNG_DISTANZ_WARNUNG = "  WARNUNG: Strecke von ID %d nach ID %d = %.1f km (> %.0f km Transportlimit)%n";
 
+    /** Format: Warnung bei Wartung ausserhalb des Wartungsfensters */
+    public static final String WARTUNG_ZEITFENSTER_WARNUNG = "  WARNUNG: ID %d an Tag %d ausserhalb des Wartungsfensters (Tag %s)%n";
+
+    /** Format: ein Wartungsfenster in WARTUNG_ZEITFENSTER_WARNUNG */
+    public static final String WARTUNG_ZEITFENSTER_BEREICH = "%d bis %d";
+
+    /** Trenner zwischen mehreren Wartungsfenstern einer Anlage */
+    public static final String WARTUNG_ZEITFENSTER_TRENNER = ", ";
+
     /** Format: Tage pro Cluster */
     public static final String WARTUNG_TAGE_CLUSTER = "Wartungsdauer Cluster %d: %d Tage%n";
 
@@ -586,6 +897,21 @@ public final class Konstanten {
     /** Format: Arbeitsplan-Tag */
     public static final String WARTUNG_TAG_FORMAT = "  Tag %d: Anlagen %s%n";
 
+    /** Format: Zusammenfassung der Tourenplanung */
+    public static final String WARTUNG_TOURENPLANUNG_INFO = "Tourenplanung: %d Tagestouren, %d Team(s), Dauer %d Tage%n";
+
+    /** Format: Tagestour eines Teams */
+    public static final String WARTUNG_TAGESTOUR_FORMAT = "  Team %d, Tag %d: Anlagen %s (%.1f km)%n";
+
+    /** Format: zugeordnetes Depot eines Clusters mit Anfahrt */
+    public static final String WARTUNG_DEPOT_FORMAT = "Depot: %s (Anfahrt %.2f km)%n";
+
+    /** Ueberschrift: Auslastung der Depots */
+    public static final String WARTUNG_DEPOT_UEBERSICHT = "%n=== Depot-Auslastung ===%n";
+
+    /** Format: Auslastung eines Depots (Name, Cluster, Anlagen, Tage, Teams, Tage je Team) */
+    public static final String WARTUNG_DEPOT_AUSLASTUNG_FORMAT = "  %s: %d Cluster, %d Anlagen, %d Tage, %d Teams, %d Tage je Team%n";
+
     /** Name: Wartungsplanung Operation (fuer Zeitmessung) */
     public static final String OPERATION_WARTUNGSPLANUNG = "Wartungsplanung";
 
@@ -601,8 +927,11 @@ public final class Konstanten {
     /** Statistik: Gesamte Wartungstage */
     public static final String STAT_WARTUNGSTAGE_GESAMT = "Gesamte Wartungstage (Top %d)";
 
-    /** Format: Berechnungszeit */
-    public static final String WARTUNG_BERECHNUNGSZEIT = "Berechnungszeit: %.3f ms%n";
+    /**
+     * Format: Berechnungszeit eines Herstellers, verstrichene Zeit von der ersten bis zur letzten
+     * seiner Aufgaben und Summe der Rechenzeit aller Aufgaben (parallel groesser als die Wanduhr)
+     */
+    public static final String WARTUNG_BERECHNUNGSZEIT = "Berechnungszeit: %.3f ms Wanduhr, %.3f ms Summe der Aufgaben%n";
 
     /** Trennzeichen fuer Anlagen-IDs */
     public static final String ANLAGEN_ID_TRENNER = ", ";
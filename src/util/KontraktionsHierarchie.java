@@ -0,0 +1,770 @@
+package util;
+
+import java.util.Arrays;
+
+/**
+ * Contraction Hierarchies fuer kuerzeste Wege in einem ungerichteten, gewichteten Graphen
+ * (z.B. Strassennetz mit Kantenlaengen in km).
+ *
+ * Vorverarbeitung: Knoten werden nach Kantendifferenz (Abkuerzungen - entfernte Kanten), bereits
+ * kontrahierten Nachbarn und Ebene in der Hierarchie einzeln kontrahiert. Fuer jedes Nachbarpaar
+ * (u, w) eines Knotens v wird eine Abkuerzung eingefuegt, wenn eine begrenzte Zeugensuche keinen
+ * hoechstens gleich langen Weg ohne v findet. Jede Kante zeigt danach vom niedriger zum hoeher eingestuften Knoten.
+ *
+ * Anfragen: Aufwaertssuchen (Dijkstra nur ueber Kanten nach oben) von Start und Ziel; die kuerzeste
+ * Distanz ist das Minimum ueber gemeinsame Knoten. Fuer Distanztabellen werden die Suchraeume aller
+ * Punkte einmal berechnet und ueber Eimer je Knoten verbunden (many-to-many).
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur Vorverarbeitung und Distanzanfragen, Laden und Anbindung macht StrassenNetz
+ * - Performance: Aufwaertsgraph als CSR-Arrays, Suchraeume mit Hash-Karten statt Arrays der Graphgroesse
+ * - Thread-Sicherheit: Nach dem Aufbau unveraenderlich, Anfragen ohne gemeinsamen Zustand
+ *
+ * Pre: Kantengewichte >= 0, Knotenindizes in [0, anzahlKnoten)
+ * Post: distanz liefert dieselben Werte wie Dijkstra auf dem Ursprungsgraphen
+ */
+public final class KontraktionsHierarchie {
+
+    /** Distanz fuer nicht verbundene Knoten */
+    public static final float UNERREICHBAR = Float.POSITIVE_INFINITY;
+
+    private final int anzahlKnoten;
+    private final int anzahlAbkuerzungen;
+    private final int[] hochStart;
+    private final int[] hochZiel;
+    private final float[] hochGewicht;
+
+    /**
+     * Baut die Hierarchie fuer einen ungerichteten Graphen auf.
+     *
+     * Pre: Kantenarrays gleich lang, Gewichte >= 0
+     * Post: Hierarchie ist vollstaendig vorverarbeitet
+     *
+     * @param anzahlKnoten Anzahl Knoten
+     * @param kanteVon Erster Endknoten je Kante
+     * @param kanteNach Zweiter Endknoten je Kante
+     * @param kanteGewicht Gewicht je Kante
+     */
+    public KontraktionsHierarchie(int anzahlKnoten, int[] kanteVon, int[] kanteNach, float[] kanteGewicht) {
+        if (kanteVon.length != kanteNach.length || kanteVon.length != kanteGewicht.length) {
+            throw new IllegalArgumentException("Kantenarrays muessen gleich lang sein");
+        }
+        this.anzahlKnoten = anzahlKnoten;
+
+        Kontraktion kontraktion = new Kontraktion(anzahlKnoten);
+        for (int e = 0; e < kanteVon.length; e++) {
+            if (kanteGewicht[e] < 0 || Float.isNaN(kanteGewicht[e])) {
+                throw new IllegalArgumentException("Ungueltiges Kantengewicht: " + kanteGewicht[e]);
+            }
+            if (kanteVon[e] != kanteNach[e]) {
+                kontraktion.setzeKante(kanteVon[e], kanteNach[e], kanteGewicht[e]);
+                kontraktion.setzeKante(kanteNach[e], kanteVon[e], kanteGewicht[e]);
+            }
+        }
+        kontraktion.kontrahiereAlle();
+
+        this.anzahlAbkuerzungen = kontraktion.abkuerzungen;
+        this.hochStart = new int[anzahlKnoten + 1];
+        for (int i = 0; i < kontraktion.hochVon.groesse(); i++) {
+            hochStart[kontraktion.hochVon.hole(i) + 1]++;
+        }
+        for (int v = 0; v < anzahlKnoten; v++) {
+            hochStart[v + 1] += hochStart[v];
+        }
+        this.hochZiel = new int[kontraktion.hochVon.groesse()];
+        this.hochGewicht = new float[hochZiel.length];
+        int[] naechste = Arrays.copyOf(hochStart, anzahlKnoten);
+        for (int i = 0; i < kontraktion.hochVon.groesse(); i++) {
+            int position = naechste[kontraktion.hochVon.hole(i)]++;
+            hochZiel[position] = kontraktion.hochNach.hole(i);
+            hochGewicht[position] = kontraktion.hochGewicht[i];
+        }
+    }
+
+    /**
+     * Liefert die Anzahl Knoten.
+     *
+     * @return Anzahl Knoten
+     */
+    public int getAnzahlKnoten() {
+        return anzahlKnoten;
+    }
+
+    /**
+     * Liefert die Anzahl eingefuegter Abkuerzungen.
+     *
+     * @return Anzahl Abkuerzungen
+     */
+    public int getAnzahlAbkuerzungen() {
+        return anzahlAbkuerzungen;
+    }
+
+    /**
+     * Berechnet die kuerzeste Distanz zwischen zwei Knoten.
+     *
+     * Pre: 0 <= start, ziel < getAnzahlKnoten()
+     * Post: Rueckgabe ist kuerzeste Distanz oder UNERREICHBAR
+     *
+     * @param start Startknoten
+     * @param ziel Zielknoten
+     * @return Kuerzeste Distanz
+     */
+    public float distanz(int start, int ziel) {
+        if (start == ziel) {
+            return 0f;
+        }
+        Suchraum vorwaerts = sucheAufwaerts(start);
+        Suchraum rueckwaerts = sucheAufwaerts(ziel);
+        KnotenKarte karte = new KnotenKarte(vorwaerts.anzahl);
+        for (int i = 0; i < vorwaerts.anzahl; i++) {
+            karte.setzeMinimum(vorwaerts.knoten[i], vorwaerts.distanz[i]);
+        }
+        float beste = UNERREICHBAR;
+        for (int i = 0; i < rueckwaerts.anzahl; i++) {
+            float vorne = karte.hole(rueckwaerts.knoten[i]);
+            beste = Math.min(beste, vorne + rueckwaerts.distanz[i]);
+        }
+        return beste;
+    }
+
+    /**
+     * Berechnet die symmetrische Distanztabelle zwischen allen angegebenen Knoten (many-to-many).
+     * Jeder Suchraum wird nur einmal berechnet; Eintraege (Punkt, Distanz) werden je Knoten des
+     * Suchraums in Eimern gesammelt und anschliessend fuer jeden Punkt gegen dessen Suchraum abgeglichen.
+     *
+     * Pre: knoten nicht null, alle Indizes gueltig
+     * Post: Rueckgabe[i * n + j] ist die Distanz von knoten[i] nach knoten[j] (n = knoten.length)
+     *
+     * @param knoten Knoten der Tabelle (Wiederholungen erlaubt)
+     * @return Distanzen als flache n x n Matrix
+     */
+    public float[] berechneTabelle(int[] knoten) {
+        int n = knoten.length;
+        Suchraum[] suchraeume = new Suchraum[n];
+        int gesamt = 0;
+        for (int i = 0; i < n; i++) {
+            suchraeume[i] = sucheAufwaerts(knoten[i]);
+            gesamt += suchraeume[i].anzahl;
+        }
+
+        // Eimer: Eintraege nach Suchraumknoten sortiert (Knoten in den oberen 32 Bit)
+        long[] sortierung = new long[gesamt];
+        int[] eintragPunkt = new int[gesamt];
+        float[] eintragDistanz = new float[gesamt];
+        int eintrag = 0;
+        for (int i = 0; i < n; i++) {
+            Suchraum raum = suchraeume[i];
+            for (int s = 0; s < raum.anzahl; s++) {
+                eintragPunkt[eintrag] = i;
+                eintragDistanz[eintrag] = raum.distanz[s];
+                sortierung[eintrag] = ((long) raum.knoten[s] << 32) | eintrag;
+                eintrag++;
+            }
+        }
+        Arrays.sort(sortierung);
+        int[] eimerKnoten = new int[gesamt];
+        for (int e = 0; e < gesamt; e++) {
+            eimerKnoten[e] = (int) (sortierung[e] >>> 32);
+        }
+
+        // Symmetrie: nur Ziele j >= i berechnen. Ein Eimer ist nach Eintrag und damit nach Punkt
+        // sortiert, er wird daher von hinten bis zum ersten Punkt < i durchlaufen.
+        float[] tabelle = new float[n * n];
+        Arrays.fill(tabelle, UNERREICHBAR);
+        for (int i = 0; i < n; i++) {
+            Suchraum raum = suchraeume[i];
+            int basis = i * n;
+            for (int s = 0; s < raum.anzahl; s++) {
+                float vorne = raum.distanz[s];
+                for (int e = untereGrenze(eimerKnoten, raum.knoten[s] + 1) - 1; e >= 0
+                        && eimerKnoten[e] == raum.knoten[s]; e--) {
+                    int index = (int) sortierung[e];
+                    if (eintragPunkt[index] < i) {
+                        break;
+                    }
+                    int ziel = basis + eintragPunkt[index];
+                    float kandidat = vorne + eintragDistanz[index];
+                    if (kandidat < tabelle[ziel]) {
+                        tabelle[ziel] = kandidat;
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                tabelle[j * n + i] = tabelle[i * n + j];
+            }
+        }
+        return tabelle;
+    }
+
+    /**
+     * Dijkstra nur ueber Kanten zu hoeher eingestuften Knoten.
+     *
+     * @param start Startknoten
+     * @return Alle erreichten Knoten mit endgueltiger Distanz
+     */
+    private Suchraum sucheAufwaerts(int start) {
+        KnotenKarte beste = new KnotenKarte(16);
+        LangHeap heap = new LangHeap();
+        Suchraum raum = new Suchraum();
+        beste.setzeMinimum(start, 0f);
+        heap.fuegeEin(0f, start);
+
+        while (!heap.istLeer()) {
+            long eintrag = heap.entferneMin();
+            float d = Float.intBitsToFloat((int) (eintrag >>> 32));
+            int v = (int) eintrag;
+            // Veraltete Eintraege und bereits abgeschlossene Knoten ueberspringen
+            if (d > beste.hole(v) || beste.istFertig(v)) {
+                continue;
+            }
+            beste.markiereFertig(v);
+            if (istGestaut(v, d, beste)) {
+                continue;
+            }
+            raum.fuegeHinzu(v, d);
+            for (int k = hochStart[v]; k < hochStart[v + 1]; k++) {
+                int u = hochZiel[k];
+                float neu = d + hochGewicht[k];
+                if (beste.setzeMinimum(u, neu)) {
+                    heap.fuegeEin(neu, u);
+                }
+            }
+        }
+        return raum;
+    }
+
+    /**
+     * Stall-on-Demand: Ist ein hoeher eingestufter Nachbar u schon mit d(u) + w(u, v) < d erreicht,
+     * fuehrt der kuerzeste Weg zu v ueber eine Abwaertskante. v liegt dann auf keinem kuerzesten
+     * Aufwaertsweg und wird weder expandiert noch in den Suchraum aufgenommen.
+     *
+     * @param v Abgeschlossener Knoten
+     * @param d Distanz von v
+     * @param beste Bisherige Distanzen der Suche
+     * @return true wenn v uebersprungen werden kann
+     */
+    private boolean istGestaut(int v, float d, KnotenKarte beste) {
+        // Ungerichteter Graph: Aufwaertskanten von v sind zugleich die Abwaertskanten nach v
+        for (int k = hochStart[v]; k < hochStart[v + 1]; k++) {
+            if (beste.hole(hochZiel[k]) + hochGewicht[k] < d) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Liefert den ersten Index mit Wert >= gesucht in einem aufsteigend sortierten Array.
+     *
+     * @param werte Sortiertes Array
+     * @param gesucht Gesuchter Wert
+     * @return Index in [0, werte.length]
+     */
+    private static int untereGrenze(int[] werte, int gesucht) {
+        int links = 0;
+        int rechts = werte.length;
+        while (links < rechts) {
+            int mitte = (links + rechts) >>> 1;
+            if (werte[mitte] < gesucht) {
+                links = mitte + 1;
+            } else {
+                rechts = mitte;
+            }
+        }
+        return links;
+    }
+
+    /**
+     * Ergebnis einer Aufwaertssuche: Knoten in Abschlussreihenfolge mit Distanz.
+     */
+    private static final class Suchraum {
+
+        private int[] knoten = new int[16];
+        private float[] distanz = new float[16];
+        private int anzahl;
+
+        void fuegeHinzu(int v, float d) {
+            if (anzahl == knoten.length) {
+                knoten = Arrays.copyOf(knoten, 2 * anzahl);
+                distanz = Arrays.copyOf(distanz, 2 * anzahl);
+            }
+            knoten[anzahl] = v;
+            distanz[anzahl] = d;
+            anzahl++;
+        }
+    }
+
+    /**
+     * Offene Hash-Karte Knoten -> beste Distanz mit Abschluss-Markierung,
+     * damit Suchen nur Speicher proportional zum Suchraum brauchen.
+     */
+    private static final class KnotenKarte {
+
+        private static final int FREI = -1;
+
+        private int[] schluessel;
+        private float[] wert;
+        private boolean[] fertig;
+        private int anzahl;
+
+        KnotenKarte(int erwartet) {
+            int kapazitaet = Integer.highestOneBit(Math.max(4, erwartet) * 2) * 2;
+            this.schluessel = new int[kapazitaet];
+            this.wert = new float[kapazitaet];
+            this.fertig = new boolean[kapazitaet];
+            Arrays.fill(schluessel, FREI);
+        }
+
+        float hole(int knoten) {
+            int slot = finde(knoten);
+            return schluessel[slot] == FREI ? UNERREICHBAR : wert[slot];
+        }
+
+        boolean istFertig(int knoten) {
+            int slot = finde(knoten);
+            return schluessel[slot] != FREI && fertig[slot];
+        }
+
+        void markiereFertig(int knoten) {
+            fertig[finde(knoten)] = true;
+        }
+
+        /**
+         * Setzt die Distanz, falls kleiner als die bisherige.
+         *
+         * @param knoten Knoten
+         * @param distanz Neue Distanz
+         * @return true wenn die Distanz verbessert wurde
+         */
+        boolean setzeMinimum(int knoten, float distanz) {
+            int slot = finde(knoten);
+            if (schluessel[slot] == FREI) {
+                schluessel[slot] = knoten;
+                wert[slot] = distanz;
+                anzahl++;
+                if (2 * anzahl > schluessel.length) {
+                    vergroessere();
+                }
+                return true;
+            }
+            if (distanz < wert[slot]) {
+                wert[slot] = distanz;
+                return true;
+            }
+            return false;
+        }
+
+        private int finde(int knoten) {
+            int maske = schluessel.length - 1;
+            int slot = (knoten * 0x9E3779B9) >>> 1 & maske;
+            while (schluessel[slot] != FREI && schluessel[slot] != knoten) {
+                slot = (slot + 1) & maske;
+            }
+            return slot;
+        }
+
+        private void vergroessere() {
+            int[] alteSchluessel = schluessel;
+            float[] alteWerte = wert;
+            boolean[] alteFertig = fertig;
+            schluessel = new int[2 * alteSchluessel.length];
+            wert = new float[schluessel.length];
+            fertig = new boolean[schluessel.length];
+            Arrays.fill(schluessel, FREI);
+            for (int i = 0; i < alteSchluessel.length; i++) {
+                if (alteSchluessel[i] != FREI) {
+                    int slot = finde(alteSchluessel[i]);
+                    schluessel[slot] = alteSchluessel[i];
+                    wert[slot] = alteWerte[i];
+                    fertig[slot] = alteFertig[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Binaerer Min-Heap ueber long-Eintraege (Distanz-Bits oben, Knoten unten).
+     * Nicht-negative float-Werte sind als int-Bits gleich geordnet.
+     */
+    private static final class LangHeap {
+
+        private long[] eintraege = new long[16];
+        private int anzahl;
+
+        boolean istLeer() {
+            return anzahl == 0;
+        }
+
+        void fuegeEin(float distanz, int knoten) {
+            if (anzahl == eintraege.length) {
+                eintraege = Arrays.copyOf(eintraege, 2 * anzahl);
+            }
+            long eintrag = ((long) Float.floatToIntBits(distanz) << 32) | (knoten & 0xFFFFFFFFL);
+            int i = anzahl++;
+            while (i > 0 && eintraege[(i - 1) >>> 1] > eintrag) {
+                eintraege[i] = eintraege[(i - 1) >>> 1];
+                i = (i - 1) >>> 1;
+            }
+            eintraege[i] = eintrag;
+        }
+
+        long entferneMin() {
+            long minimum = eintraege[0];
+            long letzter = eintraege[--anzahl];
+            int i = 0;
+            while (true) {
+                int kind = 2 * i + 1;
+                if (kind >= anzahl) {
+                    break;
+                }
+                if (kind + 1 < anzahl && eintraege[kind + 1] < eintraege[kind]) {
+                    kind++;
+                }
+                if (eintraege[kind] >= letzter) {
+                    break;
+                }
+                eintraege[i] = eintraege[kind];
+                i = kind;
+            }
+            eintraege[i] = letzter;
+            return minimum;
+        }
+    }
+
+    /**
+     * Arbeitszustand der Vorverarbeitung: dynamische Adjazenzlisten, Prioritaeten und
+     * die aufgezeichneten Aufwaertskanten.
+     */
+    private static final class Kontraktion {
+
+        private final int anzahl;
+        private final int[][] nachbar;
+        private final float[][] gewicht;
+        private final int[] grad;
+        private final boolean[] kontrahiert;
+        private final int[] kontrahierteNachbarn;
+        private final int[] ebene;
+
+        /** Zeugensuche: Distanzen mit Ruecksetzliste */
+        private final float[] zeugeDistanz;
+        private final IntListe zeugeBeruehrt = new IntListe();
+
+        private final IntListe hochVon = new IntListe();
+        private final IntListe hochNach = new IntListe();
+        private float[] hochGewicht = new float[16];
+        private int abkuerzungen;
+
+        /** Gefundene Abkuerzungen der letzten Simulation (von, nach, Gewicht) */
+        private final IntListe neuVon = new IntListe();
+        private final IntListe neuNach = new IntListe();
+        private float[] neuGewicht = new float[16];
+
+        Kontraktion(int anzahl) {
+            this.anzahl = anzahl;
+            this.nachbar = new int[anzahl][];
+            this.gewicht = new float[anzahl][];
+            this.grad = new int[anzahl];
+            this.kontrahiert = new boolean[anzahl];
+            this.kontrahierteNachbarn = new int[anzahl];
+            this.ebene = new int[anzahl];
+            this.zeugeDistanz = new float[anzahl];
+            Arrays.fill(zeugeDistanz, UNERREICHBAR);
+            for (int v = 0; v < anzahl; v++) {
+                nachbar[v] = new int[4];
+                gewicht[v] = new float[4];
+            }
+        }
+
+        /**
+         * Setzt die gerichtete Adjazenz u -> v auf das Minimum aus bisherigem und neuem Gewicht.
+         *
+         * @param u Knoten
+         * @param v Nachbar
+         * @param g Gewicht
+         */
+        void setzeKante(int u, int v, float g) {
+            for (int i = 0; i < grad[u]; i++) {
+                if (nachbar[u][i] == v) {
+                    gewicht[u][i] = Math.min(gewicht[u][i], g);
+                    return;
+                }
+            }
+            if (grad[u] == nachbar[u].length) {
+                nachbar[u] = Arrays.copyOf(nachbar[u], 2 * grad[u]);
+                gewicht[u] = Arrays.copyOf(gewicht[u], 2 * grad[u]);
+            }
+            nachbar[u][grad[u]] = v;
+            gewicht[u][grad[u]] = g;
+            grad[u]++;
+        }
+
+        /**
+         * Kontrahiert alle Knoten nach Prioritaet. Prioritaeten werden erst beim Entnehmen neu berechnet
+         * (verzoegerte Aktualisierung); ist der Knoten dann nicht mehr minimal, wird er zurueckgelegt.
+         */
+        void kontrahiereAlle() {
+            IndexHeap prioritaeten = new IndexHeap(anzahl);
+            for (int v = 0; v < anzahl; v++) {
+                prioritaeten.setze(v, berechnePrioritaet(v));
+            }
+
+            while (!prioritaeten.istLeer()) {
+                int v = prioritaeten.entferneMin();
+                float aktuell = berechnePrioritaet(v);
+                if (!prioritaeten.istLeer() && aktuell > prioritaeten.minSchluessel()) {
+                    prioritaeten.setze(v, aktuell);
+                    continue;
+                }
+                kontrahiere(v);
+            }
+        }
+
+        /**
+         * Prioritaet eines Knotens: 2 * (Abkuerzungen - verbleibende Kanten) + kontrahierte Nachbarn + Ebene.
+         * Die beiden letzten Terme verteilen die Kontraktion gleichmaessig ueber das Netz und halten
+         * die Hierarchie flach (kleine Suchraeume).
+         *
+         * @param v Knoten
+         * @return Prioritaet (kleiner = frueher kontrahieren)
+         */
+        private float berechnePrioritaet(int v) {
+            int abkuerzungenV = simuliere(v);
+            int kanten = 0;
+            for (int i = 0; i < grad[v]; i++) {
+                if (!kontrahiert[nachbar[v][i]]) {
+                    kanten++;
+                }
+            }
+            return 2 * (abkuerzungenV - kanten) + kontrahierteNachbarn[v] + ebene[v];
+        }
+
+        /**
+         * Kontrahiert v: zeichnet Aufwaertskanten auf und fuegt die Abkuerzungen der
+         * unmittelbar vorher ausgefuehrten Simulation von v ein.
+         *
+         * @param v Knoten
+         */
+        private void kontrahiere(int v) {
+            for (int i = 0; i < grad[v]; i++) {
+                int u = nachbar[v][i];
+                if (kontrahiert[u]) {
+                    continue;
+                }
+                if (hochVon.groesse() == hochGewicht.length) {
+                    hochGewicht = Arrays.copyOf(hochGewicht, 2 * hochGewicht.length);
+                }
+                hochGewicht[hochVon.groesse()] = gewicht[v][i];
+                hochVon.fuegeHinzu(v);
+                hochNach.fuegeHinzu(u);
+                kontrahierteNachbarn[u]++;
+                ebene[u] = Math.max(ebene[u], ebene[v] + 1);
+            }
+            for (int i = 0; i < neuVon.groesse(); i++) {
+                setzeKante(neuVon.hole(i), neuNach.hole(i), neuGewicht[i]);
+                setzeKante(neuNach.hole(i), neuVon.hole(i), neuGewicht[i]);
+            }
+            abkuerzungen += neuVon.groesse();
+            kontrahiert[v] = true;
+        }
+
+        /**
+         * Bestimmt die Abkuerzungen, die eine Kontraktion von v erfordern wuerde (in neuVon/neuNach).
+         *
+         * @param v Knoten
+         * @return Anzahl noetiger Abkuerzungen
+         */
+        private int simuliere(int v) {
+            neuVon.leere();
+            neuNach.leere();
+            for (int i = 0; i < grad[v]; i++) {
+                int u = nachbar[v][i];
+                if (kontrahiert[u]) {
+                    continue;
+                }
+                float gu = gewicht[v][i];
+
+                // Groesste Weglaenge ueber v zu einem spaeteren Nachbarn begrenzt die Zeugensuche
+                // (Gewicht 0 ist erlaubt, daher eigene Markierung statt grenze == 0)
+                float grenze = 0f;
+                boolean hatSpaeteren = false;
+                for (int j = i + 1; j < grad[v]; j++) {
+                    if (!kontrahiert[nachbar[v][j]]) {
+                        grenze = Math.max(grenze, gu + gewicht[v][j]);
+                        hatSpaeteren = true;
+                    }
+                }
+                if (!hatSpaeteren) {
+                    continue;
+                }
+                sucheZeugen(u, v, grenze);
+
+                for (int j = i + 1; j < grad[v]; j++) {
+                    int w = nachbar[v][j];
+                    if (kontrahiert[w]) {
+                        continue;
+                    }
+                    float ueberV = gu + gewicht[v][j];
+                    if (zeugeDistanz[w] > ueberV) {
+                        if (neuVon.groesse() == neuGewicht.length) {
+                            neuGewicht = Arrays.copyOf(neuGewicht, 2 * neuGewicht.length);
+                        }
+                        neuGewicht[neuVon.groesse()] = ueberV;
+                        neuVon.fuegeHinzu(u);
+                        neuNach.fuegeHinzu(w);
+                    }
+                }
+                setzeZeugenZurueck();
+            }
+            return neuVon.groesse();
+        }
+
+        /**
+         * Begrenzte Dijkstra-Suche von u ohne v und ohne kontrahierte Knoten.
+         *
+         * @param u Start
+         * @param ohne Ausgeschlossener Knoten
+         * @param grenze Maximale interessante Distanz
+         */
+        private void sucheZeugen(int u, int ohne, float grenze) {
+            LangHeap heap = new LangHeap();
+            zeugeDistanz[u] = 0f;
+            zeugeBeruehrt.fuegeHinzu(u);
+            heap.fuegeEin(0f, u);
+            int abgeschlossen = 0;
+
+            while (!heap.istLeer() && abgeschlossen < Konstanten.STRASSEN_CH_ZEUGEN_MAX_KNOTEN) {
+                long eintrag = heap.entferneMin();
+                float d = Float.intBitsToFloat((int) (eintrag >>> 32));
+                int x = (int) eintrag;
+                if (d > zeugeDistanz[x]) {
+                    continue;
+                }
+                if (d > grenze) {
+                    break;
+                }
+                abgeschlossen++;
+                for (int i = 0; i < grad[x]; i++) {
+                    int y = nachbar[x][i];
+                    if (y == ohne || kontrahiert[y]) {
+                        continue;
+                    }
+                    float neu = d + gewicht[x][i];
+                    if (neu < zeugeDistanz[y]) {
+                        if (zeugeDistanz[y] == UNERREICHBAR) {
+                            zeugeBeruehrt.fuegeHinzu(y);
+                        }
+                        zeugeDistanz[y] = neu;
+                        heap.fuegeEin(neu, y);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Setzt die Distanzen der letzten Zeugensuche zurueck.
+         */
+        private void setzeZeugenZurueck() {
+            for (int i = 0; i < zeugeBeruehrt.groesse(); i++) {
+                zeugeDistanz[zeugeBeruehrt.hole(i)] = UNERREICHBAR;
+            }
+            zeugeBeruehrt.leere();
+        }
+    }
+
+    /**
+     * Indizierter Min-Heap (Knoten -> Prioritaet) fuer die Kontraktionsreihenfolge.
+     * Bei gleicher Prioritaet gewinnt der kleinere Knotenindex (deterministische Reihenfolge).
+     */
+    private static final class IndexHeap {
+
+        private final int[] knoten;
+        private final float[] schluessel;
+        private final int[] position;
+        private int anzahl;
+
+        IndexHeap(int kapazitaet) {
+            this.knoten = new int[kapazitaet];
+            this.schluessel = new float[kapazitaet];
+            this.position = new int[kapazitaet];
+            Arrays.fill(position, -1);
+        }
+
+        boolean istLeer() {
+            return anzahl == 0;
+        }
+
+        float minSchluessel() {
+            return schluessel[knoten[0]];
+        }
+
+        /**
+         * Fuegt einen Knoten ein oder aendert seine Prioritaet.
+         *
+         * @param v Knoten
+         * @param wert Prioritaet
+         */
+        void setze(int v, float wert) {
+            schluessel[v] = wert;
+            if (position[v] < 0) {
+                position[v] = anzahl;
+                knoten[anzahl++] = v;
+            }
+            siebeHoch(position[v]);
+            siebeRunter(position[v]);
+        }
+
+        int entferneMin() {
+            int minimum = knoten[0];
+            position[minimum] = -1;
+            anzahl--;
+            if (anzahl > 0) {
+                knoten[0] = knoten[anzahl];
+                position[knoten[0]] = 0;
+                siebeRunter(0);
+            }
+            return minimum;
+        }
+
+        private boolean kleiner(int a, int b) {
+            return schluessel[a] < schluessel[b] || (schluessel[a] == schluessel[b] && a < b);
+        }
+
+        private void siebeHoch(int i) {
+            while (i > 0) {
+                int eltern = (i - 1) >>> 1;
+                if (!kleiner(knoten[i], knoten[eltern])) {
+                    return;
+                }
+                tausche(i, eltern);
+                i = eltern;
+            }
+        }
+
+        private void siebeRunter(int i) {
+            while (true) {
+                int kind = 2 * i + 1;
+                if (kind >= anzahl) {
+                    return;
+                }
+                if (kind + 1 < anzahl && kleiner(knoten[kind + 1], knoten[kind])) {
+                    kind++;
+                }
+                if (!kleiner(knoten[kind], knoten[i])) {
+                    return;
+                }
+                tausche(i, kind);
+                i = kind;
+            }
+        }
+
+        private void tausche(int a, int b) {
+            int tmp = knoten[a];
+            knoten[a] = knoten[b];
+            knoten[b] = tmp;
+            position[knoten[a]] = a;
+            position[knoten[b]] = b;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package util;
+
+import model.Windkraftanlage;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Parallele Mehrfachstart-Optimierung offener Routen.
+ * Mehrere Startloesungen werden unabhaengig voneinander auf dem ForkJoin-Pool erzeugt und
+ * verbessert; die kuerzeste Route gewinnt. Start 0 ist immer die klassische Nearest-Neighbor
+ * Route, alle weiteren sind gestreute Nearest-Neighbor Routen mit eigenem Seed.
+ * Alle Routen beginnen bei der ersten Anlage.
+ *
+ * Determinismus: Die Seeds der Starts werden vorab aus dem Seed abgeleitet, jeder Start
+ * schreibt nur in seinen eigenen Ergebnisplatz, und bei gleicher Laenge gewinnt der kleinste
+ * Startindex. Ohne Zeitbudget ist das Ergebnis damit unabhaengig von der Thread-Verteilung.
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur Verteilung und Auswahl der Starts
+ * - Wiederverwendung: Konstruktion aus RoutenOptimierer, Verbesserung aus
+ *   NachbarlistenOptimierer bzw. IterierteLokaleSuche
+ * - Thread-Sicherheit: Distanztabelle und Nachbarlisten werden nur gelesen
+ *
+ * Pre: Anlagenliste nicht null
+ * Post: Liefert die kuerzeste gefundene Route
+ */
+public final class MehrfachstartOptimierer {
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private MehrfachstartOptimierer() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Erstellt mehrere Routen parallel und liefert die kuerzeste.
+     * Ist ein Zeitbudget gesetzt, laeuft jeder Start mit iterierter lokaler Suche bis zum
+     * gemeinsamen Ende; sonst wird jeder Start nur bis zum lokalen Optimum verbessert.
+     *
+     * Pre: anlagen nicht null, anzahlStarts >= 1, zeitbudgetMs >= 0
+     * Post: Rueckgabe beginnt bei der ersten Anlage
+     *
+     * @param anlagen Liste der zu besuchenden Anlagen
+     * @param anzahlStarts Anzahl unabhaengiger Starts
+     * @param zeitbudgetMs Gemeinsames Zeitbudget in Millisekunden (0 = ohne Kicks)
+     * @param seed Startwert fuer die Seeds der einzelnen Starts
+     * @return Kuerzeste Route als Liste von Anlagen
+     */
+    public static List<Windkraftanlage> erstelleRoute(List<Windkraftanlage> anlagen, int anzahlStarts,
+                                                      long zeitbudgetMs, long seed) {
+        if (anlagen == null) {
+            throw new IllegalArgumentException("Anlagenliste darf nicht null sein");
+        }
+        if (anzahlStarts < 1) {
+            throw new IllegalArgumentException("Anzahl Starts muss mindestens 1 sein: " + anzahlStarts);
+        }
+        if (zeitbudgetMs < 0) {
+            throw new IllegalArgumentException("Zeitbudget darf nicht negativ sein: " + zeitbudgetMs);
+        }
+        if (anlagen.size() < 2) {
+            return RoutenOptimierer.erstelleOptimierteRoute(anlagen);
+        }
+
+        RoutenDistanzTabelle tabelle = new RoutenDistanzTabelle(anlagen);
+        int k = Konstanten.ROUTEN_NACHBARLISTEN_K;
+        int[] nachbarn = NachbarlistenOptimierer.berechneNachbarlisten(anlagen, k);
+
+        long[] seeds = new long[anzahlStarts];
+        Random seedQuelle = new Random(seed);
+        for (int s = 0; s < anzahlStarts; s++) {
+            seeds[s] = seedQuelle.nextLong();
+        }
+
+        long ende = System.nanoTime() + zeitbudgetMs * 1_000_000L;
+        int[][] touren = new int[anzahlStarts][];
+        double[] laengen = new double[anzahlStarts];
+        ParallelAusfuehrer.fuehreAus(anzahlStarts, 1, start -> {
+            int[] tour = start == 0
+                ? RoutenOptimierer.erstelleNearestNeighborTour(tabelle)
+                : RoutenOptimierer.erstelleGestreuteNearestNeighborTour(tabelle, new Random(seeds[start]),
+                    Konstanten.ROUTEN_MULTISTART_KANDIDATEN);
+            if (zeitbudgetMs > 0) {
+                long restMs = Math.max(0L, (ende - System.nanoTime()) / 1_000_000L);
+                IterierteLokaleSuche.verbessere(tour, tabelle, nachbarn, k, restMs, seeds[start]);
+            } else {
+                NachbarlistenOptimierer.verbessere(tour, tabelle, nachbarn, k);
+            }
+            touren[start] = tour;
+            laengen[start] = ZweiOptOptimierer.berechneLaenge(tour, tabelle);
+        });
+
+        int bester = 0;
+        for (int s = 1; s < anzahlStarts; s++) {
+            if (laengen[s] < laengen[bester]) {
+                bester = s;
+            }
+        }
+        return RoutenOptimierer.alsRoute(anlagen, touren[bester]);
+    }
+}
@@ -0,0 +1,503 @@
+package util;
+
+import model.Windkraftanlage;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Lokale Suche fuer sehr grosse offene Routen: 2-Opt und Or-Opt, beschraenkt auf die
+ * k naechsten Nachbarn jeder Anlage, gesteuert ueber Don't-Look-Bits.
+ * Nur Anlagen, an deren Kanten sich zuletzt etwas geaendert hat, werden erneut untersucht;
+ * auskonvergierte Bereiche kosten damit nichts mehr. Ein Durchlauf ist nahezu linear
+ * statt quadratisch in der Anzahl der Anlagen.
+ *
+ * Zuege:
+ * - 2-Opt: neue Kante (a, c) zu einem Nachbarn c, Segment dazwischen wird umgekehrt
+ * - Or-Opt: Segment aus 1 bis ROUTEN_OR_OPT_MAX_SEGMENT Anlagen wird neben einen Nachbarn
+ *   verschoben (vorwaerts oder umgekehrt)
+ *
+ * Offene Route: Position 0 bleibt fest, nach der letzten Anlage gibt es keine Rueckkante.
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur Verbesserung einer bestehenden Route
+ * - KISS: Route als int-Array mit Positionsindex, Zuege als Umkehr bzw. Verschiebung
+ * - Performance: Kandidaten nur aus Nachbarlisten, Warteschlange aktiver Anlagen
+ *
+ * Pre: tour ist Permutation der Tabellenindizes
+ * Post: Kein verbessernder Nachbarlisten-Zug mehr moeglich
+ */
+public final class NachbarlistenOptimierer {
+
+    /** Mindestgewinn in km, damit ein Zug als Verbesserung gilt (verhindert Rundungszyklen) */
+    private static final float MIN_GEWINN_KM = 1.0e-4f;
+
+    /** Markierung fuer fehlende Nachbarn bzw. Positionen */
+    private static final int KEINE = -1;
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private NachbarlistenOptimierer() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Berechnet die k naechsten Nachbarn jeder Anlage ueber einen k-d-Baum.
+     * Anlagen ohne Koordinaten erhalten keine Nachbarn.
+     *
+     * Pre: anlagen nicht null, k >= 1
+     * Post: Rueckgabe[i * k .. i * k + k - 1] enthaelt die Nachbarn von i (KEINE = -1 fuer leer)
+     *
+     * @param anlagen Anlagen (Index = Tabellenindex)
+     * @param k Anzahl Nachbarn pro Anlage
+     * @return Nachbarlisten als flaches Array
+     */
+    public static int[] berechneNachbarlisten(List<Windkraftanlage> anlagen, int k) {
+        IntListe anlagenIndex = new IntListe(anlagen.size());
+        for (int i = 0; i < anlagen.size(); i++) {
+            Windkraftanlage anlage = anlagen.get(i);
+            if (anlage.getBreitengrad() != null && anlage.getLaengengrad() != null) {
+                anlagenIndex.fuegeHinzu(i);
+            }
+        }
+        double[] positionen = new double[3 * anlagenIndex.groesse()];
+        for (int p = 0; p < anlagenIndex.groesse(); p++) {
+            Windkraftanlage anlage = anlagen.get(anlagenIndex.hole(p));
+            DistanzBerechner.berechneKartesischePosition(anlage.getBreitengrad(), anlage.getLaengengrad(),
+                positionen, 3 * p);
+        }
+
+        int[] nachbarn = new int[anlagen.size() * k];
+        Arrays.fill(nachbarn, KEINE);
+        KdBaum baum = new KdBaum(positionen);
+        IntListe gefunden = new IntListe(k);
+        for (int q = 0; q < anlagenIndex.groesse(); q++) {
+            baum.sucheKNaechste(q, k, gefunden);
+            int basis = anlagenIndex.hole(q) * k;
+            for (int r = 0; r < gefunden.groesse(); r++) {
+                nachbarn[basis + r] = anlagenIndex.hole(gefunden.hole(r));
+            }
+        }
+        return nachbarn;
+    }
+
+    /**
+     * Verbessert die Route mit Nachbarlisten-2-Opt und Or-Opt.
+     * Die Don't-Look-Bits wecken nur die Endpunkte geaenderter Kanten. Ein Zug, den nur eine
+     * Anlage ausserhalb davon findet (die andere Anlage steht nicht in ihrer Liste), bliebe
+     * sonst liegen; deshalb folgen weitere Durchlaeufe mit allen Anlagen, bis einer keinen
+     * Zug mehr findet.
+     *
+     * Pre: tour, tabelle und nachbarn nicht null, nachbarn.length == tabelle.getAnzahl() * k
+     * Post: tour wurde in-place verbessert, tour[0] ist unveraendert, kein verbessernder
+     *       Nachbarlisten-Zug mehr moeglich
+     *
+     * @param tour Route als Folge von Tabellenindizes
+     * @param tabelle Distanzen
+     * @param nachbarn Nachbarlisten (siehe berechneNachbarlisten)
+     * @param k Laenge jeder Nachbarliste
+     * @return true wenn mindestens ein Zug ausgefuehrt wurde
+     */
+    public static boolean verbessere(int[] tour, RoutenDistanzTabelle tabelle, int[] nachbarn, int k) {
+        int n = tour.length;
+        if (n < 4) {
+            return false;
+        }
+        Suche suche = new Suche(tour, tabelle, nachbarn, k);
+        boolean verbessert = false;
+        suche.aktiviereAlle();
+        while (suche.laufe()) {
+            verbessert = true;
+            suche.aktiviereAlle();
+        }
+        return verbessert;
+    }
+
+    /**
+     * Arbeitszustand einer Suche: Route, Positionen und Warteschlange aktiver Anlagen.
+     * Wiederverwendbar fuer aufeinanderfolgende Suchen auf derselben Route; dafuer werden
+     * Gesamtgewinn und geaenderter Positionsbereich seit dem letzten Zuruecksetzen mitgefuehrt.
+     */
+    static final class Suche {
+
+        private final int[] tour;
+        private final int[] position;
+        private final RoutenDistanzTabelle tabelle;
+        private final int[] nachbarn;
+        private final int k;
+        private final int n;
+
+        private final int[] warteschlange;
+        private final boolean[] aktiv;
+        private int kopf;
+        private int anzahlAktiv;
+
+        private double gewinnSumme;
+        private int geaendertVon;
+        private int geaendertBis;
+
+        Suche(int[] tour, RoutenDistanzTabelle tabelle, int[] nachbarn, int k) {
+            this.tour = tour;
+            this.tabelle = tabelle;
+            this.nachbarn = nachbarn;
+            this.k = k;
+            this.n = tour.length;
+            this.position = new int[tabelle.getAnzahl()];
+            for (int i = 0; i < n; i++) {
+                position[tour[i]] = i;
+            }
+            this.warteschlange = new int[n];
+            this.aktiv = new boolean[tabelle.getAnzahl()];
+            this.kopf = 0;
+            this.anzahlAktiv = 0;
+            setzeBilanzZurueck();
+        }
+
+        /**
+         * Aktiviert alle Anlagen der Route in Routenreihenfolge.
+         */
+        void aktiviereAlle() {
+            for (int i = 0; i < n; i++) {
+                aktiviere(tour[i]);
+            }
+        }
+
+        /**
+         * Setzt Gesamtgewinn und geaenderten Bereich zurueck.
+         */
+        void setzeBilanzZurueck() {
+            gewinnSumme = 0;
+            geaendertVon = Integer.MAX_VALUE;
+            geaendertBis = -1;
+        }
+
+        /**
+         * Liefert die Summe der Gewinne seit dem letzten Zuruecksetzen.
+         *
+         * @return Verkuerzung der Route in km
+         */
+        double getGewinnSumme() {
+            return gewinnSumme;
+        }
+
+        /**
+         * Liefert die erste seit dem letzten Zuruecksetzen geaenderte Position.
+         *
+         * @return Position (Integer.MAX_VALUE wenn nichts geaendert wurde)
+         */
+        int getGeaendertVon() {
+            return geaendertVon;
+        }
+
+        /**
+         * Liefert die letzte seit dem letzten Zuruecksetzen geaenderte Position.
+         *
+         * @return Position (-1 wenn nichts geaendert wurde)
+         */
+        int getGeaendertBis() {
+            return geaendertBis;
+        }
+
+        /**
+         * Uebernimmt aussen vorgenommene Aenderungen der Route im Bereich [von..bis].
+         *
+         * @param von Erste geaenderte Position
+         * @param bis Letzte geaenderte Position
+         */
+        void uebernimmPositionen(int von, int bis) {
+            for (int i = von; i <= bis; i++) {
+                position[tour[i]] = i;
+            }
+            merkeAenderung(von, bis);
+        }
+
+        /**
+         * Bearbeitet aktive Anlagen, bis keine mehr uebrig ist.
+         *
+         * @return true wenn mindestens ein Zug ausgefuehrt wurde
+         */
+        boolean laufe() {
+            boolean verbessert = false;
+            while (anzahlAktiv > 0) {
+                int anlage = warteschlange[kopf];
+                kopf = (kopf + 1) % n;
+                anzahlAktiv--;
+                aktiv[anlage] = false;
+
+                // Die Anlage bleibt aktiv, solange sie Zuege findet
+                while (versuche2Opt(anlage) || versucheOrOpt(anlage)) {
+                    verbessert = true;
+                }
+            }
+            return verbessert;
+        }
+
+        /**
+         * Sucht einen verbessernden 2-Opt-Zug mit neuer Kante von der Anlage zu einem Nachbarn.
+         *
+         * @param a Anlage
+         * @return true wenn ein Zug ausgefuehrt wurde
+         */
+        private boolean versuche2Opt(int a) {
+            int i = position[a];
+            int nachfolger = i + 1 < n ? tour[i + 1] : KEINE;
+            int vorgaenger = i > 0 ? tour[i - 1] : KEINE;
+            float dNachfolger = nachfolger != KEINE ? tabelle.distanz(a, nachfolger) : 0f;
+            float dVorgaenger = vorgaenger != KEINE ? tabelle.distanz(vorgaenger, a) : 0f;
+
+            for (int r = 0; r < k; r++) {
+                int c = nachbarn[a * k + r];
+                if (c == KEINE) {
+                    break;
+                }
+                float dNeu = tabelle.distanz(a, c);
+                if (dNeu >= dNachfolger && dNeu >= dVorgaenger) {
+                    // Nachbarn sind nach Abstand sortiert: weiter hinten wird es nicht besser
+                    break;
+                }
+                int j = position[c];
+
+                // Variante Nachfolger: neue Kanten (a, c) und (succ(a), succ(c))
+                if (nachfolger != KEINE && dNeu < dNachfolger && j != i + 1) {
+                    int cNachfolger = j + 1 < n ? tour[j + 1] : KEINE;
+                    float gewinn = dNachfolger - dNeu;
+                    if (j > i) {
+                        // Umkehr [i+1 .. j]
+                        if (cNachfolger != KEINE) {
+                            gewinn += tabelle.distanz(c, cNachfolger) - tabelle.distanz(nachfolger, cNachfolger);
+                        }
+                        if (gewinn > MIN_GEWINN_KM) {
+                            gewinnSumme += gewinn;
+                            aktiviereUmfeld(a, nachfolger, c, cNachfolger);
+                            kehreUm(i + 1, j);
+                            return true;
+                        }
+                    } else if (cNachfolger != KEINE) {
+                        // Umkehr [j+1 .. i]
+                        gewinn += tabelle.distanz(c, cNachfolger) - tabelle.distanz(cNachfolger, nachfolger);
+                        if (gewinn > MIN_GEWINN_KM) {
+                            gewinnSumme += gewinn;
+                            aktiviereUmfeld(a, nachfolger, c, cNachfolger);
+                            kehreUm(j + 1, i);
+                            return true;
+                        }
+                    }
+                }
+
+                // Variante Vorgaenger: neue Kanten (a, c) und (pred(a), pred(c))
+                if (vorgaenger != KEINE && dNeu < dVorgaenger && j != i - 1 && j > 0) {
+                    int cVorgaenger = tour[j - 1];
+                    float gewinn = dVorgaenger + tabelle.distanz(cVorgaenger, c)
+                        - dNeu - tabelle.distanz(vorgaenger, cVorgaenger);
+                    if (gewinn > MIN_GEWINN_KM) {
+                        gewinnSumme += gewinn;
+                        aktiviereUmfeld(a, vorgaenger, c, cVorgaenger);
+                        if (j < i) {
+                            kehreUm(j, i - 1);
+                        } else {
+                            kehreUm(i, j - 1);
+                        }
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Sucht einen verbessernden Or-Opt-Zug fuer Segmente, die bei der Anlage beginnen.
+         *
+         * @param a Anlage
+         * @return true wenn ein Zug ausgefuehrt wurde
+         */
+        private boolean versucheOrOpt(int a) {
+            int start = position[a];
+            if (start == 0) {
+                return false;
+            }
+            for (int laenge = 1; laenge <= Konstanten.ROUTEN_OR_OPT_MAX_SEGMENT; laenge++) {
+                int ende = start + laenge - 1;
+                if (ende >= n) {
+                    break;
+                }
+                if (versucheSegment(start, ende)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Prueft das Verschieben des Segments tour[start..ende] neben einen Nachbarn seiner Endpunkte.
+         *
+         * @param start Erste Position des Segments (>= 1)
+         * @param ende Letzte Position des Segments
+         * @return true wenn ein Zug ausgefuehrt wurde
+         */
+        private boolean versucheSegment(int start, int ende) {
+            int s1 = tour[start];
+            int s2 = tour[ende];
+            int p = tour[start - 1];
+            int q = ende + 1 < n ? tour[ende + 1] : KEINE;
+
+            float entfernGewinn = tabelle.distanz(p, s1);
+            if (q != KEINE) {
+                entfernGewinn += tabelle.distanz(s2, q) - tabelle.distanz(p, q);
+            }
+            if (entfernGewinn <= MIN_GEWINN_KM) {
+                return false;
+            }
+
+            for (int seite = 0; seite < 2; seite++) {
+                int endpunkt = seite == 0 ? s1 : s2;
+                for (int r = 0; r < k; r++) {
+                    int c = nachbarn[endpunkt * k + r];
+                    if (c == KEINE) {
+                        break;
+                    }
+                    if (tabelle.distanz(endpunkt, c) >= entfernGewinn) {
+                        break;
+                    }
+                    int j = position[c];
+                    if (j >= start && j <= ende) {
+                        continue;
+                    }
+                    // Einfuegen nach c oder vor c (also nach pred(c))
+                    if (versucheEinfuegen(start, ende, j, entfernGewinn)) {
+                        return true;
+                    }
+                    if (j > 0 && j - 1 != ende && versucheEinfuegen(start, ende, j - 1, entfernGewinn)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Prueft das Einfuegen des Segments nach Position nach (vorwaerts und umgekehrt).
+         *
+         * @param start Erste Position des Segments
+         * @param ende Letzte Position des Segments
+         * @param nach Position, hinter der eingefuegt wird (ausserhalb des Segments)
+         * @param entfernGewinn Gewinn durch das Herausloesen des Segments
+         * @return true wenn ein Zug ausgefuehrt wurde
+         */
+        private boolean versucheEinfuegen(int start, int ende, int nach, float entfernGewinn) {
+            if (nach == start - 1) {
+                return false;
+            }
+            int c = tour[nach];
+            int e = nach + 1 < n ? tour[nach + 1] : KEINE;
+            int s1 = tour[start];
+            int s2 = tour[ende];
+            float alteKante = e != KEINE ? tabelle.distanz(c, e) : 0f;
+
+            float vorwaerts = tabelle.distanz(c, s1) + (e != KEINE ? tabelle.distanz(s2, e) : 0f) - alteKante;
+            float umgekehrt = tabelle.distanz(c, s2) + (e != KEINE ? tabelle.distanz(s1, e) : 0f) - alteKante;
+            boolean umkehren = umgekehrt < vorwaerts;
+            float einfuegKosten = umkehren ? umgekehrt : vorwaerts;
+            if (entfernGewinn - einfuegKosten <= MIN_GEWINN_KM) {
+                return false;
+            }
+
+            int p = tour[start - 1];
+            int q = ende + 1 < n ? tour[ende + 1] : KEINE;
+            gewinnSumme += entfernGewinn - einfuegKosten;
+            aktiviereUmfeld(p, q, s1, s2);
+            aktiviereUmfeld(c, e, KEINE, KEINE);
+            verschiebeSegment(start, ende, nach, umkehren);
+            return true;
+        }
+
+        /**
+         * Verschiebt das Segment tour[start..ende] hinter die Position nach.
+         *
+         * @param start Erste Position des Segments
+         * @param ende Letzte Position des Segments
+         * @param nach Zielposition (ausserhalb des Segments)
+         * @param umkehren true wenn das Segment umgekehrt eingefuegt wird
+         */
+        private void verschiebeSegment(int start, int ende, int nach, boolean umkehren) {
+            int laenge = ende - start + 1;
+            int[] segment = new int[laenge];
+            for (int s = 0; s < laenge; s++) {
+                segment[s] = tour[umkehren ? ende - s : start + s];
+            }
+
+            int ziel;
+            if (nach < start) {
+                // tour[nach+1 .. start-1] rueckt um laenge nach rechts
+                for (int i = start - 1; i > nach; i--) {
+                    tour[i + laenge] = tour[i];
+                    position[tour[i]] = i + laenge;
+                }
+                ziel = nach + 1;
+            } else {
+                // tour[ende+1 .. nach] rueckt um laenge nach links
+                for (int i = ende + 1; i <= nach; i++) {
+                    tour[i - laenge] = tour[i];
+                    position[tour[i]] = i - laenge;
+                }
+                ziel = nach - laenge + 1;
+            }
+            for (int s = 0; s < laenge; s++) {
+                tour[ziel + s] = segment[s];
+                position[segment[s]] = ziel + s;
+            }
+            merkeAenderung(Math.min(start, nach + 1), Math.max(ende, nach));
+        }
+
+        /**
+         * Kehrt tour[von..bis] um und aktualisiert die Positionen.
+         *
+         * @param von Erste Position
+         * @param bis Letzte Position
+         */
+        private void kehreUm(int von, int bis) {
+            ZweiOptOptimierer.kehreUm(tour, von, bis);
+            uebernimmPositionen(von, bis);
+        }
+
+        /**
+         * Erweitert den geaenderten Positionsbereich.
+         *
+         * @param von Erste geaenderte Position
+         * @param bis Letzte geaenderte Position
+         */
+        private void merkeAenderung(int von, int bis) {
+            geaendertVon = Math.min(geaendertVon, von);
+            geaendertBis = Math.max(geaendertBis, bis);
+        }
+
+        /**
+         * Aktiviert die Endpunkte geaenderter Kanten.
+         *
+         * @param a Anlage oder KEINE
+         * @param b Anlage oder KEINE
+         * @param c Anlage oder KEINE
+         * @param d Anlage oder KEINE
+         */
+        private void aktiviereUmfeld(int a, int b, int c, int d) {
+            aktiviere(a);
+            aktiviere(b);
+            aktiviere(c);
+            aktiviere(d);
+        }
+
+        /**
+         * Nimmt eine Anlage in die Warteschlange auf, falls sie nicht schon aktiv ist.
+         *
+         * @param anlage Anlage oder KEINE
+         */
+        void aktiviere(int anlage) {
+            if (anlage == KEINE || aktiv[anlage]) {
+                return;
+            }
+            aktiv[anlage] = true;
+            warteschlange[(kopf + anzahlAktiv) % n] = anlage;
+            anzahlAktiv++;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package util;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Threadsichere Union-Find-Struktur fuer parallele Komponentenzerlegung.
+ * Vereinigungen haengen immer die Wurzel mit groesserem Index unter die mit kleinerem
+ * (per compareAndSet). Dadurch entstehen keine Zyklen, und der Repraesentant jeder
+ * Menge ist am Ende ihr kleinstes Element - unabhaengig von der Thread-Reihenfolge.
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur nebenlaeufige Mengenverwaltung
+ * - KISS: Ein AtomicIntegerArray, keine Sperren
+ * - Determinismus: Repraesentant = kleinstes Element der Menge
+ *
+ * Pre: anzahl >= 0
+ * Post: Jedes Element bildet anfangs eine eigene Menge
+ */
+public final class NebenlaeufigeUnionFind {
+
+    private final AtomicIntegerArray eltern;
+
+    /**
+     * Erstellt eine nebenlaeufige Union-Find-Struktur mit einelementigen Mengen.
+     *
+     * Pre: anzahl >= 0
+     * Post: anzahl Mengen mit je einem Element
+     *
+     * @param anzahl Anzahl der Elemente
+     */
+    public NebenlaeufigeUnionFind(int anzahl) {
+        if (anzahl < 0) {
+            throw new IllegalArgumentException("Anzahl darf nicht negativ sein");
+        }
+        this.eltern = new AtomicIntegerArray(anzahl);
+        for (int i = 0; i < anzahl; i++) {
+            eltern.set(i, i);
+        }
+    }
+
+    /**
+     * Findet den Repraesentanten eines Elements und halbiert dabei den Pfad.
+     *
+     * Pre: 0 <= element < Anzahl Elemente
+     * Post: Rueckgabe ist aktuelle Wurzel der Menge
+     *
+     * @param element Element
+     * @return Repraesentant der Menge
+     */
+    public int finde(int element) {
+        int aktuell = element;
+        while (true) {
+            int elternteil = eltern.get(aktuell);
+            if (elternteil == aktuell) {
+                return aktuell;
+            }
+            int grosselternteil = eltern.get(elternteil);
+            if (grosselternteil != elternteil) {
+                eltern.compareAndSet(aktuell, elternteil, grosselternteil);
+            }
+            aktuell = elternteil;
+        }
+    }
+
+    /**
+     * Vereinigt die Mengen zweier Elemente (sperrfrei).
+     *
+     * Pre: beide Elemente gueltig
+     * Post: beide Elemente haben denselben Repraesentanten
+     *
+     * @param a Erstes Element
+     * @param b Zweites Element
+     * @return true wenn dieser Aufruf zwei Mengen vereinigt hat
+     */
+    public boolean vereinige(int a, int b) {
+        while (true) {
+            int wurzelA = finde(a);
+            int wurzelB = finde(b);
+            if (wurzelA == wurzelB) {
+                return false;
+            }
+
+            int kleinere = Math.min(wurzelA, wurzelB);
+            int groessere = Math.max(wurzelA, wurzelB);
+            if (eltern.compareAndSet(groessere, groessere, kleinere)) {
+                return true;
+            }
+            // Wurzel wurde zwischenzeitlich von einem anderen Thread umgehaengt: erneut versuchen
+        }
+    }
+
+    /**
+     * Liefert die Anzahl der Elemente.
+     *
+     * @return Anzahl Elemente
+     */
+    public int getAnzahlElemente() {
+        return eltern.length();
+    }
+}
@@ -0,0 +1,159 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Fuehrt eine Aktion fuer alle Indizes [0, anzahl) im gemeinsamen ForkJoin-Pool aus.
+ * Zwei Verteilungen:
+ * - Bereichsteilung: Der Bereich wird halbiert, bis hoechstens blockgroesse Indizes uebrig sind
+ *   (fuer viele gleich teure Indizes oder wenige unabhaengige Starts mit blockgroesse 1)
+ * - Groesste zuerst: Arbeiter holen sich ueber einen gemeinsamen Zaehler den jeweils naechsten
+ *   Index (fuer absteigend nach Aufwand sortierte Aufgaben sehr unterschiedlicher Groesse)
+ * Passt alles in einen Block bzw. gibt es nur einen Index, laeuft die Aktion im aufrufenden Thread.
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur Verteilung von Indizes auf Threads
+ * - Wiederverwendung: Gemeinsame Grundlage fuer Cluster-Erkennung, Mehrfachstarts,
+ *   Parameterstudie und Wartungsplanung
+ *
+ * Pre: Aktionen fuer verschiedene Indizes sind voneinander unabhaengig
+ * Post: Aktion wurde fuer jeden Index genau einmal ausgefuehrt
+ */
+final class ParallelAusfuehrer {
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private ParallelAusfuehrer() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Fuehrt die Aktion per rekursiver Bereichsteilung fuer alle Indizes aus.
+     *
+     * Pre: anzahl >= 0, blockgroesse >= 1
+     * Post: Aktion wurde fuer jeden Index in [0, anzahl) ausgefuehrt
+     *
+     * @param anzahl Anzahl Indizes
+     * @param blockgroesse Hoechstanzahl Indizes je Teilaufgabe
+     * @param aktion Aktion pro Index
+     */
+    static void fuehreAus(int anzahl, int blockgroesse, IntConsumer aktion) {
+        if (blockgroesse < 1) {
+            throw new IllegalArgumentException("Blockgroesse muss mindestens 1 sein");
+        }
+        if (anzahl <= blockgroesse) {
+            for (int i = 0; i < anzahl; i++) {
+                aktion.accept(i);
+            }
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new BereichsAufgabe(0, anzahl, blockgroesse, aktion));
+    }
+
+    /**
+     * Fuehrt die Aktion fuer alle Indizes in aufsteigender Vergabereihenfolge aus. Bis zu
+     * Parallelitaet + 1 Arbeiter holen sich jeweils den naechsten freien Index, bei absteigend
+     * nach Aufwand sortierten Aufgaben also die groesste verbliebene.
+     *
+     * Pre: anzahl >= 0
+     * Post: Aktion wurde fuer jeden Index in [0, anzahl) ausgefuehrt
+     *
+     * @param anzahl Anzahl Indizes
+     * @param aktion Aktion pro Index
+     */
+    static void fuehreAusGroessteZuerst(int anzahl, IntConsumer aktion) {
+        if (anzahl <= 1) {
+            for (int i = 0; i < anzahl; i++) {
+                aktion.accept(i);
+            }
+            return;
+        }
+        AtomicInteger naechste = new AtomicInteger();
+        int anzahlArbeiter = Math.min(anzahl, ForkJoinPool.getCommonPoolParallelism() + 1);
+        List<ArbeiterAufgabe> arbeiter = new ArrayList<>(anzahlArbeiter);
+        for (int i = 0; i < anzahlArbeiter; i++) {
+            arbeiter.add(new ArbeiterAufgabe(anzahl, naechste, aktion));
+        }
+        ForkJoinTask.invokeAll(arbeiter);
+    }
+
+    /**
+     * Verteilt die Indizes [von, bis) rekursiv auf den ForkJoin-Pool.
+     */
+    private static final class BereichsAufgabe extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int von;
+        private final int bis;
+        private final int blockgroesse;
+        private final transient IntConsumer aktion;
+
+        /**
+         * Erstellt eine Aufgabe fuer die Indizes [von, bis).
+         *
+         * @param von Erster Index (inklusive)
+         * @param bis Letzter Index (exklusive)
+         * @param blockgroesse Hoechstanzahl Indizes ohne weitere Teilung
+         * @param aktion Aktion pro Index
+         */
+        BereichsAufgabe(int von, int bis, int blockgroesse, IntConsumer aktion) {
+            this.von = von;
+            this.bis = bis;
+            this.blockgroesse = blockgroesse;
+            this.aktion = aktion;
+        }
+
+        @Override
+        protected void compute() {
+            if (bis - von <= blockgroesse) {
+                for (int i = von; i < bis; i++) {
+                    aktion.accept(i);
+                }
+                return;
+            }
+            int mitte = (von + bis) >>> 1;
+            invokeAll(new BereichsAufgabe(von, mitte, blockgroesse, aktion),
+                new BereichsAufgabe(mitte, bis, blockgroesse, aktion));
+        }
+    }
+
+    /**
+     * Arbeiter, der Indizes ueber einen gemeinsamen Zaehler abholt, bis keine mehr frei sind.
+     */
+    private static final class ArbeiterAufgabe extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int anzahl;
+        private final transient AtomicInteger naechste;
+        private final transient IntConsumer aktion;
+
+        /**
+         * Erstellt einen Arbeiter.
+         *
+         * @param anzahl Anzahl Indizes
+         * @param naechste Gemeinsamer Zaehler des naechsten freien Index
+         * @param aktion Aktion pro Index
+         */
+        ArbeiterAufgabe(int anzahl, AtomicInteger naechste, IntConsumer aktion) {
+            this.anzahl = anzahl;
+            this.naechste = naechste;
+            this.aktion = aktion;
+        }
+
+        @Override
+        protected void compute() {
+            for (int i = naechste.getAndIncrement(); i < anzahl; i = naechste.getAndIncrement()) {
+                aktion.accept(i);
+            }
+        }
+    }
+}
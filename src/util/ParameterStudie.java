@@ -0,0 +1,287 @@
+package util;
+
+import model.WartungsParameter;
+import model.Windkraftanlage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+
+/**
+ * Parameterstudie (What-if) der Wartungsplanung: Bewertet alle Kombinationen aus Rastern fuer
+ * Anlagen pro Tag, Transportgeschwindigkeit, Transportstunden und Anzahl Top-Hersteller in
+ * einem Lauf und ohne Neuuebersetzung.
+ *
+ * Wiederverwendung zwischen den Szenarien:
+ * - Je Hersteller eine SingleLinkageHierarchie (k-d-Baum und Spannbaum einmal); die Cluster
+ *   jedes Transportlimits entstehen durch Schneiden, ohne neue Distanzen
+ * - Identische Cluster verschiedener Limits (bei Limits ohne Verschmelzung) teilen sich eine Route
+ * - Je Route nur einmal die Kantenlaengen; Anlagen pro Tag und Geschwindigkeit aendern nur die
+ *   Tagesaufteilung (WartungsZeitBerechner.berechneGesamtdauer mit Parametern)
+ * - Die Top-N-Hersteller sind Praefixe der Top-Liste, die Summen je N sind Praefixsummen
+ *
+ * Bewertet wird die Routenplanung wie in WartungsRoutenPlaner (Cluster per Transportlimit,
+ * Routen aus RoutenDateiSpeicher), ohne Depots, Wartungsfenster und Tourenplanung.
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Szenarien bilden, bewerten und als Tabelle ausgeben
+ * - Wiederverwendung: Hierarchie, Routen-Cache und Tagesaufteilung der Wartungsplanung
+ * - Parallelitaet: Hierarchien, Routen und Bewertungen als ForkJoin-Aufgaben
+ *
+ * Pre: Anlagen und Szenarien nicht null
+ * Post: Je Szenario Anzahl Cluster und Gesamttage
+ */
+public final class ParameterStudie {
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private ParameterStudie() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Bildet alle Szenarien aus Argumenten der Form name=wert1,wert2,...
+     * Namen: siehe Konstanten.STUDIE_PARAM_*; fehlende Parameter behalten ihren Standardwert.
+     *
+     * Pre: argumente nicht null
+     * Post: Rueckgabe ist kartesisches Produkt aller Raster (mindestens ein Szenario)
+     *
+     * @param argumente Rasterangaben
+     * @return Szenarien in Rasterreihenfolge
+     * @throws IllegalArgumentException bei unbekanntem Namen oder ungueltigem Wert,
+     *         Meldung beginnt mit STUDIE_UNBEKANNTER_PARAMETER bzw. STUDIE_UNGUELTIGER_WERT
+     */
+    public static List<WartungsParameter> erstelleSzenarien(String[] argumente) {
+        Map<String, float[]> raster = new LinkedHashMap<>();
+        raster.put(Konstanten.STUDIE_PARAM_ANLAGEN_PRO_TAG, new float[] {Konstanten.ANLAGEN_PRO_TAG});
+        raster.put(Konstanten.STUDIE_PARAM_GESCHWINDIGKEIT, new float[] {Konstanten.TRANSPORT_GESCHWINDIGKEIT_KMH});
+        raster.put(Konstanten.STUDIE_PARAM_TRANSPORTSTUNDEN, new float[] {Konstanten.TRANSPORTSTUNDEN_PRO_TAG});
+        raster.put(Konstanten.STUDIE_PARAM_TOP_HERSTELLER, new float[] {Konstanten.WARTUNG_TOP_HERSTELLER_ANZAHL});
+
+        for (String argument : argumente) {
+            int trenner = argument.indexOf('=');
+            String name = trenner > 0 ? argument.substring(0, trenner).trim() : argument;
+            if (!raster.containsKey(name)) {
+                throw new IllegalArgumentException(Konstanten.STUDIE_UNBEKANNTER_PARAMETER + argument);
+            }
+            String[] texte = argument.substring(trenner + 1).split(",");
+            float[] werte = new float[texte.length];
+            for (int i = 0; i < texte.length; i++) {
+                Float wert = FeldParser.parseGleitkommaZahlNullbar(texte[i]);
+                boolean ganzzahlig = name.equals(Konstanten.STUDIE_PARAM_ANLAGEN_PRO_TAG)
+                    || name.equals(Konstanten.STUDIE_PARAM_TOP_HERSTELLER);
+                boolean zulaessig = wert != null && (ganzzahlig ? wert >= 1f && wert == Math.rint(wert) : wert > 0f);
+                if (!zulaessig) {
+                    throw new IllegalArgumentException(Konstanten.STUDIE_UNGUELTIGER_WERT + argument);
+                }
+                werte[i] = wert;
+            }
+            raster.put(name, werte);
+        }
+
+        List<WartungsParameter> szenarien = new ArrayList<>();
+        for (float anlagenProTag : raster.get(Konstanten.STUDIE_PARAM_ANLAGEN_PRO_TAG)) {
+            for (float geschwindigkeit : raster.get(Konstanten.STUDIE_PARAM_GESCHWINDIGKEIT)) {
+                for (float stunden : raster.get(Konstanten.STUDIE_PARAM_TRANSPORTSTUNDEN)) {
+                    for (float top : raster.get(Konstanten.STUDIE_PARAM_TOP_HERSTELLER)) {
+                        szenarien.add(new WartungsParameter((int) anlagenProTag, geschwindigkeit, stunden, (int) top));
+                    }
+                }
+            }
+        }
+        return szenarien;
+    }
+
+    /**
+     * Bewertet alle Szenarien.
+     *
+     * Pre: alleAnlagen und szenarien nicht null, szenarien nicht leer
+     * Post: Rueckgabe[i] gehoert zu szenarien.get(i); Wiederverwendung in ZeitStatistiken eingetragen
+     *
+     * @param alleAnlagen Liste aller Windkraftanlagen
+     * @param szenarien Zu bewertende Parametersaetze
+     * @return Ergebnis je Szenario
+     */
+    public static List<Ergebnis> bewerte(List<Windkraftanlage> alleAnlagen, List<WartungsParameter> szenarien) {
+        if (alleAnlagen == null || szenarien == null || szenarien.isEmpty()) {
+            throw new IllegalArgumentException("Anlagen und mindestens ein Szenario erforderlich");
+        }
+
+        // Schritt 1: Top-Hersteller fuer das groesste N, kleinere N sind Praefixe
+        int maxTop = 0;
+        for (WartungsParameter szenario : szenarien) {
+            maxTop = Math.max(maxTop, szenario.getTopHersteller());
+        }
+        Map<String, List<Windkraftanlage>> gruppen = HerstellerGruppierer.gruppiereNachHersteller(alleAnlagen);
+        List<String> hersteller = HerstellerGruppierer.holeTopHersteller(
+            HerstellerGruppierer.zaehleAnlagenProHersteller(alleAnlagen), maxTop);
+        int anzahlHersteller = hersteller.size();
+
+        // Schritt 2: Eine Hierarchie je Hersteller
+        SingleLinkageHierarchie[] hierarchien = new SingleLinkageHierarchie[anzahlHersteller];
+        fuehreParallelAus(anzahlHersteller, h -> hierarchien[h] = SingleLinkageHierarchie.baue(gruppen.get(hersteller.get(h))));
+
+        // Schritt 3: Cluster je (Hersteller, Limit) schneiden, identische Cluster nur einmal
+        TreeMap<Float, Integer> limits = new TreeMap<>();
+        for (WartungsParameter szenario : szenarien) {
+            limits.putIfAbsent(szenario.getMaxTransportDistanzKm(), limits.size());
+        }
+        Map<List<Windkraftanlage>, Integer> clusterIndex = new HashMap<>();
+        List<List<Windkraftanlage>> cluster = new ArrayList<>();
+        int[][][] clusterJeLimit = new int[limits.size()][anzahlHersteller][];
+        for (Map.Entry<Float, Integer> limit : limits.entrySet()) {
+            for (int h = 0; h < anzahlHersteller; h++) {
+                List<List<Windkraftanlage>> geschnitten = hierarchien[h].schneideBei(limit.getKey());
+                int[] indizes = new int[geschnitten.size()];
+                for (int c = 0; c < indizes.length; c++) {
+                    Integer index = clusterIndex.putIfAbsent(geschnitten.get(c), cluster.size());
+                    if (index == null) {
+                        index = cluster.size();
+                        cluster.add(geschnitten.get(c));
+                    }
+                    indizes[c] = index;
+                }
+                clusterJeLimit[limit.getValue()][h] = indizes;
+            }
+        }
+
+        // Schritt 4: Eine Route je verschiedenem Cluster, gespeichert als Kantenlaengen
+        float[][] kanten = new float[cluster.size()][];
+        fuehreParallelAus(cluster.size(), c -> kanten[c] = berechneKanten(cluster.get(c)));
+
+        // Schritt 5: Tage je (Szenario, Hersteller) parallel, dann Praefixsummen ueber die Hersteller
+        int[][] tage = new int[szenarien.size()][anzahlHersteller];
+        fuehreParallelAus(szenarien.size() * anzahlHersteller, aufgabe -> {
+            int s = aufgabe / anzahlHersteller;
+            int h = aufgabe % anzahlHersteller;
+            WartungsParameter szenario = szenarien.get(s);
+            if (h >= szenario.getTopHersteller()) {
+                return;
+            }
+            int summe = 0;
+            for (int c : clusterJeLimit[limits.get(szenario.getMaxTransportDistanzKm())][h]) {
+                summe += WartungsZeitBerechner.berechneGesamtdauer(kanten[c], szenario);
+            }
+            tage[s][h] = summe;
+        });
+
+        List<Ergebnis> ergebnisse = new ArrayList<>(szenarien.size());
+        for (int s = 0; s < szenarien.size(); s++) {
+            WartungsParameter szenario = szenarien.get(s);
+            int[][] clusterJeHersteller = clusterJeLimit[limits.get(szenario.getMaxTransportDistanzKm())];
+            int anzahlCluster = 0;
+            int summe = 0;
+            for (int h = 0; h < Math.min(szenario.getTopHersteller(), anzahlHersteller); h++) {
+                anzahlCluster += clusterJeHersteller[h].length;
+                summe += tage[s][h];
+            }
+            ergebnisse.add(new Ergebnis(szenario, anzahlCluster, summe));
+        }
+
+        ZeitStatistiken.zeichneStat(Konstanten.STAT_STUDIE_WIEDERVERWENDUNG, String.format(
+            Konstanten.STUDIE_WIEDERVERWENDUNG_FORMAT, szenarien.size(), anzahlHersteller, limits.size(), cluster.size()));
+        return ergebnisse;
+    }
+
+    /**
+     * Gibt die Ergebnisse als Vergleichstabelle aus.
+     *
+     * Pre: ergebnisse nicht null
+     * Post: Tabelle wurde ausgegeben
+     *
+     * @param ergebnisse Ergebnisse in Szenarioreihenfolge
+     */
+    public static void gebeTabelleAus(List<Ergebnis> ergebnisse) {
+        AusgabeManager.gebeSektionAus(Konstanten.STUDIE_UEBERSCHRIFT);
+        AusgabeManager.gebeAusFormat(Konstanten.STUDIE_TABELLENKOPF, Konstanten.STUDIE_SPALTEN);
+        for (Ergebnis ergebnis : ergebnisse) {
+            WartungsParameter p = ergebnis.getParameter();
+            AusgabeManager.gebeAusFormat(Konstanten.STUDIE_ZEILE_FORMAT, p.getAnlagenProTag(),
+                p.getGeschwindigkeitKmh(), p.getTransportStundenProTag(), p.getMaxTransportDistanzKm(),
+                p.getTopHersteller(), ergebnis.getAnzahlCluster(), ergebnis.getTage());
+        }
+    }
+
+    /**
+     * Erstellt die Route eines Clusters und liefert ihre Kantenlaengen.
+     *
+     * @param cluster Anlagen des Clusters
+     * @return Kantenlaengen in km (Laenge = Anlagen - 1)
+     */
+    private static float[] berechneKanten(List<Windkraftanlage> cluster) {
+        List<Windkraftanlage> route = RoutenDateiSpeicher.ladeOderErstelleRoute(cluster,
+            Konstanten.WARTUNG_ROUTEN_ZEITBUDGET_MS, Konstanten.WARTUNG_ROUTEN_MEHRFACHSTART_AKTIVIERT,
+            Konstanten.WARTUNG_ROUTEN_TAGEOPTIMIERUNG_AKTIVIERT);
+        float[] kanten = new float[Math.max(0, route.size() - 1)];
+        for (int i = 0; i < kanten.length; i++) {
+            kanten[i] = RoutenOptimierer.berechneFahrDistanz(route.get(i), route.get(i + 1));
+        }
+        return kanten;
+    }
+
+    /**
+     * Fuehrt eine Aktion fuer alle Indizes [0, anzahl) im ForkJoin-Pool aus (seriell, wenn
+     * WARTUNG_PARALLEL_AKTIVIERT aus ist).
+     *
+     * @param anzahl Anzahl Indizes
+     * @param aktion Aktion pro Index
+     */
+    private static void fuehreParallelAus(int anzahl, IntConsumer aktion) {
+        if (!Konstanten.WARTUNG_PARALLEL_AKTIVIERT) {
+            for (int i = 0; i < anzahl; i++) {
+                aktion.accept(i);
+            }
+            return;
+        }
+        ParallelAusfuehrer.fuehreAus(anzahl, 1, aktion);
+    }
+
+    /**
+     * Ergebnis eines Szenarios.
+     */
+    public static final class Ergebnis {
+
+        private final WartungsParameter parameter;
+        private final int anzahlCluster;
+        private final int tage;
+
+        /**
+         * Erstellt ein Ergebnis.
+         *
+         * @param parameter Szenario
+         * @param anzahlCluster Anzahl Cluster ueber alle betrachteten Hersteller
+         * @param tage Summe der Wartungstage ueber alle betrachteten Hersteller
+         */
+        Ergebnis(WartungsParameter parameter, int anzahlCluster, int tage) {
+            this.parameter = parameter;
+            this.anzahlCluster = anzahlCluster;
+            this.tage = tage;
+        }
+
+        /**
+         * @return Szenario
+         */
+        public WartungsParameter getParameter() {
+            return parameter;
+        }
+
+        /**
+         * @return Anzahl Cluster ueber alle betrachteten Hersteller
+         */
+        public int getAnzahlCluster() {
+            return anzahlCluster;
+        }
+
+        /**
+         * @return Summe der Wartungstage ueber alle betrachteten Hersteller
+         */
+        public int getTage() {
+            return tage;
+        }
+    }
+}
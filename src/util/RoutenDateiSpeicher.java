@@ -0,0 +1,379 @@
+package util;
+
+import model.Windkraftanlage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Speichert optimierte Wartungsrouten je Cluster als kleine Binaerdatei und verwendet sie
+ * bei spaeteren Laeufen wieder, solange sich der Cluster nicht geaendert hat.
+ *
+ * Die Datei ist ueber einen Hash eindeutig zugeordnet aus:
+ * - den nach Objekt-ID sortierten Anlagen des Clusters mit ihren Koordinaten
+ * - der Startanlage (erste Anlage des Clusters, bestimmt den Routenbeginn)
+ * - Version und Parametern der Routenoptimierung
+ * - den Fingerabdruecken von Strassennetz und Wartungsfenstern
+ * Aendert sich eines davon, passt der Dateiname nicht mehr und die Route wird neu optimiert.
+ *
+ * Dateiformat (Big Endian):
+ * magic, version, hash, anzahlAnlagen, objektId[anzahlAnlagen] in Routenreihenfolge, pruefsumme
+ * Die Pruefsumme (FNV-1a ueber die Objekt-IDs) erkennt abgeschnittene oder beschaedigte Dateien.
+ *
+ * Geaenderte Cluster hinterlassen verwaiste Dateien. Beim ersten Speichern eines Laufs werden
+ * daher alle Routen-Dateien ueber ROUTEN_CACHE_MAX_DATEIEN geloescht, die am laengsten nicht
+ * geschrieben oder getroffen wurden (Treffer setzen den Aenderungszeitpunkt neu).
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur Persistenz der Routen, Optimierung bleibt in RoutenOptimierer
+ * - KISS: Route als Folge von Objekt-IDs
+ * - Robustheit: Fehler beim Lesen oder Schreiben fuehren nur zu einer Neuberechnung
+ *
+ * Pre: Cluster-Anlagen haben eindeutige Objekt-IDs (sonst wird nicht gecacht)
+ * Post: Liefert eine Route, die einer frisch optimierten Route entspricht
+ */
+public final class RoutenDateiSpeicher {
+
+    /** Groesse des Datei-Kopfes in Bytes */
+    private static final int KOPF_GROESSE = 4 + 4 + 8 + 4;
+
+    /** Groesse der Pruefsumme am Dateiende in Bytes */
+    private static final int PRUEFSUMMEN_GROESSE = 8;
+
+    /** Ob das Cache-Verzeichnis in diesem Lauf bereits aufgeraeumt wurde */
+    private static final AtomicBoolean AUFGERAEUMT = new AtomicBoolean();
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private RoutenDateiSpeicher() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Laedt die Route eines Clusters aus dem Cache oder optimiert sie neu und speichert sie.
+     *
+     * Pre: cluster nicht null, zeitbudgetMs >= 0
+     * Post: Rueckgabe ist Route beginnend bei erster Anlage; Cache-Ergebnis in ZeitStatistiken gezaehlt
+     *
+     * @param cluster Anlagen des Clusters
+     * @param zeitbudgetMs Zeitbudget der Optimierung in Millisekunden
+     * @param mehrfachstart true fuer parallele Mehrfachstarts
+     * @param tageOptimierung true fuer die anschliessende Tagesoptimierung
+     * @return Geladene oder neu optimierte Route
+     */
+    public static List<Windkraftanlage> ladeOderErstelleRoute(List<Windkraftanlage> cluster, long zeitbudgetMs,
+                                                              boolean mehrfachstart, boolean tageOptimierung) {
+        if (cluster == null) {
+            throw new IllegalArgumentException("Cluster darf nicht null sein");
+        }
+        if (!Konstanten.ROUTEN_CACHE_AKTIVIERT || cluster.isEmpty() || !habenEindeutigeIds(cluster)) {
+            return RoutenOptimierer.erstelleRouteMitStrategie(cluster, zeitbudgetMs, mehrfachstart,
+                tageOptimierung);
+        }
+
+        long hash = berechneClusterHash(cluster, zeitbudgetMs, mehrfachstart, tageOptimierung);
+        Path datei = ermittleDateipfad(hash);
+
+        if (Files.isRegularFile(datei)) {
+            try {
+                List<Windkraftanlage> geladen = ladeRoute(datei, cluster, hash);
+                if (geladen != null) {
+                    ZeitStatistiken.erhoeheStat(Konstanten.STAT_ROUTEN_CACHE_TREFFER);
+                    beruehre(datei);
+                    return geladen;
+                }
+            } catch (IOException | RuntimeException fehler) {
+                AusgabeManager.gebeFehlerAus(Konstanten.ROUTEN_CACHE_FEHLER + fehler.getMessage());
+            }
+        }
+
+        List<Windkraftanlage> route = RoutenOptimierer.erstelleRouteMitStrategie(cluster, zeitbudgetMs,
+            mehrfachstart, tageOptimierung);
+
+        try {
+            speichereRoute(datei, route, hash);
+            ZeitStatistiken.erhoeheStat(Konstanten.STAT_ROUTEN_CACHE_NEU);
+            if (AUFGERAEUMT.compareAndSet(false, true)) {
+                raeumeAuf(datei.toAbsolutePath().getParent(), Konstanten.ROUTEN_CACHE_MAX_DATEIEN);
+            }
+        } catch (IOException fehler) {
+            AusgabeManager.gebeFehlerAus(Konstanten.ROUTEN_CACHE_FEHLER + fehler.getMessage());
+        }
+
+        return route;
+    }
+
+    /**
+     * Berechnet einen 64-Bit FNV-1a Hash ueber Cluster-Inhalt, Startanlage und Parameter.
+     * Die Anlagen gehen nach Objekt-ID sortiert ein, ihre Reihenfolge im Cluster also nicht.
+     *
+     * Pre: cluster nicht null und nicht leer
+     * Post: Rueckgabe ist Hash des Clusters
+     *
+     * @param cluster Anlagen des Clusters
+     * @param zeitbudgetMs Zeitbudget der Optimierung in Millisekunden
+     * @param mehrfachstart true fuer parallele Mehrfachstarts
+     * @param tageOptimierung true fuer die anschliessende Tagesoptimierung
+     * @return Hash des Clusters
+     */
+    public static long berechneClusterHash(List<Windkraftanlage> cluster, long zeitbudgetMs, boolean mehrfachstart,
+                                           boolean tageOptimierung) {
+        long hash = GraphDateiSpeicher.FNV_START;
+        hash = mischeParameter(hash, zeitbudgetMs, mehrfachstart, tageOptimierung);
+        hash = GraphDateiSpeicher.mischeInt(hash, cluster.get(0).getObjektId());
+        hash = GraphDateiSpeicher.mischeInt(hash, cluster.size());
+
+        // Objekt-ID in den oberen, Listenindex in den unteren 32 Bit
+        long[] sortiert = new long[cluster.size()];
+        for (int i = 0; i < sortiert.length; i++) {
+            sortiert[i] = ((long) cluster.get(i).getObjektId() << 32) | i;
+        }
+        Arrays.sort(sortiert);
+
+        for (long eintrag : sortiert) {
+            Windkraftanlage anlage = cluster.get((int) eintrag);
+            hash = GraphDateiSpeicher.mischeInt(hash, anlage.getObjektId());
+            Float breitengrad = anlage.getBreitengrad();
+            Float laengengrad = anlage.getLaengengrad();
+            if (breitengrad != null && laengengrad != null) {
+                hash = GraphDateiSpeicher.mischeInt(hash, Float.floatToIntBits(breitengrad));
+                hash = GraphDateiSpeicher.mischeInt(hash, Float.floatToIntBits(laengengrad));
+            } else {
+                hash = GraphDateiSpeicher.mischeInt(hash, Konstanten.UNGUELTIGE_ID);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Mischt Version und alle ergebnisrelevanten Parameter der Routenoptimierung in den Hash.
+     *
+     * @param hash Bisheriger Hash
+     * @param zeitbudgetMs Zeitbudget der Optimierung in Millisekunden
+     * @param mehrfachstart true fuer parallele Mehrfachstarts
+     * @param tageOptimierung true fuer die anschliessende Tagesoptimierung
+     * @return Neuer Hash
+     */
+    private static long mischeParameter(long hash, long zeitbudgetMs, boolean mehrfachstart,
+                                        boolean tageOptimierung) {
+        StrassenNetz netz = StrassenNetz.holeStandard();
+        long strassenFingerabdruck = netz != null ? netz.getFingerabdruck() : 0L;
+        WartungsFenster fenster = WartungsFenster.holeStandard();
+        long fensterFingerabdruck = fenster != null ? fenster.getFingerabdruck() : 0L;
+        int[] parameter = {
+            Konstanten.ROUTEN_OPTIMIERER_VERSION,
+            (int) (zeitbudgetMs >>> 32), (int) zeitbudgetMs,
+            mehrfachstart ? 1 : 0,
+            tageOptimierung ? 1 : 0,
+            (int) (Konstanten.ROUTEN_ZUFALLS_SEED >>> 32), (int) Konstanten.ROUTEN_ZUFALLS_SEED,
+            Konstanten.ROUTEN_EXAKT_MAX_ANLAGEN,
+            Konstanten.ROUTEN_NACHBARLISTEN_AB_ANLAGEN,
+            Konstanten.ROUTEN_NACHBARLISTEN_K,
+            Konstanten.ROUTEN_OR_OPT_MAX_SEGMENT,
+            Konstanten.ROUTEN_KICK_MAX_SEGMENT,
+            Konstanten.ROUTEN_MULTISTART_ANZAHL,
+            Konstanten.ROUTEN_MULTISTART_KANDIDATEN,
+            (int) (strassenFingerabdruck >>> 32), (int) strassenFingerabdruck,
+            Float.floatToIntBits(Konstanten.STRASSEN_ANBINDUNG_MAX_KM),
+            (int) (fensterFingerabdruck >>> 32), (int) fensterFingerabdruck,
+            Konstanten.ZEITFENSTER_SUCHWEITE
+        };
+        for (int wert : parameter) {
+            hash = GraphDateiSpeicher.mischeInt(hash, wert);
+        }
+        return hash;
+    }
+
+    /**
+     * Ermittelt den Pfad der Routen-Datei fuer einen Cluster-Hash.
+     *
+     * Pre: -
+     * Post: Rueckgabe ist Pfad im Cache-Verzeichnis
+     *
+     * @param hash Hash des Clusters
+     * @return Pfad zur Routen-Datei
+     */
+    public static Path ermittleDateipfad(long hash) {
+        return Paths.get(Konstanten.CACHE_VERZEICHNIS, String.format(Konstanten.ROUTEN_CACHE_DATEI_FORMAT, hash));
+    }
+
+    /**
+     * Schreibt die Route als Binaerdatei (ueber eine temporaere Datei, damit nie eine
+     * halbe Datei gelesen wird).
+     *
+     * Pre: route nicht null
+     * Post: Datei enthaelt die Objekt-IDs in Routenreihenfolge und ihre Pruefsumme
+     *
+     * @param datei Zieldatei
+     * @param route Optimierte Route
+     * @param hash Hash des Clusters
+     * @throws IOException bei Schreibfehlern
+     */
+    public static void speichereRoute(Path datei, List<Windkraftanlage> route, long hash) throws IOException {
+        Path verzeichnis = datei.toAbsolutePath().getParent();
+        Files.createDirectories(verzeichnis);
+        Path temporaer = Files.createTempFile(verzeichnis, datei.getFileName().toString(), null);
+
+        try (OutputStream strom = Files.newOutputStream(temporaer);
+             DataOutputStream ausgabe = new DataOutputStream(new BufferedOutputStream(strom))) {
+            ausgabe.writeInt(Konstanten.ROUTEN_CACHE_MAGIC);
+            ausgabe.writeInt(Konstanten.ROUTEN_CACHE_VERSION);
+            ausgabe.writeLong(hash);
+            ausgabe.writeInt(route.size());
+            long pruefsumme = GraphDateiSpeicher.FNV_START;
+            for (Windkraftanlage anlage : route) {
+                ausgabe.writeInt(anlage.getObjektId());
+                pruefsumme = GraphDateiSpeicher.mischeInt(pruefsumme, anlage.getObjektId());
+            }
+            ausgabe.writeLong(pruefsumme);
+        } catch (IOException fehler) {
+            Files.deleteIfExists(temporaer);
+            throw fehler;
+        }
+
+        Files.move(temporaer, datei, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Laedt eine Route aus einer Routen-Datei und ordnet die Objekt-IDs den Cluster-Anlagen zu.
+     *
+     * Pre: datei existiert; cluster hat eindeutige Objekt-IDs
+     * Post: Rueckgabe ist Route oder null, wenn Kopf, Groesse, Pruefsumme oder Inhalt nicht passen
+     *
+     * @param datei Routen-Datei
+     * @param cluster Anlagen des Clusters
+     * @param hash Erwarteter Hash des Clusters
+     * @return Geladene Route oder null bei ungueltiger Datei
+     * @throws IOException bei Lesefehlern
+     */
+    public static List<Windkraftanlage> ladeRoute(Path datei, List<Windkraftanlage> cluster, long hash)
+            throws IOException {
+        ByteBuffer puffer = ByteBuffer.wrap(Files.readAllBytes(datei));
+        if (puffer.remaining() < KOPF_GROESSE
+            || puffer.getInt() != Konstanten.ROUTEN_CACHE_MAGIC
+            || puffer.getInt() != Konstanten.ROUTEN_CACHE_VERSION
+            || puffer.getLong() != hash) {
+            return null;
+        }
+        // Anlagen ohne Koordinaten sind nicht Teil der Route, daher hoechstens Clustergroesse
+        int anzahl = puffer.getInt();
+        if (anzahl < 1 || anzahl > cluster.size() || puffer.remaining() != 4L * anzahl + PRUEFSUMMEN_GROESSE) {
+            return null;
+        }
+
+        Map<Integer, Windkraftanlage> nachId = new HashMap<>();
+        for (Windkraftanlage anlage : cluster) {
+            nachId.put(anlage.getObjektId(), anlage);
+        }
+
+        List<Windkraftanlage> route = new ArrayList<>(anzahl);
+        Map<Windkraftanlage, Boolean> enthalten = new IdentityHashMap<>();
+        long pruefsumme = GraphDateiSpeicher.FNV_START;
+        for (int i = 0; i < anzahl; i++) {
+            int objektId = puffer.getInt();
+            pruefsumme = GraphDateiSpeicher.mischeInt(pruefsumme, objektId);
+            Windkraftanlage anlage = nachId.get(objektId);
+            if (anlage == null || enthalten.put(anlage, Boolean.TRUE) != null) {
+                return null;
+            }
+            route.add(anlage);
+        }
+        if (puffer.getLong() != pruefsumme) {
+            return null;
+        }
+        return route.get(0) == cluster.get(0) ? route : null;
+    }
+
+    /**
+     * Loescht die am laengsten unbenutzten Routen-Dateien, bis hoechstens maxDateien uebrig sind.
+     * Andere Dateien im Verzeichnis (Graph-Cache, temporaere Dateien) bleiben unberuehrt.
+     *
+     * Pre: verzeichnis existiert, maxDateien >= 0
+     * Post: Verzeichnis enthaelt hoechstens maxDateien Routen-Dateien, die neuesten bleiben erhalten
+     *
+     * @param verzeichnis Cache-Verzeichnis
+     * @param maxDateien Hoechstanzahl Routen-Dateien
+     * @return Anzahl geloeschter Dateien
+     * @throws IOException bei Fehlern beim Auflisten oder Loeschen
+     */
+    static int raeumeAuf(Path verzeichnis, int maxDateien) throws IOException {
+        List<Path> dateien = new ArrayList<>();
+        try (DirectoryStream<Path> eintraege = Files.newDirectoryStream(verzeichnis,
+                Konstanten.ROUTEN_CACHE_DATEI_MUSTER)) {
+            for (Path datei : eintraege) {
+                dateien.add(datei);
+            }
+        }
+        if (dateien.size() <= maxDateien) {
+            return 0;
+        }
+
+        // Neueste zuerst, Zeitstempel nur einmal je Datei lesen
+        FileTime[] zeiten = new FileTime[dateien.size()];
+        Integer[] reihenfolge = new Integer[dateien.size()];
+        for (int i = 0; i < zeiten.length; i++) {
+            zeiten[i] = Files.getLastModifiedTime(dateien.get(i));
+            reihenfolge[i] = i;
+        }
+        Arrays.sort(reihenfolge, (a, b) -> zeiten[b].compareTo(zeiten[a]));
+
+        int geloescht = 0;
+        for (int i = maxDateien; i < reihenfolge.length; i++) {
+            if (Files.deleteIfExists(dateien.get(reihenfolge[i]))) {
+                geloescht++;
+            }
+        }
+        return geloescht;
+    }
+
+    /**
+     * Setzt den Aenderungszeitpunkt einer getroffenen Datei neu, damit sie beim Aufraeumen
+     * als zuletzt benutzt gilt. Fehler verhindern nur das, nicht den Treffer.
+     *
+     * @param datei Getroffene Routen-Datei
+     */
+    private static void beruehre(Path datei) {
+        try {
+            Files.setLastModifiedTime(datei, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException fehler) {
+            AusgabeManager.gebeFehlerAus(Konstanten.ROUTEN_CACHE_FEHLER + fehler.getMessage());
+        }
+    }
+
+    /**
+     * Prueft, ob alle Anlagen des Clusters verschiedene Objekt-IDs haben.
+     *
+     * @param cluster Anlagen des Clusters
+     * @return true wenn keine Objekt-ID doppelt vorkommt
+     */
+    private static boolean habenEindeutigeIds(List<Windkraftanlage> cluster) {
+        int[] ids = new int[cluster.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = cluster.get(i).getObjektId();
+        }
+        Arrays.sort(ids);
+        for (int i = 1; i < ids.length; i++) {
+            if (ids[i] == ids[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
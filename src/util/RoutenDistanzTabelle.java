@@ -0,0 +1,173 @@
+package util;
+
+import model.Windkraftanlage;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Distanzen zwischen den Anlagen einer Route, adressiert ueber int-Indizes.
+ * Kleine Cluster erhalten eine vollstaendige float-Matrix, grosse Cluster vorab umgerechnete
+ * Koordinaten (Radianten und Kosinus), sodass jede Distanz ohne Boxing und ohne
+ * Winkelumrechnung berechnet wird. Die Werte sind bitgleich zu RoutenOptimierer.berechneDistanz.
+ * Ist ein StrassenNetz aktiv, enthaelt die Matrix stattdessen Fahrdistanzen (Paare ohne
+ * Strassenverbindung behalten die Haversine-Distanz). Ueber der Matrixgrenze (siehe
+ * STRASSEN_MATRIX_MAX_ANLAGEN) kommt jede Fahrdistanz einzeln aus dem Distanz-Cache des Netzes,
+ * damit Optimierung und ausgegebene Routenlaenge (RoutenOptimierer.berechneFahrDistanz)
+ * dieselben Distanzen verwenden.
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur Bereitstellung von Distanzen
+ * - KISS: Matrix oder primitive Koordinaten-Arrays
+ * - Performance: O(1) Zugriff ohne Objekte in der Optimierungsschleife
+ *
+ * Pre: Anlagenliste nicht null
+ * Post: distanz(a, b) liefert die Haversine- bzw. Fahrdistanz der Anlagen a und b
+ */
+public final class RoutenDistanzTabelle {
+
+    /** Matrixgrenze mit Strassennetz je Arbeiter: STRASSEN_MATRIX_MAX_ANLAGEN / Wurzel(Arbeiter) */
+    private static final int STRASSEN_MATRIX_GRENZE = berechneStrassenMatrixGrenze();
+
+    private final int anzahl;
+    private final float[] breiteRad;
+    private final float[] laengeRad;
+    private final float[] kosinusBreite;
+    private final boolean[] hatKoordinaten;
+    private final float[] matrix;
+    private final StrassenNetz netz;
+    private final Windkraftanlage[] anlagen;
+
+    /**
+     * Erstellt die Tabelle fuer die gegebenen Anlagen (Index = Listenposition).
+     *
+     * Pre: anlagen nicht null
+     * Post: Tabelle ist vollstaendig vorberechnet (ueber der Matrixgrenze mit Strassennetz: Anlagen gemerkt)
+     *
+     * @param anlagen Anlagen der Route
+     */
+    public RoutenDistanzTabelle(List<Windkraftanlage> anlagen) {
+        this(anlagen, STRASSEN_MATRIX_GRENZE);
+    }
+
+    /**
+     * Erstellt die Tabelle mit einer eigenen Matrixgrenze fuer Fahrdistanzen.
+     *
+     * Pre: anlagen nicht null, strassenMatrixGrenze >= 0
+     * Post: wie RoutenDistanzTabelle(anlagen)
+     *
+     * @param anlagen Anlagen der Route
+     * @param strassenMatrixGrenze Groesste Anlagenzahl fuer eine Fahrdistanz-Matrix
+     */
+    RoutenDistanzTabelle(List<Windkraftanlage> anlagen, int strassenMatrixGrenze) {
+        if (anlagen == null) {
+            throw new IllegalArgumentException("Anlagenliste darf nicht null sein");
+        }
+        this.anzahl = anlagen.size();
+        this.breiteRad = new float[anzahl];
+        this.laengeRad = new float[anzahl];
+        this.kosinusBreite = new float[anzahl];
+        this.hatKoordinaten = new boolean[anzahl];
+
+        for (int i = 0; i < anzahl; i++) {
+            Windkraftanlage anlage = anlagen.get(i);
+            Float breitengrad = anlage.getBreitengrad();
+            Float laengengrad = anlage.getLaengengrad();
+            if (breitengrad == null || laengengrad == null) {
+                continue;
+            }
+            hatKoordinaten[i] = true;
+            breiteRad[i] = DistanzBerechner.gradZuRadianten(breitengrad);
+            laengeRad[i] = DistanzBerechner.gradZuRadianten(laengengrad);
+            kosinusBreite[i] = (float) Math.cos(breiteRad[i]);
+        }
+
+        StrassenNetz strassenNetz = StrassenNetz.holeStandard();
+        boolean fahrdistanzen = strassenNetz != null && anzahl <= strassenMatrixGrenze;
+        if (strassenNetz != null && !fahrdistanzen) {
+            // Ueber der Matrixgrenze: Fahrdistanzen einzeln, kein Rueckfall auf Haversine
+            this.netz = strassenNetz;
+            this.anlagen = anlagen.toArray(new Windkraftanlage[0]);
+            this.matrix = null;
+            ZeitStatistiken.erhoeheStat(Konstanten.STAT_FAHRDISTANZ_OHNE_MATRIX);
+            return;
+        }
+        this.netz = null;
+        this.anlagen = null;
+        if (anzahl <= Konstanten.ROUTEN_DISTANZMATRIX_MAX_ANLAGEN || fahrdistanzen) {
+            this.matrix = new float[anzahl * anzahl];
+            for (int i = 0; i < anzahl; i++) {
+                for (int j = i; j < anzahl; j++) {
+                    // Die Haversine-Berechnung ist symmetrisch, eine Haelfte genuegt
+                    float distanz = berechne(i, j);
+                    matrix[i * anzahl + j] = distanz;
+                    matrix[j * anzahl + i] = distanz;
+                }
+            }
+            if (fahrdistanzen) {
+                strassenNetz.ueberschreibeDistanzen(anlagen, matrix);
+            }
+        } else {
+            this.matrix = null;
+        }
+    }
+
+    /**
+     * Liefert die Distanz zwischen zwei Anlagen.
+     *
+     * Pre: 0 <= a, b < getAnzahl()
+     * Post: Rueckgabe ist Distanz in km (Float.MAX_VALUE bei fehlenden Koordinaten)
+     *
+     * @param a Index der ersten Anlage
+     * @param b Index der zweiten Anlage
+     * @return Distanz in km
+     */
+    public float distanz(int a, int b) {
+        if (matrix != null) {
+            return matrix[a * anzahl + b];
+        }
+        if (netz != null) {
+            if (!hatKoordinaten[a] || !hatKoordinaten[b]) {
+                return Float.MAX_VALUE;
+            }
+            return netz.berechneDistanz(anlagen[a], anlagen[b]);
+        }
+        return berechne(a, b);
+    }
+
+    /**
+     * Liefert die Anzahl der Anlagen.
+     *
+     * @return Anzahl Anlagen
+     */
+    public int getAnzahl() {
+        return anzahl;
+    }
+
+    /**
+     * Teilt STRASSEN_MATRIX_MAX_ANLAGEN durch die Wurzel der Arbeiterzahl der parallelen Planung
+     * (wie WartungsRoutenPlaner: Common-Pool plus aufrufender Thread), sodass die Summe aller
+     * gleichzeitig gehaltenen n^2-Matrizen die Grenze eines Arbeiters nicht uebersteigt.
+     *
+     * @return Matrixgrenze je Arbeiter
+     */
+    private static int berechneStrassenMatrixGrenze() {
+        int arbeiter = Konstanten.WARTUNG_PARALLEL_AKTIVIERT ? ForkJoinPool.getCommonPoolParallelism() + 1 : 1;
+        return (int) (Konstanten.STRASSEN_MATRIX_MAX_ANLAGEN / Math.sqrt(arbeiter));
+    }
+
+    /**
+     * Berechnet eine Distanz aus den vorab umgerechneten Koordinaten.
+     *
+     * @param a Index der ersten Anlage
+     * @param b Index der zweiten Anlage
+     * @return Distanz in km
+     */
+    private float berechne(int a, int b) {
+        if (!hatKoordinaten[a] || !hatKoordinaten[b]) {
+            return Float.MAX_VALUE;
+        }
+        return DistanzBerechner.berechneDistanzKmAusRadianten(breiteRad[a], laengeRad[a], kosinusBreite[a],
+                                                              breiteRad[b], laengeRad[b], kosinusBreite[b]);
+    }
+}
@@ -3,11 +3,14 @@ package util;
 import model.Windkraftanlage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 /**
  * Utility-Klasse zur Optimierung von Wartungsrouten.
- * Implementiert Nearest-Neighbor als Startloesung und 2-Opt zur Verbesserung.
+ * Implementiert Nearest-Neighbor als Startloesung und 2-Opt zur Verbesserung;
+ * sehr grosse Cluster starten mit Greedy-Edge und werden mit Nachbarlisten-2-Opt und Or-Opt verbessert.
  * 
  * Design-Prinzipien:
  * - Single Responsibility: Nur Routen-Optimierung
@@ -48,13 +51,248 @@ public final class RoutenOptimierer {
             return route;
         }
         
+        // Distanzen einmalig vorberechnen, danach nur noch int-Indizes
+        RoutenDistanzTabelle tabelle = new RoutenDistanzTabelle(anlagen);
+        
+        // Sehr grosse Cluster: Greedy-Edge-Start und Verbesserung nur ueber Nachbarlisten
+        if (anlagen.size() >= Konstanten.ROUTEN_NACHBARLISTEN_AB_ANLAGEN) {
+            int k = Konstanten.ROUTEN_NACHBARLISTEN_K;
+            int[] nachbarn = NachbarlistenOptimierer.berechneNachbarlisten(anlagen, k);
+            int[] tour = TourKonstruktion.erstelleGreedyTour(anlagen, tabelle, nachbarn, k);
+            NachbarlistenOptimierer.verbessere(tour, tabelle, nachbarn, k);
+            return alsRoute(anlagen, tour);
+        }
+        
         // Schritt 1: Nearest-Neighbor Route erstellen (Start bei erster Anlage)
-        List<Windkraftanlage> route = erstelleNearestNeighborRoute(anlagen);
+        int[] tour = erstelleNearestNeighborTour(tabelle);
         
         // Schritt 2: Route mit 2-Opt verbessern
-        route = verbessereRouteMit2Opt(route);
+        ZweiOptOptimierer.verbessere(tour, tabelle);
         
-        return route;
+        return alsRoute(anlagen, tour);
+    }
+
+    /**
+     * Erstellt eine optimierte Route unter einem Zeitbudget.
+     * Nearest-Neighbor (sehr grosse Cluster: Greedy-Edge) als Startloesung, danach iterierte
+     * lokale Suche (Nachbarlisten-2-Opt, Or-Opt und Double-Bridge-Kicks), bis das Budget
+     * aufgebraucht ist. Im Gegensatz zu erstelleOptimierteRoute(List) ist die Laufzeit auch
+     * bei grossen Clustern begrenzt (bis auf Konstruktion und einen ersten Nachbarlisten-Durchlauf).
+     * 
+     * Pre: anlagen darf nicht null sein, zeitbudgetMs >= 0
+     * Post: Rueckgabe ist beste gefundene Route beginnend bei erster Anlage
+     * 
+     * @param anlagen Liste der zu besuchenden Anlagen
+     * @param zeitbudgetMs Zeitbudget fuer die Verbesserung in Millisekunden
+     * @return Optimierte Route als Liste von Anlagen
+     */
+    public static List<Windkraftanlage> erstelleOptimierteRoute(List<Windkraftanlage> anlagen, long zeitbudgetMs) {
+        if (anlagen == null || anlagen.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        RoutenDistanzTabelle tabelle = new RoutenDistanzTabelle(anlagen);
+        int k = Konstanten.ROUTEN_NACHBARLISTEN_K;
+        int[] nachbarn = NachbarlistenOptimierer.berechneNachbarlisten(anlagen, k);
+        int[] tour = anlagen.size() >= Konstanten.ROUTEN_NACHBARLISTEN_AB_ANLAGEN
+            ? TourKonstruktion.erstelleGreedyTour(anlagen, tabelle, nachbarn, k)
+            : erstelleNearestNeighborTour(tabelle);
+        
+        IterierteLokaleSuche.verbessere(tour, tabelle, nachbarn, k, zeitbudgetMs, Konstanten.ROUTEN_ZUFALLS_SEED);
+        
+        return alsRoute(anlagen, tour);
+    }
+
+    /**
+     * Strategie-Schicht: Waehlt das Verfahren nach Clustergroesse und Konfiguration, erstellt
+     * die Route und zaehlt die gewaehlte Strategie in den ZeitStatistiken. Optional wird die
+     * Route danach auf minimale Tage statt minimaler Strecke verbessert. Haben Anlagen
+     * Wartungsfenster, wird die Route zuletzt auf minimalen Fensterverzug verbessert.
+     * 
+     * Pre: anlagen darf nicht null sein, zeitbudgetMs >= 0
+     * Post: Rueckgabe ist Route beginnend bei erster Anlage; Strategie in ZeitStatistiken gezaehlt
+     * 
+     * @param anlagen Liste der zu besuchenden Anlagen
+     * @param zeitbudgetMs Zeitbudget in Millisekunden (0 = ohne Zeitbudget)
+     * @param mehrfachstart true fuer parallele Mehrfachstarts
+     * @param tageOptimierung true um die Route danach auf minimale Tage zu verbessern
+     * @return Optimierte Route als Liste von Anlagen
+     */
+    public static List<Windkraftanlage> erstelleRouteMitStrategie(List<Windkraftanlage> anlagen, long zeitbudgetMs,
+                                                                  boolean mehrfachstart, boolean tageOptimierung) {
+        if (anlagen == null || anlagen.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        String strategie = waehleStrategie(anlagen, zeitbudgetMs, mehrfachstart);
+        ZeitStatistiken.erhoeheStat(String.format(Konstanten.STAT_ROUTEN_STRATEGIE_FORMAT, strategie));
+        
+        List<Windkraftanlage> route;
+        switch (strategie) {
+            case Konstanten.ROUTEN_STRATEGIE_EXAKT:
+                route = alsRoute(anlagen, HeldKarpLoeser.loese(new RoutenDistanzTabelle(anlagen)));
+                break;
+            case Konstanten.ROUTEN_STRATEGIE_MEHRFACHSTART:
+                route = MehrfachstartOptimierer.erstelleRoute(anlagen, Konstanten.ROUTEN_MULTISTART_ANZAHL,
+                    zeitbudgetMs, Konstanten.ROUTEN_ZUFALLS_SEED);
+                break;
+            case Konstanten.ROUTEN_STRATEGIE_ITERIERT:
+                route = erstelleOptimierteRoute(anlagen, zeitbudgetMs);
+                break;
+            default:
+                route = erstelleOptimierteRoute(anlagen);
+                break;
+        }
+        
+        if (tageOptimierung) {
+            route = verbessereRouteNachTagen(route);
+        }
+        WartungsFenster fenster = WartungsZeitBerechner.holeFensterFuer(route);
+        return fenster != null ? verbessereRouteNachFenstern(route, fenster) : route;
+    }
+
+    /**
+     * Verbessert eine fertige Route bezueglich der Wartungsfenster ihrer Anlagen, bei gleichem
+     * Verzug bezueglich der Strecke (siehe ZeitfensterOptimierer). Die Startanlage bleibt.
+     * Zweiter Start: Anlagen mit Fenster nach Fenstermitte in die Route einsortiert; die
+     * Streckenroute allein haelt enge Fenster oft nur schlecht ein.
+     * 
+     * Pre: route und fenster nicht null
+     * Post: Rueckgabe hat hoechstens so viel Verzug wie route und dieselbe Startanlage
+     * 
+     * @param route Bestehende Route
+     * @param fenster Wartungsfenster
+     * @return Verbesserte Route
+     */
+    public static List<Windkraftanlage> verbessereRouteNachFenstern(List<Windkraftanlage> route,
+                                                                     WartungsFenster fenster) {
+        if (route.size() < 3) {
+            return route;
+        }
+        
+        int[] tour = new int[route.size()];
+        int[] frueh = new int[route.size()];
+        int[] spaet = new int[route.size()];
+        int[][] erlaubt = new int[route.size()][];
+        for (int i = 0; i < tour.length; i++) {
+            int id = route.get(i).getObjektId();
+            tour[i] = i;
+            frueh[i] = ZeitfensterOptimierer.ersterSlot(fenster.getFruehesterTag(id));
+            spaet[i] = ZeitfensterOptimierer.letzterSlot(fenster.getSpaetesterTag(id));
+            erlaubt[i] = ZeitfensterOptimierer.alsSlotFenster(fenster.getFenster(id));
+        }
+        
+        RoutenDistanzTabelle tabelle = new RoutenDistanzTabelle(route);
+        int[] fristTour = erstelleFristsortierteTour(frueh, spaet, fenster, route);
+        int verzug = ZeitfensterOptimierer.verbessere(tour, tabelle, frueh, spaet, erlaubt);
+        int fristVerzug = ZeitfensterOptimierer.verbessere(fristTour, tabelle, frueh, spaet, erlaubt);
+        ZeitStatistiken.erhoeheStat(Konstanten.STAT_ZEITFENSTER_OPTIMIERUNG);
+        
+        if (fristVerzug < verzug || (fristVerzug == verzug
+            && ZweiOptOptimierer.berechneLaenge(fristTour, tabelle) < ZweiOptOptimierer.berechneLaenge(tour, tabelle))) {
+            tour = fristTour;
+        }
+        return alsRoute(route, tour);
+    }
+
+    /**
+     * Verbessert eine fertige Route bezueglich der Gesamtdauer in Tagen (Wartung + Reise),
+     * bei gleicher Dauer bezueglich der Strecke (siehe TageOptimierer). Die Startanlage bleibt.
+     * 
+     * Pre: route nicht null
+     * Post: Rueckgabe hat hoechstens so viele Tage wie route und dieselbe Startanlage
+     * 
+     * @param route Bestehende Route
+     * @return Verbesserte Route
+     */
+    public static List<Windkraftanlage> verbessereRouteNachTagen(List<Windkraftanlage> route) {
+        if (route.size() < 3) {
+            return route;
+        }
+        
+        int k = Konstanten.ROUTEN_NACHBARLISTEN_K;
+        int[] nachbarn = NachbarlistenOptimierer.berechneNachbarlisten(route, k);
+        int[] tour = new int[route.size()];
+        for (int i = 0; i < tour.length; i++) {
+            tour[i] = i;
+        }
+        
+        int gespart = TageOptimierer.verbessere(tour, new RoutenDistanzTabelle(route), nachbarn, k);
+        ZeitStatistiken.erhoeheStat(Konstanten.STAT_ROUTEN_TAGEOPTIMIERUNG, gespart);
+        
+        return alsRoute(route, tour);
+    }
+
+    /**
+     * Sortiert Anlagen mit Fenster nach ihrer Fenstermitte (in Slots) zwischen die uebrigen Anlagen,
+     * die ihre Position in der Route als Schluessel behalten. Die Startanlage bleibt vorne.
+     * 
+     * @param frueh Fruehester Slot je Routenposition
+     * @param spaet Spaetester Slot je Routenposition
+     * @param fenster Wartungsfenster
+     * @param route Bestehende Route
+     * @return Tour als Folge von Routenpositionen
+     */
+    private static int[] erstelleFristsortierteTour(int[] frueh, int[] spaet, WartungsFenster fenster,
+                                                    List<Windkraftanlage> route) {
+        // Schluessel in den oberen, Routenposition in den unteren 32 Bit
+        long[] sortiert = new long[route.size() - 1];
+        for (int i = 1; i < route.size(); i++) {
+            boolean mitFenster = fenster.getSpaetesterTag(route.get(i).getObjektId()) < WartungsFenster.OFFEN;
+            long schluessel = mitFenster ? ((long) frueh[i] + spaet[i]) / 2 : i;
+            sortiert[i - 1] = (schluessel << 32) | i;
+        }
+        Arrays.sort(sortiert);
+        int[] tour = new int[route.size()];
+        for (int i = 1; i < tour.length; i++) {
+            tour[i] = (int) sortiert[i - 1];
+        }
+        return tour;
+    }
+
+    /**
+     * Waehlt die Routenstrategie:
+     * - kleine Cluster mit vollstaendigen Koordinaten exakt (Held-Karp)
+     * - sonst Mehrfachstarts bzw. iterierte Suche, wenn konfiguriert
+     * - sonst 2-Opt bzw. ab ROUTEN_NACHBARLISTEN_AB_ANLAGEN die Nachbarlisten-Suche
+     * 
+     * Pre: anlagen nicht null
+     * Post: Rueckgabe ist eine der ROUTEN_STRATEGIE-Konstanten
+     * 
+     * @param anlagen Liste der zu besuchenden Anlagen
+     * @param zeitbudgetMs Zeitbudget in Millisekunden (0 = ohne Zeitbudget)
+     * @param mehrfachstart true fuer parallele Mehrfachstarts
+     * @return Name der Strategie
+     */
+    public static String waehleStrategie(List<Windkraftanlage> anlagen, long zeitbudgetMs, boolean mehrfachstart) {
+        if (anlagen.size() <= Konstanten.ROUTEN_EXAKT_MAX_ANLAGEN && habenAlleKoordinaten(anlagen)) {
+            return Konstanten.ROUTEN_STRATEGIE_EXAKT;
+        }
+        if (mehrfachstart) {
+            return Konstanten.ROUTEN_STRATEGIE_MEHRFACHSTART;
+        }
+        if (zeitbudgetMs > 0) {
+            return Konstanten.ROUTEN_STRATEGIE_ITERIERT;
+        }
+        if (anlagen.size() >= Konstanten.ROUTEN_NACHBARLISTEN_AB_ANLAGEN) {
+            return Konstanten.ROUTEN_STRATEGIE_NACHBARLISTEN;
+        }
+        return Konstanten.ROUTEN_STRATEGIE_ZWEI_OPT;
+    }
+
+    /**
+     * Prueft, ob alle Anlagen Koordinaten haben.
+     * 
+     * @param anlagen Anlagen
+     * @return true wenn keine Koordinate fehlt
+     */
+    private static boolean habenAlleKoordinaten(List<Windkraftanlage> anlagen) {
+        for (Windkraftanlage anlage : anlagen) {
+            if (anlage.getBreitengrad() == null || anlage.getLaengengrad() == null) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -68,29 +306,71 @@ public final class RoutenOptimierer {
      * @return Nearest-Neighbor Route als Liste
      */
     public static List<Windkraftanlage> erstelleNearestNeighborRoute(List<Windkraftanlage> anlagen) {
-        List<Windkraftanlage> route = new ArrayList<>();
-        boolean[] besucht = new boolean[anlagen.size()];
+        return alsRoute(anlagen, erstelleNearestNeighborTour(new RoutenDistanzTabelle(anlagen)));
+    }
+
+    /**
+     * Erstellt eine Route in Hilbert-Kurven-Reihenfolge (O(n log n), siehe TourKonstruktion).
+     * 
+     * Pre: anlagen darf nicht null oder leer sein
+     * Post: Rueckgabe beginnt bei erster Anlage
+     * 
+     * @param anlagen Liste der zu besuchenden Anlagen
+     * @return Hilbert-Route als Liste
+     */
+    public static List<Windkraftanlage> erstelleHilbertRoute(List<Windkraftanlage> anlagen) {
+        return alsRoute(anlagen, TourKonstruktion.erstelleHilbertTour(anlagen));
+    }
+
+    /**
+     * Erstellt eine Route mit der Greedy-Edge-Heuristik ueber k-naechste-Nachbarn-Kanten
+     * (O(n log n), siehe TourKonstruktion).
+     * 
+     * Pre: anlagen darf nicht null oder leer sein
+     * Post: Rueckgabe beginnt bei erster Anlage
+     * 
+     * @param anlagen Liste der zu besuchenden Anlagen
+     * @return Greedy-Route als Liste
+     */
+    public static List<Windkraftanlage> erstelleGreedyRoute(List<Windkraftanlage> anlagen) {
+        int k = Konstanten.ROUTEN_NACHBARLISTEN_K;
+        int[] nachbarn = NachbarlistenOptimierer.berechneNachbarlisten(anlagen, k);
+        return alsRoute(anlagen, TourKonstruktion.erstelleGreedyTour(anlagen, new RoutenDistanzTabelle(anlagen),
+            nachbarn, k));
+    }
+
+    /**
+     * Erstellt eine Nearest-Neighbor Route als Folge von Tabellenindizes (Start bei Index 0).
+     * Anlagen ohne erreichbare Distanz (fehlende Koordinaten) werden nicht aufgenommen.
+     * 
+     * Pre: tabelle nicht null und nicht leer
+     * Post: Rueckgabe beginnt mit 0
+     * 
+     * @param tabelle Distanzen zwischen den Anlagen
+     * @return Route als Indexfolge
+     */
+    static int[] erstelleNearestNeighborTour(RoutenDistanzTabelle tabelle) {
+        int anzahl = tabelle.getAnzahl();
+        IntListe route = new IntListe(anzahl);
+        boolean[] besucht = new boolean[anzahl];
         
         // Starte bei erster Anlage (Index 0)
         int aktuellerIndex = 0;
-        route.add(anlagen.get(aktuellerIndex));
+        route.fuegeHinzu(aktuellerIndex);
         besucht[aktuellerIndex] = true;
         
         // Besuche alle weiteren Anlagen
-        for (int schritt = 1; schritt < anlagen.size(); schritt++) {
-            Windkraftanlage aktuelle = anlagen.get(aktuellerIndex);
-            
+        for (int schritt = 1; schritt < anzahl; schritt++) {
             // Finde naechste unbesuchte Anlage
             int naechsterIndex = -1;
             float minDistanz = Float.MAX_VALUE;
             
-            for (int i = 0; i < anlagen.size(); i++) {
+            for (int i = 0; i < anzahl; i++) {
                 if (besucht[i]) {
                     continue;
                 }
                 
-                Windkraftanlage kandidat = anlagen.get(i);
-                float distanz = berechneDistanz(aktuelle, kandidat);
+                float distanz = tabelle.distanz(aktuellerIndex, i);
                 
                 if (distanz < minDistanz) {
                     minDistanz = distanz;
@@ -100,148 +380,112 @@ public final class RoutenOptimierer {
             
             // Fuege naechste Anlage zur Route hinzu
             if (naechsterIndex >= 0) {
-                route.add(anlagen.get(naechsterIndex));
+                route.fuegeHinzu(naechsterIndex);
                 besucht[naechsterIndex] = true;
                 aktuellerIndex = naechsterIndex;
             }
         }
         
-        return route;
+        return route.alsArray();
     }
 
     /**
-     * Verbessert eine Route mit dem 2-Opt Algorithmus.
-     * Tauscht Kanten um Kreuzungen zu entfernen und die Gesamtdistanz zu verkuerzen.
+     * Erstellt eine zufaellig gestreute Nearest-Neighbor Route (Start bei Index 0).
+     * In jedem Schritt wird gleichverteilt eine der naechsten unbesuchten Anlagen gewaehlt,
+     * sodass verschiedene Zufallsquellen verschiedene, aber gute Startloesungen liefern.
+     * Bei gleichem Zustand der Zufallsquelle ist das Ergebnis identisch.
      * 
-     * Pre: route darf nicht null sein
-     * Post: Rueckgabe ist verbesserte Route (gleiche Anlagen, bessere Reihenfolge)
+     * Pre: tabelle nicht null und nicht leer, zufall nicht null, kandidaten >= 1
+     * Post: Rueckgabe beginnt mit 0
      * 
-     * @param route Die zu verbessernde Route
-     * @return Verbesserte Route
+     * @param tabelle Distanzen zwischen den Anlagen
+     * @param zufall Zufallsquelle
+     * @param kandidaten Anzahl naechster Anlagen, aus denen gewaehlt wird
+     * @return Route als Indexfolge
      */
-    public static List<Windkraftanlage> verbessereRouteMit2Opt(List<Windkraftanlage> route) {
-        if (route == null || route.size() < 4) {
-            return route;
-        }
+    static int[] erstelleGestreuteNearestNeighborTour(RoutenDistanzTabelle tabelle, Random zufall, int kandidaten) {
+        int anzahl = tabelle.getAnzahl();
+        IntListe route = new IntListe(anzahl);
+        boolean[] besucht = new boolean[anzahl];
+        int[] naechste = new int[kandidaten];
+        float[] naechsteDistanz = new float[kandidaten];
         
-        // Kopiere Route fuer Bearbeitung
-        List<Windkraftanlage> besteRoute = new ArrayList<>(route);
-        int routenGroesse = besteRoute.size();
-        
-        boolean verbessert = true;
+        int aktuellerIndex = 0;
+        route.fuegeHinzu(aktuellerIndex);
+        besucht[aktuellerIndex] = true;
         
-        // Wiederhole bis keine Verbesserung mehr moeglich
-        while (verbessert) {
-            verbessert = false;
-            
-            // Pruefe alle moeglichen 2-Opt Tausche
-            for (int i = 0; i < routenGroesse - 2; i++) {
-                for (int j = i + 2; j < routenGroesse; j++) {
-                    // Berechne aktuelle Distanz der zwei Kanten
-                    float aktuelleDistanz = berechneKantenDistanz(besteRoute, i, j);
-                    
-                    // Berechne neue Distanz nach 2-Opt Tausch
-                    float neueDistanz = berechneNeueKantenDistanz(besteRoute, i, j);
-                    
-                    // Wenn neue Distanz kuerzer, fuehre Tausch durch
-                    if (neueDistanz < aktuelleDistanz) {
-                        besteRoute = fuehre2OptTauschDurch(besteRoute, i, j);
-                        verbessert = true;
-                    }
+        for (int schritt = 1; schritt < anzahl; schritt++) {
+            // Die naechsten unbesuchten Anlagen aufsteigend nach Distanz sammeln
+            int gefunden = 0;
+            for (int i = 0; i < anzahl; i++) {
+                if (besucht[i]) {
+                    continue;
+                }
+                float distanz = tabelle.distanz(aktuellerIndex, i);
+                if (distanz == Float.MAX_VALUE || (gefunden == kandidaten && distanz >= naechsteDistanz[gefunden - 1])) {
+                    continue;
+                }
+                int stelle = gefunden < kandidaten ? gefunden++ : kandidaten - 1;
+                while (stelle > 0 && naechsteDistanz[stelle - 1] > distanz) {
+                    naechste[stelle] = naechste[stelle - 1];
+                    naechsteDistanz[stelle] = naechsteDistanz[stelle - 1];
+                    stelle--;
                 }
+                naechste[stelle] = i;
+                naechsteDistanz[stelle] = distanz;
+            }
+            
+            if (gefunden > 0) {
+                aktuellerIndex = naechste[zufall.nextInt(gefunden)];
+                route.fuegeHinzu(aktuellerIndex);
+                besucht[aktuellerIndex] = true;
             }
         }
         
-        return besteRoute;
+        return route.alsArray();
     }
 
     /**
-     * Berechnet die Distanz der zwei aktuellen Kanten bei Index i und j.
-     * Kanten: (i, i+1) und (j, j+1 mod n)
+     * Verbessert eine Route mit dem 2-Opt Algorithmus.
+     * Tauscht Kanten um Kreuzungen zu entfernen und die Gesamtdistanz zu verkuerzen.
+     * Arbeitet intern auf einer int-Permutation mit Umkehr im Array (siehe ZweiOptOptimierer).
      * 
-     * Pre: route nicht null, 0 <= i < j < route.size()
-     * Post: Rueckgabe ist Summe der zwei Kantendistanzen
+     * Pre: route darf nicht null sein
+     * Post: Rueckgabe ist verbesserte Route (gleiche Anlagen, bessere Reihenfolge)
      * 
-     * @param route Die Route
-     * @param i Index der ersten Kante
-     * @param j Index der zweiten Kante
-     * @return Summe der Kantendistanzen
+     * @param route Die zu verbessernde Route
+     * @return Verbesserte Route
      */
-    private static float berechneKantenDistanz(List<Windkraftanlage> route, int i, int j) {
-        int n = route.size();
-        int jPlus1 = (j + 1) % n;
-        
-        // Falls j der letzte Index ist, gibt es keine Kante (j, j+1)
-        if (j == n - 1) {
-            // Nur Kante (i, i+1)
-            return berechneDistanz(route.get(i), route.get(i + 1));
+    public static List<Windkraftanlage> verbessereRouteMit2Opt(List<Windkraftanlage> route) {
+        if (route == null || route.size() < 4) {
+            return route;
         }
         
-        // Distanz Kante (i, i+1) + Kante (j, j+1)
-        float distanz1 = berechneDistanz(route.get(i), route.get(i + 1));
-        float distanz2 = berechneDistanz(route.get(j), route.get(jPlus1));
-        
-        return distanz1 + distanz2;
-    }
-
-    /**
-     * Berechnet die Distanz der neuen Kanten nach einem 2-Opt Tausch.
-     * Neue Kanten: (i, j) und (i+1, j+1 mod n)
-     * 
-     * Pre: route nicht null, 0 <= i < j < route.size()
-     * Post: Rueckgabe ist Summe der zwei neuen Kantendistanzen
-     * 
-     * @param route Die Route
-     * @param i Index der ersten Kante
-     * @param j Index der zweiten Kante
-     * @return Summe der neuen Kantendistanzen
-     */
-    private static float berechneNeueKantenDistanz(List<Windkraftanlage> route, int i, int j) {
-        int n = route.size();
-        int jPlus1 = (j + 1) % n;
-        
-        // Falls j der letzte Index ist
-        if (j == n - 1) {
-            return berechneDistanz(route.get(i), route.get(j));
+        int[] tour = new int[route.size()];
+        for (int i = 0; i < tour.length; i++) {
+            tour[i] = i;
         }
+        ZweiOptOptimierer.verbessere(tour, new RoutenDistanzTabelle(route));
         
-        // Distanz neue Kanten: (i, j) und (i+1, j+1)
-        float distanz1 = berechneDistanz(route.get(i), route.get(j));
-        float distanz2 = berechneDistanz(route.get(i + 1), route.get(jPlus1));
-        
-        return distanz1 + distanz2;
+        return alsRoute(route, tour);
     }
 
     /**
-     * Fuehrt einen 2-Opt Tausch durch: Kehrt das Segment zwischen i+1 und j um.
+     * Wandelt eine Indexfolge in eine Liste von Anlagen um.
      * 
-     * Pre: route nicht null, 0 <= i < j < route.size()
-     * Post: Rueckgabe ist neue Route mit umgekehrtem Segment
+     * Pre: tour enthaelt gueltige Indizes in anlagen
+     * Post: Rueckgabe ist neue Liste in Tour-Reihenfolge
      * 
-     * @param route Die Route
-     * @param i Startindex (exklusiv)
-     * @param j Endindex (inklusiv)
-     * @return Neue Route nach 2-Opt Tausch
+     * @param anlagen Anlagen, auf die sich die Indizes beziehen
+     * @param tour Indexfolge
+     * @return Route als Liste
      */
-    private static List<Windkraftanlage> fuehre2OptTauschDurch(List<Windkraftanlage> route, int i, int j) {
-        List<Windkraftanlage> neueRoute = new ArrayList<>();
-        
-        // Kopiere Elemente 0 bis i (inklusive)
-        for (int k = 0; k <= i; k++) {
-            neueRoute.add(route.get(k));
+    static List<Windkraftanlage> alsRoute(List<Windkraftanlage> anlagen, int[] tour) {
+        List<Windkraftanlage> route = new ArrayList<>(tour.length);
+        for (int i = 0; i < tour.length; i++) {
+            route.add(anlagen.get(tour[i]));
         }
-        
-        // Fuege Elemente i+1 bis j in umgekehrter Reihenfolge hinzu
-        for (int k = j; k > i; k--) {
-            neueRoute.add(route.get(k));
-        }
-        
-        // Kopiere Elemente j+1 bis Ende
-        for (int k = j + 1; k < route.size(); k++) {
-            neueRoute.add(route.get(k));
-        }
-        
-        return neueRoute;
+        return route;
     }
 
     /**
@@ -261,12 +505,31 @@ public final class RoutenOptimierer {
         float gesamtDistanz = 0.0f;
         
         for (int i = 0; i < route.size() - 1; i++) {
-            gesamtDistanz += berechneDistanz(route.get(i), route.get(i + 1));
+            gesamtDistanz += berechneFahrDistanz(route.get(i), route.get(i + 1));
         }
         
         return gesamtDistanz;
     }
 
+    /**
+     * Berechnet die Fahrdistanz zwischen zwei Anlagen: ueber das Strassennetz (mit Distanz-Cache),
+     * wenn eines aktiv ist, sonst die Luftlinie wie berechneDistanz.
+     *
+     * Pre: anlage1 und anlage2 nicht null
+     * Post: Rueckgabe ist Distanz in km
+     *
+     * @param anlage1 Erste Anlage
+     * @param anlage2 Zweite Anlage
+     * @return Distanz in km
+     */
+    public static float berechneFahrDistanz(Windkraftanlage anlage1, Windkraftanlage anlage2) {
+        StrassenNetz netz = StrassenNetz.holeStandard();
+        if (netz == null) {
+            return berechneDistanz(anlage1, anlage2);
+        }
+        return netz.berechneDistanz(anlage1, anlage2);
+    }
+
     /**
      * Berechnet die Distanz zwischen zwei Anlagen.
      * 
@@ -0,0 +1,276 @@
+package util;
+
+import model.Windkraftanlage;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Single-Linkage-Hierarchie (Dendrogramm) ueber alle Anlagen mit Koordinaten.
+ * Grundlage ist ein minimaler Spannbaum bezueglich der Haversine-Distanz, aufgebaut mit
+ * dem Boruvka-Verfahren: In jeder Runde sucht jede Komponente ueber einen k-d-Baum ihre
+ * kuerzeste Kante zu einer fremden Komponente, danach werden alle diese Kanten vereinigt.
+ *
+ * Die Cluster fuer ein beliebiges Transportlimit ergeben sich durch Schneiden des Baums:
+ * Es bleiben nur Kanten bis zum Limit. Das entspricht exakt erkenneClustersMitUnionFind
+ * mit demselben Limit, ohne eine einzige Distanz neu zu berechnen.
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur Aufbau und Schnitt der Hierarchie
+ * - KISS: Kanten als sortierte primitive Arrays, Schnitt per Union-Find
+ * - Wiederverwendbarkeit: Einmal aufbauen, beliebig viele Limits abfragen
+ *
+ * Pre: Anlagenliste nicht null
+ * Post: Hierarchie ist unveraenderlich und kann mehrfach geschnitten werden
+ */
+public final class SingleLinkageHierarchie {
+
+    private final List<Windkraftanlage> anlagen;
+    private final int[] kanteVon;
+    private final int[] kanteNach;
+    private final float[] kantenGewicht;
+
+    /**
+     * Privater Konstruktor; Instanzen entstehen ueber baue().
+     *
+     * @param anlagen Anlagen mit Koordinaten
+     * @param kanteVon Erster Endpunkt je Kante (nach Gewicht sortiert)
+     * @param kanteNach Zweiter Endpunkt je Kante
+     * @param kantenGewicht Distanz je Kante in km (aufsteigend)
+     */
+    private SingleLinkageHierarchie(List<Windkraftanlage> anlagen, int[] kanteVon, int[] kanteNach,
+                                    float[] kantenGewicht) {
+        this.anlagen = anlagen;
+        this.kanteVon = kanteVon;
+        this.kanteNach = kanteNach;
+        this.kantenGewicht = kantenGewicht;
+    }
+
+    /**
+     * Baut die Hierarchie fuer alle Anlagen mit Koordinaten auf.
+     *
+     * Pre: anlagen nicht null
+     * Post: Spannbaum mit (Anzahl Anlagen mit Koordinaten - 1) Kanten
+     *
+     * @param anlagen Liste der Windkraftanlagen
+     * @return Hierarchie
+     */
+    public static SingleLinkageHierarchie baue(List<Windkraftanlage> anlagen) {
+        if (anlagen == null) {
+            throw new IllegalArgumentException("Anlagenliste darf nicht null sein");
+        }
+
+        List<Windkraftanlage> mitKoordinaten = WartungsClusterDetector.filtereAnlagenMitKoordinaten(anlagen);
+        int anzahl = mitKoordinaten.size();
+        int anzahlKanten = Math.max(0, anzahl - 1);
+        int[] kanteVon = new int[anzahlKanten];
+        int[] kanteNach = new int[anzahlKanten];
+        float[] kantenGewicht = new float[anzahlKanten];
+
+        double[] positionen = new double[3 * anzahl];
+        for (int i = 0; i < anzahl; i++) {
+            Windkraftanlage anlage = mitKoordinaten.get(i);
+            DistanzBerechner.berechneKartesischePosition(anlage.getBreitengrad(), anlage.getLaengengrad(),
+                positionen, 3 * i);
+        }
+
+        KdBaum baum = new KdBaum(positionen);
+        UnionFind komponenten = new UnionFind(anzahl);
+        int[] labels = new int[anzahl];
+        double[] besteSehne = new double[anzahl];
+        float[] besteDistanz = new float[anzahl];
+        int[] besteVon = new int[anzahl];
+        int[] besteNach = new int[anzahl];
+        IntListe kandidaten = new IntListe();
+        int gefundeneKanten = 0;
+
+        while (gefundeneKanten < anzahlKanten) {
+            for (int i = 0; i < anzahl; i++) {
+                labels[i] = komponenten.finde(i);
+            }
+            baum.setzeLabels(labels);
+            Arrays.fill(besteSehne, Double.POSITIVE_INFINITY);
+            Arrays.fill(besteDistanz, Float.MAX_VALUE);
+            Arrays.fill(besteVon, -1);
+
+            // Schritt 1: kleinste Sehne jeder Komponente zu einer fremden Komponente
+            for (int i = 0; i < anzahl; i++) {
+                int wurzel = labels[i];
+                int naechster = baum.sucheNaechstenFremden(i, besteSehne[wurzel]);
+                if (naechster >= 0) {
+                    besteSehne[wurzel] = baum.berechneAbstand(i, naechster);
+                }
+            }
+
+            // Schritt 2: exakte Haversine-Kante knapp innerhalb dieser Sehne
+            for (int i = 0; i < anzahl; i++) {
+                int wurzel = labels[i];
+                kandidaten.leere();
+                baum.sammleFremdeImRadius(i, DistanzBerechner.erweitereUmRundungsreserve(besteSehne[wurzel]),
+                    kandidaten);
+                for (int k = 0; k < kandidaten.groesse(); k++) {
+                    int j = kandidaten.hole(k);
+                    float distanz = RoutenOptimierer.berechneDistanz(mitKoordinaten.get(i), mitKoordinaten.get(j));
+                    if (istLeichter(distanz, i, j, besteDistanz[wurzel], besteVon[wurzel], besteNach[wurzel])) {
+                        besteDistanz[wurzel] = distanz;
+                        besteVon[wurzel] = Math.min(i, j);
+                        besteNach[wurzel] = Math.max(i, j);
+                    }
+                }
+            }
+
+            // Schritt 3: alle gefundenen Kanten vereinigen (Duplikate entfallen ueber Union-Find)
+            int kantenVorRunde = gefundeneKanten;
+            for (int wurzel = 0; wurzel < anzahl; wurzel++) {
+                if (besteVon[wurzel] >= 0 && komponenten.vereinige(besteVon[wurzel], besteNach[wurzel])) {
+                    kanteVon[gefundeneKanten] = besteVon[wurzel];
+                    kanteNach[gefundeneKanten] = besteNach[wurzel];
+                    kantenGewicht[gefundeneKanten] = besteDistanz[wurzel];
+                    gefundeneKanten++;
+                }
+            }
+            if (gefundeneKanten == kantenVorRunde) {
+                throw new IllegalStateException("Spannbaum-Aufbau ohne Fortschritt");
+            }
+        }
+
+        return sortiereNachGewicht(mitKoordinaten, kanteVon, kanteNach, kantenGewicht);
+    }
+
+    /**
+     * Liefert die Cluster bei einem gegebenen Transportlimit.
+     * Reihenfolge wie bei erkenneClustersMitUnionFind: Cluster nach erster Anlage sortiert,
+     * Anlagen innerhalb eines Clusters in Eingabereihenfolge.
+     *
+     * Pre: maxDistanzKm >= 0
+     * Post: Rueckgabe ist Liste von Clustern
+     *
+     * @param maxDistanzKm Maximale Distanz fuer eine direkte Verbindung
+     * @return Liste von Clustern
+     */
+    public List<List<Windkraftanlage>> schneideBei(float maxDistanzKm) {
+        return WartungsClusterDetector.bildeClusterAusMengen(anlagen, vereinigeBis(maxDistanzKm));
+    }
+
+    /**
+     * Zaehlt die Cluster bei einem gegebenen Transportlimit ohne sie zu bilden.
+     *
+     * Pre: maxDistanzKm >= 0
+     * Post: Rueckgabe ist Anzahl Cluster
+     *
+     * @param maxDistanzKm Maximale Distanz fuer eine direkte Verbindung
+     * @return Anzahl Cluster
+     */
+    public int zaehleClusterBei(float maxDistanzKm) {
+        return anlagen.size() - zaehleKantenBis(maxDistanzKm);
+    }
+
+    /**
+     * Liefert die Anzahl der Anlagen in der Hierarchie.
+     *
+     * @return Anzahl Anlagen mit Koordinaten
+     */
+    public int getAnzahlAnlagen() {
+        return anlagen.size();
+    }
+
+    /**
+     * Liefert die Verschmelzungsdistanzen aufsteigend (eine pro Spannbaum-Kante).
+     *
+     * Pre: -
+     * Post: Rueckgabe ist Kopie
+     *
+     * @return Distanzen in km
+     */
+    public float[] getVerschmelzungsDistanzen() {
+        return Arrays.copyOf(kantenGewicht, kantenGewicht.length);
+    }
+
+    /**
+     * Vereinigt alle Spannbaum-Kanten bis zum Limit.
+     *
+     * @param maxDistanzKm Limit in km
+     * @return Union-Find-Struktur ueber die Anlagen
+     */
+    private UnionFind vereinigeBis(float maxDistanzKm) {
+        UnionFind mengen = new UnionFind(anlagen.size());
+        int bis = zaehleKantenBis(maxDistanzKm);
+        for (int k = 0; k < bis; k++) {
+            mengen.vereinige(kanteVon[k], kanteNach[k]);
+        }
+        return mengen;
+    }
+
+    /**
+     * Zaehlt die Kanten mit Gewicht bis einschliesslich Limit (binaere Suche).
+     *
+     * @param maxDistanzKm Limit in km
+     * @return Anzahl Kanten
+     */
+    private int zaehleKantenBis(float maxDistanzKm) {
+        int links = 0;
+        int rechts = kantenGewicht.length;
+        while (links < rechts) {
+            int mitte = (links + rechts) >>> 1;
+            if (kantenGewicht[mitte] <= maxDistanzKm) {
+                links = mitte + 1;
+            } else {
+                rechts = mitte;
+            }
+        }
+        return links;
+    }
+
+    /**
+     * Vergleicht Kanten nach Gewicht, bei Gleichstand nach Endpunkten.
+     * Die eindeutige Ordnung verhindert Zyklen bei gleich langen Kanten.
+     *
+     * @param distanz Gewicht der neuen Kante
+     * @param a Endpunkt der neuen Kante
+     * @param b Endpunkt der neuen Kante
+     * @param besteDistanz Gewicht der bisher besten Kante
+     * @param besteVon Kleinerer Endpunkt der bisher besten Kante (-1 wenn keine)
+     * @param besteNach Groesserer Endpunkt der bisher besten Kante
+     * @return true wenn die neue Kante leichter ist
+     */
+    private static boolean istLeichter(float distanz, int a, int b, float besteDistanz,
+                                       int besteVon, int besteNach) {
+        if (besteVon < 0 || distanz != besteDistanz) {
+            return besteVon < 0 || distanz < besteDistanz;
+        }
+        int von = Math.min(a, b);
+        int nach = Math.max(a, b);
+        return von < besteVon || (von == besteVon && nach < besteNach);
+    }
+
+    /**
+     * Sortiert die Kanten aufsteigend nach Gewicht und erstellt die Hierarchie.
+     * Nicht-negative float-Werte sind als int-Bits gleich geordnet und werden mit dem
+     * Kantenindex in einen long gepackt.
+     *
+     * @param anlagen Anlagen mit Koordinaten
+     * @param kanteVon Erste Endpunkte
+     * @param kanteNach Zweite Endpunkte
+     * @param kantenGewicht Gewichte
+     * @return Hierarchie mit sortierten Kanten
+     */
+    private static SingleLinkageHierarchie sortiereNachGewicht(List<Windkraftanlage> anlagen, int[] kanteVon,
+                                                               int[] kanteNach, float[] kantenGewicht) {
+        long[] schluessel = new long[kantenGewicht.length];
+        for (int k = 0; k < schluessel.length; k++) {
+            schluessel[k] = ((long) Float.floatToIntBits(kantenGewicht[k]) << 32) | k;
+        }
+        Arrays.sort(schluessel);
+
+        int[] sortiertVon = new int[schluessel.length];
+        int[] sortiertNach = new int[schluessel.length];
+        float[] sortiertGewicht = new float[schluessel.length];
+        for (int k = 0; k < schluessel.length; k++) {
+            int kante = (int) schluessel[k];
+            sortiertVon[k] = kanteVon[kante];
+            sortiertNach[k] = kanteNach[kante];
+            sortiertGewicht[k] = kantenGewicht[kante];
+        }
+        return new SingleLinkageHierarchie(anlagen, sortiertVon, sortiertNach, sortiertGewicht);
+    }
+}
@@ -0,0 +1,359 @@
+package util;
+
+import model.Windkraftanlage;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Offline-Strassennetz fuer Fahrdistanzen zwischen Windkraftanlagen.
+ * Das Netz wird aus einer vorab (z.B. aus OpenStreetMap) erzeugten Binaerdatei geladen und
+ * mit einer KontraktionsHierarchie vorverarbeitet. Anlagen werden an den naechsten Strassenknoten
+ * innerhalb von STRASSEN_ANBINDUNG_MAX_KM angebunden; die Fahrdistanz ist Anbindung + kuerzester
+ * Weg + Anbindung. Paare ohne Anbindung oder ohne Verbindung behalten die Haversine-Distanz.
+ * Einzelabfragen (Routenlaenge, Reisetage, Transportpruefung) laufen ueber einen DistanzCache,
+ * ganze Cluster ueber eine many-to-many Tabelle.
+ *
+ * Dateiformat (Big Endian):
+ * magic, version, anzahlKnoten, anzahlKanten,
+ * (breitengrad, laengengrad)[anzahlKnoten] als float, (von, nach, km)[anzahlKanten] als int, int, float
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Laden, Anbinden und Distanztabellen, Wegesuche in KontraktionsHierarchie
+ * - Erweiterbarkeit: Ohne Datei oder bei abgeschaltetem Schalter bleibt alles bei Haversine
+ * - Thread-Sicherheit: Nach dem Laden unveraenderlich, nur der GitterIndex wird synchronisiert
+ *
+ * Pre: Datei im beschriebenen Format, Kantenlaengen in km
+ * Post: ueberschreibeDistanzen und berechneDistanz liefern Fahrdistanzen in km
+ */
+public final class StrassenNetz {
+
+    /** Groesse des Datei-Kopfes in Bytes */
+    private static final int KOPF_GROESSE = 4 + 4 + 4 + 4;
+
+    /** Bytes je Knoten (zwei floats) */
+    private static final int KNOTEN_GROESSE = 8;
+
+    /** Bytes je Kante (zwei ints, ein float) */
+    private static final int KANTEN_GROESSE = 12;
+
+    /** Markierung fuer nicht angebundene Anlagen */
+    private static final int KEIN_KNOTEN = -1;
+
+    private static StrassenNetz standard;
+    private static boolean standardGeladen;
+
+    private final float[] breitengrad;
+    private final float[] laengengrad;
+    private final GitterIndex index;
+    private final KontraktionsHierarchie hierarchie;
+    private final long fingerabdruck;
+    private final DistanzCache cache;
+
+    /**
+     * Erstellt ein Strassennetz aus Knoten und Kanten und verarbeitet es vor.
+     *
+     * Pre: Arrays passend lang, Knotenindizes gueltig, Kantenlaengen >= 0
+     * Post: Netz ist anfragebereit
+     *
+     * @param breitengrad Breitengrad je Knoten
+     * @param laengengrad Laengengrad je Knoten
+     * @param kanteVon Erster Endknoten je Kante
+     * @param kanteNach Zweiter Endknoten je Kante
+     * @param kanteKm Kantenlaenge in km
+     * @param fingerabdruck Hash der Netzdaten (fuer den Routen-Cache)
+     */
+    public StrassenNetz(float[] breitengrad, float[] laengengrad,
+                        int[] kanteVon, int[] kanteNach, float[] kanteKm, long fingerabdruck) {
+        if (breitengrad.length != laengengrad.length) {
+            throw new IllegalArgumentException("Koordinatenarrays muessen gleich lang sein");
+        }
+        for (int e = 0; e < kanteVon.length; e++) {
+            if (kanteVon[e] < 0 || kanteVon[e] >= breitengrad.length
+                || kanteNach[e] < 0 || kanteNach[e] >= breitengrad.length) {
+                throw new IllegalArgumentException("Ungueltiger Knotenindex in Kante " + e);
+            }
+        }
+        this.breitengrad = breitengrad;
+        this.laengengrad = laengengrad;
+        this.fingerabdruck = fingerabdruck;
+        this.index = new GitterIndex(Konstanten.STRASSEN_ANBINDUNG_MAX_KM);
+        for (int v = 0; v < breitengrad.length; v++) {
+            index.fuegeEin(v, breitengrad[v], laengengrad[v]);
+        }
+        this.hierarchie = new KontraktionsHierarchie(breitengrad.length, kanteVon, kanteNach, kanteKm);
+        this.cache = new DistanzCache(this::berechneFahrDistanz,
+            Konstanten.FAHRDISTANZ_CACHE_KAPAZITAET, Konstanten.DISTANZ_CACHE_STREIFEN);
+    }
+
+    /**
+     * Liefert das konfigurierte Strassennetz (einmal geladen, danach wiederverwendet).
+     *
+     * Pre: -
+     * Post: Rueckgabe ist Netz oder null, wenn abgeschaltet, Datei fehlt oder ungueltig ist
+     *
+     * @return Strassennetz oder null (dann gelten Haversine-Distanzen)
+     */
+    public static synchronized StrassenNetz holeStandard() {
+        if (!standardGeladen) {
+            standardGeladen = true;
+            Path datei = Paths.get(Konstanten.STRASSENNETZ_DATEI);
+            if (Konstanten.STRASSENNETZ_AKTIVIERT) {
+                if (!Files.isRegularFile(datei)) {
+                    AusgabeManager.gebeFehlerAus(Konstanten.STRASSENNETZ_FEHLER + datei);
+                } else {
+                    try {
+                        standard = lade(datei);
+                    } catch (IOException | IllegalArgumentException e) {
+                        AusgabeManager.gebeFehlerAus(Konstanten.STRASSENNETZ_FEHLER + e.getMessage());
+                    }
+                }
+            }
+        }
+        return standard;
+    }
+
+    /**
+     * Setzt das Standardnetz ohne Netzdatei (fuer Pruefungen).
+     *
+     * Pre: -
+     * Post: holeStandard liefert netz; null bedeutet Haversine-Distanzen
+     *
+     * @param netz Neues Standardnetz oder null
+     */
+    static synchronized void setzeStandard(StrassenNetz netz) {
+        standard = netz;
+        standardGeladen = true;
+    }
+
+    /**
+     * Laedt ein Strassennetz aus einer Binaerdatei.
+     *
+     * Pre: datei existiert
+     * Post: Rueckgabe ist vorverarbeitetes Netz
+     *
+     * @param datei Netz-Datei
+     * @return Geladenes Netz
+     * @throws IOException bei Lesefehlern
+     * @throws IllegalArgumentException bei ungueltigem Kopf oder ungueltiger Groesse
+     */
+    public static StrassenNetz lade(Path datei) throws IOException {
+        try (FileChannel kanal = FileChannel.open(datei, StandardOpenOption.READ)) {
+            long dateiGroesse = kanal.size();
+            if (dateiGroesse < KOPF_GROESSE) {
+                throw new IllegalArgumentException("Datei zu kurz: " + datei);
+            }
+            MappedByteBuffer puffer = kanal.map(FileChannel.MapMode.READ_ONLY, 0, dateiGroesse);
+            if (puffer.getInt() != Konstanten.STRASSENNETZ_MAGIC
+                || puffer.getInt() != Konstanten.STRASSENNETZ_VERSION) {
+                throw new IllegalArgumentException("Unbekanntes Dateiformat: " + datei);
+            }
+
+            int anzahlKnoten = puffer.getInt();
+            int anzahlKanten = puffer.getInt();
+            long erwarteteGroesse = KOPF_GROESSE
+                + (long) KNOTEN_GROESSE * anzahlKnoten + (long) KANTEN_GROESSE * anzahlKanten;
+            if (anzahlKnoten < 0 || anzahlKanten < 0 || erwarteteGroesse != dateiGroesse) {
+                throw new IllegalArgumentException("Ungueltige Dateigroesse: " + datei);
+            }
+
+            long hash = GraphDateiSpeicher.mischeInt(GraphDateiSpeicher.FNV_START, anzahlKnoten);
+            hash = GraphDateiSpeicher.mischeInt(hash, anzahlKanten);
+
+            float[] breitengrad = new float[anzahlKnoten];
+            float[] laengengrad = new float[anzahlKnoten];
+            for (int v = 0; v < anzahlKnoten; v++) {
+                breitengrad[v] = puffer.getFloat();
+                laengengrad[v] = puffer.getFloat();
+                hash = GraphDateiSpeicher.mischeInt(hash, Float.floatToIntBits(breitengrad[v]));
+                hash = GraphDateiSpeicher.mischeInt(hash, Float.floatToIntBits(laengengrad[v]));
+            }
+
+            int[] kanteVon = new int[anzahlKanten];
+            int[] kanteNach = new int[anzahlKanten];
+            float[] kanteKm = new float[anzahlKanten];
+            for (int e = 0; e < anzahlKanten; e++) {
+                kanteVon[e] = puffer.getInt();
+                kanteNach[e] = puffer.getInt();
+                kanteKm[e] = puffer.getFloat();
+                hash = GraphDateiSpeicher.mischeInt(hash, kanteVon[e]);
+                hash = GraphDateiSpeicher.mischeInt(hash, kanteNach[e]);
+                hash = GraphDateiSpeicher.mischeInt(hash, Float.floatToIntBits(kanteKm[e]));
+            }
+            return new StrassenNetz(breitengrad, laengengrad, kanteVon, kanteNach, kanteKm, hash);
+        }
+    }
+
+    /**
+     * Ersetzt in einer Distanzmatrix alle Eintraege, fuer die eine Fahrdistanz existiert.
+     * Die Fahrdistanzen aller Paare kommen aus einer einzigen many-to-many Anfrage.
+     *
+     * Pre: matrix hat Laenge anlagen.size()^2 und enthaelt die Ersatzdistanzen
+     * Post: matrix[i * n + j] ist Fahrdistanz, falls beide Anlagen angebunden und verbunden sind
+     *
+     * @param anlagen Anlagen (Index = Listenposition)
+     * @param matrix Flache n x n Matrix
+     */
+    public void ueberschreibeDistanzen(List<Windkraftanlage> anlagen, float[] matrix) {
+        int n = anlagen.size();
+        if (matrix.length != n * n) {
+            throw new IllegalArgumentException("Matrix passt nicht zur Anzahl Anlagen");
+        }
+
+        // Angebundene Anlagen auf Tabellenpositionen abbilden
+        int[] position = new int[n];
+        float[] anbindungKm = new float[n];
+        IntListe knoten = new IntListe();
+        for (int i = 0; i < n; i++) {
+            position[i] = KEIN_KNOTEN;
+            int naechster = findeNaechstenKnoten(anlagen.get(i), anbindungKm, i);
+            if (naechster != KEIN_KNOTEN) {
+                position[i] = knoten.groesse();
+                knoten.fuegeHinzu(naechster);
+            }
+        }
+
+        int m = knoten.groesse();
+        float[] tabelle = hierarchie.berechneTabelle(knoten.alsArray());
+        for (int i = 0; i < n; i++) {
+            if (position[i] == KEIN_KNOTEN) {
+                continue;
+            }
+            for (int j = 0; j < n; j++) {
+                if (i == j || position[j] == KEIN_KNOTEN) {
+                    continue;
+                }
+                float weg = tabelle[position[i] * m + position[j]];
+                if (weg != KontraktionsHierarchie.UNERREICHBAR) {
+                    matrix[i * n + j] = anbindungKm[i] + weg + anbindungKm[j];
+                }
+            }
+        }
+    }
+
+    /**
+     * Liefert die Fahrdistanz zweier Anlagen ueber den Distanz-Cache.
+     *
+     * Pre: a und b nicht null
+     * Post: Rueckgabe ist Fahrdistanz oder Haversine-Distanz ohne Strassenverbindung
+     *
+     * @param a Erste Anlage
+     * @param b Zweite Anlage
+     * @return Distanz in km
+     */
+    public float berechneDistanz(Windkraftanlage a, Windkraftanlage b) {
+        return cache.hole(a, b);
+    }
+
+    /**
+     * Verwirft die zwischengespeicherten Fahrdistanzen einer Anlage (nach Koordinatenaenderung).
+     *
+     * Pre: anlage nicht null
+     * Post: berechneDistanz verwendet fuer diese Anlage die aktuellen Koordinaten
+     *
+     * @param anlage Geaenderte Anlage
+     */
+    public void verwerfeAnlage(Windkraftanlage anlage) {
+        cache.verwerfeAnlage(anlage);
+    }
+
+    /**
+     * Liefert den Cache der Einzelabfragen (fuer Statistiken).
+     *
+     * @return Distanz-Cache
+     */
+    public DistanzCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Liefert den Hash der Netzdaten.
+     *
+     * @return Fingerabdruck
+     */
+    public long getFingerabdruck() {
+        return fingerabdruck;
+    }
+
+    /**
+     * Liefert die Anzahl Strassenknoten.
+     *
+     * @return Anzahl Knoten
+     */
+    public int getAnzahlKnoten() {
+        return breitengrad.length;
+    }
+
+    /**
+     * Liefert die zugrunde liegende Hierarchie.
+     *
+     * @return Kontraktionshierarchie
+     */
+    public KontraktionsHierarchie getHierarchie() {
+        return hierarchie;
+    }
+
+    /**
+     * Berechnet eine einzelne Fahrdistanz (Quelle des Distanz-Caches).
+     *
+     * @param a Erste Anlage
+     * @param b Zweite Anlage
+     * @return Anbindung + kuerzester Weg + Anbindung, sonst Haversine-Distanz
+     */
+    private float berechneFahrDistanz(Windkraftanlage a, Windkraftanlage b) {
+        if (a == b) {
+            return 0f;
+        }
+        float[] anbindungKm = new float[2];
+        int knotenA = findeNaechstenKnoten(a, anbindungKm, 0);
+        int knotenB = findeNaechstenKnoten(b, anbindungKm, 1);
+        if (knotenA != KEIN_KNOTEN && knotenB != KEIN_KNOTEN) {
+            float weg = hierarchie.distanz(knotenA, knotenB);
+            if (weg != KontraktionsHierarchie.UNERREICHBAR) {
+                return anbindungKm[0] + weg + anbindungKm[1];
+            }
+        }
+        return RoutenOptimierer.berechneDistanz(a, b);
+    }
+
+    /**
+     * Sucht den naechsten Strassenknoten einer Anlage innerhalb des Anbindungsradius.
+     *
+     * @param anlage Anlage
+     * @param anbindungKm Ausgabe: Anbindungsdistanz an Position ziel
+     * @param ziel Position in anbindungKm
+     * @return Knotenindex oder KEIN_KNOTEN
+     */
+    private int findeNaechstenKnoten(Windkraftanlage anlage, float[] anbindungKm, int ziel) {
+        Float breite = anlage.getBreitengrad();
+        Float laenge = anlage.getLaengengrad();
+        if (breite == null || laenge == null) {
+            return KEIN_KNOTEN;
+        }
+        IntListe kandidaten = new IntListe();
+        // GitterIndex teilt einen Positionspuffer, parallele Planungen greifen nacheinander zu
+        synchronized (index) {
+            index.sammleKandidaten(breite, laenge, kandidaten);
+        }
+
+        int bester = KEIN_KNOTEN;
+        float besteDistanz = Konstanten.STRASSEN_ANBINDUNG_MAX_KM;
+        for (int i = 0; i < kandidaten.groesse(); i++) {
+            int v = kandidaten.hole(i);
+            float distanz = DistanzBerechner.berechneDistanzKm(breite, laenge, breitengrad[v], laengengrad[v]);
+            if (distanz < besteDistanz
+                || (distanz == besteDistanz && (bester == KEIN_KNOTEN || v < bester))) {
+                besteDistanz = distanz;
+                bester = v;
+            }
+        }
+        anbindungKm[ziel] = besteDistanz;
+        return bester;
+    }
+}
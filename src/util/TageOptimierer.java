@@ -0,0 +1,302 @@
+package util;
+
+import java.util.Arrays;
+
+/**
+ * Verbesserung einer offenen Route mit der Gesamtdauer in Tagen als Ziel (Wartungs- plus
+ * Reisetage wie in WartungsZeitBerechner.berechneGesamtdauer), bei gleicher Dauer entscheidet
+ * die Fahrstrecke. Zuege sind Nachbarlisten-2-Opt-Zuege, die erste Position bleibt fest.
+ *
+ * Inkrementelle Bewertung: Die Dauer haengt nur von den Positionen der langen Kanten ab
+ * (Kanten mit Reisetagen, siehe WartungsZeitBerechner.berechneReisetage). Diese werden als
+ * sortierte Ereignisliste gefuehrt. Ein Zug, der weder lange Kanten entfernt, erzeugt noch
+ * innerhalb des umgekehrten Segments verschiebt, aendert die Dauer nicht und kostet O(1).
+ * Sonst wird nur die Ereignisliste neu bewertet (O(L) fuer L lange Kanten statt O(n)).
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur Verbesserung bezueglich Tagen, Start kommt von RoutenOptimierer
+ * - Wiederverwendung: Nachbarlisten aus NachbarlistenOptimierer, Reisetage aus WartungsZeitBerechner
+ * - Performance: Keine Objekte pro Zug, zwei wiederverwendete Ereignispuffer
+ *
+ * Pre: tour ist Permutation von Tabellenindizes
+ * Post: tour hat hoechstens so viele Tage wie vorher, tour[0] ist unveraendert
+ */
+public final class TageOptimierer {
+
+    /** Mindestverkuerzung in km, damit ein Zug bei gleicher Dauer uebernommen wird */
+    private static final float MIN_GEWINN_KM = 1.0e-4f;
+
+    /** Platzhalter fuer unerreichbare Zustaende der Tagesaufteilung */
+    private static final int UNERREICHBAR = Integer.MAX_VALUE / 2;
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private TageOptimierer() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Verbessert die Route, bis kein Zug mehr Tage spart oder bei gleicher Dauer Strecke verkuerzt.
+     *
+     * Pre: tour, tabelle und nachbarn nicht null
+     * Post: tour wurde in-place verbessert
+     *
+     * @param tour Route als Folge von Tabellenindizes
+     * @param tabelle Distanzen
+     * @param nachbarn Nachbarlisten (siehe NachbarlistenOptimierer.berechneNachbarlisten)
+     * @param k Laenge jeder Nachbarliste
+     * @return Anzahl eingesparter Tage
+     */
+    public static int verbessere(int[] tour, RoutenDistanzTabelle tabelle, int[] nachbarn, int k) {
+        int n = tour.length;
+        if (n < 3) {
+            return 0;
+        }
+
+        int[] position = new int[tabelle.getAnzahl()];
+        Arrays.fill(position, -1);
+        for (int i = 0; i < n; i++) {
+            position[tour[i]] = i;
+        }
+
+        Ereignisse aktuell = new Ereignisse(n);
+        Ereignisse kandidat = new Ereignisse(n);
+        int[] ring = new int[Konstanten.ANLAGEN_PRO_TAG];
+        for (int e = 1; e < n; e++) {
+            int reisetage = reisetage(tabelle, tour[e - 1], tour[e]);
+            if (reisetage > 0) {
+                aktuell.fuegeHinzu(e, reisetage);
+            }
+        }
+        int tage = berechneDauer(n, aktuell, ring);
+        int startTage = tage;
+
+        boolean verbessert = true;
+        while (verbessert) {
+            verbessert = false;
+            for (int i = 0; i < n; i++) {
+                for (int r = 0; r < k; r++) {
+                    int nachbar = nachbarn[tour[i] * k + r];
+                    if (nachbar < 0) {
+                        break;
+                    }
+                    int j = position[nachbar];
+                    if (j < 0) {
+                        continue;
+                    }
+                    // Umkehr von [p+1, q] ersetzt (p, p+1) durch (p, q) und (q, q+1) durch (p+1, q+1)
+                    int p = Math.min(i, j);
+                    int q = Math.max(i, j);
+                    if (q - p < 2) {
+                        continue;
+                    }
+                    boolean offenesEnde = q + 1 == n;
+                    float gewinn = tabelle.distanz(tour[p], tour[p + 1]) - tabelle.distanz(tour[p], tour[q]);
+                    int reiseVorne = reisetage(tabelle, tour[p], tour[q]);
+                    int reiseHinten = 0;
+                    if (!offenesEnde) {
+                        gewinn += tabelle.distanz(tour[q], tour[q + 1]) - tabelle.distanz(tour[p + 1], tour[q + 1]);
+                        reiseHinten = reisetage(tabelle, tour[p + 1], tour[q + 1]);
+                    }
+
+                    int neueTage = tage;
+                    boolean betrifftTage = reiseVorne > 0 || reiseHinten > 0 || aktuell.enthaeltBereich(p + 1, q + 1);
+                    if (betrifftTage) {
+                        kandidat.spiegele(aktuell, p, q, reiseVorne, reiseHinten, offenesEnde);
+                        neueTage = berechneDauer(n, kandidat, ring);
+                    }
+
+                    if (neueTage < tage || (neueTage == tage && gewinn > MIN_GEWINN_KM)) {
+                        ZweiOptOptimierer.kehreUm(tour, p + 1, q);
+                        for (int x = p + 1; x <= q; x++) {
+                            position[tour[x]] = x;
+                        }
+                        if (betrifftTage) {
+                            Ereignisse tausch = aktuell;
+                            aktuell = kandidat;
+                            kandidat = tausch;
+                        }
+                        tage = neueTage;
+                        verbessert = true;
+                        // tour[i] kann sich geaendert haben, Nachbarliste neu beginnen
+                        r = -1;
+                    }
+                }
+            }
+        }
+
+        return startTage - tage;
+    }
+
+    /**
+     * Liefert die Reisetage, die ein Tageswechsel ueber die Kante (a, b) kostet.
+     *
+     * @param tabelle Distanzen
+     * @param a Anlage
+     * @param b Anlage
+     * @return Reisetage (0 fuer kurze Kanten)
+     */
+    private static int reisetage(RoutenDistanzTabelle tabelle, int a, int b) {
+        return WartungsZeitBerechner.berechneReisetage(tabelle.distanz(a, b));
+    }
+
+    /**
+     * Minimale Dauer einer Route mit n Anlagen, wenn nur an den Ereignispositionen Reisetage anfallen.
+     * Gleiche Vorwaerts-DP wie WartungsZeitBerechner (Tage mit 1 bis ANLAGEN_PRO_TAG Anlagen), aber
+     * Abschnitte ohne Ereignis werden uebersprungen: Dort gilt dauer[x] = dauer[x - ANLAGEN_PRO_TAG] + 1,
+     * weil die minimale Dauer monoton in x ist. Aufwand O(L) fuer L Ereignisse.
+     *
+     * Ring: ring[y % D] = dauer[y] + Reisetage eines Tagesanfangs bei y, fuer die letzten D Positionen.
+     *
+     * Pre: Ereignispositionen aufsteigend in [1, n-1]
+     * Post: Rueckgabe ist minimale Gesamtdauer in Tagen
+     *
+     * @param n Anzahl Anlagen
+     * @param ereignisse Lange Kanten mit Reisetagen
+     * @param ring Arbeitspuffer der Laenge ANLAGEN_PRO_TAG
+     * @return Minimale Gesamtdauer in Tagen
+     */
+    static int berechneDauer(int n, Ereignisse ereignisse, int[] ring) {
+        if (n == 0) {
+            return 0;
+        }
+        int d = ring.length;
+        Arrays.fill(ring, UNERREICHBAR);
+        ring[0] = 0;
+
+        int aktuell = 0;
+        int index = 0;
+        int letztesEreignis = -1;
+        while (aktuell < n) {
+            int naechstesEreignis = index < ereignisse.anzahl ? ereignisse.position[index] : n;
+
+            // Fenster ohne Ereignis: in Bloecken zu d Anlagen bis vor das naechste Ereignis springen
+            if (aktuell >= d - 1 && letztesEreignis < aktuell - d + 1) {
+                int bloecke = (naechstesEreignis - 1 - aktuell) / d;
+                if (bloecke > 0) {
+                    for (int s = 0; s < d; s++) {
+                        ring[s] += bloecke;
+                    }
+                    aktuell += bloecke * d;
+                    continue;
+                }
+            }
+
+            int minimum = UNERREICHBAR;
+            for (int s = 0; s < d; s++) {
+                minimum = Math.min(minimum, ring[s]);
+            }
+            aktuell++;
+            int reise = 0;
+            if (index < ereignisse.anzahl && ereignisse.position[index] == aktuell) {
+                reise = ereignisse.kosten[index];
+                letztesEreignis = aktuell;
+                index++;
+            }
+            ring[aktuell % d] = minimum + 1 + reise;
+        }
+        return ring[n % d];
+    }
+
+    /**
+     * Aufsteigend sortierte Positionen langer Kanten mit ihren Reisetagen.
+     * Position e steht fuer die Kante zwischen Routenposition e-1 und e.
+     */
+    static final class Ereignisse {
+
+        private final int[] position;
+        private final int[] kosten;
+        private int anzahl;
+
+        /**
+         * Erstellt einen leeren Puffer.
+         *
+         * @param kapazitaet Maximale Anzahl Ereignisse (Anzahl Anlagen reicht)
+         */
+        Ereignisse(int kapazitaet) {
+            this.position = new int[kapazitaet];
+            this.kosten = new int[kapazitaet];
+            this.anzahl = 0;
+        }
+
+        /**
+         * Haengt ein Ereignis an (Positionen muessen aufsteigend kommen).
+         *
+         * @param pos Kantenposition
+         * @param reisetage Reisetage der Kante
+         */
+        void fuegeHinzu(int pos, int reisetage) {
+            position[anzahl] = pos;
+            kosten[anzahl] = reisetage;
+            anzahl++;
+        }
+
+        /**
+         * Prueft, ob ein Ereignis im Bereich [von, bis] liegt.
+         *
+         * @param von Erste Position (inklusive)
+         * @param bis Letzte Position (inklusive)
+         * @return true wenn mindestens ein Ereignis im Bereich liegt
+         */
+        boolean enthaeltBereich(int von, int bis) {
+            int index = untereGrenze(von);
+            return index < anzahl && position[index] <= bis;
+        }
+
+        /**
+         * Uebernimmt die Ereignisse von alt nach Umkehr des Segments [p+1, q]:
+         * Ereignisse ausserhalb bleiben, innere Kanten werden gespiegelt, die Kanten p+1 und q+1
+         * erhalten die Reisetage der neuen Kanten.
+         *
+         * @param alt Ereignisse vor dem Zug
+         * @param p Position vor dem Segment
+         * @param q Letzte Position des Segments
+         * @param reiseVorne Reisetage der neuen Kante an Position p+1
+         * @param reiseHinten Reisetage der neuen Kante an Position q+1
+         * @param offenesEnde true wenn q die letzte Position der Route ist
+         */
+        void spiegele(Ereignisse alt, int p, int q, int reiseVorne, int reiseHinten, boolean offenesEnde) {
+            anzahl = 0;
+            int innenVon = alt.untereGrenze(p + 2);
+            int innenBis = alt.untereGrenze(q + 1);
+            int hintenVon = alt.untereGrenze(q + 2);
+
+            for (int x = 0; x < alt.untereGrenze(p + 1); x++) {
+                fuegeHinzu(alt.position[x], alt.kosten[x]);
+            }
+            if (reiseVorne > 0) {
+                fuegeHinzu(p + 1, reiseVorne);
+            }
+            for (int x = innenBis - 1; x >= innenVon; x--) {
+                fuegeHinzu(p + q + 2 - alt.position[x], alt.kosten[x]);
+            }
+            if (!offenesEnde && reiseHinten > 0) {
+                fuegeHinzu(q + 1, reiseHinten);
+            }
+            for (int x = hintenVon; x < alt.anzahl; x++) {
+                fuegeHinzu(alt.position[x], alt.kosten[x]);
+            }
+        }
+
+        /**
+         * Liefert den ersten Index mit Position >= wert (binaere Suche).
+         *
+         * @param wert Gesuchte Position
+         * @return Index in [0, anzahl]
+         */
+        private int untereGrenze(int wert) {
+            int links = 0;
+            int rechts = anzahl;
+            while (links < rechts) {
+                int mitte = (links + rechts) >>> 1;
+                if (position[mitte] < wert) {
+                    links = mitte + 1;
+                } else {
+                    rechts = mitte;
+                }
+            }
+            return links;
+        }
+    }
+}
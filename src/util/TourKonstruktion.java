@@ -0,0 +1,393 @@
+package util;
+
+import model.Windkraftanlage;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Schnelle Startloesungen fuer offene Routen als Alternative zu Nearest-Neighbor (O(n^2)).
+ *
+ * - Hilbert-Route: Anlagen in Reihenfolge einer Hilbert-Kurve ueber der projizierten Ebene,
+ *   O(n log n) und praktisch nur Sortieraufwand.
+ * - Greedy-Edge-Route: Kandidatenkanten aus den k-naechsten-Nachbarn-Listen werden aufsteigend
+ *   nach Laenge uebernommen, solange jede Anlage hoechstens zwei Kanten hat und kein Kreis
+ *   entsteht. Die entstehenden Teilpfade werden in weiteren Runden ueber Nachbarlisten ihrer
+ *   Endpunkte verbunden. O(n k log(n k)) und meist deutlich kuerzer als Nearest-Neighbor.
+ *
+ * Beide Routen beginnen bei Index 0, Anlagen ohne Koordinaten werden (wie bei Nearest-Neighbor)
+ * nicht aufgenommen, ausser der Startanlage.
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur Konstruktion, Verbesserung uebernehmen die Optimierer
+ * - KISS: Primitive Arrays, Union-Find gegen Kreise, gepackte Sortierschluessel
+ * - Performance: Keine Distanzmatrix, nur k Kandidaten je Anlage
+ *
+ * Pre: Anlagenliste nicht null
+ * Post: Rueckgabe ist Route als Folge von Listenindizes, beginnend mit 0
+ */
+public final class TourKonstruktion {
+
+    /** Markierung fuer fehlende Nachbarn */
+    private static final int KEINE = -1;
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private TourKonstruktion() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Erstellt eine Route in Hilbert-Kurven-Reihenfolge.
+     * Die Kurvenreihenfolge wird als Kreis aufgefasst und so gedreht, dass sie bei 0 beginnt.
+     *
+     * Pre: anlagen nicht null und nicht leer
+     * Post: Rueckgabe beginnt mit 0
+     *
+     * @param anlagen Anlagen (Index = Tabellenindex)
+     * @return Route als Indexfolge
+     */
+    public static int[] erstelleHilbertTour(List<Windkraftanlage> anlagen) {
+        int[] mitKoordinaten = ermittleAnlagenMitKoordinaten(anlagen);
+        int anzahl = mitKoordinaten.length;
+        double[] x = new double[anzahl];
+        double[] y = new double[anzahl];
+        projiziere(anlagen, mitKoordinaten, x, y);
+
+        int[] reihenfolge = HilbertKurve.sortiere(x, y);
+        int[] tour = new int[anzahl];
+        for (int i = 0; i < anzahl; i++) {
+            tour[i] = mitKoordinaten[reihenfolge[i]];
+        }
+        return beginneBeiNull(tour);
+    }
+
+    /**
+     * Erstellt eine Route mit der Greedy-Edge-Heuristik ueber Nachbarlisten.
+     *
+     * Pre: anlagen nicht null und nicht leer, nachbarn aus
+     *      NachbarlistenOptimierer.berechneNachbarlisten(anlagen, k)
+     * Post: Rueckgabe beginnt mit 0
+     *
+     * @param anlagen Anlagen (Index = Tabellenindex)
+     * @param tabelle Distanzen
+     * @param nachbarn Nachbarlisten als flaches Array
+     * @param k Laenge jeder Nachbarliste
+     * @return Route als Indexfolge
+     */
+    public static int[] erstelleGreedyTour(List<Windkraftanlage> anlagen, RoutenDistanzTabelle tabelle,
+                                           int[] nachbarn, int k) {
+        int gesamt = anlagen.size();
+        int[] mitKoordinaten = ermittleAnlagenMitKoordinaten(anlagen);
+        int[] nachbar1 = new int[gesamt];
+        int[] nachbar2 = new int[gesamt];
+        Arrays.fill(nachbar1, KEINE);
+        Arrays.fill(nachbar2, KEINE);
+        UnionFind teilpfade = new UnionFind(gesamt);
+
+        // Runde 1: Kanten aus den Nachbarlisten aller Anlagen
+        IntListe von = new IntListe();
+        IntListe nach = new IntListe();
+        for (int a : mitKoordinaten) {
+            for (int r = 0; r < k; r++) {
+                int b = nachbarn[a * k + r];
+                if (b == KEINE) {
+                    break;
+                }
+                if (a < b) {
+                    von.fuegeHinzu(a);
+                    nach.fuegeHinzu(b);
+                }
+            }
+        }
+        int anzahlTeilpfade = mitKoordinaten.length;
+        anzahlTeilpfade -= uebernehmeKanten(von, nach, tabelle, nachbar1, nachbar2, teilpfade);
+
+        // Weitere Runden: Nachbarlisten nur noch zwischen offenen Endpunkten
+        while (anzahlTeilpfade > 1) {
+            int[] endpunkte = ermittleEndpunkte(mitKoordinaten, nachbar2);
+            int verbunden = verbindeEndpunkte(anlagen, endpunkte, k, tabelle, nachbar1, nachbar2, teilpfade);
+            if (verbunden == 0) {
+                verbunden = verbindeEndpunkteVollstaendig(endpunkte, tabelle, nachbar1, nachbar2, teilpfade);
+            }
+            anzahlTeilpfade -= verbunden;
+        }
+
+        return durchlaufePfad(mitKoordinaten, tabelle, nachbar1, nachbar2);
+    }
+
+    /**
+     * Verbindet Endpunkte verschiedener Teilpfade ueber ihre k naechsten Endpunkt-Nachbarn.
+     *
+     * @param anlagen Anlagen
+     * @param endpunkte Anlagen mit weniger als zwei Kanten
+     * @param k Anzahl Nachbarn je Endpunkt
+     * @param tabelle Distanzen
+     * @param nachbar1 Erste Kante je Anlage
+     * @param nachbar2 Zweite Kante je Anlage
+     * @param teilpfade Union-Find ueber die Teilpfade
+     * @return Anzahl uebernommener Kanten
+     */
+    private static int verbindeEndpunkte(List<Windkraftanlage> anlagen, int[] endpunkte, int k,
+                                         RoutenDistanzTabelle tabelle, int[] nachbar1, int[] nachbar2,
+                                         UnionFind teilpfade) {
+        double[] positionen = new double[3 * endpunkte.length];
+        for (int e = 0; e < endpunkte.length; e++) {
+            Windkraftanlage anlage = anlagen.get(endpunkte[e]);
+            DistanzBerechner.berechneKartesischePosition(anlage.getBreitengrad(), anlage.getLaengengrad(),
+                positionen, 3 * e);
+        }
+        KdBaum baum = new KdBaum(positionen);
+        IntListe gefunden = new IntListe(k);
+        IntListe von = new IntListe();
+        IntListe nach = new IntListe();
+        for (int e = 0; e < endpunkte.length; e++) {
+            baum.sucheKNaechste(e, k, gefunden);
+            for (int r = 0; r < gefunden.groesse(); r++) {
+                int a = endpunkte[e];
+                int b = endpunkte[gefunden.hole(r)];
+                if (teilpfade.finde(a) != teilpfade.finde(b)) {
+                    von.fuegeHinzu(a);
+                    nach.fuegeHinzu(b);
+                }
+            }
+        }
+        return uebernehmeKanten(von, nach, tabelle, nachbar1, nachbar2, teilpfade);
+    }
+
+    /**
+     * Rueckfall ohne Nachbarlisten: Verbindet alle Endpunkte verschiedener Teilpfade
+     * vollstaendig. Wird nur noch fuer sehr wenige Endpunkte benoetigt.
+     *
+     * @param endpunkte Anlagen mit weniger als zwei Kanten
+     * @param tabelle Distanzen
+     * @param nachbar1 Erste Kante je Anlage
+     * @param nachbar2 Zweite Kante je Anlage
+     * @param teilpfade Union-Find ueber die Teilpfade
+     * @return Anzahl uebernommener Kanten
+     */
+    private static int verbindeEndpunkteVollstaendig(int[] endpunkte, RoutenDistanzTabelle tabelle,
+                                                     int[] nachbar1, int[] nachbar2, UnionFind teilpfade) {
+        IntListe von = new IntListe();
+        IntListe nach = new IntListe();
+        for (int e = 0; e < endpunkte.length; e++) {
+            for (int f = e + 1; f < endpunkte.length; f++) {
+                if (teilpfade.finde(endpunkte[e]) != teilpfade.finde(endpunkte[f])) {
+                    von.fuegeHinzu(endpunkte[e]);
+                    nach.fuegeHinzu(endpunkte[f]);
+                }
+            }
+        }
+        return uebernehmeKanten(von, nach, tabelle, nachbar1, nachbar2, teilpfade);
+    }
+
+    /**
+     * Uebernimmt Kandidatenkanten aufsteigend nach Laenge, solange beide Endpunkte noch frei
+     * sind und kein Kreis entsteht. Doppelte Kandidaten werden dabei automatisch verworfen.
+     *
+     * @param von Erste Endpunkte der Kandidaten
+     * @param nach Zweite Endpunkte der Kandidaten
+     * @param tabelle Distanzen
+     * @param nachbar1 Erste Kante je Anlage
+     * @param nachbar2 Zweite Kante je Anlage
+     * @param teilpfade Union-Find ueber die Teilpfade
+     * @return Anzahl uebernommener Kanten
+     */
+    private static int uebernehmeKanten(IntListe von, IntListe nach, RoutenDistanzTabelle tabelle,
+                                        int[] nachbar1, int[] nachbar2, UnionFind teilpfade) {
+        // Nicht-negative float-Werte sind als int-Bits gleich geordnet
+        long[] schluessel = new long[von.groesse()];
+        for (int e = 0; e < schluessel.length; e++) {
+            float distanz = tabelle.distanz(von.hole(e), nach.hole(e));
+            schluessel[e] = ((long) Float.floatToIntBits(distanz) << 32) | e;
+        }
+        Arrays.sort(schluessel);
+
+        int uebernommen = 0;
+        for (long eintrag : schluessel) {
+            int e = (int) eintrag;
+            int a = von.hole(e);
+            int b = nach.hole(e);
+            if (nachbar2[a] != KEINE || nachbar2[b] != KEINE || !teilpfade.vereinige(a, b)) {
+                continue;
+            }
+            fuegeKanteHinzu(a, b, nachbar1, nachbar2);
+            fuegeKanteHinzu(b, a, nachbar1, nachbar2);
+            uebernommen++;
+        }
+        return uebernommen;
+    }
+
+    /**
+     * Traegt b als Nachbarn von a ein.
+     *
+     * @param a Anlage
+     * @param b Neuer Nachbar
+     * @param nachbar1 Erste Kante je Anlage
+     * @param nachbar2 Zweite Kante je Anlage
+     */
+    private static void fuegeKanteHinzu(int a, int b, int[] nachbar1, int[] nachbar2) {
+        if (nachbar1[a] == KEINE) {
+            nachbar1[a] = b;
+        } else {
+            nachbar2[a] = b;
+        }
+    }
+
+    /**
+     * Ermittelt alle Anlagen mit weniger als zwei Kanten.
+     *
+     * @param mitKoordinaten Anlagen mit Koordinaten
+     * @param nachbar2 Zweite Kante je Anlage
+     * @return Endpunkte (Einzelanlagen eingeschlossen)
+     */
+    private static int[] ermittleEndpunkte(int[] mitKoordinaten, int[] nachbar2) {
+        IntListe endpunkte = new IntListe();
+        for (int a : mitKoordinaten) {
+            if (nachbar2[a] == KEINE) {
+                endpunkte.fuegeHinzu(a);
+            }
+        }
+        return endpunkte.alsArray();
+    }
+
+    /**
+     * Durchlaeuft den fertigen Hamilton-Pfad ab Index 0.
+     * Liegt 0 im Inneren des Pfads, wird er zum Kreis geschlossen und an der laengeren
+     * der beiden Kanten von 0 aufgeschnitten.
+     *
+     * @param mitKoordinaten Anlagen mit Koordinaten
+     * @param tabelle Distanzen
+     * @param nachbar1 Erste Kante je Anlage
+     * @param nachbar2 Zweite Kante je Anlage
+     * @return Route beginnend mit 0
+     */
+    private static int[] durchlaufePfad(int[] mitKoordinaten, RoutenDistanzTabelle tabelle,
+                                        int[] nachbar1, int[] nachbar2) {
+        if (mitKoordinaten.length == 0 || mitKoordinaten[0] != 0) {
+            // Startanlage ohne Koordinaten: vorn anstellen, Rest ab einem Pfadende
+            int[] rest = mitKoordinaten.length == 0 ? new int[0]
+                : laufeAb(sucheEndpunkt(mitKoordinaten, nachbar2), KEINE, mitKoordinaten.length,
+                    nachbar1, nachbar2);
+            int[] tour = new int[rest.length + 1];
+            System.arraycopy(rest, 0, tour, 1, rest.length);
+            return tour;
+        }
+        if (nachbar2[0] == KEINE) {
+            return laufeAb(0, KEINE, mitKoordinaten.length, nachbar1, nachbar2);
+        }
+
+        // Pfad zum Kreis schliessen und die laengere Kante an 0 weglassen
+        int[] enden = ermittleEndpunkte(mitKoordinaten, nachbar2);
+        fuegeKanteHinzu(enden[0], enden[1], nachbar1, nachbar2);
+        fuegeKanteHinzu(enden[1], enden[0], nachbar1, nachbar2);
+        int weg = tabelle.distanz(0, nachbar1[0]) >= tabelle.distanz(0, nachbar2[0]) ? nachbar1[0] : nachbar2[0];
+        return laufeAb(0, weg, mitKoordinaten.length, nachbar1, nachbar2);
+    }
+
+    /**
+     * Liefert einen Pfadendpunkt.
+     *
+     * @param mitKoordinaten Anlagen mit Koordinaten
+     * @param nachbar2 Zweite Kante je Anlage
+     * @return Anlage mit hoechstens einer Kante
+     */
+    private static int sucheEndpunkt(int[] mitKoordinaten, int[] nachbar2) {
+        for (int a : mitKoordinaten) {
+            if (nachbar2[a] == KEINE) {
+                return a;
+            }
+        }
+        return mitKoordinaten[0];
+    }
+
+    /**
+     * Laeuft den Pfad ab start ab, ohne zuerst nach ausgeschlossen zu gehen.
+     *
+     * @param start Startanlage
+     * @param ausgeschlossen Nachbar, der nicht als erstes besucht wird (oder KEINE)
+     * @param anzahl Anzahl Anlagen auf dem Pfad
+     * @param nachbar1 Erste Kante je Anlage
+     * @param nachbar2 Zweite Kante je Anlage
+     * @return Anlagen in Pfadreihenfolge
+     */
+    private static int[] laufeAb(int start, int ausgeschlossen, int anzahl, int[] nachbar1, int[] nachbar2) {
+        int[] tour = new int[anzahl];
+        int vorher = ausgeschlossen;
+        int aktuell = start;
+        for (int i = 0; i < anzahl; i++) {
+            tour[i] = aktuell;
+            int weiter = nachbar1[aktuell] != vorher ? nachbar1[aktuell] : nachbar2[aktuell];
+            vorher = aktuell;
+            aktuell = weiter;
+        }
+        return tour;
+    }
+
+    /**
+     * Ermittelt die Listenindizes aller Anlagen mit Koordinaten.
+     *
+     * @param anlagen Anlagen
+     * @return Indizes aufsteigend
+     */
+    private static int[] ermittleAnlagenMitKoordinaten(List<Windkraftanlage> anlagen) {
+        IntListe indizes = new IntListe(anlagen.size());
+        for (int i = 0; i < anlagen.size(); i++) {
+            Windkraftanlage anlage = anlagen.get(i);
+            if (anlage.getBreitengrad() != null && anlage.getLaengengrad() != null) {
+                indizes.fuegeHinzu(i);
+            }
+        }
+        return indizes.alsArray();
+    }
+
+    /**
+     * Projiziert Anlagen abstandstreu (km) um ihre mittlere Breite in die Ebene.
+     *
+     * @param anlagen Anlagen
+     * @param indizes Zu projizierende Listenindizes
+     * @param x Ziel fuer x-Koordinaten
+     * @param y Ziel fuer y-Koordinaten
+     */
+    private static void projiziere(List<Windkraftanlage> anlagen, int[] indizes, double[] x, double[] y) {
+        double mittlereBreite = 0;
+        for (int index : indizes) {
+            mittlereBreite += anlagen.get(index).getBreitengrad();
+        }
+        mittlereBreite = indizes.length > 0 ? mittlereBreite / indizes.length : 0;
+        double kosinusMitte = Math.cos(Math.toRadians(mittlereBreite));
+
+        for (int i = 0; i < indizes.length; i++) {
+            Windkraftanlage anlage = anlagen.get(indizes[i]);
+            x[i] = Konstanten.ERDRADIUS_KM * Math.toRadians(anlage.getLaengengrad()) * kosinusMitte;
+            y[i] = Konstanten.ERDRADIUS_KM * Math.toRadians(anlage.getBreitengrad());
+        }
+    }
+
+    /**
+     * Dreht eine als Kreis aufgefasste Reihenfolge so, dass sie bei 0 beginnt.
+     * Fehlt 0 (keine Koordinaten), wird 0 vorangestellt.
+     *
+     * @param kreis Reihenfolge
+     * @return Route beginnend mit 0
+     */
+    private static int[] beginneBeiNull(int[] kreis) {
+        int stelle = -1;
+        for (int i = 0; i < kreis.length; i++) {
+            if (kreis[i] == 0) {
+                stelle = i;
+                break;
+            }
+        }
+        if (stelle < 0) {
+            int[] tour = new int[kreis.length + 1];
+            System.arraycopy(kreis, 0, tour, 1, kreis.length);
+            return tour;
+        }
+        int[] tour = new int[kreis.length];
+        System.arraycopy(kreis, stelle, tour, 0, kreis.length - stelle);
+        System.arraycopy(kreis, 0, tour, kreis.length - stelle, stelle);
+        return tour;
+    }
+}
@@ -0,0 +1,649 @@
+package util;
+
+import model.Tagestour;
+import model.Windkraftanlage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tourenplanung (Vehicle Routing) fuer mehrtaegige Wartung mit mehreren Teams.
+ * Statt eine Gesamtroute nachtraeglich in Tagesabschnitte zu zerlegen, werden Tagestouren
+ * direkt unter den Tagesgrenzen gebildet:
+ * - hoechstens maxAnlagenProTag Anlagen pro Tag
+ * - Fahrstrecke zwischen den Anlagen eines Tages hoechstens maxFahrstreckeKm
+ *
+ * Ablauf:
+ * 1. Savings-Konstruktion: Kandidatenkanten aus k-naechste-Nachbarn-Listen werden aufsteigend
+ *    nach Laenge genutzt, um Tagestouren an ihren Enden zu verbinden (jede Verbindung spart einen Tag)
+ * 2. Lokale Suche (Tour-Aufloesung): Kleine Tagestouren werden aufgeloest, wenn sich alle ihre
+ *    Anlagen guenstig in benachbarte Touren einfuegen lassen; einzelne Anlagen wandern zusaetzlich
+ *    in groessere, nicht volle Nachbartouren, damit Reste aufloesbar werden
+ * 3. Reihenfolge jeder Tagestour wird exakt optimiert (kleine Touren, vollstaendige Suche)
+ * 4. Teams: Tagestouren werden entlang einer Hilbert-Kurve geordnet und in zusammenhaengenden
+ *    Bloecken auf die Teams verteilt; lange Wechsel zwischen zwei Tagen kosten Reisetage
+ *    (wie WartungsZeitBerechner.berechneReisetage)
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur Bildung und Verteilung von Tagestouren
+ * - Wiederverwendung: Nachbarlisten, Distanztabelle und Hilbert-Kurve der Routenoptimierung
+ * - Performance: Nur k Kandidaten je Anlage, Touren als kleine int-Arrays
+ *
+ * Pre: Anlagen ohne Koordinaten werden nicht eingeplant
+ * Post: Liefert Tagestouren nach Team und Tag sortiert
+ */
+public final class TourenPlaner {
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private TourenPlaner() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Plant Tagestouren mit den Standard-Tagesgrenzen aus Konstanten.
+     *
+     * Pre: anlagen nicht null, anzahlTeams >= 1
+     * Post: Rueckgabe nach Team und Tag sortiert
+     *
+     * @param anlagen Zu wartende Anlagen
+     * @param anzahlTeams Anzahl parallel arbeitender Teams
+     * @return Tagestouren
+     */
+    public static List<Tagestour> plane(List<Windkraftanlage> anlagen, int anzahlTeams) {
+        return plane(anlagen, anzahlTeams, Konstanten.ANLAGEN_PRO_TAG, Konstanten.MAX_TRANSPORT_DISTANZ_KM);
+    }
+
+    /**
+     * Plant Tagestouren unter den angegebenen Tagesgrenzen.
+     *
+     * Pre: anlagen nicht null, anzahlTeams >= 1, maxAnlagenProTag >= 1, maxFahrstreckeKm >= 0
+     * Post: Jede Tagestour haelt beide Grenzen ein; Rueckgabe nach Team und Tag sortiert
+     *
+     * @param anlagen Zu wartende Anlagen
+     * @param anzahlTeams Anzahl parallel arbeitender Teams
+     * @param maxAnlagenProTag Maximale Anlagen pro Tagestour
+     * @param maxFahrstreckeKm Maximale Fahrstrecke pro Tagestour in km
+     * @return Tagestouren
+     */
+    public static List<Tagestour> plane(List<Windkraftanlage> anlagen, int anzahlTeams, int maxAnlagenProTag,
+                                        float maxFahrstreckeKm) {
+        if (anlagen == null) {
+            throw new IllegalArgumentException("Anlagenliste darf nicht null sein");
+        }
+        if (anzahlTeams < 1) {
+            throw new IllegalArgumentException("Anzahl Teams muss mindestens 1 sein: " + anzahlTeams);
+        }
+        if (maxAnlagenProTag < 1 || maxFahrstreckeKm < 0) {
+            throw new IllegalArgumentException("Ungueltige Tagesgrenzen: " + maxAnlagenProTag
+                + " Anlagen, " + maxFahrstreckeKm + " km");
+        }
+
+        List<Windkraftanlage> mitKoordinaten = WartungsClusterDetector.filtereAnlagenMitKoordinaten(anlagen);
+        if (mitKoordinaten.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Planung planung = new Planung(mitKoordinaten, maxAnlagenProTag, maxFahrstreckeKm);
+        planung.verbindeUeberSavings();
+        planung.loeseTourenAuf();
+        planung.optimiereReihenfolgen();
+        return planung.verteileAufTeams(anzahlTeams);
+    }
+
+    /**
+     * Liefert die Gesamtdauer eines Plans (spaetester Tag ueber alle Teams).
+     *
+     * Pre: touren nicht null
+     * Post: Rueckgabe >= 0
+     *
+     * @param touren Tagestouren
+     * @return Dauer in Tagen
+     */
+    public static int berechneDauerTage(List<Tagestour> touren) {
+        int dauer = 0;
+        for (Tagestour tour : touren) {
+            dauer = Math.max(dauer, tour.getTag());
+        }
+        return dauer;
+    }
+
+    /**
+     * Arbeitszustand einer Planung: Touren als kleine int-Arrays, Tourzuordnung je Anlage.
+     */
+    private static final class Planung {
+
+        private final List<Windkraftanlage> anlagen;
+        private final int anzahl;
+        private final int maxAnlagen;
+        private final float maxKm;
+        private final RoutenDistanzTabelle tabelle;
+        private final int[] nachbarn;
+        private final int k;
+
+        /** Anlagen je Tour in Besuchsreihenfolge (null = aufgeloest) */
+        private final int[][] touren;
+        private final float[] laenge;
+        private final int[] tourVon;
+
+        Planung(List<Windkraftanlage> anlagen, int maxAnlagen, float maxKm) {
+            this.anlagen = anlagen;
+            this.anzahl = anlagen.size();
+            this.maxAnlagen = maxAnlagen;
+            this.maxKm = maxKm;
+            this.tabelle = new RoutenDistanzTabelle(anlagen);
+            this.k = Konstanten.TOURENPLANUNG_NACHBARN_K;
+            this.nachbarn = NachbarlistenOptimierer.berechneNachbarlisten(anlagen, k);
+            this.touren = new int[anzahl][];
+            this.laenge = new float[anzahl];
+            this.tourVon = new int[anzahl];
+            for (int i = 0; i < anzahl; i++) {
+                touren[i] = new int[] {i};
+                tourVon[i] = i;
+            }
+        }
+
+        /**
+         * Verbindet Touren an ihren Enden ueber Kandidatenkanten, kuerzeste zuerst.
+         */
+        void verbindeUeberSavings() {
+            IntListe von = new IntListe();
+            IntListe nach = new IntListe();
+            for (int a = 0; a < anzahl; a++) {
+                for (int r = 0; r < k; r++) {
+                    int b = nachbarn[a * k + r];
+                    if (b < 0) {
+                        break;
+                    }
+                    if (a < b && tabelle.distanz(a, b) <= maxKm) {
+                        von.fuegeHinzu(a);
+                        nach.fuegeHinzu(b);
+                    }
+                }
+            }
+
+            // Nicht-negative float-Werte sind als int-Bits gleich geordnet
+            long[] schluessel = new long[von.groesse()];
+            for (int e = 0; e < schluessel.length; e++) {
+                float distanz = tabelle.distanz(von.hole(e), nach.hole(e));
+                schluessel[e] = ((long) Float.floatToIntBits(distanz) << 32) | e;
+            }
+            Arrays.sort(schluessel);
+
+            for (long eintrag : schluessel) {
+                int e = (int) eintrag;
+                versucheVerbindung(von.hole(e), nach.hole(e));
+            }
+        }
+
+        /**
+         * Verbindet die Touren von a und b ueber die Kante (a, b), falls beide Tourenden sind
+         * und die verbundene Tour die Tagesgrenzen einhaelt.
+         *
+         * @param a Anlage am Ende ihrer Tour
+         * @param b Anlage am Ende ihrer Tour
+         */
+        private void versucheVerbindung(int a, int b) {
+            int tourA = tourVon[a];
+            int tourB = tourVon[b];
+            if (tourA == tourB) {
+                return;
+            }
+            int[] ta = touren[tourA];
+            int[] tb = touren[tourB];
+            if (ta.length + tb.length > maxAnlagen || !istEnde(ta, a) || !istEnde(tb, b)) {
+                return;
+            }
+            float neueLaenge = laenge[tourA] + laenge[tourB] + tabelle.distanz(a, b);
+            if (neueLaenge > maxKm) {
+                return;
+            }
+
+            // ta so ausrichten, dass sie mit a endet, tb so, dass sie mit b beginnt
+            int[] verbunden = new int[ta.length + tb.length];
+            for (int i = 0; i < ta.length; i++) {
+                verbunden[i] = ta[ta[0] == a && ta.length > 1 ? ta.length - 1 - i : i];
+            }
+            for (int i = 0; i < tb.length; i++) {
+                verbunden[ta.length + i] = tb[tb[0] == b ? i : tb.length - 1 - i];
+                tourVon[verbunden[ta.length + i]] = tourA;
+            }
+            touren[tourA] = verbunden;
+            laenge[tourA] = neueLaenge;
+            touren[tourB] = null;
+        }
+
+        /**
+         * Loest wiederholt kleine Touren auf, deren Anlagen vollstaendig in benachbarte
+         * Touren eingefuegt werden koennen, bis keine Tour mehr aufloesbar ist.
+         */
+        void loeseTourenAuf() {
+            boolean veraendert = true;
+            while (veraendert) {
+                veraendert = false;
+                for (int tour : sortiereNachGroesse()) {
+                    if (touren[tour] != null && touren[tour].length < maxAnlagen && versucheAufloesung(tour)) {
+                        veraendert = true;
+                    }
+                }
+                if (konzentriereTouren()) {
+                    veraendert = true;
+                }
+            }
+        }
+
+        /**
+         * Verschiebt einzelne Anlagen aus nicht vollen Touren in mindestens gleich grosse, nicht volle
+         * Nachbartouren. Dadurch fuellen sich Touren auf und kleine Reste werden aufloesbar.
+         * Jede Verschiebung vergroessert die Summe der quadrierten Tourgroessen, daher endet das Verfahren.
+         *
+         * @return true wenn mindestens eine Anlage verschoben wurde
+         */
+        private boolean konzentriereTouren() {
+            boolean verschoben = false;
+            for (int tour : sortiereNachGroesse()) {
+                int[] quelle = touren[tour];
+                if (quelle == null || quelle.length >= maxAnlagen) {
+                    continue;
+                }
+                for (int m = 0; touren[tour] != null && m < touren[tour].length; m++) {
+                    quelle = touren[tour];
+                    int anlage = quelle[m];
+                    int besteTour = -1;
+                    int bestePosition = -1;
+                    float besteKosten = Float.MAX_VALUE;
+
+                    for (int r = 0; r < k; r++) {
+                        int nachbar = nachbarn[anlage * k + r];
+                        if (nachbar < 0) {
+                            break;
+                        }
+                        int ziel = tourVon[nachbar];
+                        int[] zielTour = touren[ziel];
+                        if (ziel == tour || zielTour.length >= maxAnlagen || zielTour.length < quelle.length) {
+                            continue;
+                        }
+                        for (int p = 0; p <= zielTour.length; p++) {
+                            float kosten = berechneEinfuegekosten(zielTour, p, anlage);
+                            if (kosten < besteKosten && laenge[ziel] + kosten <= maxKm) {
+                                besteKosten = kosten;
+                                besteTour = ziel;
+                                bestePosition = p;
+                            }
+                        }
+                    }
+                    if (besteTour < 0) {
+                        continue;
+                    }
+
+                    touren[besteTour] = fuegeEin(touren[besteTour], bestePosition, anlage);
+                    laenge[besteTour] += besteKosten;
+                    tourVon[anlage] = besteTour;
+                    if (quelle.length == 1) {
+                        touren[tour] = null;
+                    } else {
+                        touren[tour] = entferne(quelle, m);
+                        laenge[tour] = berechneLaenge(touren[tour]);
+                        m--;
+                    }
+                    verschoben = true;
+                }
+            }
+            return verschoben;
+        }
+
+        /**
+         * Liefert alle bestehenden Touren aufsteigend nach Anlagenanzahl, dann Laenge.
+         *
+         * @return Tournummern
+         */
+        private int[] sortiereNachGroesse() {
+            IntListe bestehend = new IntListe();
+            for (int t = 0; t < anzahl; t++) {
+                if (touren[t] != null) {
+                    bestehend.fuegeHinzu(t);
+                }
+            }
+            // Zwei Sortierungen mit exakten Schluesseln (ohne Grenze fuer die Tourgroesse):
+            // 1. nach Laenge (nicht-negative float-Bits), dann Tournummer
+            long[] schluessel = new long[bestehend.groesse()];
+            for (int i = 0; i < schluessel.length; i++) {
+                int t = bestehend.hole(i);
+                schluessel[i] = ((long) Float.floatToIntBits(laenge[t]) << 32) | t;
+            }
+            Arrays.sort(schluessel);
+            // 2. nach Groesse, bei gleicher Groesse nach dem Rang aus Schritt 1
+            int[] nachLaenge = new int[schluessel.length];
+            for (int rang = 0; rang < schluessel.length; rang++) {
+                nachLaenge[rang] = (int) schluessel[rang];
+                schluessel[rang] = ((long) touren[nachLaenge[rang]].length << 32) | rang;
+            }
+            Arrays.sort(schluessel);
+            int[] reihenfolge = new int[schluessel.length];
+            for (int i = 0; i < reihenfolge.length; i++) {
+                reihenfolge[i] = nachLaenge[(int) schluessel[i]];
+            }
+            return reihenfolge;
+        }
+
+        /**
+         * Versucht, alle Anlagen einer Tour in benachbarte Touren einzufuegen.
+         * Gelingt das nicht fuer jede Anlage, wird alles zurueckgesetzt.
+         *
+         * @param tour Aufzuloesende Tour
+         * @return true wenn die Tour aufgeloest wurde
+         */
+        private boolean versucheAufloesung(int tour) {
+            int[] mitglieder = touren[tour];
+            IntListe geaendert = new IntListe();
+            List<int[]> sicherungTour = new ArrayList<>();
+            FloatSicherung sicherungLaenge = new FloatSicherung(mitglieder.length);
+
+            for (int m = 0; m < mitglieder.length; m++) {
+                int anlage = mitglieder[m];
+                int besteTour = -1;
+                int bestePosition = -1;
+                float besteKosten = Float.MAX_VALUE;
+
+                for (int r = 0; r < k; r++) {
+                    int nachbar = nachbarn[anlage * k + r];
+                    if (nachbar < 0) {
+                        break;
+                    }
+                    int ziel = tourVon[nachbar];
+                    if (ziel == tour || touren[ziel].length >= maxAnlagen) {
+                        continue;
+                    }
+                    int[] zielTour = touren[ziel];
+                    for (int p = 0; p <= zielTour.length; p++) {
+                        float kosten = berechneEinfuegekosten(zielTour, p, anlage);
+                        if (kosten < besteKosten && laenge[ziel] + kosten <= maxKm) {
+                            besteKosten = kosten;
+                            besteTour = ziel;
+                            bestePosition = p;
+                        }
+                    }
+                }
+
+                if (besteTour < 0) {
+                    // Zuruecksetzen in umgekehrter Reihenfolge
+                    for (int i = geaendert.groesse() - 1; i >= 0; i--) {
+                        int ziel = geaendert.hole(i);
+                        touren[ziel] = sicherungTour.get(i);
+                        laenge[ziel] = sicherungLaenge.hole(i);
+                    }
+                    for (int anlageZurueck : mitglieder) {
+                        tourVon[anlageZurueck] = tour;
+                    }
+                    return false;
+                }
+
+                geaendert.fuegeHinzu(besteTour);
+                sicherungTour.add(touren[besteTour]);
+                sicherungLaenge.fuegeHinzu(laenge[besteTour]);
+                touren[besteTour] = fuegeEin(touren[besteTour], bestePosition, anlage);
+                laenge[besteTour] += besteKosten;
+                tourVon[anlage] = besteTour;
+            }
+
+            touren[tour] = null;
+            return true;
+        }
+
+        /**
+         * Berechnet die Mehrlaenge einer offenen Tour beim Einfuegen an einer Position.
+         *
+         * @param tour Tour
+         * @param position Einfuegeposition (0 .. tour.length)
+         * @param anlage Einzufuegende Anlage
+         * @return Zusaetzliche Fahrstrecke in km
+         */
+        private float berechneEinfuegekosten(int[] tour, int position, int anlage) {
+            if (position == 0) {
+                return tabelle.distanz(anlage, tour[0]);
+            }
+            if (position == tour.length) {
+                return tabelle.distanz(tour[tour.length - 1], anlage);
+            }
+            int vorher = tour[position - 1];
+            int nachher = tour[position];
+            return tabelle.distanz(vorher, anlage) + tabelle.distanz(anlage, nachher)
+                - tabelle.distanz(vorher, nachher);
+        }
+
+        /**
+         * Optimiert die Besuchsreihenfolge jeder Tour durch vollstaendige Suche.
+         */
+        void optimiereReihenfolgen() {
+            for (int t = 0; t < anzahl; t++) {
+                int[] tour = touren[t];
+                if (tour == null || tour.length < 3 || tour.length > Konstanten.TOURENPLANUNG_EXAKT_MAX_ANLAGEN) {
+                    continue;
+                }
+                ReihenfolgeSuche suche = new ReihenfolgeSuche(tour, tabelle);
+                suche.suche(0, 0f);
+                touren[t] = suche.beste;
+                laenge[t] = suche.besteLaenge;
+            }
+        }
+
+        /**
+         * Ordnet die Touren entlang einer Hilbert-Kurve ueber ihre Schwerpunkte und verteilt sie
+         * in zusammenhaengenden Bloecken auf die Teams.
+         *
+         * @param anzahlTeams Anzahl Teams
+         * @return Tagestouren nach Team und Tag sortiert
+         */
+        List<Tagestour> verteileAufTeams(int anzahlTeams) {
+            IntListe bestehend = new IntListe();
+            for (int t = 0; t < anzahl; t++) {
+                if (touren[t] != null) {
+                    bestehend.fuegeHinzu(t);
+                }
+            }
+            int anzahlTouren = bestehend.groesse();
+            double[] x = new double[anzahlTouren];
+            double[] y = new double[anzahlTouren];
+            for (int i = 0; i < anzahlTouren; i++) {
+                for (int anlage : touren[bestehend.hole(i)]) {
+                    Windkraftanlage a = anlagen.get(anlage);
+                    x[i] += a.getLaengengrad() * Math.cos(Math.toRadians(a.getBreitengrad()));
+                    y[i] += a.getBreitengrad();
+                }
+                x[i] /= touren[bestehend.hole(i)].length;
+                y[i] /= touren[bestehend.hole(i)].length;
+            }
+            int[] reihenfolge = HilbertKurve.sortiere(x, y);
+
+            List<Tagestour> ergebnis = new ArrayList<>(anzahlTouren);
+            for (int team = 0; team < anzahlTeams; team++) {
+                int von = (int) ((long) anzahlTouren * team / anzahlTeams);
+                int bis = (int) ((long) anzahlTouren * (team + 1) / anzahlTeams);
+                int tag = 0;
+                int letzte = -1;
+                for (int i = von; i < bis; i++) {
+                    int[] tour = touren[bestehend.hole(reihenfolge[i])];
+                    if (letzte >= 0) {
+                        // Naeheres Tourende zuerst anfahren, lange Wechsel kosten Reisetage
+                        if (tabelle.distanz(letzte, tour[tour.length - 1]) < tabelle.distanz(letzte, tour[0])) {
+                            tour = kehreUm(tour);
+                        }
+                        tag += WartungsZeitBerechner.berechneReisetage(tabelle.distanz(letzte, tour[0]));
+                    }
+                    tag++;
+                    ergebnis.add(new Tagestour(team + 1, tag, alsAnlagen(tour), berechneLaenge(tour)));
+                    letzte = tour[tour.length - 1];
+                }
+            }
+            return ergebnis;
+        }
+
+        /**
+         * Prueft, ob die Anlage am Anfang oder Ende der Tour liegt.
+         *
+         * @param tour Tour
+         * @param anlage Anlage
+         * @return true wenn Tourende
+         */
+        private static boolean istEnde(int[] tour, int anlage) {
+            return tour[0] == anlage || tour[tour.length - 1] == anlage;
+        }
+
+        /**
+         * Liefert eine Kopie der Tour mit eingefuegter Anlage.
+         *
+         * @param tour Tour
+         * @param position Einfuegeposition
+         * @param anlage Anlage
+         * @return Neue Tour
+         */
+        private static int[] fuegeEin(int[] tour, int position, int anlage) {
+            int[] neu = new int[tour.length + 1];
+            System.arraycopy(tour, 0, neu, 0, position);
+            neu[position] = anlage;
+            System.arraycopy(tour, position, neu, position + 1, tour.length - position);
+            return neu;
+        }
+
+        /**
+         * Liefert eine Kopie der Tour ohne die Anlage an einer Position.
+         *
+         * @param tour Tour
+         * @param position Zu entfernende Position
+         * @return Neue Tour
+         */
+        private static int[] entferne(int[] tour, int position) {
+            int[] neu = new int[tour.length - 1];
+            System.arraycopy(tour, 0, neu, 0, position);
+            System.arraycopy(tour, position + 1, neu, position, tour.length - position - 1);
+            return neu;
+        }
+
+        /**
+         * Liefert die Tour in umgekehrter Reihenfolge.
+         *
+         * @param tour Tour
+         * @return Umgekehrte Kopie
+         */
+        private static int[] kehreUm(int[] tour) {
+            int[] umgekehrt = new int[tour.length];
+            for (int i = 0; i < tour.length; i++) {
+                umgekehrt[i] = tour[tour.length - 1 - i];
+            }
+            return umgekehrt;
+        }
+
+        /**
+         * Berechnet die Fahrstrecke einer offenen Tour.
+         *
+         * @param tour Tour
+         * @return Laenge in km
+         */
+        private float berechneLaenge(int[] tour) {
+            float summe = 0f;
+            for (int i = 0; i + 1 < tour.length; i++) {
+                summe += tabelle.distanz(tour[i], tour[i + 1]);
+            }
+            return summe;
+        }
+
+        /**
+         * Wandelt eine Tour in eine Anlagenliste um.
+         *
+         * @param tour Tour
+         * @return Anlagen in Besuchsreihenfolge
+         */
+        private List<Windkraftanlage> alsAnlagen(int[] tour) {
+            List<Windkraftanlage> liste = new ArrayList<>(tour.length);
+            for (int anlage : tour) {
+                liste.add(anlagen.get(anlage));
+            }
+            return liste;
+        }
+    }
+
+    /**
+     * Vollstaendige Suche der kuerzesten offenen Reihenfolge einer kleinen Tour
+     * (Permutationen mit Abbruch, sobald die Teillaenge das bisher Beste erreicht).
+     */
+    private static final class ReihenfolgeSuche {
+
+        private final int[] aktuell;
+        private final RoutenDistanzTabelle tabelle;
+        private int[] beste;
+        private float besteLaenge;
+
+        ReihenfolgeSuche(int[] tour, RoutenDistanzTabelle tabelle) {
+            this.aktuell = tour.clone();
+            this.tabelle = tabelle;
+            this.beste = tour.clone();
+            float summe = 0f;
+            for (int i = 0; i + 1 < tour.length; i++) {
+                summe += tabelle.distanz(tour[i], tour[i + 1]);
+            }
+            this.besteLaenge = summe;
+        }
+
+        /**
+         * Legt Position stelle fest und sucht rekursiv weiter.
+         *
+         * @param stelle Naechste festzulegende Position
+         * @param teilLaenge Laenge bis einschliesslich Position stelle - 1
+         */
+        void suche(int stelle, float teilLaenge) {
+            if (teilLaenge >= besteLaenge) {
+                return;
+            }
+            if (stelle == aktuell.length) {
+                besteLaenge = teilLaenge;
+                beste = aktuell.clone();
+                return;
+            }
+            for (int i = stelle; i < aktuell.length; i++) {
+                tausche(stelle, i);
+                float zusatz = stelle > 0 ? tabelle.distanz(aktuell[stelle - 1], aktuell[stelle]) : 0f;
+                suche(stelle + 1, teilLaenge + zusatz);
+                tausche(stelle, i);
+            }
+        }
+
+        /**
+         * Vertauscht zwei Positionen der aktuellen Reihenfolge.
+         *
+         * @param a Position
+         * @param b Position
+         */
+        private void tausche(int a, int b) {
+            int tmp = aktuell[a];
+            aktuell[a] = aktuell[b];
+            aktuell[b] = tmp;
+        }
+    }
+
+    /**
+     * Kleine wachsende float-Liste fuer Sicherungen beim Zuruecksetzen.
+     */
+    private static final class FloatSicherung {
+
+        private float[] werte;
+        private int groesse;
+
+        FloatSicherung(int kapazitaet) {
+            this.werte = new float[Math.max(1, kapazitaet)];
+            this.groesse = 0;
+        }
+
+        void fuegeHinzu(float wert) {
+            if (groesse == werte.length) {
+                werte = Arrays.copyOf(werte, 2 * werte.length);
+            }
+            werte[groesse++] = wert;
+        }
+
+        float hole(int index) {
+            return werte[index];
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package util;
+
+/**
+ * Disjunkte Mengen (Union-Find) auf primitiven int-Arrays.
+ * Verwendet Pfadhalbierung beim Suchen und Vereinigung nach Rang.
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur Verwaltung zusammenhaengender Mengen
+ * - KISS: Zwei Arrays, keine Objekte pro Element
+ * - Performance: Nahezu konstante Laufzeit pro Operation
+ *
+ * Pre: anzahl >= 0
+ * Post: Jedes Element 0..anzahl-1 bildet anfangs eine eigene Menge
+ */
+public final class UnionFind {
+
+    private final int[] eltern;
+    private final byte[] rang;
+    private int anzahlMengen;
+
+    /**
+     * Erstellt eine Union-Find-Struktur mit einelementigen Mengen.
+     *
+     * Pre: anzahl >= 0
+     * Post: anzahl Mengen mit je einem Element
+     *
+     * @param anzahl Anzahl der Elemente
+     */
+    public UnionFind(int anzahl) {
+        if (anzahl < 0) {
+            throw new IllegalArgumentException("Anzahl darf nicht negativ sein");
+        }
+        this.eltern = new int[anzahl];
+        this.rang = new byte[anzahl];
+        for (int i = 0; i < anzahl; i++) {
+            eltern[i] = i;
+        }
+        this.anzahlMengen = anzahl;
+    }
+
+    /**
+     * Findet den Repraesentanten der Menge eines Elements (mit Pfadhalbierung).
+     *
+     * Pre: 0 <= element < Anzahl Elemente
+     * Post: Rueckgabe ist Repraesentant; Pfad wurde verkuerzt
+     *
+     * @param element Element
+     * @return Repraesentant der Menge
+     */
+    public int finde(int element) {
+        int aktuell = element;
+        while (eltern[aktuell] != aktuell) {
+            eltern[aktuell] = eltern[eltern[aktuell]];
+            aktuell = eltern[aktuell];
+        }
+        return aktuell;
+    }
+
+    /**
+     * Vereinigt die Mengen zweier Elemente.
+     *
+     * Pre: beide Elemente gueltig
+     * Post: beide Elemente haben denselben Repraesentanten
+     *
+     * @param a Erstes Element
+     * @param b Zweites Element
+     * @return true wenn zwei verschiedene Mengen vereinigt wurden
+     */
+    public boolean vereinige(int a, int b) {
+        int wurzelA = finde(a);
+        int wurzelB = finde(b);
+        if (wurzelA == wurzelB) {
+            return false;
+        }
+
+        if (rang[wurzelA] < rang[wurzelB]) {
+            eltern[wurzelA] = wurzelB;
+        } else if (rang[wurzelA] > rang[wurzelB]) {
+            eltern[wurzelB] = wurzelA;
+        } else {
+            eltern[wurzelB] = wurzelA;
+            rang[wurzelA]++;
+        }
+        anzahlMengen--;
+        return true;
+    }
+
+    /**
+     * Prueft ob zwei Elemente in derselben Menge liegen.
+     *
+     * @param a Erstes Element
+     * @param b Zweites Element
+     * @return true wenn gleiche Menge
+     */
+    public boolean istVerbunden(int a, int b) {
+        return finde(a) == finde(b);
+    }
+
+    /**
+     * Liefert die aktuelle Anzahl disjunkter Mengen.
+     *
+     * @return Anzahl Mengen
+     */
+    public int getAnzahlMengen() {
+        return anzahlMengen;
+    }
+
+    /**
+     * Liefert die Anzahl der Elemente.
+     *
+     * @return Anzahl Elemente
+     */
+    public int getAnzahlElemente() {
+        return eltern.length;
+    }
+}
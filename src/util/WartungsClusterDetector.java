@@ -4,15 +4,21 @@ import model.Graphknoten;
 import model.Windkraftanlage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
 
 /**
  * Utility-Klasse zur Erkennung von isolierten Clustern in einem Wartungsgraphen.
- * Verwendet einfache Tiefensuche (DFS) zur Identifikation zusammenhaengender Komponenten.
+ * Verwendet einfache Tiefensuche (DFS) zur Identifikation zusammenhaengender Komponenten,
+ * bzw. Union-Find ueber einen Gitter-Index, wenn kein Graph benoetigt wird.
+ * Optional werden dichtebasierte Cluster (DBSCAN) ueber denselben Index gebildet.
  * 
  * Design-Prinzipien:
  * - Single Responsibility: Nur Cluster-Erkennung
- * - KISS: Einfache Tiefensuche mit boolean-Array
+ * - KISS: Iterative Tiefensuche auf int-Indizes mit Bitset
  * - Modularisierung: Getrennte Utility-Klasse
  * 
  * Pre: Graph muss aufgebaut sein
@@ -20,6 +26,12 @@ import java.util.List;
  */
 public final class WartungsClusterDetector {
 
+    /** DBSCAN-Label: Anlage noch nicht besucht */
+    private static final int DBSCAN_UNBESUCHT = -1;
+
+    /** DBSCAN-Label: Anlage ist (vorerst) Rauschen */
+    private static final int DBSCAN_RAUSCHEN = -2;
+
     /**
      * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
      */
@@ -30,6 +42,11 @@ public final class WartungsClusterDetector {
     /**
      * Erkennt alle zusammenhaengenden Cluster im Graphen.
      * Jeder Cluster ist eine Liste von Anlagen, die untereinander erreichbar sind.
+     * Die Knoten werden einmalig auf int-Indizes abgebildet; die Tiefensuche arbeitet
+     * danach nur noch auf Arrays (Adjazenz, Bitset, int-Stack).
+     * Ab CLUSTER_PARALLEL_MIN_KNOTEN Knoten uebernimmt erkenneClustersParallel (abschaltbar
+     * ueber CLUSTER_PARALLEL_AKTIVIERT); die Cluster sind dieselben, ihre Anlagen stehen dann
+     * in Knotenreihenfolge.
      * 
      * Pre: graph darf nicht null sein
      * Post: Rueckgabe ist Liste von Clustern (jeder Cluster ist Liste von Anlagen)
@@ -50,18 +67,25 @@ public final class WartungsClusterDetector {
         if (anzahlKnoten == 0) {
             return clusters;
         }
+        if (Konstanten.CLUSTER_PARALLEL_AKTIVIERT && anzahlKnoten >= Konstanten.CLUSTER_PARALLEL_MIN_KNOTEN) {
+            return erkenneClustersParallel(graph);
+        }
+        
+        int[] kantenStart = new int[anzahlKnoten + 1];
+        int[] nachbarIndizes = baueAdjazenz(alleKnoten, kantenStart, false);
         
-        // Markiere alle Knoten als unbesucht
-        boolean[] besucht = new boolean[anzahlKnoten];
+        // Besucht-Markierungen als Bitset (ein Bit pro Knoten)
+        long[] besucht = new long[(anzahlKnoten + 63) >>> 6];
+        IntListe zuBesuchen = new IntListe();
         
         // Durchlaufe alle Knoten
         for (int i = 0; i < anzahlKnoten; i++) {
             // Wenn Knoten noch nicht besucht, starte neuen Cluster
-            if (!besucht[i]) {
+            if (!istMarkiert(besucht, i)) {
                 List<Windkraftanlage> cluster = new ArrayList<>();
                 
                 // Tiefensuche vom aktuellen Knoten
-                tiefensucheSammle(alleKnoten, i, besucht, cluster);
+                tiefensucheSammle(alleKnoten, kantenStart, nachbarIndizes, i, besucht, zuBesuchen, cluster);
                 
                 // Fuege Cluster zur Ergebnisliste hinzu
                 clusters.add(cluster);
@@ -71,78 +95,197 @@ public final class WartungsClusterDetector {
         return clusters;
     }
 
+    /**
+     * Erkennt alle zusammenhaengenden Cluster im Graphen parallel.
+     * Adjazenzaufbau und Kantenvereinigung laufen blockweise im ForkJoin-Pool,
+     * die Mengen werden sperrfrei in einer nebenlaeufigen Union-Find-Struktur gefuehrt.
+     * Gedacht fuer sehr grosse Graphen, erkenneClusters verwendet sie ab CLUSTER_PARALLEL_MIN_KNOTEN.
+     * 
+     * Die Cluster haben dieselben Mitglieder wie bei erkenneClusters und sind ebenfalls
+     * nach ihrem ersten Knoten sortiert; innerhalb eines Clusters stehen die Anlagen
+     * jedoch in Knotenreihenfolge statt in Tiefensuch-Reihenfolge. Das Ergebnis ist
+     * unabhaengig von der Thread-Anzahl.
+     * 
+     * Pre: graph darf nicht null sein
+     * Post: Rueckgabe ist Liste von Clustern
+     * 
+     * @param graph Der Windkraftanlagen-Graph
+     * @return Liste von Clustern
+     */
+    static List<List<Windkraftanlage>> erkenneClustersParallel(WindkraftanlageGraph graph) {
+        List<List<Windkraftanlage>> clusters = new ArrayList<>();
+        
+        if (graph == null) {
+            return clusters;
+        }
+        
+        List<Graphknoten> alleKnoten = graph.getKnoten();
+        int anzahlKnoten = alleKnoten.size();
+        
+        if (anzahlKnoten == 0) {
+            return clusters;
+        }
+        
+        int[] kantenStart = new int[anzahlKnoten + 1];
+        int[] nachbarIndizes = baueAdjazenz(alleKnoten, kantenStart, true);
+        
+        NebenlaeufigeUnionFind mengen = new NebenlaeufigeUnionFind(anzahlKnoten);
+        ParallelAusfuehrer.fuehreAus(anzahlKnoten, Konstanten.CLUSTER_PARALLEL_BLOCKGROESSE, knotenIndex -> {
+            for (int k = kantenStart[knotenIndex]; k < kantenStart[knotenIndex + 1]; k++) {
+                int nachbarIndex = nachbarIndizes[k];
+                // Jede ungerichtete Kante nur einmal vereinigen
+                if (nachbarIndex > knotenIndex) {
+                    mengen.vereinige(knotenIndex, nachbarIndex);
+                }
+            }
+        });
+        
+        // Repraesentant ist der kleinste Knotenindex, daher entsteht jeder Cluster bei seinem ersten Knoten
+        int[] clusterVonWurzel = new int[anzahlKnoten];
+        Arrays.fill(clusterVonWurzel, -1);
+        for (int i = 0; i < anzahlKnoten; i++) {
+            int wurzel = mengen.finde(i);
+            if (clusterVonWurzel[wurzel] < 0) {
+                clusterVonWurzel[wurzel] = clusters.size();
+                clusters.add(new ArrayList<>());
+            }
+            clusters.get(clusterVonWurzel[wurzel]).add(alleKnoten.get(i).getAnlage());
+        }
+        
+        return clusters;
+    }
+
+    /**
+     * Bildet die Nachbarlisten aller Knoten auf int-Indizes ab (CSR-Format).
+     * Die Nachbarn von Knoten i stehen in nachbarIndizes[kantenStart[i] .. kantenStart[i+1]-1]
+     * in derselben Reihenfolge wie in der Nachbarliste des Knotens. Nachbarn, die nicht
+     * in der Knotenliste stehen, werden ausgelassen.
+     * 
+     * Pre: alleKnoten nicht null, kantenStart.length == alleKnoten.size() + 1
+     * Post: kantenStart ist befuellt, Rueckgabe enthaelt die Nachbarindizes
+     * 
+     * @param alleKnoten Liste aller Graphknoten
+     * @param kantenStart Zielarray fuer die Startpositionen je Knoten
+     * @param parallel true wenn die Nachbarindizes parallel eingetragen werden sollen
+     * @return Nachbarindizes aller Knoten hintereinander
+     */
+    private static int[] baueAdjazenz(List<Graphknoten> alleKnoten, int[] kantenStart, boolean parallel) {
+        int anzahlKnoten = alleKnoten.size();
+        Map<Graphknoten, Integer> indexVonKnoten = new IdentityHashMap<>(anzahlKnoten);
+        for (int i = 0; i < anzahlKnoten; i++) {
+            indexVonKnoten.put(alleKnoten.get(i), i);
+        }
+        
+        // Obergrenze je Knoten; unbekannte Nachbarn werden als -1 eingetragen und danach entfernt
+        for (int i = 0; i < anzahlKnoten; i++) {
+            kantenStart[i + 1] = kantenStart[i] + alleKnoten.get(i).getNachbarn().size();
+        }
+        int[] nachbarIndizes = new int[kantenStart[anzahlKnoten]];
+        
+        IntConsumer eintragen = knotenIndex -> {
+            List<Graphknoten> nachbarn = alleKnoten.get(knotenIndex).getNachbarn();
+            int position = kantenStart[knotenIndex];
+            for (int n = 0; n < nachbarn.size(); n++) {
+                Integer nachbarIndex = indexVonKnoten.get(nachbarn.get(n));
+                nachbarIndizes[position + n] = nachbarIndex != null ? nachbarIndex : -1;
+            }
+        };
+        if (parallel) {
+            ParallelAusfuehrer.fuehreAus(anzahlKnoten, Konstanten.CLUSTER_PARALLEL_BLOCKGROESSE, eintragen);
+        } else {
+            for (int i = 0; i < anzahlKnoten; i++) {
+                eintragen.accept(i);
+            }
+        }
+        
+        return entferneUnbekannteNachbarn(kantenStart, nachbarIndizes);
+    }
+
+    /**
+     * Entfernt Eintraege -1 (Nachbarn ausserhalb der Knotenliste) und passt kantenStart an.
+     * 
+     * Pre: kantenStart und nachbarIndizes im CSR-Format
+     * Post: Rueckgabe enthaelt nur gueltige Indizes
+     * 
+     * @param kantenStart Startpositionen je Knoten (wird angepasst)
+     * @param nachbarIndizes Nachbarindizes mit moeglichen -1-Eintraegen
+     * @return Bereinigte Nachbarindizes
+     */
+    private static int[] entferneUnbekannteNachbarn(int[] kantenStart, int[] nachbarIndizes) {
+        int schreibPosition = 0;
+        int lesePosition = 0;
+        for (int i = 0; i + 1 < kantenStart.length; i++) {
+            int ende = kantenStart[i + 1];
+            kantenStart[i] = schreibPosition;
+            for (; lesePosition < ende; lesePosition++) {
+                if (nachbarIndizes[lesePosition] >= 0) {
+                    nachbarIndizes[schreibPosition] = nachbarIndizes[lesePosition];
+                    schreibPosition++;
+                }
+            }
+        }
+        kantenStart[kantenStart.length - 1] = schreibPosition;
+        return schreibPosition == nachbarIndizes.length ? nachbarIndizes : Arrays.copyOf(nachbarIndizes, schreibPosition);
+    }
+
     /**
      * Fuehrt Tiefensuche durch und sammelt alle erreichbaren Anlagen in einem Cluster.
      * 
-     * Pre: alleKnoten, besucht und cluster nicht null; startIndex gueltig
+     * Pre: Adjazenz im CSR-Format, zuBesuchen leer; startIndex gueltig
      * Post: Alle vom Start erreichbaren Knoten sind in cluster und als besucht markiert
      * 
      * @param alleKnoten Liste aller Graphknoten
+     * @param kantenStart Startposition der Nachbarn je Knoten
+     * @param nachbarIndizes Nachbarindizes aller Knoten
      * @param startIndex Index des Startknotens
-     * @param besucht Array zum Markieren besuchter Knoten
+     * @param besucht Bitset zum Markieren besuchter Knoten
+     * @param zuBesuchen Wiederverwendeter int-Stack
      * @param cluster Liste zum Sammeln der Cluster-Anlagen
      */
-    private static void tiefensucheSammle(List<Graphknoten> alleKnoten, int startIndex,
-                                          boolean[] besucht, List<Windkraftanlage> cluster) {
+    private static void tiefensucheSammle(List<Graphknoten> alleKnoten, int[] kantenStart, int[] nachbarIndizes,
+                                          int startIndex, long[] besucht, IntListe zuBesuchen,
+                                          List<Windkraftanlage> cluster) {
         // Verwende eigene Stack-Simulation statt Rekursion (KISS und Overflow-sicher)
-        List<Integer> zuBesuchen = new ArrayList<>();
-        zuBesuchen.add(startIndex);
-        
-        while (!zuBesuchen.isEmpty()) {
-            // Hole letztes Element (Stack-Verhalten)
-            int letzterIndex = zuBesuchen.size() - 1;
-            int aktuellerIndex = zuBesuchen.get(letzterIndex);
-            zuBesuchen.remove(letzterIndex);
+        zuBesuchen.fuegeHinzu(startIndex);
+        
+        while (!zuBesuchen.istLeer()) {
+            int aktuellerIndex = zuBesuchen.entferneLetzten();
             
             // Ueberspringe wenn bereits besucht
-            if (besucht[aktuellerIndex]) {
+            if (istMarkiert(besucht, aktuellerIndex)) {
                 continue;
             }
             
             // Markiere als besucht
-            besucht[aktuellerIndex] = true;
+            besucht[aktuellerIndex >>> 6] |= 1L << aktuellerIndex;
             
             // Fuege Anlage zum Cluster hinzu
-            Graphknoten knoten = alleKnoten.get(aktuellerIndex);
-            cluster.add(knoten.getAnlage());
+            cluster.add(alleKnoten.get(aktuellerIndex).getAnlage());
             
-            // Fuege alle unbesuchten Nachbarn zur Stack-Liste hinzu
-            List<Graphknoten> nachbarn = knoten.getNachbarn();
-            for (int n = 0; n < nachbarn.size(); n++) {
-                Graphknoten nachbar = nachbarn.get(n);
-                
-                // Finde Index des Nachbarn in alleKnoten
-                int nachbarIndex = findeKnotenIndex(alleKnoten, nachbar);
-                
-                if (nachbarIndex >= 0 && !besucht[nachbarIndex]) {
-                    zuBesuchen.add(nachbarIndex);
+            // Fuege alle unbesuchten Nachbarn zum Stack hinzu
+            for (int k = kantenStart[aktuellerIndex]; k < kantenStart[aktuellerIndex + 1]; k++) {
+                int nachbarIndex = nachbarIndizes[k];
+                if (!istMarkiert(besucht, nachbarIndex)) {
+                    zuBesuchen.fuegeHinzu(nachbarIndex);
                 }
             }
         }
     }
 
     /**
-     * Findet den Index eines Knotens in der Knotenliste.
-     * 
-     * Pre: alleKnoten und gesuchterKnoten nicht null
-     * Post: Rueckgabe ist Index oder -1 wenn nicht gefunden
+     * Prueft ob ein Bit im Bitset gesetzt ist.
      * 
-     * @param alleKnoten Liste aller Knoten
-     * @param gesuchterKnoten Der zu findende Knoten
-     * @return Index des Knotens oder -1
+     * @param bitset Bitset
+     * @param index Bitposition
+     * @return true wenn gesetzt
      */
-    private static int findeKnotenIndex(List<Graphknoten> alleKnoten, Graphknoten gesuchterKnoten) {
-        for (int i = 0; i < alleKnoten.size(); i++) {
-            if (alleKnoten.get(i) == gesuchterKnoten) {
-                return i;
-            }
-        }
-        return -1;
+    private static boolean istMarkiert(long[] bitset, int index) {
+        return (bitset[index >>> 6] & (1L << index)) != 0;
     }
 
     /**
      * Erkennt Cluster direkt aus einer Liste von Anlagen ohne vorgebauten Graphen.
-     * Baut intern einen Graphen mit dem Wartungs-Transportlimit auf.
+     * Verwendet das Wartungs-Transportlimit als Verbindungsdistanz.
      * 
      * Pre: anlagen darf nicht null sein
      * Post: Rueckgabe ist Liste von Clustern
@@ -151,16 +294,265 @@ public final class WartungsClusterDetector {
      * @return Liste von Clustern
      */
     public static List<List<Windkraftanlage>> erkenneClustersAusAnlagen(List<Windkraftanlage> anlagen) {
+        if (Konstanten.WARTUNG_DICHTE_CLUSTER_AKTIVIERT) {
+            return erkenneDichteClusters(anlagen, Konstanten.DBSCAN_EPS_KM, Konstanten.DBSCAN_MIN_PUNKTE);
+        }
+        return erkenneClustersMitUnionFind(anlagen, Konstanten.WARTUNG_GRAPH_MAX_DISTANZ_KM);
+    }
+
+    /**
+     * Erkennt dichtebasierte Cluster (DBSCAN). Eine Anlage ist Kernpunkt, wenn im Radius epsKm
+     * mindestens minPunkte Anlagen liegen (sie selbst eingeschlossen). Cluster wachsen nur
+     * ueber Kernpunkte; Randpunkte gehoeren zum ersten Cluster, der sie erreicht. So zerfallen
+     * lange Ketten in dichten Regionen in handhabbare Cluster statt eines Riesen-Clusters.
+     * 
+     * Rauschpunkte (weder Kern- noch Randpunkt) werden als einzelne Cluster geliefert,
+     * damit jede Anlage eingeplant wird. Cluster sind nach ihrer ersten Anlage sortiert,
+     * Anlagen innerhalb eines Clusters stehen in Eingabereihenfolge.
+     * 
+     * Pre: anlagen nicht null, epsKm > 0, minPunkte >= 1
+     * Post: Rueckgabe ist Liste von Clustern der Anlagen mit Koordinaten
+     * 
+     * @param anlagen Liste der Windkraftanlagen
+     * @param epsKm Nachbarschaftsradius in km
+     * @param minPunkte Mindestanzahl Anlagen im Radius fuer einen Kernpunkt
+     * @return Liste von Clustern
+     */
+    public static List<List<Windkraftanlage>> erkenneDichteClusters(List<Windkraftanlage> anlagen,
+                                                                   float epsKm, int minPunkte) {
+        if (minPunkte < 1) {
+            throw new IllegalArgumentException("minPunkte muss mindestens 1 sein");
+        }
         if (anlagen == null || anlagen.isEmpty()) {
             return new ArrayList<>();
         }
-        
-        // Baue Graphen mit Wartungs-Transportlimit
-        WindkraftanlageGraph graph = new WindkraftanlageGraph(Konstanten.WARTUNG_GRAPH_MAX_DISTANZ_KM);
-        graph.baueGraphAuf(anlagen);
-        
-        // Erkenne Cluster
-        return erkenneClusters(graph);
+
+        List<Windkraftanlage> mitKoordinaten = filtereAnlagenMitKoordinaten(anlagen);
+        int anzahl = mitKoordinaten.size();
+        GitterIndex index = new GitterIndex(epsKm);
+        for (int i = 0; i < anzahl; i++) {
+            Windkraftanlage anlage = mitKoordinaten.get(i);
+            index.fuegeEin(i, anlage.getBreitengrad(), anlage.getLaengengrad());
+        }
+
+        int[] labels = new int[anzahl];
+        Arrays.fill(labels, DBSCAN_UNBESUCHT);
+        IntListe nachbarn = new IntListe();
+        IntListe zuBesuchen = new IntListe();
+        int anzahlCluster = 0;
+
+        for (int i = 0; i < anzahl; i++) {
+            if (labels[i] != DBSCAN_UNBESUCHT) {
+                continue;
+            }
+            sammleNachbarnImRadius(mitKoordinaten, index, i, epsKm, nachbarn);
+            if (nachbarn.groesse() < minPunkte) {
+                labels[i] = DBSCAN_RAUSCHEN;
+                continue;
+            }
+
+            // Neuer Cluster ab Kernpunkt i, Erweiterung nur ueber weitere Kernpunkte
+            int cluster = anzahlCluster;
+            anzahlCluster++;
+            labels[i] = cluster;
+            fuegeAlleHinzu(nachbarn, zuBesuchen);
+
+            while (!zuBesuchen.istLeer()) {
+                int j = zuBesuchen.entferneLetzten();
+                if (labels[j] == DBSCAN_RAUSCHEN) {
+                    labels[j] = cluster;
+                }
+                if (labels[j] != DBSCAN_UNBESUCHT) {
+                    continue;
+                }
+                labels[j] = cluster;
+                sammleNachbarnImRadius(mitKoordinaten, index, j, epsKm, nachbarn);
+                if (nachbarn.groesse() >= minPunkte) {
+                    fuegeAlleHinzu(nachbarn, zuBesuchen);
+                }
+            }
+        }
+
+        return bildeClusterAusLabels(mitKoordinaten, labels, anzahlCluster);
+    }
+
+    /**
+     * Sammelt alle Anlagen mit Haversine-Distanz bis epsKm (inklusive der Anlage selbst).
+     * 
+     * Pre: Alle Anlagen sind im Index eingetragen
+     * Post: ziel enthaelt genau die Nachbarn im Radius
+     * 
+     * @param anlagen Anlagen mit Koordinaten
+     * @param index Gitter-Index mit Radius epsKm
+     * @param punkt Index der Anfrage-Anlage
+     * @param epsKm Radius in km
+     * @param ziel Ergebnisliste (wird geleert)
+     */
+    private static void sammleNachbarnImRadius(List<Windkraftanlage> anlagen, GitterIndex index, int punkt,
+                                               float epsKm, IntListe ziel) {
+        ziel.leere();
+        Windkraftanlage anlage = anlagen.get(punkt);
+        index.sammleKandidaten(anlage.getBreitengrad(), anlage.getLaengengrad(), ziel);
+
+        int behalten = 0;
+        for (int k = 0; k < ziel.groesse(); k++) {
+            int kandidat = ziel.hole(k);
+            if (kandidat == punkt || RoutenOptimierer.berechneDistanz(anlage, anlagen.get(kandidat)) <= epsKm) {
+                ziel.setze(behalten, kandidat);
+                behalten++;
+            }
+        }
+        while (ziel.groesse() > behalten) {
+            ziel.entferneLetzten();
+        }
+    }
+
+    /**
+     * Haengt alle Werte einer Liste an eine andere an.
+     * 
+     * @param quelle Quellliste
+     * @param ziel Zielliste
+     */
+    private static void fuegeAlleHinzu(IntListe quelle, IntListe ziel) {
+        for (int k = 0; k < quelle.groesse(); k++) {
+            ziel.fuegeHinzu(quelle.hole(k));
+        }
+    }
+
+    /**
+     * Wandelt Cluster-Labels in Cluster-Listen um; Rauschpunkte werden Einzel-Cluster.
+     * Cluster sind nach ihrem ersten Element sortiert, Mitglieder stehen in Listenreihenfolge.
+     * 
+     * Pre: labels.length == anlagen.size(), Labels in [0, anzahlCluster) oder DBSCAN_RAUSCHEN
+     * Post: Rueckgabe ist Liste von Clustern
+     * 
+     * @param anlagen Anlagen, deren Index dem Label entspricht
+     * @param labels Cluster-Label je Anlage
+     * @param anzahlCluster Anzahl vergebener Labels
+     * @return Liste von Clustern
+     */
+    private static List<List<Windkraftanlage>> bildeClusterAusLabels(List<Windkraftanlage> anlagen, int[] labels,
+                                                                     int anzahlCluster) {
+        List<List<Windkraftanlage>> clusters = new ArrayList<>();
+        int[] clusterVonLabel = new int[anzahlCluster];
+        Arrays.fill(clusterVonLabel, -1);
+
+        for (int i = 0; i < anlagen.size(); i++) {
+            int label = labels[i];
+            if (label == DBSCAN_RAUSCHEN) {
+                List<Windkraftanlage> einzelCluster = new ArrayList<>();
+                einzelCluster.add(anlagen.get(i));
+                clusters.add(einzelCluster);
+                continue;
+            }
+            if (clusterVonLabel[label] < 0) {
+                clusterVonLabel[label] = clusters.size();
+                clusters.add(new ArrayList<>());
+            }
+            clusters.get(clusterVonLabel[label]).add(anlagen.get(i));
+        }
+
+        return clusters;
+    }
+
+    /**
+     * Erkennt zusammenhaengende Cluster ohne einen Graphen zu materialisieren.
+     * Kandidatenpaare kommen aus einem Gitter-Index und werden direkt in eine
+     * Union-Find-Struktur vereinigt. Paare, die bereits verbunden sind, werden
+     * ohne Distanzberechnung uebersprungen.
+     * 
+     * Die Cluster entsprechen denen von erkenneClusters auf einem Graphen mit gleicher
+     * Distanz: gleiche Mitglieder, Cluster nach erster Anlage in der Eingabeliste sortiert.
+     * Innerhalb eines Clusters stehen die Anlagen in Eingabereihenfolge.
+     * 
+     * Pre: anlagen nicht null, maxDistanzKm > 0
+     * Post: Rueckgabe ist Liste von Clustern der Anlagen mit Koordinaten
+     * 
+     * @param anlagen Liste der Windkraftanlagen
+     * @param maxDistanzKm Maximale Distanz fuer eine direkte Verbindung
+     * @return Liste von Clustern
+     */
+    public static List<List<Windkraftanlage>> erkenneClustersMitUnionFind(List<Windkraftanlage> anlagen,
+                                                                        float maxDistanzKm) {
+        if (anlagen == null || anlagen.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Windkraftanlage> mitKoordinaten = filtereAnlagenMitKoordinaten(anlagen);
+        int anzahl = mitKoordinaten.size();
+        UnionFind mengen = new UnionFind(anzahl);
+        GitterIndex index = new GitterIndex(maxDistanzKm);
+        IntListe kandidaten = new IntListe();
+
+        // Jede Anlage wird nur gegen bereits eingefuegte Anlagen geprueft (jedes Paar einmal)
+        for (int i = 0; i < anzahl; i++) {
+            Windkraftanlage anlage = mitKoordinaten.get(i);
+            kandidaten.leere();
+            index.sammleKandidaten(anlage.getBreitengrad(), anlage.getLaengengrad(), kandidaten);
+
+            for (int k = 0; k < kandidaten.groesse(); k++) {
+                int j = kandidaten.hole(k);
+                if (mengen.istVerbunden(i, j)) {
+                    continue;
+                }
+                float distanz = RoutenOptimierer.berechneDistanz(anlage, mitKoordinaten.get(j));
+                if (distanz <= maxDistanzKm) {
+                    mengen.vereinige(i, j);
+                }
+            }
+
+            index.fuegeEin(i, anlage.getBreitengrad(), anlage.getLaengengrad());
+        }
+
+        return bildeClusterAusMengen(mitKoordinaten, mengen);
+    }
+
+    /**
+     * Wandelt Union-Find-Mengen in Cluster-Listen um.
+     * Cluster sind nach ihrem ersten Element sortiert, Mitglieder stehen in Listenreihenfolge.
+     * 
+     * Pre: mengen.getAnzahlElemente() == anlagen.size()
+     * Post: Rueckgabe ist Liste von Clustern
+     * 
+     * @param anlagen Anlagen, deren Index dem Union-Find-Element entspricht
+     * @param mengen Union-Find-Struktur
+     * @return Liste von Clustern
+     */
+    static List<List<Windkraftanlage>> bildeClusterAusMengen(List<Windkraftanlage> anlagen, UnionFind mengen) {
+        List<List<Windkraftanlage>> clusters = new ArrayList<>();
+        int[] clusterVonWurzel = new int[anlagen.size()];
+        Arrays.fill(clusterVonWurzel, -1);
+
+        for (int i = 0; i < anlagen.size(); i++) {
+            int wurzel = mengen.finde(i);
+            if (clusterVonWurzel[wurzel] < 0) {
+                clusterVonWurzel[wurzel] = clusters.size();
+                clusters.add(new ArrayList<>());
+            }
+            clusters.get(clusterVonWurzel[wurzel]).add(anlagen.get(i));
+        }
+
+        return clusters;
+    }
+
+    /**
+     * Filtert alle Anlagen mit Breiten- und Laengengrad (Reihenfolge bleibt erhalten).
+     * 
+     * Pre: anlagen nicht null
+     * Post: Rueckgabe enthaelt nur Anlagen mit Koordinaten
+     * 
+     * @param anlagen Liste der Windkraftanlagen
+     * @return Anlagen mit Koordinaten
+     */
+    static List<Windkraftanlage> filtereAnlagenMitKoordinaten(List<Windkraftanlage> anlagen) {
+        List<Windkraftanlage> mitKoordinaten = new ArrayList<>(anlagen.size());
+        for (int i = 0; i < anlagen.size(); i++) {
+            Windkraftanlage anlage = anlagen.get(i);
+            if (anlage != null && anlage.getBreitengrad() != null && anlage.getLaengengrad() != null) {
+                mitKoordinaten.add(anlage);
+            }
+        }
+        return mitKoordinaten;
     }
 
     /**
@@ -176,6 +568,83 @@ public final class WartungsClusterDetector {
         return clusters != null && clusters.size() > 1;
     }
 
+    /**
+     * Berechnet fuer jeden Cluster die minimale Distanz zum naechsten anderen Cluster.
+     * Alle Anlagen kommen in einen k-d-Baum mit der Cluster-Nummer als Label. Pro Cluster
+     * wird zuerst der naechste fremde Punkt per Sehnenlaenge gesucht (die bisher beste
+     * Sehne des Clusters dient dabei als Schranke), danach werden alle fremden Punkte knapp
+     * innerhalb dieser Sehne mit der Haversine-Distanz exakt nachgerechnet.
+     * 
+     * Das Ergebnis je Cluster entspricht dem Minimum von berechneClusterDistanz ueber alle
+     * anderen Cluster, ohne jedes Clusterpaar einzeln zu vergleichen.
+     * 
+     * Pre: clusters nicht null
+     * Post: Rueckgabe[i] ist minimale Distanz von Cluster i zu einem anderen Cluster
+     *       (Float.MAX_VALUE wenn es keinen anderen Cluster mit Koordinaten gibt)
+     * 
+     * @param clusters Liste der Cluster
+     * @return Minimale Distanz je Cluster in km
+     */
+    public static float[] berechneMinimaleClusterDistanzen(List<List<Windkraftanlage>> clusters) {
+        float[] minDistanzen = new float[clusters.size()];
+        Arrays.fill(minDistanzen, Float.MAX_VALUE);
+        
+        // Punkte aller Cluster mit Koordinaten sammeln; Anlagen ohne Koordinaten haben Distanz MAX_VALUE
+        List<Windkraftanlage> punkte = new ArrayList<>();
+        int[] ersterPunkt = new int[clusters.size() + 1];
+        for (int c = 0; c < clusters.size(); c++) {
+            ersterPunkt[c] = punkte.size();
+            punkte.addAll(filtereAnlagenMitKoordinaten(clusters.get(c)));
+        }
+        ersterPunkt[clusters.size()] = punkte.size();
+        
+        double[] positionen = new double[3 * punkte.size()];
+        int[] labels = new int[punkte.size()];
+        for (int c = 0; c < clusters.size(); c++) {
+            for (int p = ersterPunkt[c]; p < ersterPunkt[c + 1]; p++) {
+                Windkraftanlage anlage = punkte.get(p);
+                DistanzBerechner.berechneKartesischePosition(anlage.getBreitengrad(), anlage.getLaengengrad(),
+                    positionen, 3 * p);
+                labels[p] = c;
+            }
+        }
+        
+        KdBaum baum = new KdBaum(positionen);
+        baum.setzeLabels(labels);
+        IntListe kandidaten = new IntListe();
+        
+        for (int c = 0; c < clusters.size(); c++) {
+            // Schritt 1: kleinste Sehne zu einem fremden Punkt
+            double besteSehne = Double.POSITIVE_INFINITY;
+            for (int p = ersterPunkt[c]; p < ersterPunkt[c + 1]; p++) {
+                int naechster = baum.sucheNaechstenFremden(p, besteSehne);
+                if (naechster >= 0) {
+                    besteSehne = baum.berechneAbstand(p, naechster);
+                }
+            }
+            if (besteSehne == Double.POSITIVE_INFINITY) {
+                continue;
+            }
+            
+            // Schritt 2: exakte Haversine-Distanz fuer alle Punkte knapp innerhalb der besten Sehne
+            double radius = DistanzBerechner.erweitereUmRundungsreserve(besteSehne);
+            float minDistanz = Float.MAX_VALUE;
+            for (int p = ersterPunkt[c]; p < ersterPunkt[c + 1]; p++) {
+                kandidaten.leere();
+                baum.sammleFremdeImRadius(p, radius, kandidaten);
+                for (int k = 0; k < kandidaten.groesse(); k++) {
+                    float distanz = RoutenOptimierer.berechneDistanz(punkte.get(p), punkte.get(kandidaten.hole(k)));
+                    if (distanz < minDistanz) {
+                        minDistanz = distanz;
+                    }
+                }
+            }
+            minDistanzen[c] = minDistanz;
+        }
+        
+        return minDistanzen;
+    }
+
     /**
      * Berechnet die minimale Distanz zwischen zwei Clustern.
      * 
@@ -0,0 +1,291 @@
+package util;
+
+import model.Windkraftanlage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Erlaubte Wartungszeitraeume einzelner Anlagen (z.B. ausserhalb von Vogelschutz-Sperrzeiten).
+ * Ein Fenster ist ein Bereich von Arbeitstagen [fruehesterTag, spaetesterTag], gezaehlt ab Tag 1
+ * der Planung eines Clusters. Eine Anlage kann mehrere Fenster haben (eine Zeile je Fenster),
+ * z.B. vor und nach einer Sperrzeit mitten in der Saison; ueberlappende oder aneinander
+ * grenzende Fenster werden zusammengefasst. Anlagen ohne Eintrag sind jederzeit erlaubt.
+ *
+ * Dateiformat (Kopfzeile wird uebersprungen, Trennzeichen Komma):
+ * OBJECTID, FruehesterTag, SpaetesterTag
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur Einlesen und Nachschlagen, Routen und Termine planen
+ *   ZeitfensterOptimierer und WartungsZeitBerechner
+ * - Wiederverwendung: Zeilen und Felder ueber CsvParser und FeldParser wie beim Anlagenimport
+ *
+ * Pre: Datei im beschriebenen Format (UTF-8)
+ * Post: Die Fenster aller gueltigen Zeilen sind ueber die Objekt-ID abrufbar
+ */
+public final class WartungsFenster {
+
+    /** Spaetester Tag fuer Anlagen ohne Fenster */
+    public static final int OFFEN = Integer.MAX_VALUE / 4;
+
+    /** Spalte: Objekt-ID */
+    private static final int SPALTE_ID = 0;
+
+    /** Spalte: fruehester Tag */
+    private static final int SPALTE_FRUEH = 1;
+
+    /** Spalte: spaetester Tag */
+    private static final int SPALTE_SPAET = 2;
+
+    private static WartungsFenster standard;
+    private static boolean standardGeladen;
+
+    /** Fenster je Objekt-ID als {frueh0, spaet0, frueh1, spaet1, ...} */
+    private final Map<Integer, int[]> fenster;
+    private final long fingerabdruck;
+
+    /**
+     * Erstellt die Fenster aus einer Zuordnung Objekt-ID auf {frueh0, spaet0, frueh1, spaet1, ...}.
+     *
+     * Pre: fenster nicht null; je ID 1 <= frueh_k <= spaet_k und spaet_k + 1 < frueh_(k+1)
+     *      (sortiert, disjunkt, nicht angrenzend, siehe fasseZusammen)
+     * Post: Objekt ist unveraenderlich
+     *
+     * @param fenster Fenster je Objekt-ID (wird nicht kopiert)
+     * @param fingerabdruck Hash der Daten (fuer den Routen-Cache)
+     */
+    public WartungsFenster(Map<Integer, int[]> fenster, long fingerabdruck) {
+        if (fenster == null) {
+            throw new IllegalArgumentException("Fenster duerfen nicht null sein");
+        }
+        this.fenster = fenster;
+        this.fingerabdruck = fingerabdruck;
+    }
+
+    /**
+     * Liefert die konfigurierten Fenster (einmal gelesen, danach wiederverwendet).
+     *
+     * Pre: -
+     * Post: Rueckgabe ist Fenster oder null, wenn abgeschaltet oder Datei nicht lesbar
+     *
+     * @return Wartungsfenster oder null (dann gelten keine Einschraenkungen)
+     */
+    public static synchronized WartungsFenster holeStandard() {
+        if (!standardGeladen) {
+            standardGeladen = true;
+            if (Konstanten.WARTUNG_ZEITFENSTER_AKTIVIERT) {
+                try {
+                    standard = lese(Paths.get(Konstanten.WARTUNG_ZEITFENSTER_DATEI));
+                } catch (IOException e) {
+                    AusgabeManager.gebeFehlerAus(Konstanten.ZEITFENSTER_FEHLER + e.getMessage());
+                }
+            }
+        }
+        return standard;
+    }
+
+    /**
+     * Setzt die Standardfenster ohne Fensterdatei (fuer Pruefungen).
+     *
+     * Pre: -
+     * Post: holeStandard liefert fenster; null bedeutet keine Einschraenkungen
+     *
+     * @param fenster Neue Standardfenster oder null
+     */
+    static synchronized void setzeStandard(WartungsFenster fenster) {
+        standard = fenster;
+        standardGeladen = true;
+    }
+
+    /**
+     * Liest alle gueltigen Fenster einer Datei. Ungueltige Zeilen werden mit Fehlermeldung uebersprungen,
+     * mehrere Zeilen einer ID ergeben mehrere Fenster.
+     *
+     * Pre: datei nicht null
+     * Post: Rueckgabe enthaelt die Vereinigung aller gueltigen Zeilen je ID
+     *
+     * @param datei CSV-Datei
+     * @return Wartungsfenster
+     * @throws IOException bei Lesefehlern
+     */
+    public static WartungsFenster lese(Path datei) throws IOException {
+        Map<Integer, IntListe> zeilen = new HashMap<>();
+        long hash = GraphDateiSpeicher.FNV_START;
+        try (BufferedReader leser = Files.newBufferedReader(datei, StandardCharsets.UTF_8)) {
+            // Kopfzeile ueberspringen
+            String zeile = CsvParser.leseNaechstenDatensatz(leser);
+            int zeilenNummer = 1;
+            while ((zeile = CsvParser.leseNaechstenDatensatz(leser)) != null) {
+                zeilenNummer++;
+                if (zeile.isBlank()) {
+                    continue;
+                }
+                String[] felder = CsvParser.teileZeileInFelder(zeile);
+                Integer id = felder.length > SPALTE_SPAET ? FeldParser.parseGanzzahlNullbar(felder[SPALTE_ID]) : null;
+                Integer frueh = id != null ? FeldParser.parseGanzzahlNullbar(felder[SPALTE_FRUEH]) : null;
+                Integer spaet = id != null ? FeldParser.parseGanzzahlNullbar(felder[SPALTE_SPAET]) : null;
+                if (id == null || frueh == null || spaet == null || frueh < 1 || spaet < frueh) {
+                    AusgabeManager.gebeFehlerAus(String.format(Konstanten.ZEITFENSTER_ZEILE_UNGUELTIG,
+                        zeilenNummer, zeile));
+                    continue;
+                }
+                IntListe grenzen = zeilen.computeIfAbsent(id, k -> new IntListe());
+                grenzen.fuegeHinzu(frueh);
+                grenzen.fuegeHinzu(spaet);
+                hash = GraphDateiSpeicher.mischeInt(hash, id);
+                hash = GraphDateiSpeicher.mischeInt(hash, frueh);
+                hash = GraphDateiSpeicher.mischeInt(hash, spaet);
+            }
+        }
+        Map<Integer, int[]> fenster = new HashMap<>(zeilen.size() * 2);
+        for (Map.Entry<Integer, IntListe> eintrag : zeilen.entrySet()) {
+            fenster.put(eintrag.getKey(), fasseZusammen(eintrag.getValue()));
+        }
+        return new WartungsFenster(fenster, hash);
+    }
+
+    /**
+     * Sortiert Fenster nach Beginn und fasst ueberlappende oder aneinander grenzende zusammen.
+     *
+     * Pre: grenzen enthaelt Paare (frueh, spaet) mit frueh <= spaet
+     * Post: Rueckgabe ist sortiert, disjunkt und ohne angrenzende Fenster
+     *
+     * @param grenzen Fenster als {frueh0, spaet0, frueh1, spaet1, ...} in beliebiger Reihenfolge
+     * @return Zusammengefasste Fenster im selben Format
+     */
+    static int[] fasseZusammen(IntListe grenzen) {
+        int anzahl = grenzen.groesse() / 2;
+        // Beginn in den oberen, Ende in den unteren 32 Bit (beide positiv)
+        long[] sortiert = new long[anzahl];
+        for (int k = 0; k < anzahl; k++) {
+            sortiert[k] = ((long) grenzen.hole(2 * k) << 32) | grenzen.hole(2 * k + 1);
+        }
+        Arrays.sort(sortiert);
+        IntListe ergebnis = new IntListe(2 * anzahl);
+        for (int k = 0; k < anzahl; k++) {
+            int frueh = (int) (sortiert[k] >>> 32);
+            int spaet = (int) sortiert[k];
+            int letztes = ergebnis.groesse() - 1;
+            if (letztes > 0 && frueh <= ergebnis.hole(letztes) + 1) {
+                ergebnis.setze(letztes, Math.max(ergebnis.hole(letztes), spaet));
+            } else {
+                ergebnis.fuegeHinzu(frueh);
+                ergebnis.fuegeHinzu(spaet);
+            }
+        }
+        int[] fenster = new int[ergebnis.groesse()];
+        for (int i = 0; i < fenster.length; i++) {
+            fenster[i] = ergebnis.hole(i);
+        }
+        return fenster;
+    }
+
+    /**
+     * Prueft, ob mindestens eine Anlage der Liste ein Fenster hat.
+     *
+     * @param anlagen Anlagen
+     * @return true wenn ein Fenster beachtet werden muss
+     */
+    public boolean hatFenster(List<Windkraftanlage> anlagen) {
+        for (Windkraftanlage anlage : anlagen) {
+            if (fenster.containsKey(anlage.getObjektId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Liefert den ersten erlaubten Tag ab einem Tag. Liegt der Tag hinter allen Fenstern,
+     * wird er unveraendert geliefert (Verzug, Warten hilft nicht mehr).
+     *
+     * Pre: tag >= 1
+     * Post: Rueckgabe >= tag
+     *
+     * @param objektId Objekt-ID
+     * @param tag Fruehester moeglicher Tag
+     * @return Erster erlaubter Tag ab tag, sonst tag
+     */
+    public int naechsterErlaubterTag(int objektId, int tag) {
+        int[] werte = fenster.get(objektId);
+        if (werte == null) {
+            return tag;
+        }
+        for (int k = 0; k < werte.length; k += 2) {
+            if (tag <= werte[k + 1]) {
+                return Math.max(tag, werte[k]);
+            }
+        }
+        return tag;
+    }
+
+    /**
+     * Prueft, ob ein Tag in einem Fenster der Anlage liegt.
+     *
+     * @param objektId Objekt-ID
+     * @param tag Tag (1-basiert)
+     * @return true wenn die Wartung an diesem Tag erlaubt ist
+     */
+    public boolean istErlaubt(int objektId, int tag) {
+        int[] werte = fenster.get(objektId);
+        if (werte == null) {
+            return true;
+        }
+        for (int k = 0; k < werte.length; k += 2) {
+            if (tag <= werte[k + 1]) {
+                return tag >= werte[k];
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Liefert alle Fenster einer Anlage.
+     *
+     * @param objektId Objekt-ID
+     * @return Kopie von {frueh0, spaet0, frueh1, spaet1, ...} oder null ohne Fenster
+     */
+    public int[] getFenster(int objektId) {
+        int[] werte = fenster.get(objektId);
+        return werte == null ? null : werte.clone();
+    }
+
+    /**
+     * Liefert den fruehesten erlaubten Tag einer Anlage (Beginn des ersten Fensters).
+     *
+     * @param objektId Objekt-ID
+     * @return Fruehester Tag (1 ohne Fenster)
+     */
+    public int getFruehesterTag(int objektId) {
+        int[] werte = fenster.get(objektId);
+        return werte == null ? 1 : werte[0];
+    }
+
+    /**
+     * Liefert den spaetesten erlaubten Tag einer Anlage (Ende des letzten Fensters).
+     *
+     * @param objektId Objekt-ID
+     * @return Spaetester Tag (OFFEN ohne Fenster)
+     */
+    public int getSpaetesterTag(int objektId) {
+        int[] werte = fenster.get(objektId);
+        return werte == null ? OFFEN : werte[werte.length - 1];
+    }
+
+    /**
+     * Liefert den Hash der Fensterdaten.
+     *
+     * @return Fingerabdruck
+     */
+    public long getFingerabdruck() {
+        return fingerabdruck;
+    }
+}
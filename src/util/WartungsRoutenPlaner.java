@@ -1,7 +1,12 @@
 package util;
 
+import model.Depot;
+import model.Tagestour;
 import model.Windkraftanlage;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -13,6 +18,8 @@ import java.util.Map;
  * - Single Responsibility: Nur Wartungsplanung orchestrieren
  * - KISS: Delegiert an spezialisierte Utility-Klassen
  * - Modularisierung: Zentrale Koordinationsklasse
+ * - Parallelitaet: Hersteller und Cluster sind unabhaengige ForkJoin-Aufgaben mit eigenen
+ *   Ausgabepuffern, die Ausgabe bleibt in fester Reihenfolge
  * 
  * Pre: Anlagenliste muss initialisiert sein
  * Post: Liefert kompletten Wartungsplan mit Routen und Zeitbedarf
@@ -28,7 +35,7 @@ public final class WartungsRoutenPlaner {
 
     /**
      * Plant die Wartung fuer alle Anlagen eines Herstellers.
-     * Erkennt Cluster, optimiert Routen pro Cluster und berechnet Gesamtzeit.
+     * Erkennt Cluster, optimiert Routen pro Cluster (parallel, siehe planeParallel) und berechnet Gesamtzeit.
      * 
      * Pre: herstellerAnlagen darf nicht null sein
      * Post: Gibt Wartungsplan auf Konsole aus und gibt Gesamttage zurueck
@@ -42,29 +49,120 @@ public final class WartungsRoutenPlaner {
             return 0;
         }
         
-        // Ueberschrift ausgeben
-        AusgabeManager.gebeAusFormat(Konstanten.WARTUNG_HERSTELLER_UEBERSCHRIFT, 
-            herstellerName, herstellerAnlagen.size());
-        
-        // Schritt 1: Erkenne Cluster
-        List<List<Windkraftanlage>> clusters = WartungsClusterDetector.erkenneClustersAusAnlagen(herstellerAnlagen);
-        
-        // Cluster-Info ausgeben
-        AusgabeManager.gebeAusFormat(Konstanten.WARTUNG_CLUSTER_INFO, clusters.size());
-        
-        // Schritt 2: Verarbeite jeden Cluster einzeln
-        int gesamtTage = 0;
+        HerstellerPlanung planung = new HerstellerPlanung(herstellerName, herstellerAnlagen);
+        planeParallel(Collections.singletonList(planung), DepotLeser.holeStandard(),
+            Konstanten.WARTUNG_PARALLEL_AKTIVIERT);
+        return planung.gebeAus();
+    }
+
+    /**
+     * Plant mehrere Hersteller als unabhaengige Aufgaben in zwei Phasen:
+     * 1. Cluster-Erkennung je Hersteller
+     * 2. Routen und Tage je Cluster ueber alle Hersteller hinweg
+     * Sind Depots konfiguriert, werden dazwischen alle Cluster in einem Durchlauf Depots zugeordnet
+     * (siehe DepotZuordnung), ihre Routen beginnen dann an der depotnaechsten Anlage.
+     * Innerhalb jeder Phase werden die groessten Aufgaben zuerst vergeben. Alle Ausgaben landen
+     * in Puffern je Aufgabe und werden erst mit HerstellerPlanung.gebeAus in fester Reihenfolge ausgegeben.
+     * 
+     * Pre: planungen nicht null
+     * Post: Alle Planungen sind berechnet, aber noch nicht ausgegeben
+     * 
+     * @param planungen Zu berechnende Herstellerplanungen
+     * @param depots Service-Depots oder null fuer Routen ab der ersten Clusteranlage
+     * @param parallel true fuer ForkJoin-Aufgaben, false fuer Ausfuehrung im aufrufenden Thread
+     */
+    private static void planeParallel(List<HerstellerPlanung> planungen, List<Depot> depots, boolean parallel) {
+        // Phase 1: Cluster-Erkennung, groesste Hersteller zuerst (stabile Sortierung)
+        List<HerstellerPlanung> hersteller = new ArrayList<>(planungen);
+        hersteller.sort((a, b) -> Integer.compare(b.anlagen.size(), a.anlagen.size()));
+        fuehreAusGroessteZuerst(hersteller, parallel);
         
-        for (int clusterNr = 0; clusterNr < clusters.size(); clusterNr++) {
-            List<Windkraftanlage> cluster = clusters.get(clusterNr);
-            int tage = verarbeiteCluster(cluster, clusterNr + 1, clusters);
-            gesamtTage += tage;
+        // Phase 2: Alle Cluster aller Hersteller, groesste Cluster zuerst
+        List<ClusterPlanung> cluster = new ArrayList<>();
+        for (HerstellerPlanung planung : planungen) {
+            cluster.addAll(planung.clusterPlanungen);
+        }
+        if (depots != null) {
+            ordneDepotsZu(cluster, depots);
+        }
+        cluster.sort((a, b) -> Integer.compare(b.cluster.size(), a.cluster.size()));
+        fuehreAusGroessteZuerst(cluster, parallel);
+    }
+
+    /**
+     * Ordnet alle Cluster Depots zu und laesst jede Route an der depotnaechsten Anlage beginnen.
+     * 
+     * Pre: cluster und depots nicht null, depots nicht leer
+     * Post: Jede Cluster-Aufgabe mit Koordinaten kennt ihr Depot
+     * 
+     * @param cluster Cluster-Aufgaben aller Hersteller
+     * @param depots Service-Depots
+     */
+    private static void ordneDepotsZu(List<ClusterPlanung> cluster, List<Depot> depots) {
+        List<List<Windkraftanlage>> anlagen = new ArrayList<>(cluster.size());
+        for (ClusterPlanung planung : cluster) {
+            anlagen.add(planung.cluster);
+        }
+        int[] zuordnung = DepotZuordnung.ordneZu(anlagen, depots);
+        for (int i = 0; i < cluster.size(); i++) {
+            if (zuordnung[i] != DepotZuordnung.KEIN_DEPOT) {
+                ClusterPlanung planung = cluster.get(i);
+                planung.depot = depots.get(zuordnung[i]);
+                planung.cluster = DepotZuordnung.beginneBeiDepot(planung.cluster, planung.depot);
+            }
+        }
+    }
+
+    /**
+     * Gibt je Depot die zugeordneten Cluster, Anlagen und Wartungstage aus.
+     * 
+     * Pre: planungen berechnet, depots nicht null
+     * Post: Auslastung aller Depots wurde ausgegeben
+     * 
+     * @param planungen Berechnete Herstellerplanungen
+     * @param depots Service-Depots
+     */
+    private static void gebeDepotAuslastungAus(List<HerstellerPlanung> planungen, List<Depot> depots) {
+        Map<Depot, int[]> auslastung = new IdentityHashMap<>();
+        for (HerstellerPlanung planung : planungen) {
+            for (ClusterPlanung cluster : planung.clusterPlanungen) {
+                if (cluster.depot == null) {
+                    continue;
+                }
+                int[] werte = auslastung.computeIfAbsent(cluster.depot, d -> new int[3]);
+                werte[0]++;
+                werte[1] += cluster.cluster.size();
+                werte[2] += cluster.tage;
+            }
         }
         
-        // Gesamtergebnis ausgeben
-        AusgabeManager.gebeAusFormat(Konstanten.WARTUNG_TAGE_GESAMT, gesamtTage);
-        
-        return gesamtTage;
+        AusgabeManager.gebeAusFormat(Konstanten.WARTUNG_DEPOT_UEBERSICHT);
+        for (Depot depot : depots) {
+            int[] werte = auslastung.getOrDefault(depot, new int[3]);
+            int teams = depot.getAnzahlTeams();
+            AusgabeManager.gebeAusFormat(Konstanten.WARTUNG_DEPOT_AUSLASTUNG_FORMAT, depot.getName(),
+                werte[0], werte[1], werte[2], teams, (werte[2] + teams - 1) / teams);
+        }
+    }
+
+    /**
+     * Fuehrt absteigend nach Groesse sortierte Aufgaben aus. Parallel holen sich die Arbeiter
+     * die jeweils naechste Aufgabe aus der Liste (groesste zuerst, gute Lastverteilung).
+     * 
+     * Pre: aufgaben nicht null, absteigend nach Aufwand sortiert
+     * Post: Alle Aufgaben sind ausgefuehrt
+     * 
+     * @param aufgaben Auszufuehrende Aufgaben
+     * @param parallel false fuer Ausfuehrung nacheinander im aufrufenden Thread
+     */
+    private static void fuehreAusGroessteZuerst(List<? extends Runnable> aufgaben, boolean parallel) {
+        if (!parallel) {
+            for (Runnable aufgabe : aufgaben) {
+                aufgabe.run();
+            }
+            return;
+        }
+        ParallelAusfuehrer.fuehreAusGroessteZuerst(aufgaben.size(), i -> aufgaben.get(i).run());
     }
 
     /**
@@ -75,21 +173,39 @@ public final class WartungsRoutenPlaner {
      * 
      * @param cluster Liste der Anlagen im Cluster
      * @param clusterNummer Nummer des Clusters (1-basiert)
-     * @param alleClusters Alle Cluster (fuer Distanz-Warnungen)
+     * @param minClusterDistanzen Minimale Distanz je Cluster zum naechsten Cluster (null bei nur einem Cluster)
+     * @param depot Zugeordnetes Depot (null ohne Depotplanung)
      * @return Anzahl benoetiger Tage fuer diesen Cluster
      */
     private static int verarbeiteCluster(List<Windkraftanlage> cluster, int clusterNummer,
-                                         List<List<Windkraftanlage>> alleClusters) {
+                                         float[] minClusterDistanzen, Depot depot) {
         // Cluster-Details ausgeben
         AusgabeManager.gebeAusFormat(Konstanten.WARTUNG_CLUSTER_DETAILS, clusterNummer, cluster.size());
         
         // Warnung wenn Cluster isoliert ist
-        if (alleClusters.size() > 1) {
-            gebeClusterWarnungAus(cluster, clusterNummer, alleClusters);
+        if (minClusterDistanzen != null) {
+            gebeClusterWarnungAus(cluster, clusterNummer, minClusterDistanzen[clusterNummer - 1]);
+        }
+        
+        // Depot und Anfahrt zur ersten Anlage; die Anfahrt zaehlt wie in DepotZuordnung
+        // zu Strecke und Reisetagen
+        float anfahrtKm = 0f;
+        int anfahrtTage = 0;
+        if (depot != null) {
+            anfahrtKm = DepotZuordnung.berechneAnfahrtKm(cluster.get(0), depot);
+            anfahrtTage = WartungsZeitBerechner.berechneReisetage(anfahrtKm);
+            AusgabeManager.gebeAusFormat(Konstanten.WARTUNG_DEPOT_FORMAT, depot.getName(), anfahrtKm);
+        }
+        
+        // Tourenplanung: Tagestouren je Team statt zerlegter Gesamtroute
+        if (Konstanten.WARTUNG_TOURENPLANUNG_AKTIVIERT) {
+            return verarbeiteClusterMitTouren(cluster, clusterNummer, anfahrtTage);
         }
         
-        // Route optimieren
-        List<Windkraftanlage> route = RoutenOptimierer.erstelleOptimierteRoute(cluster);
+        // Route optimieren (unveraenderte Cluster aus dem Routen-Cache)
+        List<Windkraftanlage> route = RoutenDateiSpeicher.ladeOderErstelleRoute(cluster,
+            Konstanten.WARTUNG_ROUTEN_ZEITBUDGET_MS, Konstanten.WARTUNG_ROUTEN_MEHRFACHSTART_AKTIVIERT,
+            Konstanten.WARTUNG_ROUTEN_TAGEOPTIMIERUNG_AKTIVIERT);
         
         // Startanlage ausgeben
         if (!route.isEmpty()) {
@@ -102,8 +218,8 @@ public final class WartungsRoutenPlaner {
                 start.getObjektId(), start.getName(), ort);
         }
         
-        // Routenlaenge ausgeben
-        float routenLaenge = RoutenOptimierer.berechneGesamtDistanz(route);
+        // Routenlaenge ausgeben (inklusive Anfahrt vom Depot)
+        float routenLaenge = anfahrtKm + RoutenOptimierer.berechneGesamtDistanz(route);
         AusgabeManager.gebeAusFormat(Konstanten.WARTUNG_ROUTEN_LAENGE, routenLaenge);
         
         // Warnungen fuer zu lange Strecken
@@ -112,8 +228,17 @@ public final class WartungsRoutenPlaner {
             AusgabeManager.gebeAus(warnungen.get(i));
         }
         
-        // Wartungstage berechnen
-        int tage = WartungsZeitBerechner.berechneGesamtdauer(route);
+        // Warnungen fuer verletzte Wartungsfenster
+        List<String> fensterWarnungen = WartungsZeitBerechner.pruefeZeitfenster(route);
+        for (int i = 0; i < fensterWarnungen.size(); i++) {
+            AusgabeManager.gebeAus(fensterWarnungen.get(i));
+        }
+        if (!fensterWarnungen.isEmpty()) {
+            ZeitStatistiken.erhoeheStat(Konstanten.STAT_ZEITFENSTER_VERLETZT, fensterWarnungen.size());
+        }
+        
+        // Wartungstage berechnen (inklusive Reisetage der Anfahrt)
+        int tage = anfahrtTage + WartungsZeitBerechner.berechneGesamtdauer(route);
         AusgabeManager.gebeAusFormat(Konstanten.WARTUNG_TAGE_CLUSTER, clusterNummer, tage);
         
         // Arbeitsplan erstellen und ausgeben
@@ -122,36 +247,52 @@ public final class WartungsRoutenPlaner {
         return tage;
     }
 
+    /**
+     * Plant einen Cluster als Tagestouren mehrerer Teams und gibt sie aus.
+     * Die Clusterdauer ist der spaeteste Arbeitstag ueber alle Teams plus die Reisetage der Anfahrt.
+     * 
+     * Pre: cluster nicht null und nicht leer
+     * Post: Tagestouren und Dauer wurden ausgegeben
+     * 
+     * @param cluster Liste der Anlagen im Cluster
+     * @param clusterNummer Nummer des Clusters (1-basiert)
+     * @param anfahrtTage Reisetage der Anfahrt vom Depot (0 ohne Depot)
+     * @return Anzahl benoetiger Tage fuer diesen Cluster
+     */
+    private static int verarbeiteClusterMitTouren(List<Windkraftanlage> cluster, int clusterNummer,
+                                                  int anfahrtTage) {
+        List<Tagestour> touren = TourenPlaner.plane(cluster, Konstanten.WARTUNG_ANZAHL_TEAMS);
+        int tage = anfahrtTage + TourenPlaner.berechneDauerTage(touren);
+        
+        AusgabeManager.gebeAusFormat(Konstanten.WARTUNG_TOURENPLANUNG_INFO,
+            touren.size(), Konstanten.WARTUNG_ANZAHL_TEAMS, tage);
+        AusgabeManager.gebeAusFormat(Konstanten.WARTUNG_TAGE_CLUSTER, clusterNummer, tage);
+        
+        for (int i = 0; i < touren.size(); i++) {
+            Tagestour tour = touren.get(i);
+            List<Integer> ids = new ArrayList<>(tour.getAnlagen().size());
+            for (Windkraftanlage anlage : tour.getAnlagen()) {
+                ids.add(anlage.getObjektId());
+            }
+            AusgabeManager.gebeAusFormat(Konstanten.WARTUNG_TAGESTOUR_FORMAT, tour.getTeam(), tour.getTag(),
+                WartungsZeitBerechner.formatiereTagesAnlagen(ids), tour.getFahrstreckeKm());
+        }
+        
+        return tage;
+    }
+
     /**
      * Gibt Warnung fuer isolierte Cluster aus.
      * 
-     * Pre: cluster und alleClusters nicht null
+     * Pre: cluster nicht null
      * Post: Warnung wurde ausgegeben wenn Cluster isoliert
      * 
      * @param cluster Der aktuelle Cluster
      * @param clusterNummer Nummer des Clusters
-     * @param alleClusters Alle Cluster
+     * @param minDistanz Minimale Distanz zum naechsten anderen Cluster in km
      */
     private static void gebeClusterWarnungAus(List<Windkraftanlage> cluster, int clusterNummer,
-                                              List<List<Windkraftanlage>> alleClusters) {
-        // Finde minimale Distanz zu anderen Clustern
-        float minDistanz = Float.MAX_VALUE;
-        
-        for (int i = 0; i < alleClusters.size(); i++) {
-            List<Windkraftanlage> andererCluster = alleClusters.get(i);
-            
-            // Ueberspringe eigenen Cluster
-            if (andererCluster == cluster) {
-                continue;
-            }
-            
-            float distanz = WartungsClusterDetector.berechneClusterDistanz(cluster, andererCluster);
-            
-            if (distanz < minDistanz) {
-                minDistanz = distanz;
-            }
-        }
-        
+                                              float minDistanz) {
         // Warnung wenn Distanz > Transportlimit
         if (minDistanz > Konstanten.MAX_TRANSPORT_DISTANZ_KM) {
             AusgabeManager.gebeAusFormat(Konstanten.WARTUNG_CLUSTER_WARNUNG,
@@ -177,8 +318,24 @@ public final class WartungsRoutenPlaner {
         }
     }
 
+    /**
+     * Plant die Wartung fuer alle Hersteller aus HerstellerGruppierer.gruppiereNachHersteller.
+     * Sind Depots konfiguriert, werden die Cluster aller Hersteller in einer einzigen
+     * DepotZuordnung.ordneZu-Anfrage verteilt, die Depot-Auslastung umfasst damit alle Anlagen.
+     * 
+     * Pre: alleAnlagen nicht null
+     * Post: Wartungsplaene fuer alle Hersteller wurden ausgegeben
+     * 
+     * @param alleAnlagen Liste aller Windkraftanlagen
+     * @return Map mit Hersteller -> benoetigte Tage
+     */
+    public static Map<String, Integer> planeWartungFuerAlleHersteller(List<Windkraftanlage> alleAnlagen) {
+        return planeWartungFuerTopHersteller(alleAnlagen, Integer.MAX_VALUE);
+    }
+
     /**
      * Plant die Wartung fuer mehrere Hersteller und gibt Gesamtstatistik aus.
+     * Alle geplanten Hersteller teilen sich eine Depot-Zuordnung (siehe planeParallel).
      * 
      * Pre: alleAnlagen nicht null, topAnzahl > 0
      * Post: Wartungsplaene fuer Top N Hersteller wurden ausgegeben
@@ -189,6 +346,23 @@ public final class WartungsRoutenPlaner {
      */
     public static Map<String, Integer> planeWartungFuerTopHersteller(List<Windkraftanlage> alleAnlagen, 
                                                                       int topAnzahl) {
+        return planeWartungFuerTopHersteller(alleAnlagen, topAnzahl, Konstanten.WARTUNG_PARALLEL_AKTIVIERT);
+    }
+
+    /**
+     * Wie planeWartungFuerTopHersteller(alleAnlagen, topAnzahl), aber mit waehlbarer Ausfuehrung,
+     * damit parallele und sequentielle Planung verglichen werden koennen.
+     * 
+     * Pre: alleAnlagen nicht null, topAnzahl > 0
+     * Post: Wartungsplaene fuer Top N Hersteller wurden ausgegeben
+     * 
+     * @param alleAnlagen Liste aller Windkraftanlagen
+     * @param topAnzahl Anzahl der zu analysierenden Top-Hersteller
+     * @param parallel true fuer ForkJoin-Aufgaben, false fuer Ausfuehrung im aufrufenden Thread
+     * @return Map mit Hersteller -> benoetite Tage
+     */
+    static Map<String, Integer> planeWartungFuerTopHersteller(List<Windkraftanlage> alleAnlagen, int topAnzahl,
+                                                             boolean parallel) {
         Map<String, Integer> ergebnis = new java.util.HashMap<>();
         
         if (alleAnlagen == null || alleAnlagen.isEmpty()) {
@@ -212,31 +386,180 @@ public final class WartungsRoutenPlaner {
         ZeitStatistiken.zeichneStat(Konstanten.STAT_ANZAHL_HERSTELLER, 
             String.valueOf(herstellerGruppen.size()));
         
-        // Hole Top N Hersteller
-        List<String> topHersteller = HerstellerGruppierer.holeTopHersteller(herstellerZaehler, topAnzahl);
-        
-        // Plane Wartung fuer jeden Top-Hersteller
-        int gesamtTageAlleHersteller = 0;
+        // Hole Top N Hersteller (hoechstens alle vorhandenen)
+        int anzahlHersteller = Math.min(topAnzahl, herstellerGruppen.size());
+        List<String> topHersteller = HerstellerGruppierer.holeTopHersteller(herstellerZaehler, anzahlHersteller);
         
+        // Plane Wartung fuer alle Top-Hersteller parallel
+        List<HerstellerPlanung> planungen = new ArrayList<>(topHersteller.size());
         for (int i = 0; i < topHersteller.size(); i++) {
             String hersteller = topHersteller.get(i);
-            List<Windkraftanlage> herstellerAnlagen = herstellerGruppen.get(hersteller);
-            
-            ZeitMessung routenTimer = ZeitMessung.starte();
-            int tage = planeWartung(herstellerAnlagen, hersteller);
-            float routenZeit = routenTimer.stoppeUndGibMillis();
+            planungen.add(new HerstellerPlanung(hersteller, herstellerGruppen.get(hersteller)));
+        }
+        List<Depot> depots = DepotLeser.holeStandard();
+        planeParallel(planungen, depots, parallel);
+        
+        // Ausgabe in der Reihenfolge der Top-Hersteller
+        int gesamtTageAlleHersteller = 0;
+        
+        for (int i = 0; i < planungen.size(); i++) {
+            HerstellerPlanung planung = planungen.get(i);
+            int tage = planung.gebeAus();
             
-            AusgabeManager.gebeAusFormat(Konstanten.WARTUNG_BERECHNUNGSZEIT, routenZeit);
+            AusgabeManager.gebeAusFormat(Konstanten.WARTUNG_BERECHNUNGSZEIT, planung.berechneWanduhrMillis(),
+                planung.berechneRechenzeitMillis());
             
-            ergebnis.put(hersteller, tage);
+            ergebnis.put(planung.name, tage);
             gesamtTageAlleHersteller += tage;
         }
         
+        if (depots != null) {
+            gebeDepotAuslastungAus(planungen, depots);
+        }
+        
         // Gesamtstatistik
-        String statKey = String.format(Konstanten.STAT_WARTUNGSTAGE_GESAMT, topAnzahl);
+        String statKey = String.format(Konstanten.STAT_WARTUNGSTAGE_GESAMT, anzahlHersteller);
         ZeitStatistiken.zeichneStat(statKey, String.valueOf(gesamtTageAlleHersteller));
+
+        StrassenNetz netz = StrassenNetz.holeStandard();
+        if (netz != null) {
+            netz.getCache().zeichneStatistikAuf(Konstanten.STAT_FAHRDISTANZ_CACHE);
+        }
         
         return ergebnis;
     }
-}
 
+    /**
+     * Planung eines Herstellers: Cluster-Erkennung als Aufgabe der ersten Phase,
+     * haelt die Cluster-Aufgaben der zweiten Phase und gibt alles in fester Reihenfolge aus.
+     */
+    private static final class HerstellerPlanung implements Runnable {
+
+        private final String name;
+        private final List<Windkraftanlage> anlagen;
+        private final AusgabePuffer kopf = new AusgabePuffer();
+        private final List<ClusterPlanung> clusterPlanungen = new ArrayList<>();
+        private long startNano;
+        private long endeNano;
+
+        HerstellerPlanung(String name, List<Windkraftanlage> anlagen) {
+            this.name = name;
+            this.anlagen = anlagen;
+        }
+
+        /**
+         * Gibt die Ueberschrift aus, erkennt die Cluster und legt je Cluster eine Aufgabe an.
+         */
+        @Override
+        public void run() {
+            if (anlagen == null || anlagen.isEmpty()) {
+                return;
+            }
+            startNano = ZeitMessung.jetztNano();
+            kopf.fuehreAus(() -> {
+                // Ueberschrift ausgeben
+                AusgabeManager.gebeAusFormat(Konstanten.WARTUNG_HERSTELLER_UEBERSCHRIFT, name, anlagen.size());
+                
+                // Schritt 1: Erkenne Cluster
+                List<List<Windkraftanlage>> clusters = WartungsClusterDetector.erkenneClustersAusAnlagen(anlagen);
+                
+                // Cluster-Info ausgeben
+                AusgabeManager.gebeAusFormat(Konstanten.WARTUNG_CLUSTER_INFO, clusters.size());
+                
+                // Minimale Distanzen zwischen den Clustern in einem Durchlauf (fuer Isolations-Warnungen)
+                float[] minClusterDistanzen = null;
+                if (clusters.size() > 1) {
+                    minClusterDistanzen = WartungsClusterDetector.berechneMinimaleClusterDistanzen(clusters);
+                }
+                
+                for (int clusterNr = 0; clusterNr < clusters.size(); clusterNr++) {
+                    clusterPlanungen.add(new ClusterPlanung(clusters.get(clusterNr), clusterNr + 1,
+                        minClusterDistanzen));
+                }
+            });
+            endeNano = ZeitMessung.jetztNano();
+        }
+
+        /**
+         * Gibt Ueberschrift, alle Cluster und die Gesamtdauer in Cluster-Reihenfolge aus.
+         * 
+         * @return Gesamtanzahl benoetiger Wartungstage
+         */
+        int gebeAus() {
+            if (anlagen == null || anlagen.isEmpty()) {
+                return 0;
+            }
+            kopf.gebeAus();
+            
+            int gesamtTage = 0;
+            for (ClusterPlanung planung : clusterPlanungen) {
+                planung.puffer.gebeAus();
+                gesamtTage += planung.tage;
+            }
+            
+            // Gesamtergebnis ausgeben
+            AusgabeManager.gebeAusFormat(Konstanten.WARTUNG_TAGE_GESAMT, gesamtTage);
+            return gesamtTage;
+        }
+
+        /**
+         * Summiert die Rechenzeit aller Aufgaben dieses Herstellers (bei paralleler
+         * Ausfuehrung mehr als die verstrichene Zeit).
+         * 
+         * @return Rechenzeit in Millisekunden
+         */
+        float berechneRechenzeitMillis() {
+            long summe = endeNano - startNano;
+            for (ClusterPlanung planung : clusterPlanungen) {
+                summe += planung.endeNano - planung.startNano;
+            }
+            return ZeitMessung.nanoZuMillis(summe);
+        }
+
+        /**
+         * Verstrichene Zeit vom Beginn der Cluster-Erkennung bis zum Ende der letzten
+         * Cluster-Aufgabe dieses Herstellers. Parallel ueberlappen sich die Zeitraeume
+         * verschiedener Hersteller.
+         * 
+         * @return Wanduhrzeit in Millisekunden
+         */
+        float berechneWanduhrMillis() {
+            long ende = endeNano;
+            for (ClusterPlanung planung : clusterPlanungen) {
+                ende = Math.max(ende, planung.endeNano);
+            }
+            return ZeitMessung.nanoZuMillis(ende - startNano);
+        }
+    }
+
+    /**
+     * Aufgabe der zweiten Phase: Verarbeitet einen Cluster mit eigenem Ausgabepuffer.
+     */
+    private static final class ClusterPlanung implements Runnable {
+
+        private List<Windkraftanlage> cluster;
+        private final int nummer;
+        private final float[] minClusterDistanzen;
+        private final AusgabePuffer puffer = new AusgabePuffer();
+        private Depot depot;
+        private int tage;
+        private long startNano;
+        private long endeNano;
+
+        ClusterPlanung(List<Windkraftanlage> cluster, int nummer, float[] minClusterDistanzen) {
+            this.cluster = cluster;
+            this.nummer = nummer;
+            this.minClusterDistanzen = minClusterDistanzen;
+        }
+
+        /**
+         * Verarbeitet den Cluster und zeichnet seine Ausgaben auf.
+         */
+        @Override
+        public void run() {
+            startNano = ZeitMessung.jetztNano();
+            puffer.fuehreAus(() -> tage = verarbeiteCluster(cluster, nummer, minClusterDistanzen, depot));
+            endeNano = ZeitMessung.jetztNano();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package util;
 
+import model.WartungsParameter;
 import model.Windkraftanlage;
 
 import java.util.ArrayList;
@@ -27,11 +28,9 @@ public final class WartungsZeitBerechner {
     }
 
     /**
-     * Berechnet die Anzahl der benoeligten Wartungstage fuer eine Route.
-     * 
-     * Arbeitsmodell:
-     * - 8:00 - 16:00: Wartung (8 Stunden = 4 Anlagen bei 2h/Anlage)
-     * - 16:00 - 18:00: Transport zur naechsten Anlage (max 120 km bei 60 km/h)
+     * Berechnet die Anzahl der Wartungstage (ohne Reisetage) einer Route.
+     * Es ist die Anzahl Arbeitstage der optimalen Tagesaufteilung (berechneTagesanfaenge),
+     * also hoechstens ANLAGEN_PRO_TAG Anlagen pro Tag.
      * 
      * Pre: route darf nicht null sein
      * Post: Rueckgabe ist Anzahl der benoeligten Tage (mindestens 1 bei nicht-leerer Route)
@@ -40,19 +39,15 @@ public final class WartungsZeitBerechner {
      * @return Anzahl der benoeligten Wartungstage
      */
     public static int berechneWartungstage(List<Windkraftanlage> route) {
-        if (route == null || route.isEmpty()) {
-            return 0;
-        }
-        
-        int anzahlAnlagen = route.size();
-        
-        // Berechne Basis-Tage (Anlagen / Anlagen pro Tag, aufgerundet)
-        return (anzahlAnlagen + Konstanten.ANLAGEN_PRO_TAG - 1) / Konstanten.ANLAGEN_PRO_TAG;
+        return berechneTagesanfaenge(route).length;
     }
 
     /**
      * Erstellt einen detaillierten Arbeitsplan fuer eine Route.
-     * Jeder Tag enthaelt die IDs der zu wartenden Anlagen.
+     * Jeder Tag enthaelt die IDs der zu wartenden Anlagen; die Tagesgrenzen stammen aus
+     * der optimalen Tagesaufteilung (berechneTagesanfaenge). Hat eine Anlage der Route ein
+     * Wartungsfenster, gilt stattdessen der Terminplan (berechneTerminplan) mit einem Eintrag
+     * je Kalendertag, Warte- und Reisetage bleiben leer.
      * 
      * Pre: route darf nicht null sein
      * Post: Rueckgabe ist Liste von Tages-Listen mit Anlagen-IDs
@@ -67,21 +62,20 @@ public final class WartungsZeitBerechner {
             return arbeitsplan;
         }
         
-        int anlagenIndex = 0;
+        WartungsFenster fenster = holeFensterFuer(route);
+        if (fenster != null) {
+            return erstelleArbeitsplanMitFenstern(route, fenster);
+        }
         
-        // Verarbeite alle Anlagen
-        while (anlagenIndex < route.size()) {
-            List<Integer> tagesAnlagen = new ArrayList<>();
-            
-            // Fuege bis zu ANLAGEN_PRO_TAG Anlagen zum aktuellen Tag hinzu
-            int anlagenAmTag = 0;
-            while (anlagenIndex < route.size() && anlagenAmTag < Konstanten.ANLAGEN_PRO_TAG) {
-                Windkraftanlage anlage = route.get(anlagenIndex);
-                tagesAnlagen.add(anlage.getObjektId());
-                anlagenIndex++;
-                anlagenAmTag++;
+        int[] anfaenge = berechneTagesanfaenge(route);
+        
+        // Verarbeite alle Tage von Tagesanfang bis vor den naechsten Tagesanfang
+        for (int tag = 0; tag < anfaenge.length; tag++) {
+            int ende = tag + 1 < anfaenge.length ? anfaenge[tag + 1] : route.size();
+            List<Integer> tagesAnlagen = new ArrayList<>(ende - anfaenge[tag]);
+            for (int i = anfaenge[tag]; i < ende; i++) {
+                tagesAnlagen.add(route.get(i).getObjektId());
             }
-            
             arbeitsplan.add(tagesAnlagen);
         }
         
@@ -109,7 +103,7 @@ public final class WartungsZeitBerechner {
             Windkraftanlage von = route.get(i);
             Windkraftanlage nach = route.get(i + 1);
             
-            float distanz = RoutenOptimierer.berechneDistanz(von, nach);
+            float distanz = RoutenOptimierer.berechneFahrDistanz(von, nach);
             
             if (distanz > Konstanten.MAX_TRANSPORT_DISTANZ_KM) {
                 String warnung = String.format(Konstanten.WARTUNG_DISTANZ_WARNUNG,
@@ -123,7 +117,8 @@ public final class WartungsZeitBerechner {
 
     /**
      * Berechnet die zusaetzlichen Tage fuer Transportstrecken die das Limit ueberschreiten.
-     * Bei Strecken > 120km wird ein zusaetzlicher Reisetag benoetigt.
+     * Transport findet nur zwischen zwei Arbeitstagen statt; gezaehlt werden die Reisetage
+     * der optimalen Tagesaufteilung (berechneTagesanfaenge).
      * 
      * Pre: route darf nicht null sein
      * Post: Rueckgabe ist Anzahl zusaetzlicher Reisetage
@@ -136,36 +131,166 @@ public final class WartungsZeitBerechner {
             return 0;
         }
         
+        int[] anfaenge = berechneTagesanfaenge(route);
         int zusaetzlicheTage = 0;
         
-        // Pruefe Uebergaenge zwischen Tagesgruppen
-        // Transport findet am Ende eines Arbeitstages statt (nach 4 Anlagen)
-        for (int i = Konstanten.ANLAGEN_PRO_TAG - 1; i < route.size() - 1; i += Konstanten.ANLAGEN_PRO_TAG) {
-            // i ist die letzte Anlage eines Tages, i+1 ist die erste des naechsten Tages
-            if (i + 1 < route.size()) {
-                Windkraftanlage von = route.get(i);
-                Windkraftanlage nach = route.get(i + 1);
-                
-                float distanz = RoutenOptimierer.berechneDistanz(von, nach);
-                
-                // Wenn Distanz > Transportlimit, brauchen wir einen extra Reisetag
-                if (distanz > Konstanten.MAX_TRANSPORT_DISTANZ_KM) {
-                    // Berechne wie viele extra Stunden benoetigt werden
-                    float extraKm = distanz - Konstanten.MAX_TRANSPORT_DISTANZ_KM;
-                    float extraStunden = extraKm / Konstanten.TRANSPORT_GESCHWINDIGKEIT_KMH;
-                    
-                    // Jede angefangene 8 Stunden (Arbeitstag) ist ein Reisetag
-                    int extraTage = (int) Math.ceil(extraStunden / Konstanten.ARBEITSSTUNDEN_PRO_TAG);
-                    zusaetzlicheTage += extraTage;
+        // Uebergang zwischen letzter Anlage des Vortages und erster Anlage des Tages
+        for (int tag = 1; tag < anfaenge.length; tag++) {
+            Windkraftanlage von = route.get(anfaenge[tag] - 1);
+            Windkraftanlage nach = route.get(anfaenge[tag]);
+            zusaetzlicheTage += berechneReisetage(RoutenOptimierer.berechneFahrDistanz(von, nach));
+        }
+        
+        return zusaetzlicheTage;
+    }
+
+    /**
+     * Berechnet die Tagesaufteilung einer festen Route mit minimaler Gesamtdauer (Wartung + Reise).
+     * Statt starr nach jeweils ANLAGEN_PRO_TAG Anlagen zu schneiden, werden lange Strecken nach
+     * Moeglichkeit innerhalb eines Tages gefahren, wo sie keinen Reisetag kosten.
+     * 
+     * Dynamische Programmierung rueckwaerts: dauer[i] = minimale Tage fuer die Anlagen ab i.
+     * Jeder Tag umfasst 1 bis ANLAGEN_PRO_TAG Anlagen, daher O(n) Laufzeit.
+     * Bei Gleichstand gewinnt der laengere Tag, ohne lange Strecken entsteht so die starre Aufteilung.
+     * 
+     * Pre: route darf nicht null sein
+     * Post: Rueckgabe enthaelt aufsteigende Startindizes der Tage, beginnend mit 0 (leer bei leerer Route)
+     * 
+     * @param route Die Wartungsroute
+     * @return Startindex jedes Arbeitstages in der Route
+     */
+    public static int[] berechneTagesanfaenge(List<Windkraftanlage> route) {
+        if (route == null || route.isEmpty()) {
+            return new int[0];
+        }
+        
+        int[] naechsterAnfang = new int[route.size()];
+        loeseTagesaufteilung(berechneReisetageJeKante(route), naechsterAnfang, Konstanten.ANLAGEN_PRO_TAG);
+        
+        List<Integer> anfaenge = new ArrayList<>();
+        for (int i = 0; i < route.size(); i = naechsterAnfang[i]) {
+            anfaenge.add(i);
+        }
+        int[] ergebnis = new int[anfaenge.size()];
+        for (int tag = 0; tag < ergebnis.length; tag++) {
+            ergebnis[tag] = anfaenge.get(tag);
+        }
+        return ergebnis;
+    }
+
+    /**
+     * Berechnet die minimale Gesamtdauer (Wartung + Reise) einer Route fuer beliebige Parameter.
+     * Gleiche Aufteilung wie berechneGesamtdauer, die Route ist nur ueber ihre Kantenlaengen gegeben,
+     * damit eine Route fuer viele Szenarien ohne erneute Distanzberechnung bewertet werden kann.
+     * 
+     * Pre: kantenKm und parameter nicht null; kantenKm[i] = Distanz (i, i+1) einer Route mit kantenKm.length + 1 Anlagen
+     * Post: Rueckgabe ist minimale Anzahl Tage
+     * 
+     * @param kantenKm Kantenlaengen der Route in km
+     * @param parameter Planungsparameter
+     * @return Minimale Gesamtdauer in Tagen
+     */
+    public static int berechneGesamtdauer(float[] kantenKm, WartungsParameter parameter) {
+        int[] reisetage = new int[kantenKm.length + 1];
+        for (int i = 1; i < reisetage.length; i++) {
+            reisetage[i] = berechneReisetage(kantenKm[i - 1], parameter.getMaxTransportDistanzKm(),
+                parameter.getGeschwindigkeitKmh());
+        }
+        return loeseTagesaufteilung(reisetage, null, parameter.getAnlagenProTag());
+    }
+
+    /**
+     * Berechnet die Reisetage, die ein Tagesanfang an jeder Routenposition kostet.
+     * 
+     * Pre: route nicht null
+     * Post: Rueckgabe[i] = Reisetage der Strecke (i-1, i), Rueckgabe[0] = 0
+     * 
+     * @param route Die Wartungsroute
+     * @return Reisetage je moeglichem Tagesanfang
+     */
+    private static int[] berechneReisetageJeKante(List<Windkraftanlage> route) {
+        int[] reisetage = new int[route.size()];
+        for (int i = 1; i < route.size(); i++) {
+            reisetage[i] = berechneReisetage(RoutenOptimierer.berechneFahrDistanz(route.get(i - 1), route.get(i)));
+        }
+        return reisetage;
+    }
+
+    /**
+     * Kern der Tagesaufteilung: Rueckwaerts-DP ueber die Reisetage, die ein Tagesanfang an Position i kostet.
+     * 
+     * Pre: reisetage[i] = Reisetage fuer die Strecke (i-1, i); naechsterAnfang null oder gleich lang
+     * Post: naechsterAnfang[i] (falls gesetzt) ist der Start des Folgetages bei Tagesanfang i
+     * 
+     * @param reisetage Reisetage je moeglichem Tagesanfang (Index 0 unbenutzt)
+     * @param naechsterAnfang Ausgabe fuer die Rekonstruktion oder null
+     * @param anlagenProTag Maximale Anlagen pro Tag
+     * @return Minimale Gesamtdauer in Tagen
+     */
+    static int loeseTagesaufteilung(int[] reisetage, int[] naechsterAnfang, int anlagenProTag) {
+        int anzahl = reisetage.length;
+        int[] dauer = new int[anzahl + 1];
+        
+        for (int i = anzahl - 1; i >= 0; i--) {
+            int beste = Integer.MAX_VALUE;
+            // Laengster Tag zuerst, nur echte Verbesserungen uebernehmen
+            for (int ende = Math.min(i + anlagenProTag, anzahl); ende > i; ende--) {
+                int kandidat = 1 + dauer[ende] + (ende < anzahl ? reisetage[ende] : 0);
+                if (kandidat < beste) {
+                    beste = kandidat;
+                    if (naechsterAnfang != null) {
+                        naechsterAnfang[i] = ende;
+                    }
                 }
             }
+            dauer[i] = beste;
         }
         
-        return zusaetzlicheTage;
+        return dauer[0];
+    }
+
+    /**
+     * Berechnet die Reisetage fuer eine einzelne Transportstrecke zwischen zwei Arbeitstagen.
+     * Strecken bis zum Transportlimit kosten keinen Tag, jede angefangene Arbeitstagslaenge
+     * darueber hinaus einen Reisetag.
+     * 
+     * Pre: distanz >= 0
+     * Post: Rueckgabe >= 0
+     * 
+     * @param distanz Transportstrecke in km
+     * @return Anzahl zusaetzlicher Reisetage
+     */
+    public static int berechneReisetage(float distanz) {
+        return berechneReisetage(distanz, Konstanten.MAX_TRANSPORT_DISTANZ_KM, Konstanten.TRANSPORT_GESCHWINDIGKEIT_KMH);
+    }
+
+    /**
+     * Berechnet die Reisetage einer Transportstrecke fuer ein beliebiges Transportlimit.
+     * 
+     * Pre: distanz >= 0, geschwindigkeitKmh > 0
+     * Post: Rueckgabe >= 0
+     * 
+     * @param distanz Transportstrecke in km
+     * @param maxTransportKm Transportlimit pro Tag in km
+     * @param geschwindigkeitKmh Transportgeschwindigkeit in km/h
+     * @return Anzahl zusaetzlicher Reisetage
+     */
+    public static int berechneReisetage(float distanz, float maxTransportKm, float geschwindigkeitKmh) {
+        // Wenn Distanz > Transportlimit, brauchen wir einen extra Reisetag
+        if (distanz <= maxTransportKm) {
+            return 0;
+        }
+        // Berechne wie viele extra Stunden benoetigt werden
+        float extraKm = distanz - maxTransportKm;
+        float extraStunden = extraKm / geschwindigkeitKmh;
+        
+        // Jede angefangene 8 Stunden (Arbeitstag) ist ein Reisetag
+        return (int) Math.ceil(extraStunden / Konstanten.ARBEITSSTUNDEN_PRO_TAG);
     }
 
     /**
-     * Berechnet die Gesamtdauer inklusive Reisetage.
+     * Berechnet die Gesamtdauer inklusive Reisetage bei optimaler Tagesaufteilung.
+     * Mit Wartungsfenstern ist die Dauer der letzte Tag des Terminplans (inklusive Wartetage).
      * 
      * Pre: route darf nicht null sein
      * Post: Rueckgabe ist Gesamtanzahl Tage (Wartung + Reise)
@@ -174,10 +299,134 @@ public final class WartungsZeitBerechner {
      * @return Gesamtanzahl benoetiger Tage
      */
     public static int berechneGesamtdauer(List<Windkraftanlage> route) {
-        int wartungstage = berechneWartungstage(route);
-        int reisetage = berechneZusaetzlicheReisetage(route);
+        WartungsFenster fenster = holeFensterFuer(route);
+        if (fenster != null) {
+            int[] termine = berechneTerminplan(route, fenster);
+            return termine[termine.length - 1];
+        }
+        
+        if (route == null || route.isEmpty()) {
+            return 0;
+        }
+        
+        // Eine DP liefert Wartungs- und Reisetage zusammen
+        return loeseTagesaufteilung(berechneReisetageJeKante(route), null, Konstanten.ANLAGEN_PRO_TAG);
+    }
+
+    /**
+     * Prueft die Wartungsfenster einer Route und liefert Warnungen fuer verletzte Fenster.
+     * 
+     * Pre: route darf nicht null sein
+     * Post: Rueckgabe ist leer ohne Fenster oder wenn alle Fenster eingehalten werden
+     * 
+     * @param route Die Wartungsroute
+     * @return Liste von Warnungs-Strings (leer wenn keine Warnungen)
+     */
+    public static List<String> pruefeZeitfenster(List<Windkraftanlage> route) {
+        List<String> warnungen = new ArrayList<>();
+        WartungsFenster fenster = holeFensterFuer(route);
+        if (fenster == null) {
+            return warnungen;
+        }
+        
+        int[] termine = berechneTerminplan(route, fenster);
+        for (int i = 0; i < route.size(); i++) {
+            int id = route.get(i).getObjektId();
+            if (!fenster.istErlaubt(id, termine[i])) {
+                warnungen.add(String.format(Konstanten.WARTUNG_ZEITFENSTER_WARNUNG,
+                    id, termine[i], formatiereFenster(fenster.getFenster(id))));
+            }
+        }
+        return warnungen;
+    }
+
+    /**
+     * Berechnet den Wartungstag jeder Anlage einer festen Route unter Wartungsfenstern.
+     * 
+     * Tage werden der Reihe nach mit bis zu ANLAGEN_PRO_TAG Anlagen gefuellt. Ein neuer Tag
+     * beginnt, wenn der Tag voll ist oder die naechste Anlage erst spaeter erlaubt ist (Warten bis
+     * zu ihrem naechsten Fenster, auch ueber eine Sperrzeit hinweg); die Kante davor kostet dann
+     * ihre Reisetage, die in Wartetage fallen duerfen. Eine Anlage, deren Fenster alle vorbei
+     * sind, wird trotzdem eingeplant (Verzug, siehe pruefeZeitfenster).
+     * ZeitfensterOptimierer schaetzt jede Kante mit ihrer groesstmoeglichen Verschiebung ab,
+     * dort verzugsfreie Routen sind hier verzugsfrei.
+     * 
+     * Pre: route nicht leer, fenster nicht null
+     * Post: Rueckgabe[i] ist der Tag (1-basiert) von route.get(i), nicht fallend
+     * 
+     * @param route Die Wartungsroute
+     * @param fenster Wartungsfenster
+     * @return Wartungstag je Routenposition
+     */
+    public static int[] berechneTerminplan(List<Windkraftanlage> route, WartungsFenster fenster) {
+        int[] termine = new int[route.size()];
+        int tag = fenster.naechsterErlaubterTag(route.get(0).getObjektId(), 1);
+        int belegt = 1;
+        termine[0] = tag;
         
-        return wartungstage + reisetage;
+        for (int i = 1; i < route.size(); i++) {
+            int id = route.get(i).getObjektId();
+            if (belegt < Konstanten.ANLAGEN_PRO_TAG && fenster.naechsterErlaubterTag(id, tag) == tag) {
+                belegt++;
+            } else {
+                int reisetage = berechneReisetage(RoutenOptimierer.berechneFahrDistanz(route.get(i - 1), route.get(i)));
+                tag = fenster.naechsterErlaubterTag(id, tag + 1 + reisetage);
+                belegt = 1;
+            }
+            termine[i] = tag;
+        }
+        return termine;
+    }
+
+    /**
+     * Liefert die aktiven Wartungsfenster, wenn mindestens eine Anlage der Route eines hat.
+     * 
+     * @param route Die Wartungsroute
+     * @return Fenster oder null (dann gilt die Tagesaufteilung ohne Fenster)
+     */
+    static WartungsFenster holeFensterFuer(List<Windkraftanlage> route) {
+        if (route == null || route.isEmpty()) {
+            return null;
+        }
+        WartungsFenster fenster = WartungsFenster.holeStandard();
+        return fenster != null && fenster.hatFenster(route) ? fenster : null;
+    }
+
+    /**
+     * Erstellt den Arbeitsplan aus dem Terminplan, ein Eintrag je Kalendertag.
+     * 
+     * @param route Die Wartungsroute
+     * @param fenster Wartungsfenster
+     * @return Liste von Tagen mit Anlagen-IDs (leer an Warte- und Reisetagen)
+     */
+    private static List<List<Integer>> erstelleArbeitsplanMitFenstern(List<Windkraftanlage> route,
+                                                                       WartungsFenster fenster) {
+        int[] termine = berechneTerminplan(route, fenster);
+        List<List<Integer>> arbeitsplan = new ArrayList<>(termine[termine.length - 1]);
+        for (int tag = 0; tag < termine[termine.length - 1]; tag++) {
+            arbeitsplan.add(new ArrayList<>());
+        }
+        for (int i = 0; i < route.size(); i++) {
+            arbeitsplan.get(termine[i] - 1).add(route.get(i).getObjektId());
+        }
+        return arbeitsplan;
+    }
+
+    /**
+     * Formatiert die Fenster einer Anlage, z.B. "1 bis 30, 61 bis 200".
+     * 
+     * @param grenzen Fenster als {frueh0, spaet0, frueh1, spaet1, ...}
+     * @return Formatierte Fenster
+     */
+    private static String formatiereFenster(int[] grenzen) {
+        StringBuilder sb = new StringBuilder();
+        for (int k = 0; k < grenzen.length; k += 2) {
+            if (k > 0) {
+                sb.append(Konstanten.WARTUNG_ZEITFENSTER_TRENNER);
+            }
+            sb.append(String.format(Konstanten.WARTUNG_ZEITFENSTER_BEREICH, grenzen[k], grenzen[k + 1]));
+        }
+        return sb.toString();
     }
 
     /**
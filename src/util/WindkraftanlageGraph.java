@@ -4,12 +4,18 @@ import model.Graphknoten;
 import model.Windkraftanlage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Ungerichteter Graph zur Verwaltung von Windkraftanlagen-Beziehungen.
  * Implementiert mittels Adjazenzliste für effizienten Speicherverbrauch bei dünn besetzten Graphen.
  * 
+ * Neben dem vollständigen Aufbau unterstützt der Graph inkrementelle Änderungen
+ * (Anlage hinzufügen, verschieben, entfernen). Dafür wird beim ersten Aufruf ein
+ * Gitter-Index aufgebaut, sodass nur die lokale Umgebung neu verbunden wird.
+ * 
  * Design-Prinzipien:
  * - Single Responsibility: Nur Graph-Verwaltung und Kantenbildung
  * - KISS: Einfache ArrayList für Knoten, einfache Schleifen
@@ -26,6 +32,12 @@ public class WindkraftanlageGraph {
     /** Maximale Distanz in km für Kantenbildung */
     private final float maxDistanzKm;
 
+    /** Position jeder Anlage in der Knotenliste (nur für inkrementelle Änderungen, sonst null) */
+    private Map<Windkraftanlage, Integer> knotenPosition;
+
+    /** Räumlicher Index über die Knotenpositionen (nur für inkrementelle Änderungen, sonst null) */
+    private GitterIndex index;
+
     /**
      * Erstellt einen neuen leeren Graphen.
      * 
@@ -56,6 +68,7 @@ public class WindkraftanlageGraph {
         if (anlagen == null) {
             throw new IllegalArgumentException("Anlagen-Liste darf nicht null sein");
         }
+        verwerfeIndex();
 
         // Schritt 1: Erstelle Knoten für alle Anlagen mit Koordinaten
         erstelleKnoten(anlagen);
@@ -119,8 +132,8 @@ public class WindkraftanlageGraph {
                 
                 // Füge Kante hinzu wenn Distanz im Bereich
                 if (distanz <= maxDistanzKm) {
-                    knoten1.fuegeNachbarHinzu(knoten2);
-                    knoten2.fuegeNachbarHinzu(knoten1); // Ungerichteter Graph
+                    knoten1.fuegeNachbarHinzu(knoten2, distanz);
+                    knoten2.fuegeNachbarHinzu(knoten1, distanz); // Ungerichteter Graph
                 }
             }
         }
@@ -149,6 +162,214 @@ public class WindkraftanlageGraph {
                                                    breitengrad2, laengengrad2);
     }
 
+    /**
+     * Übernimmt einen bereits vollständig verbundenen Knoten (z.B. aus einer Graph-Datei).
+     * Es findet keine Distanzberechnung statt.
+     * 
+     * Pre: geladenerKnoten nicht null, Nachbarn stammen aus demselben Graphen
+     * Post: Knoten ist am Ende der Knotenliste angefügt
+     * 
+     * @param geladenerKnoten Der zu übernehmende Knoten
+     */
+    void uebernehmeKnoten(Graphknoten geladenerKnoten) {
+        verwerfeIndex();
+        knoten.add(geladenerKnoten);
+    }
+
+    /**
+     * Fügt eine einzelne Anlage hinzu und verbindet sie mit allen Anlagen im Distanzbereich.
+     * Es werden nur Kandidaten aus den angrenzenden Gitterzellen geprüft.
+     * 
+     * Pre: anlage nicht null und noch nicht im Graphen
+     * Post: Neuer Knoten am Ende der Knotenliste, Kanten wie bei baueGraphAuf
+     * 
+     * @param anlage Die hinzuzufügende Anlage
+     * @return Neuer Knoten oder null, wenn die Anlage keine Koordinaten hat
+     */
+    public Graphknoten fuegeAnlageHinzu(Windkraftanlage anlage) {
+        if (anlage == null) {
+            throw new IllegalArgumentException("Anlage darf nicht null sein");
+        }
+        stelleIndexSicher();
+        if (knotenPosition.containsKey(anlage)) {
+            throw new IllegalArgumentException("Anlage ist bereits im Graphen");
+        }
+        if (!hatGueltigeKoordinaten(anlage)) {
+            return null;
+        }
+
+        Graphknoten neuerKnoten = new Graphknoten(anlage);
+        int position = knoten.size();
+        verbindeMitUmgebung(neuerKnoten);
+
+        knoten.add(neuerKnoten);
+        knotenPosition.put(anlage, position);
+        index.fuegeEin(position, anlage.getBreitengrad(), anlage.getLaengengrad());
+        return neuerKnoten;
+    }
+
+    /**
+     * Entfernt eine Anlage samt aller Kanten.
+     * Der letzte Knoten rückt an die frei gewordene Position (Reihenfolge ändert sich).
+     * 
+     * Pre: anlage nicht null
+     * Post: Anlage ist nicht mehr im Graphen, Nachbarn kennen sie nicht mehr
+     * 
+     * @param anlage Die zu entfernende Anlage
+     * @return true wenn die Anlage im Graphen war
+     */
+    public boolean entferneAnlage(Windkraftanlage anlage) {
+        if (anlage == null) {
+            throw new IllegalArgumentException("Anlage darf nicht null sein");
+        }
+        stelleIndexSicher();
+        Integer position = knotenPosition.remove(anlage);
+        if (position == null) {
+            return false;
+        }
+
+        Graphknoten alterKnoten = knoten.get(position);
+        trenneVonNachbarn(alterKnoten);
+        index.entferne(position);
+
+        // Swap-Remove: letzter Knoten übernimmt die Position
+        int letztePosition = knoten.size() - 1;
+        if (position != letztePosition) {
+            Graphknoten verschoben = knoten.get(letztePosition);
+            knoten.set(position, verschoben);
+            knotenPosition.put(verschoben.getAnlage(), position);
+            index.ersetzeId(letztePosition, position);
+        }
+        knoten.remove(letztePosition);
+        return true;
+    }
+
+    /**
+     * Setzt neue Koordinaten für eine Anlage und aktualisiert nur deren Kanten.
+     * Fehlen die neuen Koordinaten, wird die Anlage entfernt; war sie noch nicht im
+     * Graphen, wird sie hinzugefügt.
+     * 
+     * Pre: anlage nicht null
+     * Post: Koordinaten gesetzt, Kanten entsprechen der neuen Position
+     * 
+     * @param anlage Die zu verschiebende Anlage
+     * @param neuerBreitengrad Neuer Breitengrad (kann null sein)
+     * @param neuerLaengengrad Neuer Längengrad (kann null sein)
+     * @return Knoten der Anlage oder null, wenn sie nicht (mehr) im Graphen ist
+     */
+    public Graphknoten verschiebeAnlage(Windkraftanlage anlage, Float neuerBreitengrad, Float neuerLaengengrad) {
+        if (anlage == null) {
+            throw new IllegalArgumentException("Anlage darf nicht null sein");
+        }
+        stelleIndexSicher();
+        Integer position = knotenPosition.get(anlage);
+
+        anlage.setBreitengrad(neuerBreitengrad);
+        anlage.setLaengengrad(neuerLaengengrad);
+
+        if (position == null) {
+            return fuegeAnlageHinzu(anlage);
+        }
+        if (!hatGueltigeKoordinaten(anlage)) {
+            entferneAnlage(anlage);
+            return null;
+        }
+
+        Graphknoten verschobenerKnoten = knoten.get(position);
+        trenneVonNachbarn(verschobenerKnoten);
+        index.entferne(position);
+        verbindeMitUmgebung(verschobenerKnoten);
+        index.fuegeEin(position, neuerBreitengrad, neuerLaengengrad);
+        return verschobenerKnoten;
+    }
+
+    /**
+     * Sucht den Knoten einer Anlage.
+     * 
+     * Pre: -
+     * Post: Rückgabe ist Knoten oder null
+     * 
+     * @param anlage Die gesuchte Anlage
+     * @return Knoten der Anlage oder null, wenn nicht im Graphen
+     */
+    public Graphknoten findeKnoten(Windkraftanlage anlage) {
+        stelleIndexSicher();
+        Integer position = knotenPosition.get(anlage);
+        return position == null ? null : knoten.get(position);
+    }
+
+    /**
+     * Verbindet einen (noch nicht indizierten) Knoten mit allen Knoten im Distanzbereich.
+     * 
+     * Pre: Index aufgebaut, Knoten hat Koordinaten und steht nicht im Index
+     * Post: Kanten in beide Richtungen mit Distanz gesetzt
+     * 
+     * @param neuerKnoten Der zu verbindende Knoten
+     */
+    private void verbindeMitUmgebung(Graphknoten neuerKnoten) {
+        Windkraftanlage anlage = neuerKnoten.getAnlage();
+        IntListe kandidaten = new IntListe();
+        index.sammleKandidaten(anlage.getBreitengrad(), anlage.getLaengengrad(), kandidaten);
+
+        for (int i = 0; i < kandidaten.groesse(); i++) {
+            Graphknoten kandidat = knoten.get(kandidaten.hole(i));
+            float distanz = berechneDistanz(neuerKnoten, kandidat);
+
+            if (distanz <= maxDistanzKm) {
+                neuerKnoten.fuegeNachbarHinzu(kandidat, distanz);
+                kandidat.fuegeNachbarHinzu(neuerKnoten, distanz);
+            }
+        }
+    }
+
+    /**
+     * Entfernt alle Kanten eines Knotens in beide Richtungen.
+     * 
+     * Pre: k nicht null
+     * Post: k hat keine Nachbarn mehr und ist bei keinem Nachbarn mehr eingetragen
+     * 
+     * @param k Der zu trennende Knoten
+     */
+    private void trenneVonNachbarn(Graphknoten k) {
+        List<Graphknoten> nachbarn = k.getNachbarn();
+        for (int i = nachbarn.size() - 1; i >= 0; i--) {
+            Graphknoten nachbar = nachbarn.get(i);
+            nachbar.entferneNachbar(k);
+            k.entferneNachbar(nachbar);
+        }
+    }
+
+    /**
+     * Baut Positionstabelle und Gitter-Index über die aktuellen Knoten auf, falls noch nicht geschehen.
+     * 
+     * Pre: -
+     * Post: knotenPosition und index spiegeln die Knotenliste wider
+     */
+    private void stelleIndexSicher() {
+        if (index != null) {
+            return;
+        }
+        knotenPosition = new HashMap<>();
+        index = new GitterIndex(maxDistanzKm);
+
+        for (int i = 0; i < knoten.size(); i++) {
+            Windkraftanlage anlage = knoten.get(i).getAnlage();
+            knotenPosition.put(anlage, i);
+            index.fuegeEin(i, anlage.getBreitengrad(), anlage.getLaengengrad());
+        }
+    }
+
+    /**
+     * Verwirft Positionstabelle und Index nach Änderungen an der Knotenliste von außen.
+     * 
+     * Pre: -
+     * Post: Index wird beim nächsten inkrementellen Aufruf neu aufgebaut
+     */
+    private void verwerfeIndex() {
+        knotenPosition = null;
+        index = null;
+    }
+
     /**
      * Gibt alle Knoten des Graphen zurück.
      * 
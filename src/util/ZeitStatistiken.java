@@ -10,6 +10,8 @@ import java.util.Map;
  * - Modularisierung: Nutzt AusgabeManager für alle Ausgaben
  * - Keine hardcodierten Strings: Alle Texte kommen aus Konstanten
  * - Single Responsibility: Nur Sammlung und Anzeige von Statistiken
+ * - Thread-Sicherheit: Synchronisierte Zugriffe; in parallelen Aufgaben wird ueber den
+ *   aktiven AusgabePuffer aufgezeichnet, damit die Reihenfolge der Eintraege deterministisch bleibt
  */
 public final class ZeitStatistiken {
 
@@ -27,7 +29,12 @@ public final class ZeitStatistiken {
      * @param name Name der Messung
      * @param millis Zeit in Millisekunden
      */
-    public static void zeichneZeitAuf(String name, float millis) {
+    public static synchronized void zeichneZeitAuf(String name, float millis) {
+        AusgabePuffer puffer = AusgabePuffer.aktueller();
+        if (puffer != null) {
+            puffer.zeichneAuf(() -> zeichneZeitAuf(name, millis));
+            return;
+        }
         ZEITEN.put(name, millis);
     }
 
@@ -40,10 +47,45 @@ public final class ZeitStatistiken {
      * @param name Name der Statistik
      * @param value Wert als String
      */
-    public static void zeichneStat(String name, String value) {
+    public static synchronized void zeichneStat(String name, String value) {
+        AusgabePuffer puffer = AusgabePuffer.aktueller();
+        if (puffer != null) {
+            puffer.zeichneAuf(() -> zeichneStat(name, value));
+            return;
+        }
         STATS.put(name, value);
     }
 
+    /**
+     * Erhoeht eine Zaehler-Statistik um eins (fehlende Zaehler beginnen bei 1).
+     *
+     * Pre: name nicht null; vorhandener Wert ist eine ganze Zahl
+     * Post: Zaehler wurde in STATS erhoeht
+     * 
+     * @param name Name der Statistik
+     */
+    public static void erhoeheStat(String name) {
+        erhoeheStat(name, 1);
+    }
+
+    /**
+     * Erhoeht eine Zaehler-Statistik um einen Betrag (fehlende Zaehler beginnen beim Betrag).
+     *
+     * Pre: name nicht null; vorhandener Wert ist eine ganze Zahl
+     * Post: Zaehler wurde in STATS erhoeht
+     * 
+     * @param name Name der Statistik
+     * @param betrag Zu addierender Wert
+     */
+    public static synchronized void erhoeheStat(String name, int betrag) {
+        AusgabePuffer puffer = AusgabePuffer.aktueller();
+        if (puffer != null) {
+            puffer.zeichneAuf(() -> erhoeheStat(name, betrag));
+            return;
+        }
+        STATS.merge(name, String.valueOf(betrag), (alt, neu) -> String.valueOf(Integer.parseInt(alt) + betrag));
+    }
+
     /**
      * Gibt die gesammelten Zeiten und Statistiken auf stdout aus.
      * Nutzt AusgabeManager und Konstanten für alle Ausgaben.
@@ -51,7 +93,7 @@ public final class ZeitStatistiken {
      * Pre: keine
      * Post: Alle gesammelten Zeiten und Statistiken wurden ausgegeben
      */
-    public static void druckeZusammenfassung() {
+    public static synchronized void druckeZusammenfassung() {
         AusgabeManager.gebeAus(Konstanten.ZUSAMMENFASSUNG_UEBERSCHRIFT);
         float gesamt = 0.0f;
         if (!ZEITEN.isEmpty()) {
@@ -0,0 +1,531 @@
+package util;
+
+/**
+ * Verbesserung einer offenen Route unter Wartungsfenstern: Ziel ist zuerst minimaler Verzug
+ * (Summe der Fensterueberschreitungen), bei gleichem Verzug entscheidet die Fahrstrecke.
+ * Zuege sind 2-Opt und Or-Opt (Segmente bis ROUTEN_OR_OPT_MAX_SEGMENT), die erste Position bleibt fest.
+ *
+ * Zeitmodell in Slots: Ein Tag hat ANLAGEN_PRO_TAG Slots, jede Wartung belegt einen Slot.
+ * Eine Kante mit r > 0 Reisetagen kostet (r + 1) * ANLAGEN_PRO_TAG - 1 Slots, das ist die
+ * groesste Verschiebung, die sie in WartungsZeitBerechner.berechneTerminplan bewirken kann
+ * (Reisetage plus Rest des angebrochenen Tages). Das Fenster [a, b] in Tagen wird zu
+ * [(a - 1) * ANLAGEN_PRO_TAG, b * ANLAGEN_PRO_TAG - 1]. Eine hier verzugsfreie Route haelt
+ * damit auch im tagesgenauen Terminplan alle Fenster ein.
+ *
+ * Inkrementelle Bewertung: Jede Teilfolge wird zu einem Segment (Dauer, fruehester und
+ * spaetester Start, Verzug) zusammengefasst; zwei Segmente lassen sich in O(1) verketten.
+ * Mit Praefix- und Suffixsegmenten und einem schrittweise verlaengerten Mittelsegment
+ * (bei 2-Opt umgekehrt) kostet jeder Zug O(1) statt O(n).
+ *
+ * Mehrere Fenster je Anlage (Sperrzeit mitten in der Saison): Die Segmente rechnen mit der
+ * Huelle [erstes frueh, letztes spaet]. Da die Huelle auch die Luecken erlaubt, ist ihr Verzug
+ * eine untere Schranke; nur Zuege, die diese Schranke bestehen, werden ausgefuehrt und per
+ * Simulation in O(n) bestaetigt (Warten bis zum naechsten Fenster, Zeitsprung hinter dem
+ * letzten), sonst zurueckgenommen. Ohne Luecken entfaellt die Bestaetigung.
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur Verbesserung unter Fenstern, Start kommt von RoutenOptimierer
+ * - Wiederverwendung: Reisetage aus WartungsZeitBerechner, Umkehr aus ZweiOptOptimierer
+ * - Performance: Keine Objekte pro Zug, Suchweite je Zug auf ZEITFENSTER_SUCHWEITE Positionen begrenzt
+ *
+ * Pre: tour ist Permutation von Tabellenindizes, Fenster (oder ihre Huelle) in Slots je Tabellenindex
+ * Post: tour hat hoechstens so viel Verzug wie vorher, tour[0] ist unveraendert
+ */
+public final class ZeitfensterOptimierer {
+
+    /** Mindestverkuerzung in km, damit ein Zug bei gleichem Verzug uebernommen wird */
+    private static final float MIN_GEWINN_KM = 1.0e-4f;
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private ZeitfensterOptimierer() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Verbessert die Route, bis kein Zug mehr Verzug spart oder bei gleichem Verzug Strecke verkuerzt.
+     *
+     * Pre: tour, tabelle, frueh und spaet nicht null; frueh[i] <= spaet[i]
+     * Post: tour wurde in-place verbessert
+     *
+     * @param tour Route als Folge von Tabellenindizes
+     * @param tabelle Distanzen
+     * @param frueh Fruehester Slot je Tabellenindex
+     * @param spaet Spaetester Slot je Tabellenindex
+     * @return Verbleibender Verzug in Slots
+     */
+    public static int verbessere(int[] tour, RoutenDistanzTabelle tabelle, int[] frueh, int[] spaet) {
+        return verbessere(tour, tabelle, frueh, spaet, null);
+    }
+
+    /**
+     * Verbessert die Route wie verbessere(tour, tabelle, frueh, spaet), Anlagen duerfen aber
+     * mehrere Fenster mit Luecken haben (siehe Klassenkommentar).
+     *
+     * Pre: tour, tabelle, frueh und spaet nicht null; erlaubt null oder je Tabellenindex null bzw.
+     *      sortierte, disjunkte Slot-Fenster mit Huelle [frueh[i], spaet[i]]
+     * Post: tour wurde in-place verbessert
+     *
+     * @param tour Route als Folge von Tabellenindizes
+     * @param tabelle Distanzen
+     * @param frueh Fruehester Slot je Tabellenindex
+     * @param spaet Spaetester Slot je Tabellenindex
+     * @param erlaubt Slot-Fenster {frueh0, spaet0, frueh1, spaet1, ...} je Tabellenindex oder null
+     * @return Verbleibender Verzug in Slots
+     */
+    public static int verbessere(int[] tour, RoutenDistanzTabelle tabelle, int[] frueh, int[] spaet,
+                                 int[][] erlaubt) {
+        int n = tour.length;
+        if (n < 3) {
+            return berechneVerzug(tour, tabelle, frueh, spaet, erlaubt);
+        }
+        ExaktePruefung exakt = hatLuecken(tour, erlaubt)
+            ? new ExaktePruefung(tour, tabelle, frueh, spaet, erlaubt) : null;
+
+        Segment[] vorne = new Segment[n];
+        Segment[] hinten = new Segment[n];
+        for (int i = 0; i < n; i++) {
+            vorne[i] = new Segment();
+            hinten[i] = new Segment();
+        }
+        Segment anlage = new Segment();
+        Segment mitte = new Segment();
+        Segment verschoben = new Segment();
+        Segment gesamt = new Segment();
+        int weite = Konstanten.ZEITFENSTER_SUCHWEITE;
+        int maxSegment = Konstanten.ROUTEN_OR_OPT_MAX_SEGMENT;
+
+        baueSegmente(tour, tabelle, frueh, spaet, vorne, hinten, 0, n - 1);
+        boolean verbessert = true;
+        while (verbessert) {
+            verbessert = false;
+
+            // 2-Opt: Umkehr von [p+1, q], das umgekehrte Segment waechst vorne um tour[q]
+            for (int p = 0; p < n - 2; p++) {
+                mitte.setzeAnlage(frueh[tour[p + 1]], spaet[tour[p + 1]]);
+                for (int q = p + 2; q < n && q - p <= weite; q++) {
+                    anlage.setzeAnlage(frueh[tour[q]], spaet[tour[q]]);
+                    mitte.verbinde(anlage, reise(tabelle, tour[q], tour[q - 1]), mitte);
+                    gesamt.verbinde(vorne[p], reise(tabelle, tour[p], tour[q]), mitte);
+                    float gewinn = tabelle.distanz(tour[p], tour[p + 1]) - tabelle.distanz(tour[p], tour[q]);
+                    if (q + 1 < n) {
+                        gesamt.verbinde(gesamt, reise(tabelle, tour[p + 1], tour[q + 1]), hinten[q + 1]);
+                        gewinn += tabelle.distanz(tour[q], tour[q + 1]) - tabelle.distanz(tour[p + 1], tour[q + 1]);
+                    }
+                    if (istBesser(gesamt.verzug, verzug(vorne[n - 1], exakt), gewinn)) {
+                        if (exakt != null) {
+                            exakt.sichere(tour);
+                        }
+                        ZweiOptOptimierer.kehreUm(tour, p + 1, q);
+                        if (exakt == null || exakt.bestaetige(tour, gewinn)) {
+                            baueSegmente(tour, tabelle, frueh, spaet, vorne, hinten, p + 1, q);
+                            verbessert = true;
+                            break;
+                        }
+                    }
+                }
+            }
+
+            // Or-Opt: Segment [i, i+L-1] hinter Position j verschieben
+            for (int laenge = 1; laenge <= maxSegment; laenge++) {
+                for (int i = 1; i + laenge <= n; i++) {
+                    int ende = i + laenge - 1;
+                    verschoben.setzeAnlage(frueh[tour[i]], spaet[tour[i]]);
+                    for (int x = i + 1; x <= ende; x++) {
+                        anlage.setzeAnlage(frueh[tour[x]], spaet[tour[x]]);
+                        verschoben.verbinde(verschoben, reise(tabelle, tour[x - 1], tour[x]), anlage);
+                    }
+                    float entfernt = tabelle.distanz(tour[i - 1], tour[i]);
+                    if (ende + 1 < n) {
+                        entfernt += tabelle.distanz(tour[ende], tour[ende + 1])
+                            - tabelle.distanz(tour[i - 1], tour[ende + 1]);
+                    }
+                    int ziel = verschiebeVorwaerts(tour, tabelle, frueh, spaet, vorne, hinten, i, ende, entfernt,
+                        anlage, mitte, verschoben, gesamt, weite, exakt);
+                    if (ziel < 0) {
+                        ziel = verschiebeRueckwaerts(tour, tabelle, frueh, spaet, vorne, hinten, i, ende, entfernt,
+                            anlage, mitte, verschoben, gesamt, weite, exakt);
+                    }
+                    if (ziel >= 0) {
+                        baueSegmente(tour, tabelle, frueh, spaet, vorne, hinten, Math.min(i, ziel), Math.max(ende, ziel));
+                        verbessert = true;
+                    }
+                }
+            }
+        }
+
+        return verzug(vorne[n - 1], exakt);
+    }
+
+    /**
+     * Berechnet den Verzug einer Route in O(n).
+     *
+     * Pre: tour, tabelle, frueh und spaet nicht null
+     * Post: Rueckgabe >= 0
+     *
+     * @param tour Route als Folge von Tabellenindizes
+     * @param tabelle Distanzen
+     * @param frueh Fruehester Slot je Tabellenindex
+     * @param spaet Spaetester Slot je Tabellenindex
+     * @return Verzug in Slots (0 wenn alle Fenster eingehalten werden)
+     */
+    public static int berechneVerzug(int[] tour, RoutenDistanzTabelle tabelle, int[] frueh, int[] spaet) {
+        if (tour.length == 0) {
+            return 0;
+        }
+        Segment route = new Segment();
+        Segment anlage = new Segment();
+        route.setzeAnlage(frueh[tour[0]], spaet[tour[0]]);
+        for (int i = 1; i < tour.length; i++) {
+            anlage.setzeAnlage(frueh[tour[i]], spaet[tour[i]]);
+            route.verbinde(route, reise(tabelle, tour[i - 1], tour[i]), anlage);
+        }
+        return route.verzug;
+    }
+
+    /**
+     * Berechnet den Verzug einer Route mit mehreren Fenstern je Anlage in O(n): Warten bis zum
+     * naechsten Fenster, hinter dem letzten Fenster Zeitsprung auf dessen Ende.
+     *
+     * Pre: wie verbessere(tour, tabelle, frueh, spaet, erlaubt)
+     * Post: Rueckgabe >= 0; ohne Luecken gleich berechneVerzug(tour, tabelle, frueh, spaet)
+     *
+     * @param tour Route als Folge von Tabellenindizes
+     * @param tabelle Distanzen
+     * @param frueh Fruehester Slot je Tabellenindex
+     * @param spaet Spaetester Slot je Tabellenindex
+     * @param erlaubt Slot-Fenster je Tabellenindex oder null
+     * @return Verzug in Slots (0 wenn alle Fenster eingehalten werden)
+     */
+    public static int berechneVerzug(int[] tour, RoutenDistanzTabelle tabelle, int[] frueh, int[] spaet,
+                                     int[][] erlaubt) {
+        if (!hatLuecken(tour, erlaubt)) {
+            return berechneVerzug(tour, tabelle, frueh, spaet);
+        }
+        int zeit = 0;
+        int verzug = 0;
+        for (int i = 0; i < tour.length; i++) {
+            if (i > 0) {
+                zeit += 1 + reise(tabelle, tour[i - 1], tour[i]);
+            }
+            int a = tour[i];
+            int[] fenster = erlaubt[a];
+            if (fenster == null) {
+                zeit = Math.max(zeit, frueh[a]);
+                if (zeit > spaet[a]) {
+                    verzug += zeit - spaet[a];
+                    zeit = spaet[a];
+                }
+                continue;
+            }
+            int k = 0;
+            while (k < fenster.length && zeit > fenster[k + 1]) {
+                k += 2;
+            }
+            if (k < fenster.length) {
+                zeit = Math.max(zeit, fenster[k]);
+            } else {
+                verzug += zeit - fenster[k - 1];
+                zeit = fenster[k - 1];
+            }
+        }
+        return verzug;
+    }
+
+    /**
+     * Rechnet Tagesfenster in Slot-Fenster um (je Fenster ersterSlot bis letzterSlot).
+     *
+     * @param tagFenster Fenster {frueh0, spaet0, frueh1, spaet1, ...} in Tagen oder null
+     * @return Slot-Fenster im selben Format oder null
+     */
+    public static int[] alsSlotFenster(int[] tagFenster) {
+        if (tagFenster == null) {
+            return null;
+        }
+        int[] slots = new int[tagFenster.length];
+        for (int k = 0; k < slots.length; k += 2) {
+            slots[k] = ersterSlot(tagFenster[k]);
+            slots[k + 1] = letzterSlot(tagFenster[k + 1]);
+        }
+        return slots;
+    }
+
+    /**
+     * Rechnet ein Tagesfenster in Slots um.
+     *
+     * @param tag Tag (1-basiert)
+     * @return Erster Slot des Tages
+     */
+    public static int ersterSlot(int tag) {
+        return (tag - 1) * Konstanten.ANLAGEN_PRO_TAG;
+    }
+
+    /**
+     * Rechnet ein Tagesfenster in Slots um (OFFEN bleibt OFFEN).
+     *
+     * @param tag Tag (1-basiert) oder WartungsFenster.OFFEN
+     * @return Letzter Slot des Tages
+     */
+    public static int letzterSlot(int tag) {
+        return tag >= WartungsFenster.OFFEN ? WartungsFenster.OFFEN : tag * Konstanten.ANLAGEN_PRO_TAG - 1;
+    }
+
+    /**
+     * Prueft Verschiebungen des Segments [i, ende] hinter j > ende und fuehrt die erste
+     * Verbesserung aus. Das Mittelsegment [ende+1, j] waechst hinten.
+     *
+     * @return Position j oder -1, wenn nicht verschoben wurde
+     */
+    private static int verschiebeVorwaerts(int[] tour, RoutenDistanzTabelle tabelle, int[] frueh, int[] spaet,
+                                               Segment[] vorne, Segment[] hinten, int i, int ende, float entfernt,
+                                               Segment anlage, Segment mitte, Segment verschoben, Segment gesamt,
+                                               int weite, ExaktePruefung exakt) {
+        int n = tour.length;
+        for (int j = ende + 1; j < n && j - ende <= weite; j++) {
+            anlage.setzeAnlage(frueh[tour[j]], spaet[tour[j]]);
+            if (j == ende + 1) {
+                mitte.setzeAnlage(frueh[tour[j]], spaet[tour[j]]);
+            } else {
+                mitte.verbinde(mitte, reise(tabelle, tour[j - 1], tour[j]), anlage);
+            }
+            gesamt.verbinde(vorne[i - 1], reise(tabelle, tour[i - 1], tour[ende + 1]), mitte);
+            gesamt.verbinde(gesamt, reise(tabelle, tour[j], tour[i]), verschoben);
+            float eingefuegt = tabelle.distanz(tour[j], tour[i]);
+            if (j + 1 < n) {
+                gesamt.verbinde(gesamt, reise(tabelle, tour[ende], tour[j + 1]), hinten[j + 1]);
+                eingefuegt += tabelle.distanz(tour[ende], tour[j + 1]) - tabelle.distanz(tour[j], tour[j + 1]);
+            }
+            if (istBesser(gesamt.verzug, verzug(vorne[n - 1], exakt), entfernt - eingefuegt)) {
+                if (exakt != null) {
+                    exakt.sichere(tour);
+                }
+                // Rotation von [i, j] um die Segmentlaenge nach links
+                ZweiOptOptimierer.kehreUm(tour, i, ende);
+                ZweiOptOptimierer.kehreUm(tour, ende + 1, j);
+                ZweiOptOptimierer.kehreUm(tour, i, j);
+                if (exakt == null || exakt.bestaetige(tour, entfernt - eingefuegt)) {
+                    return j;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Prueft Verschiebungen des Segments [i, ende] hinter j < i - 1 und fuehrt die erste
+     * Verbesserung aus. Das Mittelsegment [j+1, i-1] waechst vorne.
+     *
+     * @return Position j + 1 oder -1, wenn nicht verschoben wurde
+     */
+    private static int verschiebeRueckwaerts(int[] tour, RoutenDistanzTabelle tabelle, int[] frueh, int[] spaet,
+                                                 Segment[] vorne, Segment[] hinten, int i, int ende, float entfernt,
+                                                 Segment anlage, Segment mitte, Segment verschoben, Segment gesamt,
+                                                 int weite, ExaktePruefung exakt) {
+        int n = tour.length;
+        for (int j = i - 2; j >= 0 && i - 1 - j <= weite; j--) {
+            anlage.setzeAnlage(frueh[tour[j + 1]], spaet[tour[j + 1]]);
+            if (j == i - 2) {
+                mitte.setzeAnlage(frueh[tour[j + 1]], spaet[tour[j + 1]]);
+            } else {
+                mitte.verbinde(anlage, reise(tabelle, tour[j + 1], tour[j + 2]), mitte);
+            }
+            gesamt.verbinde(vorne[j], reise(tabelle, tour[j], tour[i]), verschoben);
+            gesamt.verbinde(gesamt, reise(tabelle, tour[ende], tour[j + 1]), mitte);
+            float eingefuegt = tabelle.distanz(tour[j], tour[i]) + tabelle.distanz(tour[ende], tour[j + 1])
+                - tabelle.distanz(tour[j], tour[j + 1]);
+            if (ende + 1 < n) {
+                gesamt.verbinde(gesamt, reise(tabelle, tour[i - 1], tour[ende + 1]), hinten[ende + 1]);
+            }
+            if (istBesser(gesamt.verzug, verzug(vorne[n - 1], exakt), entfernt - eingefuegt)) {
+                if (exakt != null) {
+                    exakt.sichere(tour);
+                }
+                // Rotation von [j+1, ende] um die Segmentlaenge nach rechts
+                ZweiOptOptimierer.kehreUm(tour, j + 1, i - 1);
+                ZweiOptOptimierer.kehreUm(tour, i, ende);
+                ZweiOptOptimierer.kehreUm(tour, j + 1, ende);
+                if (exakt == null || exakt.bestaetige(tour, entfernt - eingefuegt)) {
+                    return j + 1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Liefert den aktuellen Verzug der Route: ohne Luecken aus dem Gesamtsegment, sonst den
+     * zuletzt bestaetigten exakten Wert.
+     *
+     * @param route Praefixsegment der ganzen Route
+     * @param exakt Exakte Pruefung oder null
+     * @return Verzug in Slots
+     */
+    private static int verzug(Segment route, ExaktePruefung exakt) {
+        return exakt == null ? route.verzug : exakt.verzug;
+    }
+
+    /**
+     * Prueft, ob eine Anlage der Tour mehr als ein Fenster hat.
+     *
+     * @param tour Route als Folge von Tabellenindizes
+     * @param erlaubt Slot-Fenster je Tabellenindex oder null
+     * @return true wenn die Huelle nicht exakt ist
+     */
+    private static boolean hatLuecken(int[] tour, int[][] erlaubt) {
+        if (erlaubt == null) {
+            return false;
+        }
+        for (int i = 0; i < tour.length; i++) {
+            int[] fenster = erlaubt[tour[i]];
+            if (fenster != null && fenster.length > 2) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lexikografischer Vergleich: weniger Verzug, sonst kuerzere Strecke.
+     *
+     * @param neuerVerzug Verzug nach dem Zug
+     * @param verzug Aktueller Verzug
+     * @param gewinn Streckenersparnis des Zuges in km
+     * @return true wenn der Zug uebernommen wird
+     */
+    private static boolean istBesser(int neuerVerzug, int verzug, float gewinn) {
+        return neuerVerzug < verzug || (neuerVerzug == verzug && gewinn > MIN_GEWINN_KM);
+    }
+
+    /**
+     * Berechnet die Praefix- und Suffixsegmente nach einer Aenderung in [von, bis] neu:
+     * Praefixe ab von, Suffixe bis einschliesslich bis.
+     */
+    private static void baueSegmente(int[] tour, RoutenDistanzTabelle tabelle, int[] frueh, int[] spaet,
+                                     Segment[] vorne, Segment[] hinten, int von, int bis) {
+        int n = tour.length;
+        if (von == 0) {
+            vorne[0].setzeAnlage(frueh[tour[0]], spaet[tour[0]]);
+        }
+        for (int i = Math.max(von, 1); i < n; i++) {
+            vorne[i].setzeAnlage(frueh[tour[i]], spaet[tour[i]]);
+            vorne[i].verbinde(vorne[i - 1], reise(tabelle, tour[i - 1], tour[i]), vorne[i]);
+        }
+        if (bis == n - 1) {
+            hinten[n - 1].setzeAnlage(frueh[tour[n - 1]], spaet[tour[n - 1]]);
+        }
+        for (int i = Math.min(bis, n - 2); i >= 0; i--) {
+            hinten[i].setzeAnlage(frueh[tour[i]], spaet[tour[i]]);
+            hinten[i].verbinde(hinten[i], reise(tabelle, tour[i], tour[i + 1]), hinten[i + 1]);
+        }
+    }
+
+    /**
+     * Liefert die Fahrzeit einer Kante in Slots (siehe Klassenkommentar).
+     *
+     * @param tabelle Distanzen
+     * @param a Anlage
+     * @param b Anlage
+     * @return Slots (0 fuer kurze Kanten)
+     */
+    private static int reise(RoutenDistanzTabelle tabelle, int a, int b) {
+        int reisetage = WartungsZeitBerechner.berechneReisetage(tabelle.distanz(a, b));
+        return reisetage == 0 ? 0 : (reisetage + 1) * Konstanten.ANLAGEN_PRO_TAG - 1;
+    }
+
+    /**
+     * Bestaetigung von Zuegen bei Fenstern mit Luecken: Tour vor dem Zug sichern, nach dem Zug
+     * exakt bewerten und bei fehlender Verbesserung zuruecksetzen.
+     */
+    private static final class ExaktePruefung {
+
+        private final RoutenDistanzTabelle tabelle;
+        private final int[] frueh;
+        private final int[] spaet;
+        private final int[][] erlaubt;
+        private final int[] sicherung;
+        private int verzug;
+
+        ExaktePruefung(int[] tour, RoutenDistanzTabelle tabelle, int[] frueh, int[] spaet, int[][] erlaubt) {
+            this.tabelle = tabelle;
+            this.frueh = frueh;
+            this.spaet = spaet;
+            this.erlaubt = erlaubt;
+            this.sicherung = new int[tour.length];
+            this.verzug = berechneVerzug(tour, tabelle, frueh, spaet, erlaubt);
+        }
+
+        /**
+         * Merkt sich die Tour vor einem Zug.
+         *
+         * @param tour Aktuelle Tour
+         */
+        void sichere(int[] tour) {
+            System.arraycopy(tour, 0, sicherung, 0, tour.length);
+        }
+
+        /**
+         * Uebernimmt den ausgefuehrten Zug, wenn er exakt besser ist, sonst wird die Tour zurueckgesetzt.
+         *
+         * @param tour Tour nach dem Zug
+         * @param gewinn Streckenersparnis des Zuges in km
+         * @return true wenn der Zug bleibt
+         */
+        boolean bestaetige(int[] tour, float gewinn) {
+            int neu = berechneVerzug(tour, tabelle, frueh, spaet, erlaubt);
+            if (istBesser(neu, verzug, gewinn)) {
+                verzug = neu;
+                return true;
+            }
+            System.arraycopy(sicherung, 0, tour, 0, tour.length);
+            return false;
+        }
+    }
+
+    /**
+     * Zusammenfassung einer Teilfolge fuer die Fensterpruefung: Dauer inklusive Warten,
+     * fruehester und spaetester Start ohne zusaetzlichen Verzug, Verzug bei Start im Fenster.
+     * Verkettung nach Vidal et al. (2013), Wartezeit und Verzug in Slots.
+     */
+    private static final class Segment {
+
+        private int dauer;
+        private int frueh;
+        private int spaet;
+        private int verzug;
+
+        /**
+         * Setzt das Segment auf eine einzelne Anlage (ein Slot Wartung).
+         *
+         * @param fruehSlot Fruehester Slot der Anlage
+         * @param spaetSlot Spaetester Slot der Anlage
+         */
+        void setzeAnlage(int fruehSlot, int spaetSlot) {
+            dauer = 1;
+            frueh = fruehSlot;
+            spaet = spaetSlot;
+            verzug = 0;
+        }
+
+        /**
+         * Setzt dieses Segment auf a, gefolgt von b (this darf a oder b sein).
+         *
+         * @param a Erstes Segment
+         * @param reise Fahrzeit vom Ende von a zum Anfang von b in Slots
+         * @param b Zweites Segment
+         */
+        void verbinde(Segment a, int reise, Segment b) {
+            int abstand = a.dauer - a.verzug + reise;
+            int warten = Math.max(b.frueh - abstand - a.spaet, 0);
+            int ueberschreitung = Math.max(a.frueh + abstand - b.spaet, 0);
+            int neueDauer = a.dauer + b.dauer + reise + warten;
+            int neuerVerzug = a.verzug + b.verzug + ueberschreitung;
+            int neuesFrueh = Math.max(b.frueh - abstand, a.frueh) - warten;
+            int neuesSpaet = Math.min(b.spaet - abstand, a.spaet) + ueberschreitung;
+            dauer = neueDauer;
+            verzug = neuerVerzug;
+            frueh = neuesFrueh;
+            spaet = neuesSpaet;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package util;
+
+/**
+ * 2-Opt-Verbesserung einer offenen Route, die als int-Permutation vorliegt.
+ * Verbessernde Zuege kehren das Segment direkt im Array um, Distanzen kommen aus einer
+ * RoutenDistanzTabelle. Die Zugreihenfolge entspricht der bisherigen Listen-Implementierung
+ * (erster verbessernder Zug, danach weiter mit dem naechsten j), das Ergebnis ist daher identisch.
+ *
+ * Offene Route: Die erste Position bleibt fest, nach der letzten Anlage gibt es keine Rueckkante.
+ *
+ * Design-Prinzipien:
+ * - Single Responsibility: Nur 2-Opt auf Permutationen
+ * - KISS: Zwei Schleifen, Umkehr im Array
+ * - Performance: O(1) Bewertung pro Zug, keine Objekte pro Zug
+ *
+ * Pre: tour ist Permutation gueltiger Tabellenindizes
+ * Post: tour ist 2-optimal bezueglich der Tabelle
+ */
+public final class ZweiOptOptimierer {
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private ZweiOptOptimierer() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Verbessert die Route, bis kein verbessernder 2-Opt-Zug mehr existiert.
+     *
+     * Pre: tour und tabelle nicht null
+     * Post: tour wurde in-place verbessert
+     *
+     * @param tour Route als Folge von Tabellenindizes
+     * @param tabelle Distanzen zwischen den Anlagen
+     * @return true wenn mindestens ein Zug ausgefuehrt wurde
+     */
+    public static boolean verbessere(int[] tour, RoutenDistanzTabelle tabelle) {
+        int n = tour.length;
+        if (n < 4) {
+            return false;
+        }
+
+        boolean irgendwannVerbessert = false;
+        boolean verbessert = true;
+
+        // Wiederhole bis keine Verbesserung mehr moeglich
+        while (verbessert) {
+            verbessert = false;
+
+            for (int i = 0; i < n - 2; i++) {
+                for (int j = i + 2; j < n; j++) {
+                    float aktuelleDistanz;
+                    float neueDistanz;
+                    if (j == n - 1) {
+                        // Offenes Ende: nur Kante (i, i+1) wird durch (i, j) ersetzt
+                        aktuelleDistanz = tabelle.distanz(tour[i], tour[i + 1]);
+                        neueDistanz = tabelle.distanz(tour[i], tour[j]);
+                    } else {
+                        aktuelleDistanz = tabelle.distanz(tour[i], tour[i + 1])
+                            + tabelle.distanz(tour[j], tour[j + 1]);
+                        neueDistanz = tabelle.distanz(tour[i], tour[j])
+                            + tabelle.distanz(tour[i + 1], tour[j + 1]);
+                    }
+
+                    if (neueDistanz < aktuelleDistanz) {
+                        kehreUm(tour, i + 1, j);
+                        verbessert = true;
+                        irgendwannVerbessert = true;
+                    }
+                }
+            }
+        }
+
+        return irgendwannVerbessert;
+    }
+
+    /**
+     * Kehrt ein Segment der Route in-place um.
+     *
+     * Pre: 0 <= von <= bis < tour.length
+     * Post: tour[von..bis] ist umgekehrt
+     *
+     * @param tour Route
+     * @param von Erste Position (inklusive)
+     * @param bis Letzte Position (inklusive)
+     */
+    static void kehreUm(int[] tour, int von, int bis) {
+        int links = von;
+        int rechts = bis;
+        while (links < rechts) {
+            int tausch = tour[links];
+            tour[links] = tour[rechts];
+            tour[rechts] = tausch;
+            links++;
+            rechts--;
+        }
+    }
+
+    /**
+     * Berechnet die Laenge einer offenen Route.
+     *
+     * Pre: tour und tabelle nicht null
+     * Post: Rueckgabe ist Summe der Kantendistanzen
+     *
+     * @param tour Route
+     * @param tabelle Distanzen
+     * @return Laenge in km
+     */
+    public static float berechneLaenge(int[] tour, RoutenDistanzTabelle tabelle) {
+        float laenge = 0.0f;
+        for (int i = 0; i + 1 < tour.length; i++) {
+            laenge += tabelle.distanz(tour[i], tour[i + 1]);
+        }
+        return laenge;
+    }
+}
@@ -4,6 +4,8 @@ import java.util.List;
 import model.Windkraftanlage;
 import model.WindparkEintrag;
 import util.AusgabeManager;
+import util.DepotLeser;
+import util.GraphDateiSpeicher;
 import util.GraphAusgabe;
 import util.Konstanten;
 import util.LeistungsSchaetzer;
@@ -384,10 +386,10 @@ public class AnalyseAusgabeKoordinator {
      * @param alleAnlagen Liste aller Windkraftanlagen
      */
     private void zeigeGraphUndLeistungsschaetzung(List<Windkraftanlage> alleAnlagen) {
-        // Graph aufbauen
+        // Graph aufbauen (oder aus Graph-Datei laden, wenn der Datensatz unveraendert ist)
         ZeitMessung timerGraph = ZeitMessung.starte();
-        WindkraftanlageGraph graph = new WindkraftanlageGraph(Konstanten.GRAPH_MAX_DISTANZ_KM);
-        graph.baueGraphAuf(alleAnlagen);
+        WindkraftanlageGraph graph = GraphDateiSpeicher.ladeOderBaueGraph(
+            alleAnlagen, Konstanten.GRAPH_MAX_DISTANZ_KM);
         float zeitGraph = timerGraph.stoppeUndGibMillis();
         ZeitStatistiken.zeichneZeitAuf(Konstanten.OPERATION_GRAPH_AUFBAU, zeitGraph);
 
@@ -409,20 +411,26 @@ public class AnalyseAusgabeKoordinator {
      * Zeigt die Wartungsplanung fuer Top-Hersteller an.
      * Baut pro Hersteller ein Wegenetz auf und berechnet optimierte Wartungsrouten
      * mit 2-Opt-Algorithmus. Beruecksichtigt isolierte Cluster und gibt Warnungen aus.
+     * Mit Depots werden alle Hersteller geplant, da sie sich die Teams der Depots teilen.
      *
      * Pre: `alleAnlagen` darf nicht null sein.
-     * Post: Wartungsplaene fuer Top-N Hersteller wurden ausgegeben, Zeiten erfasst.
+     * Post: Wartungsplaene fuer Top-N (mit Depots: alle) Hersteller wurden ausgegeben, Zeiten erfasst.
      *
      * @param alleAnlagen Liste aller Windkraftanlagen
      */
     private void zeigeWartungsplanung(List<Windkraftanlage> alleAnlagen) {
         ZeitMessung timer = ZeitMessung.starte();
         
-        // Plane Wartung fuer Top-Hersteller (Anzahl ueber Konstanten.WARTUNG_TOP_HERSTELLER_ANZAHL)
-        WartungsRoutenPlaner.planeWartungFuerTopHersteller(
-            alleAnlagen, 
-            Konstanten.WARTUNG_TOP_HERSTELLER_ANZAHL
-        );
+        if (DepotLeser.holeStandard() != null) {
+            // Depot-Zuordnung ueber die Cluster aller Hersteller in einem Durchlauf
+            WartungsRoutenPlaner.planeWartungFuerAlleHersteller(alleAnlagen);
+        } else {
+            // Plane Wartung fuer Top-Hersteller (Anzahl ueber Konstanten.WARTUNG_TOP_HERSTELLER_ANZAHL)
+            WartungsRoutenPlaner.planeWartungFuerTopHersteller(
+                alleAnlagen, 
+                Konstanten.WARTUNG_TOP_HERSTELLER_ANZAHL
+            );
+        }
         
         float zeitInMillis = timer.stoppeUndGibMillis();
         ZeitStatistiken.zeichneZeitAuf(Konstanten.OPERATION_WARTUNGSPLANUNG, zeitInMillis);
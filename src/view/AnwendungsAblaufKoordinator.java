@@ -3,10 +3,14 @@ package view;
 import controler.WindkraftanlageRepository;
 import java.nio.file.Path;
 import java.util.List;
+import model.WartungsParameter;
 import model.Windkraftanlage;
 import util.AusgabeManager;
 import util.Konstanten;
 import util.KoordinatenKorrekturTracker;
+import util.ParameterStudie;
+import util.ZeitMessung;
+import util.ZeitStatistiken;
 
 /**
  * Koordiniert den kompletten Ablauf der Anwendung und haelt die Main-Klasse schlank.
@@ -61,4 +65,44 @@ public class AnwendungsAblaufKoordinator {
             fehler.printStackTrace();
         }
     }
+
+    /**
+     * Startet die Parameterstudie: Daten laden, alle Szenarien bewerten und als Tabelle ausgeben.
+     *
+     * Pre: CSV-Datei muss existieren, argumente nicht null
+     * Post: Vergleichstabelle wurde ausgegeben oder Fehler gemeldet
+     *
+     * @param argumente Raster der Form name=wert1,wert2,... (siehe ParameterStudie.erstelleSzenarien)
+     */
+    public void runStudie(String[] argumente) {
+        try {
+            AusgabeManager.aktivierePufferung();
+            List<WartungsParameter> szenarien;
+            try {
+                szenarien = ParameterStudie.erstelleSzenarien(argumente);
+            } catch (IllegalArgumentException ungueltig) {
+                // Meldung traegt bereits den Studien-Praefix (unbekannter Parameter / ungueltiger Wert)
+                AusgabeManager.gebeFehlerAus(ungueltig.getMessage());
+                AusgabeManager.gebeGepufferteAusgabenAus();
+                return;
+            }
+            
+            Path csvPfad = csvPfadPruefer.ermittleCsvPfad();
+            if (!csvPfadPruefer.pruefeCsvDatei(csvPfad)) {
+                AusgabeManager.gebeGepufferteAusgabenAus();
+                return;
+            }
+            List<Windkraftanlage> alleAnlagen = datenImportManager.ladeDaten(csvPfad);
+            
+            ZeitMessung timer = ZeitMessung.starte();
+            List<ParameterStudie.Ergebnis> ergebnisse = ParameterStudie.bewerte(alleAnlagen, szenarien);
+            ZeitStatistiken.zeichneZeitAuf(Konstanten.OPERATION_PARAMETERSTUDIE, timer.stoppeUndGibMillis());
+            
+            ParameterStudie.gebeTabelleAus(ergebnisse);
+            ZeitStatistiken.druckeZusammenfassung();
+        } catch (Exception fehler) {
+            AusgabeManager.gebeFehlerAus(Konstanten.FEHLER_PREFIX + fehler.getMessage());
+        }
+        AusgabeManager.gebeGepufferteAusgabenAus();
+    }
 }
@@ -1,5 +1,8 @@
 package view;
 
+import java.util.Arrays;
+import util.Konstanten;
+
 /**
  * Hauptklasse der Anwendung.
  * Delegiert den Ablauf an {@link AnwendungsAblaufKoordinator}.
@@ -24,10 +27,14 @@ public final class Main {
      * Pre: Keine
     * Post: AnwendungsAblaufKoordinator wurde ausgefuehrt
      *
-     * @param args Kommandozeilenargumente (nicht verwendet)
+     * @param args Kommandozeilenargumente (leer oder "--studie" mit Rastern, siehe ParameterStudie)
      */
     public static void main(String[] args) {
         AnwendungsAblaufKoordinator koordinator = new AnwendungsAblaufKoordinator();
-        koordinator.run();
+        if (args.length > 0 && Konstanten.STUDIE_ARGUMENT.equals(args[0])) {
+            koordinator.runStudie(Arrays.copyOfRange(args, 1, args.length));
+        } else {
+            koordinator.run();
+        }
     }
 }
@@ -0,0 +1,48 @@
+package util;
+
+import java.io.IOException;
+
+/**
+ * Fuehrt alle Pruefungen unter test/ nacheinander aus.
+ * Aufruf ohne Build-Werkzeug:
+ * javac -encoding UTF-8 -d out $(find src test -name '*.java') && java -cp out util.AlleTests
+ *
+ * Pre: -
+ * Post: Rueckkehr nur, wenn alle Pruefungen bestanden sind (sonst AssertionError)
+ */
+public final class AlleTests {
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private AlleTests() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Startet alle Pruefungen.
+     *
+     * @param args nicht verwendet
+     * @throws IOException bei Fehlern mit temporaeren Dateien
+     */
+    public static void main(String[] args) throws IOException {
+        WartungsZeitBerechnerTest.main(args);
+        TageOptimiererTest.main(args);
+        KontraktionsHierarchieTest.main(args);
+        DistanzCacheTest.main(args);
+        ZeitfensterOptimiererTest.main(args);
+        WartungsFensterTest.main(args);
+        ParameterStudieTest.main(args);
+        InkrementellerWartungsPlanTest.main(args);
+        TourenPlanerTest.main(args);
+        RoutenDistanzTabelleTest.main(args);
+        DepotZuordnungTest.main(args);
+        WartungsClusterDetectorTest.main(args);
+        RoutenDateiSpeicherTest.main(args);
+        GraphDateiSpeicherTest.main(args);
+        WartungsRoutenPlanerTest.main(args);
+        NachbarlistenOptimiererTest.main(args);
+        IterierteLokaleSucheTest.main(args);
+        System.out.println("Alle Pruefungen bestanden");
+    }
+}
@@ -0,0 +1,153 @@
+package util;
+
+import model.Depot;
+import model.Windkraftanlage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Prueft die gemeinsame Depotzuordnung der Cluster mehrerer Hersteller an einem von Hand
+ * nachgerechneten Fall (Kapazitaet und Reisetage der Anfahrt) und den Routenstart an der
+ * depotnaechsten Anlage.
+ *
+ * Aufbau: Depot A bei 9 Grad Ost mit einem Team, Depot B rund 270 km oestlich mit zwei Teams
+ * (ein Reisetag Anfahrt von A aus). Cluster in Vergabereihenfolge:
+ * - X1 (Hersteller X, 2 Tage bei A): A endet an Tag 2, B an 2/2 + 1 Reisetag = 2, Gleichstand
+ *   geht an das naehere A. Ohne den Reisetag gewaenne B.
+ * - Y1 (Hersteller Y, 1 Tag bei A): A endet an Tag 3, B an 1/2 + 1 = 1,5, die Kapazitaet
+ *   schiebt den Cluster trotz Anfahrt nach B.
+ * - Y2 (Hersteller Y, 1 Tag bei B): B ohne Reisetag.
+ * - X2 (Hersteller X, ohne Koordinaten): kein Depot.
+ */
+public final class DepotZuordnungTest {
+
+    /** Laengengrad von Depot A */
+    private static final float LAENGE_A = 9f;
+
+    /** Laengengrad von Depot B (rund 270 km oestlich von A auf 52 Grad Nord) */
+    private static final float LAENGE_B = 13f;
+
+    /** Breitengrad beider Depots */
+    private static final float BREITE = 52f;
+
+    /** Anlagentyp von Hersteller X */
+    private static final String TYP_X = "Enercon E-82";
+
+    /** Anlagentyp von Hersteller Y */
+    private static final String TYP_Y = "Vestas V90";
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private DepotZuordnungTest() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Startet die Pruefungen.
+     *
+     * @param args nicht verwendet
+     */
+    public static void main(String[] args) {
+        pruefeGemeinsameZuordnung();
+        pruefeRoutenStart();
+        System.out.println("DepotZuordnungTest: OK");
+    }
+
+    /**
+     * Zuordnung ueber alle Hersteller in einem Durchlauf, siehe Klassenkommentar.
+     */
+    private static void pruefeGemeinsameZuordnung() {
+        List<Depot> depots = Arrays.asList(
+            new Depot("A", BREITE, LAENGE_A, 1),
+            new Depot("B", BREITE, LAENGE_B, 2));
+        Random zufall = new Random(47);
+        int proTag = Konstanten.ANLAGEN_PRO_TAG;
+
+        List<Windkraftanlage> x1 = erstelleCluster(100, 2 * proTag, LAENGE_A + 0.05f, zufall, TYP_X);
+        List<Windkraftanlage> y1 = erstelleCluster(200, proTag, LAENGE_A + 0.05f, zufall, TYP_Y);
+        List<Windkraftanlage> y2 = erstelleCluster(300, proTag, LAENGE_B - 0.05f, zufall, TYP_Y);
+        Windkraftanlage ohneKoordinaten = new Windkraftanlage();
+        ohneKoordinaten.setTyp(TYP_X);
+        List<Windkraftanlage> x2 = new ArrayList<>(Arrays.asList(ohneKoordinaten));
+        List<List<Windkraftanlage>> cluster = Arrays.asList(x2, y2, x1, y1);
+
+        // Vorbedingungen der Handrechnung
+        Depot b = depots.get(1);
+        Pruefung.pruefeGleich(1, WartungsZeitBerechner.berechneReisetage(naechsteAnfahrtKm(x1, b)),
+            "Reisetage von X1 nach B");
+        Pruefung.pruefeGleich(1, WartungsZeitBerechner.berechneReisetage(naechsteAnfahrtKm(y1, b)),
+            "Reisetage von Y1 nach B");
+        Pruefung.pruefeGleich(0, WartungsZeitBerechner.berechneReisetage(naechsteAnfahrtKm(y2, b)),
+            "Reisetage von Y2 nach B");
+
+        int[] zuordnung = DepotZuordnung.ordneZu(cluster, depots);
+        Pruefung.pruefe(Arrays.equals(new int[] {DepotZuordnung.KEIN_DEPOT, 1, 0, 1}, zuordnung),
+            "Zuordnung " + Arrays.toString(zuordnung));
+
+        // Ein Team bei B: Y1 bliebe bei A (A endet an Tag 3, B an 1 + 1 + 1 = 3, Gleichstand)
+        List<Depot> einTeam = Arrays.asList(depots.get(0), new Depot("B", BREITE, LAENGE_B, 1));
+        zuordnung = DepotZuordnung.ordneZu(cluster, einTeam);
+        Pruefung.pruefe(Arrays.equals(new int[] {DepotZuordnung.KEIN_DEPOT, 1, 0, 0}, zuordnung),
+            "Zuordnung mit einem Team bei B " + Arrays.toString(zuordnung));
+
+        try {
+            DepotZuordnung.ordneZu(cluster, new ArrayList<>());
+            Pruefung.pruefe(false, "Keine Ablehnung ohne Depots");
+        } catch (IllegalArgumentException erwartet) {
+            // erwartet
+        }
+    }
+
+    /**
+     * Die Route beginnt an der depotnaechsten Anlage, die uebrige Reihenfolge bleibt erhalten.
+     */
+    private static void pruefeRoutenStart() {
+        Depot depot = new Depot("A", BREITE, LAENGE_A, 1);
+        Random zufall = new Random(470);
+        for (int lauf = 0; lauf < 10; lauf++) {
+            List<Windkraftanlage> cluster = erstelleCluster(1, 2 + zufall.nextInt(40), LAENGE_A + 0.3f, zufall, TYP_X);
+            Windkraftanlage naechste = cluster.get(0);
+            for (Windkraftanlage anlage : cluster) {
+                if (DepotZuordnung.berechneAnfahrtKm(anlage, depot) < DepotZuordnung.berechneAnfahrtKm(naechste, depot)) {
+                    naechste = anlage;
+                }
+            }
+            String kontext = "Lauf " + lauf;
+            List<Windkraftanlage> umgeordnet = DepotZuordnung.beginneBeiDepot(cluster, depot);
+            Pruefung.pruefe(umgeordnet.get(0) == naechste, kontext + ": depotnaechste Anlage nicht vorne");
+            List<Windkraftanlage> rest = new ArrayList<>(cluster);
+            rest.remove(naechste);
+            Pruefung.pruefe(rest.equals(umgeordnet.subList(1, umgeordnet.size())), kontext + ": Reihenfolge");
+
+            List<Windkraftanlage> route = RoutenDateiSpeicher.ladeOderErstelleRoute(umgeordnet,
+                Konstanten.WARTUNG_ROUTEN_ZEITBUDGET_MS, Konstanten.WARTUNG_ROUTEN_MEHRFACHSTART_AKTIVIERT,
+                Konstanten.WARTUNG_ROUTEN_TAGEOPTIMIERUNG_AKTIVIERT);
+            Pruefung.pruefeGleich(cluster.size(), route.size(), kontext + ": Anzahl Anlagen der Route");
+            Pruefung.pruefe(route.get(0) == naechste, kontext + ": Route beginnt nicht am Depot");
+        }
+    }
+
+    private static List<Windkraftanlage> erstelleCluster(int ersteId, int anzahl, float laengengrad, Random zufall,
+                                                         String typ) {
+        List<Windkraftanlage> cluster = new ArrayList<>(anzahl);
+        for (int i = 0; i < anzahl; i++) {
+            Windkraftanlage anlage = Pruefung.erstelleAnlage(ersteId + i,
+                BREITE + (zufall.nextFloat() - 0.5f) * 0.1f, laengengrad + (zufall.nextFloat() - 0.5f) * 0.1f);
+            anlage.setTyp(typ);
+            cluster.add(anlage);
+        }
+        return cluster;
+    }
+
+    private static float naechsteAnfahrtKm(List<Windkraftanlage> cluster, Depot depot) {
+        float minimum = Float.MAX_VALUE;
+        for (Windkraftanlage anlage : cluster) {
+            minimum = Math.min(minimum, DepotZuordnung.berechneAnfahrtKm(anlage, depot));
+        }
+        return minimum;
+    }
+}
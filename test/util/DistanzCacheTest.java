@@ -0,0 +1,98 @@
+package util;
+
+import model.Windkraftanlage;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Prueft den DistanzCache gegen direkte Aufrufe der Quelle: Symmetrie, doppelte Objekt-IDs,
+ * Verwerfen nach Koordinatenaenderung und die Kapazitaetsgrenze.
+ */
+public final class DistanzCacheTest {
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private DistanzCacheTest() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Startet die Pruefungen.
+     *
+     * @param args nicht verwendet
+     */
+    public static void main(String[] args) {
+        pruefeSymmetrieUndTreffer();
+        pruefeDoppelteObjektIds();
+        pruefeVerwerfen();
+        pruefeKapazitaet();
+        System.out.println("DistanzCacheTest: OK");
+    }
+
+    private static DistanzCache erstelleCache(int kapazitaet) {
+        return new DistanzCache(RoutenOptimierer::berechneDistanz, kapazitaet, 4);
+    }
+
+    /**
+     * (a, b) und (b, a) teilen einen Eintrag und liefern den Wert der Quelle.
+     */
+    private static void pruefeSymmetrieUndTreffer() {
+        DistanzCache cache = erstelleCache(1000);
+        Windkraftanlage a = Pruefung.erstelleAnlage(1, 52f, 9f);
+        Windkraftanlage b = Pruefung.erstelleAnlage(2, 52.5f, 9.5f);
+        float erwartet = RoutenOptimierer.berechneDistanz(a, b);
+        Pruefung.pruefeNahe(erwartet, cache.hole(a, b), 0, "Erster Zugriff");
+        Pruefung.pruefeNahe(erwartet, cache.hole(b, a), 0, "Umgekehrter Zugriff");
+        Pruefung.pruefeGleich(1, cache.getFehlgriffe(), "Fehlgriffe");
+        Pruefung.pruefeGleich(1, cache.getTreffer(), "Treffer");
+    }
+
+    /**
+     * Zwei Anlagen mit gleicher Objekt-ID an verschiedenen Orten teilen keine Eintraege.
+     */
+    private static void pruefeDoppelteObjektIds() {
+        DistanzCache cache = erstelleCache(1000);
+        Windkraftanlage ziel = Pruefung.erstelleAnlage(1, 52f, 9f);
+        Windkraftanlage nah = Pruefung.erstelleAnlage(7, 52.01f, 9f);
+        Windkraftanlage fern = Pruefung.erstelleAnlage(7, 50f, 11f);
+        Pruefung.pruefeNahe(RoutenOptimierer.berechneDistanz(ziel, nah), cache.hole(ziel, nah), 0, "Nahe Anlage");
+        Pruefung.pruefeNahe(RoutenOptimierer.berechneDistanz(ziel, fern), cache.hole(ziel, fern), 0, "Ferne Anlage");
+    }
+
+    /**
+     * Nach verwerfeAnlage gilt die neue Position, andere Paare bleiben gespeichert.
+     */
+    private static void pruefeVerwerfen() {
+        DistanzCache cache = erstelleCache(1000);
+        Windkraftanlage a = Pruefung.erstelleAnlage(1, 52f, 9f);
+        Windkraftanlage b = Pruefung.erstelleAnlage(2, 52.5f, 9.5f);
+        Windkraftanlage c = Pruefung.erstelleAnlage(3, 51.5f, 8.5f);
+        cache.hole(a, b);
+        cache.hole(b, c);
+
+        a.setBreitengrad(53f);
+        cache.verwerfeAnlage(a);
+        Pruefung.pruefeNahe(RoutenOptimierer.berechneDistanz(a, b), cache.hole(b, a), 0, "Neue Position");
+        long fehlgriffe = cache.getFehlgriffe();
+        cache.hole(c, b);
+        Pruefung.pruefeGleich(fehlgriffe, cache.getFehlgriffe(), "Unbeteiligtes Paar bleibt gespeichert");
+    }
+
+    /**
+     * Mehr Paare als Kapazitaet: Cache bleibt begrenzt, Werte stimmen weiterhin.
+     */
+    private static void pruefeKapazitaet() {
+        DistanzCache cache = erstelleCache(64);
+        List<Windkraftanlage> anlagen = Pruefung.erstelleAnlagen(40, 52f, 9f, 1f, new Random(1));
+        for (int i = 0; i < anlagen.size(); i++) {
+            for (int j = 0; j < anlagen.size(); j++) {
+                Windkraftanlage a = anlagen.get(i);
+                Windkraftanlage b = anlagen.get(j);
+                Pruefung.pruefeNahe(RoutenOptimierer.berechneDistanz(a, b), cache.hole(a, b), 0, "Wert");
+            }
+        }
+        Pruefung.pruefe(cache.getAnzahl() <= 64, "Kapazitaet: " + cache.getAnzahl());
+    }
+}
@@ -0,0 +1,150 @@
+package util;
+
+import model.Graphknoten;
+import model.Windkraftanlage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Prueft die Graph-Datei: Speichern und Laden ergeben dieselbe Adjazenz mit Distanzen, und
+ * Dateien mit ueberlaufenden Zaehlern, ungueltigen Offsets oder Indizes liefern null statt
+ * einer Ausnahme. Dazu die primitiven Kantendistanzen im Graphknoten beim Entfernen.
+ */
+public final class GraphDateiSpeicherTest {
+
+    /** Position von anzahlKnoten im Datei-Kopf */
+    private static final int POSITION_KNOTEN = 24;
+
+    /** Position von anzahlEintraege im Datei-Kopf */
+    private static final int POSITION_EINTRAEGE = 28;
+
+    /** Groesse des Datei-Kopfes in Bytes */
+    private static final int KOPF_GROESSE = 32;
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private GraphDateiSpeicherTest() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Startet die Pruefungen.
+     *
+     * @param args nicht verwendet
+     * @throws IOException bei Fehlern mit der temporaeren Datei
+     */
+    public static void main(String[] args) throws IOException {
+        pruefeDatei();
+        pruefeKnotenDistanzen();
+        System.out.println("GraphDateiSpeicherTest: OK");
+    }
+
+    private static void pruefeDatei() throws IOException {
+        Random zufall = new Random(26);
+        List<Windkraftanlage> anlagen = Pruefung.erstelleAnlagen(80, 52f, 9f, 0.5f, zufall);
+        anlagen.add(3, new Windkraftanlage());
+        float maxKm = 8f;
+        WindkraftanlageGraph graph = new WindkraftanlageGraph(maxKm);
+        graph.baueGraphAuf(anlagen);
+        long hash = 26L;
+
+        Path datei = Files.createTempFile("graph", ".bin");
+        try {
+            GraphDateiSpeicher.speichereGraph(datei, graph, anlagen, hash);
+            WindkraftanlageGraph geladen = GraphDateiSpeicher.ladeGraph(datei, anlagen, hash, maxKm);
+            Pruefung.pruefe(geladen != null, "Gueltige Datei abgelehnt");
+            pruefeGleicheAdjazenz(graph, geladen);
+
+            byte[] gueltig = Files.readAllBytes(datei);
+            int anzahlKnoten = graph.getAnzahlKnoten();
+            int offsetStart = KOPF_GROESSE + 4 * anzahlKnoten;
+            int nachbarStart = offsetStart + 4 * (anzahlKnoten + 1);
+            Map<String, byte[]> faelle = new LinkedHashMap<>();
+            // Zaehler, deren int-Produkte ueberlaufen, mit passender Summe modulo 2^32
+            faelle.put("ueberlaufende Eintraege", setzeInt(gueltig, POSITION_EINTRAEGE, 0x4000_0000 + leseEintraege(gueltig)));
+            faelle.put("negative Eintraege", setzeInt(gueltig, POSITION_EINTRAEGE, -1));
+            faelle.put("zu viele Knoten", setzeInt(gueltig, POSITION_KNOTEN, anlagen.size() + 1));
+            faelle.put("Anlagenindex ausserhalb", setzeInt(gueltig, KOPF_GROESSE, anlagen.size()));
+            faelle.put("erster Offset nicht 0", setzeInt(gueltig, offsetStart, 1));
+            faelle.put("fallende Offsets", setzeInt(gueltig, offsetStart + 4, -5));
+            faelle.put("Offset hinter dem Ende", setzeInt(gueltig, offsetStart + 4, Integer.MAX_VALUE));
+            faelle.put("Nachbarindex ausserhalb", setzeInt(gueltig, nachbarStart, anzahlKnoten));
+            faelle.put("negativer Nachbarindex", setzeInt(gueltig, nachbarStart, -1));
+            for (Map.Entry<String, byte[]> fall : faelle.entrySet()) {
+                Files.write(datei, fall.getValue());
+                Pruefung.pruefe(GraphDateiSpeicher.ladeGraph(datei, anlagen, hash, maxKm) == null,
+                    fall.getKey() + ": angenommen");
+            }
+        } finally {
+            Files.deleteIfExists(datei);
+        }
+    }
+
+    private static void pruefeGleicheAdjazenz(WindkraftanlageGraph erwartet, WindkraftanlageGraph ist) {
+        Pruefung.pruefeGleich(erwartet.getAnzahlKnoten(), ist.getAnzahlKnoten(), "Anzahl Knoten");
+        Pruefung.pruefe(erwartet.getAnzahlKanten() > 0, "Graph ohne Kanten");
+        for (int i = 0; i < erwartet.getAnzahlKnoten(); i++) {
+            Graphknoten a = erwartet.getKnoten().get(i);
+            Graphknoten b = ist.getKnoten().get(i);
+            Pruefung.pruefe(a.getAnlage() == b.getAnlage(), "Anlage von Knoten " + i);
+            Pruefung.pruefeGleich(a.getAnzahlNachbarn(), b.getAnzahlNachbarn(), "Nachbarn von Knoten " + i);
+            for (int n = 0; n < a.getAnzahlNachbarn(); n++) {
+                Pruefung.pruefe(a.getNachbarn().get(n).getAnlage() == b.getNachbarn().get(n).getAnlage(),
+                    "Nachbar " + n + " von Knoten " + i);
+                Pruefung.pruefe(a.getNachbarDistanzKm(n) == b.getNachbarDistanzKm(n), "Distanz " + n + " von Knoten " + i);
+            }
+        }
+    }
+
+    /**
+     * Distanzen bleiben beim Entfernen aus der Mitte und erneutem Hinzufuegen ihrem Nachbarn zugeordnet.
+     */
+    private static void pruefeKnotenDistanzen() {
+        Graphknoten knoten = new Graphknoten(Pruefung.erstelleAnlage(0, 52f, 9f));
+        Graphknoten[] nachbarn = new Graphknoten[10];
+        for (int i = 0; i < nachbarn.length; i++) {
+            nachbarn[i] = new Graphknoten(Pruefung.erstelleAnlage(i + 1, 52f, 9f));
+            knoten.fuegeNachbarHinzu(nachbarn[i], i + 0.5f);
+        }
+        knoten.fuegeNachbarHinzu(nachbarn[2], 99f);
+        Pruefung.pruefe(knoten.entferneNachbar(nachbarn[3]), "Nachbar 3 nicht entfernt");
+        Pruefung.pruefe(!knoten.entferneNachbar(nachbarn[3]), "Nachbar 3 doppelt entfernt");
+        knoten.entferneNachbar(nachbarn[0]);
+        knoten.fuegeNachbarHinzu(nachbarn[3], 42f);
+        knoten.fuegeNachbarHinzu(nachbarn[0]);
+        Pruefung.pruefeGleich(10, knoten.getAnzahlNachbarn(), "Anzahl Nachbarn");
+        for (int n = 0; n < knoten.getAnzahlNachbarn(); n++) {
+            int id = knoten.getNachbarn().get(n).getAnlage().getObjektId() - 1;
+            float erwartet = id == 3 ? 42f : id + 0.5f;
+            if (id == 0) {
+                Pruefung.pruefe(Float.isNaN(knoten.getNachbarDistanzKm(n)), "Unbekannte Distanz");
+            } else {
+                Pruefung.pruefe(knoten.getNachbarDistanzKm(n) == erwartet, "Distanz zu Nachbar " + id);
+            }
+        }
+        try {
+            knoten.getNachbarDistanzKm(knoten.getAnzahlNachbarn());
+            Pruefung.pruefe(false, "Index hinter den Nachbarn angenommen");
+        } catch (IndexOutOfBoundsException erwartet) {
+            // erwartet
+        }
+    }
+
+    private static int leseEintraege(byte[] datei) {
+        return ByteBuffer.wrap(datei).getInt(POSITION_EINTRAEGE);
+    }
+
+    private static byte[] setzeInt(byte[] datei, int position, int wert) {
+        byte[] kopie = datei.clone();
+        ByteBuffer.wrap(kopie).putInt(position, wert);
+        return kopie;
+    }
+}
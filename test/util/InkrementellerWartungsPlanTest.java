@@ -0,0 +1,178 @@
+package util;
+
+import model.Windkraftanlage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Prueft den InkrementellerWartungsPlan gegen eine vollstaendige Neuberechnung nach zufaelligen
+ * Aenderungsfolgen (gleiche Cluster, Routenlaenge in Toleranz) und das Verwerfen
+ * zwischengespeicherter Fahrdistanzen beim Verschieben mit aktivem Strassennetz.
+ */
+public final class InkrementellerWartungsPlanTest {
+
+    /** Km pro Breitengrad (Naeherung fuer die Testgeometrie) */
+    private static final float KM_PRO_GRAD = 111.2f;
+
+    /** Zulaessige relative Mehrlaenge der reparierten gegenueber neu optimierten Routen */
+    private static final double ROUTEN_TOLERANZ = 0.25;
+
+    /** Umwegfaktor der Strassenkanten gegenueber der Luftlinie */
+    private static final float UMWEG = 1.4f;
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private InkrementellerWartungsPlanTest() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Startet die Pruefungen.
+     *
+     * @param args nicht verwendet
+     */
+    public static void main(String[] args) {
+        pruefeGegenNeuberechnung();
+        pruefeVerschiebenMitStrassenNetz();
+        System.out.println("InkrementellerWartungsPlanTest: OK");
+    }
+
+    /**
+     * Drei Gruppen im Abstand von 1,5 Limits. Zwei Brueckenanlagen pendeln zwischen Gruppe und
+     * halber Strecke, vereinigen dort Cluster und teilen sie beim Zurueckschieben wieder.
+     */
+    private static void pruefeGegenNeuberechnung() {
+        Random zufall = new Random(50);
+        float abstandGrad = 1.5f * Konstanten.WARTUNG_GRAPH_MAX_DISTANZ_KM / KM_PRO_GRAD;
+        float streuungGrad = 0.1f * Konstanten.WARTUNG_GRAPH_MAX_DISTANZ_KM / KM_PRO_GRAD;
+
+        List<Windkraftanlage> aktiv = new ArrayList<>();
+        List<Windkraftanlage> inaktiv = new ArrayList<>();
+        int naechsteId = 1;
+        for (int g = 0; g < 3; g++) {
+            for (int i = 0; i < 15; i++) {
+                aktiv.add(Pruefung.erstelleAnlage(naechsteId++, zufaelligerOrt(zufall, 50f + g * abstandGrad, streuungGrad),
+                    zufaelligerOrt(zufall, 8f, streuungGrad)));
+            }
+        }
+        List<Windkraftanlage> bruecken = new ArrayList<>(aktiv.subList(0, 2));
+        List<Windkraftanlage> gruppen = new ArrayList<>(aktiv.subList(2, aktiv.size()));
+        InkrementellerWartungsPlan plan = new InkrementellerWartungsPlan(aktiv);
+        pruefeStand(plan, aktiv, "Erstaufbau");
+        int geteilt = 0;
+        int vereinigt = 0;
+
+        for (int schritt = 0; schritt < 200; schritt++) {
+            float breitengrad = zufaelligerOrt(zufall, 50f + zufall.nextInt(3) * abstandGrad, streuungGrad);
+            float laengengrad = zufaelligerOrt(zufall, 8f, streuungGrad);
+            int clusterVorher = plan.getAnzahlCluster();
+            int art = zufall.nextInt(4);
+            if (art == 3) {
+                // Brueckenanlage auf halbe Strecke zwischen Gruppe 0/1 bzw. 1/2 oder zurueck in eine Gruppe
+                int b = zufall.nextInt(bruecken.size());
+                float ziel = zufall.nextBoolean() ? 0.5f + b : zufall.nextInt(3);
+                plan.verschiebe(bruecken.get(b), 50f + ziel * abstandGrad, 8f);
+            } else if (art == 0 || gruppen.isEmpty()) {
+                Windkraftanlage neu = inaktiv.isEmpty()
+                    ? Pruefung.erstelleAnlage(naechsteId++, breitengrad, laengengrad)
+                    : inaktiv.remove(inaktiv.size() - 1);
+                neu.setBreitengrad(breitengrad);
+                neu.setLaengengrad(laengengrad);
+                Pruefung.pruefe(plan.fuegeHinzu(neu), "Schritt " + schritt + ": nicht aufgenommen");
+                aktiv.add(neu);
+                gruppen.add(neu);
+            } else if (art == 1) {
+                Windkraftanlage alt = gruppen.remove(zufall.nextInt(gruppen.size()));
+                aktiv.remove(alt);
+                Pruefung.pruefe(plan.entferne(alt), "Schritt " + schritt + ": nicht entfernt");
+                inaktiv.add(alt);
+            } else {
+                Windkraftanlage anlage = gruppen.get(zufall.nextInt(gruppen.size()));
+                Pruefung.pruefe(plan.verschiebe(anlage, breitengrad, laengengrad),
+                    "Schritt " + schritt + ": nicht verschoben");
+            }
+            geteilt += plan.getAnzahlCluster() > clusterVorher ? 1 : 0;
+            vereinigt += plan.getAnzahlCluster() < clusterVorher ? 1 : 0;
+            if (schritt % 5 == 4) {
+                pruefeStand(plan, aktiv, "Schritt " + schritt);
+            }
+        }
+        Pruefung.pruefe(geteilt > 0 && vereinigt > 0, "Folge ohne Teilen oder Vereinigen");
+    }
+
+    /**
+     * Vergleicht Cluster und Routenlaenge mit erkenneClustersAusAnlagen und neu optimierten Routen.
+     */
+    private static void pruefeStand(InkrementellerWartungsPlan plan, List<Windkraftanlage> aktiv, String kontext) {
+        List<List<Windkraftanlage>> routen = plan.getRouten();
+        List<List<Windkraftanlage>> erwartet = WartungsClusterDetector.erkenneClustersAusAnlagen(aktiv);
+        Pruefung.pruefeGleich(erwartet.size(), plan.getAnzahlCluster(), kontext + ": Anzahl Cluster");
+        Pruefung.pruefe(alsMengen(erwartet).equals(alsMengen(routen)), kontext + ": Cluster verschieden");
+
+        int anzahl = 0;
+        double reparatur = 0;
+        double neu = 0;
+        for (List<Windkraftanlage> route : routen) {
+            anzahl += route.size();
+            reparatur += RoutenOptimierer.berechneGesamtDistanz(route);
+        }
+        for (List<Windkraftanlage> c : erwartet) {
+            neu += RoutenOptimierer.berechneGesamtDistanz(RoutenOptimierer.erstelleOptimierteRoute(c));
+        }
+        Pruefung.pruefeGleich(aktiv.size(), anzahl, kontext + ": Anlagen in Routen");
+        Pruefung.pruefe(reparatur <= neu * (1 + ROUTEN_TOLERANZ) + 1e-3,
+            kontext + ": Routen " + reparatur + " km, neu berechnet " + neu + " km");
+    }
+
+    /**
+     * Nach dem Verschieben entspricht die Routenlaenge ueber den Distanz-Cache einer
+     * Berechnung mit frischem Netz (leerer Cache) aus denselben Daten.
+     */
+    private static void pruefeVerschiebenMitStrassenNetz() {
+        Random zufall = new Random(500);
+        int seite = 30;
+        float rasterGrad = 0.02f;
+        float mitte = (seite - 1) * rasterGrad / 2f;
+        List<Windkraftanlage> anlagen = Pruefung.erstelleAnlagen(25, 52f + mitte, 9f + mitte, 2f * mitte, zufall);
+        StrassenNetz.setzeStandard(Pruefung.erstelleGitterNetz(seite, 52f, 9f, rasterGrad, UMWEG));
+        try {
+            InkrementellerWartungsPlan plan = new InkrementellerWartungsPlan(anlagen);
+            for (int lauf = 0; lauf < 10; lauf++) {
+                Windkraftanlage anlage = anlagen.get(zufall.nextInt(anlagen.size()));
+                // Cache mit allen Distanzen der Anlage fuellen, danach verschieben
+                for (Windkraftanlage andere : anlagen) {
+                    RoutenOptimierer.berechneFahrDistanz(anlage, andere);
+                }
+                plan.verschiebe(anlage, 52f + zufall.nextFloat() * 2f * mitte, 9f + zufall.nextFloat() * 2f * mitte);
+
+                StrassenNetz frisch = Pruefung.erstelleGitterNetz(seite, 52f, 9f, rasterGrad, UMWEG);
+                List<Windkraftanlage> route = plan.getRoute(anlage);
+                double erwartet = 0;
+                for (int i = 0; i + 1 < route.size(); i++) {
+                    erwartet += frisch.berechneDistanz(route.get(i), route.get(i + 1));
+                }
+                Pruefung.pruefeNahe(erwartet, RoutenOptimierer.berechneGesamtDistanz(route), 1e-3,
+                    "Lauf " + lauf + ": Routenlaenge nach Verschieben");
+            }
+        } finally {
+            StrassenNetz.setzeStandard(null);
+        }
+    }
+
+    private static float zufaelligerOrt(Random zufall, float mitte, float streuung) {
+        return mitte + (zufall.nextFloat() - 0.5f) * 2f * streuung;
+    }
+
+    private static Set<Set<Windkraftanlage>> alsMengen(List<List<Windkraftanlage>> cluster) {
+        Set<Set<Windkraftanlage>> mengen = new HashSet<>();
+        for (List<Windkraftanlage> c : cluster) {
+            mengen.add(new HashSet<>(c));
+        }
+        return mengen;
+    }
+}
@@ -0,0 +1,89 @@
+package util;
+
+import model.Windkraftanlage;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Prueft die iterierte lokale Suche: bei gleichem Seed und fester Anzahl Kicks dieselbe
+ * Route, und die Route ist nie laenger als die Startroute, auch wenn das Zeitbudget mitten
+ * in einem Kick ablaeuft.
+ */
+public final class IterierteLokaleSucheTest {
+
+    /** Toleranz fuer Laengenvergleiche in km (Rundung der float-Summen) */
+    private static final float TOLERANZ_KM = 1.0e-3f;
+
+    /** Zeitbudget, das fuer die feste Anzahl Kicks sicher ausreicht */
+    private static final long GROSSES_ZEITBUDGET_MS = 600_000L;
+
+    /** Anzahl Kicks der Determinismus-Pruefung */
+    private static final long ANZAHL_KICKS = 2_000L;
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private IterierteLokaleSucheTest() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Startet die Pruefungen.
+     *
+     * @param args nicht verwendet
+     */
+    public static void main(String[] args) {
+        Random zufall = new Random(36);
+        for (int lauf = 0; lauf < 12; lauf++) {
+            int anzahl = 4 + zufall.nextInt(lauf < 8 ? 60 : 400);
+            int k = Konstanten.ROUTEN_NACHBARLISTEN_K;
+            List<Windkraftanlage> anlagen = Pruefung.erstelleAnlagen(anzahl, 52f, 9f, 0.2f + zufall.nextFloat(), zufall);
+            RoutenDistanzTabelle tabelle = new RoutenDistanzTabelle(anlagen);
+            int[] nachbarn = NachbarlistenOptimierer.berechneNachbarlisten(anlagen, k);
+            int[] start = RoutenOptimierer.erstelleNearestNeighborTour(tabelle);
+            long seed = zufall.nextLong();
+            String kontext = "Lauf " + lauf + " (" + anzahl + " Anlagen)";
+
+            // Deterministisch: gleiche Route und gleiche Anzahl uebernommener Kicks
+            int[] erste = start.clone();
+            int uebernommen = IterierteLokaleSuche.verbessere(erste, tabelle, nachbarn, k, GROSSES_ZEITBUDGET_MS,
+                seed, ANZAHL_KICKS);
+            int[] zweite = start.clone();
+            Pruefung.pruefeGleich(uebernommen, IterierteLokaleSuche.verbessere(zweite, tabelle, nachbarn, k,
+                GROSSES_ZEITBUDGET_MS, seed, ANZAHL_KICKS), kontext + ": uebernommene Kicks");
+            Pruefung.pruefe(Arrays.equals(erste, zweite), kontext + ": Route bei gleichem Seed");
+            pruefeNichtLaenger(start, erste, tabelle, kontext + ", feste Kicks");
+
+            // Kicks verschlechtern die Route nach der ersten lokalen Suche nie
+            int[] ohneKicks = start.clone();
+            IterierteLokaleSuche.verbessere(ohneKicks, tabelle, nachbarn, k, GROSSES_ZEITBUDGET_MS, seed, 0L);
+            pruefeNichtLaenger(ohneKicks, erste, tabelle, kontext + ", nach der ersten lokalen Suche");
+
+            // Zeitbudget statt Kick-Grenze: das Ende faellt an beliebige Stellen
+            for (long budgetMs : new long[] {0L, 1L, 5L}) {
+                int[] tour = start.clone();
+                IterierteLokaleSuche.verbessere(tour, tabelle, nachbarn, k, budgetMs, seed);
+                pruefeNichtLaenger(start, tour, tabelle, kontext + ", " + budgetMs + " ms");
+            }
+        }
+
+        try {
+            IterierteLokaleSuche.verbessere(new int[0], null, null, 1, -1L, 0L);
+            Pruefung.pruefe(false, "Negatives Zeitbudget angenommen");
+        } catch (IllegalArgumentException erwartet) {
+            // erwartet
+        }
+        System.out.println("IterierteLokaleSucheTest: OK");
+    }
+
+    private static void pruefeNichtLaenger(int[] start, int[] tour, RoutenDistanzTabelle tabelle, String kontext) {
+        NachbarlistenOptimiererTest.pruefePermutation(tour, tabelle.getAnzahl(), kontext);
+        Pruefung.pruefeGleich(start[0], tour[0], kontext + ": erste Anlage");
+        float vorher = ZweiOptOptimierer.berechneLaenge(start, tabelle);
+        float nachher = ZweiOptOptimierer.berechneLaenge(tour, tabelle);
+        Pruefung.pruefe(nachher <= vorher + TOLERANZ_KM, kontext + ": laenger als die Startroute ("
+            + nachher + " > " + vorher + ")");
+    }
+}
@@ -0,0 +1,127 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * Prueft Einzelanfragen und Distanztabellen der KontraktionsHierarchie gegen Dijkstra auf dem
+ * Ursprungsgraphen, auch mit Kanten der Laenge 0, Mehrfachkanten, Schleifen und mehreren Komponenten.
+ */
+public final class KontraktionsHierarchieTest {
+
+    /** Relative Toleranz fuer unterschiedliche Summationsreihenfolgen */
+    private static final double TOLERANZ = 1e-4;
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private KontraktionsHierarchieTest() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Startet die Pruefungen.
+     *
+     * @param args nicht verwendet
+     */
+    public static void main(String[] args) {
+        pruefeKantenMitGewichtNull();
+        pruefeZufallsgraphen();
+        System.out.println("KontraktionsHierarchieTest: OK");
+    }
+
+    /**
+     * Pfad u - v - w mit zwei Kanten der Laenge 0 (z.B. doppelte OSM-Knoten): u und w bleiben verbunden.
+     */
+    private static void pruefeKantenMitGewichtNull() {
+        int[] von = {0, 1, 2};
+        int[] nach = {1, 2, 3};
+        float[] gewicht = {0f, 0f, 2.5f};
+        KontraktionsHierarchie ch = new KontraktionsHierarchie(4, von, nach, gewicht);
+        for (int a = 0; a < 4; a++) {
+            for (int b = 0; b < 4; b++) {
+                float erwartet = (a == 3) != (b == 3) ? 2.5f : 0f;
+                Pruefung.pruefeNahe(erwartet, ch.distanz(a, b), 0, "Nullkanten " + a + "-" + b);
+            }
+        }
+    }
+
+    /**
+     * Zufallsgraphen mit etwa einem Viertel Kanten der Laenge 0.
+     */
+    private static void pruefeZufallsgraphen() {
+        Random zufall = new Random(3);
+        for (int versuch = 0; versuch < 200; versuch++) {
+            int n = 2 + zufall.nextInt(versuch < 150 ? 30 : 300);
+            int m = n + zufall.nextInt(2 * n);
+            int[] von = new int[m];
+            int[] nach = new int[m];
+            float[] gewicht = new float[m];
+            for (int e = 0; e < m; e++) {
+                von[e] = zufall.nextInt(n);
+                nach[e] = zufall.nextInt(n);
+                gewicht[e] = zufall.nextInt(4) == 0 ? 0f : 0.1f + 20f * zufall.nextFloat();
+            }
+            KontraktionsHierarchie ch = new KontraktionsHierarchie(n, von, nach, gewicht);
+
+            int[] punkte = new int[Math.min(n, 25)];
+            for (int i = 0; i < punkte.length; i++) {
+                punkte[i] = zufall.nextInt(n);
+            }
+            float[] tabelle = ch.berechneTabelle(punkte);
+            for (int i = 0; i < punkte.length; i++) {
+                float[] erwartet = dijkstra(n, von, nach, gewicht, punkte[i]);
+                for (int j = 0; j < punkte.length; j++) {
+                    String meldung = "Graph " + versuch + " " + punkte[i] + "-" + punkte[j];
+                    pruefeDistanz(erwartet[punkte[j]], ch.distanz(punkte[i], punkte[j]), meldung);
+                    pruefeDistanz(erwartet[punkte[j]], tabelle[i * punkte.length + j], meldung + " (Tabelle)");
+                }
+            }
+        }
+    }
+
+    private static void pruefeDistanz(float erwartet, float ist, String meldung) {
+        if (erwartet == KontraktionsHierarchie.UNERREICHBAR) {
+            Pruefung.pruefe(ist == KontraktionsHierarchie.UNERREICHBAR, meldung + ": erwartet unerreichbar, ist " + ist);
+        } else {
+            Pruefung.pruefeNahe(erwartet, ist, TOLERANZ * Math.max(1.0, erwartet), meldung);
+        }
+    }
+
+    /**
+     * Referenz: Dijkstra auf dem ungerichteten Ursprungsgraphen.
+     */
+    private static float[] dijkstra(int n, int[] von, int[] nach, float[] gewicht, int start) {
+        List<List<int[]>> adjazenz = new ArrayList<>(n);
+        for (int v = 0; v < n; v++) {
+            adjazenz.add(new ArrayList<>());
+        }
+        for (int e = 0; e < von.length; e++) {
+            adjazenz.get(von[e]).add(new int[] {nach[e], e});
+            adjazenz.get(nach[e]).add(new int[] {von[e], e});
+        }
+        float[] distanz = new float[n];
+        Arrays.fill(distanz, KontraktionsHierarchie.UNERREICHBAR);
+        distanz[start] = 0f;
+        PriorityQueue<float[]> warteschlange = new PriorityQueue<>((a, b) -> Float.compare(a[0], b[0]));
+        warteschlange.add(new float[] {0f, start});
+        while (!warteschlange.isEmpty()) {
+            float[] eintrag = warteschlange.poll();
+            int x = (int) eintrag[1];
+            if (eintrag[0] > distanz[x]) {
+                continue;
+            }
+            for (int[] kante : adjazenz.get(x)) {
+                float neu = eintrag[0] + gewicht[kante[1]];
+                if (neu < distanz[kante[0]]) {
+                    distanz[kante[0]] = neu;
+                    warteschlange.add(new float[] {neu, kante[0]});
+                }
+            }
+        }
+        return distanz;
+    }
+}
@@ -0,0 +1,115 @@
+package util;
+
+import model.Windkraftanlage;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Prueft die Nachbarlisten-Suche (2-Opt und Or-Opt) auf kleinen zufaelligen Instanzen:
+ * Ergebnis ist eine Permutation mit fester erster Anlage, nie laenger als die Konstruktion
+ * (Nearest-Neighbor bzw. Greedy-Edge), und kein 2-Opt-Zug ueber die Nachbarlisten verkuerzt
+ * die Route noch.
+ */
+public final class NachbarlistenOptimiererTest {
+
+    /** Toleranz fuer Laengenvergleiche in km (Rundung der float-Summen) */
+    private static final float TOLERANZ_KM = 1.0e-3f;
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private NachbarlistenOptimiererTest() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Startet die Pruefungen.
+     *
+     * @param args nicht verwendet
+     */
+    public static void main(String[] args) {
+        Random zufall = new Random(35);
+        for (int lauf = 0; lauf < 30; lauf++) {
+            int anzahl = 4 + zufall.nextInt(lauf < 20 ? 40 : 300);
+            int k = 3 + zufall.nextInt(8);
+            List<Windkraftanlage> anlagen = Pruefung.erstelleAnlagen(anzahl, 52f, 9f, 0.2f + zufall.nextFloat(), zufall);
+            RoutenDistanzTabelle tabelle = new RoutenDistanzTabelle(anlagen);
+            int[] nachbarn = NachbarlistenOptimierer.berechneNachbarlisten(anlagen, k);
+            String kontext = "Lauf " + lauf + " (" + anzahl + " Anlagen, k = " + k + ")";
+
+            pruefeVerbesserung(RoutenOptimierer.erstelleNearestNeighborTour(tabelle), tabelle, nachbarn, k,
+                kontext + ", Nearest-Neighbor");
+            pruefeVerbesserung(TourKonstruktion.erstelleGreedyTour(anlagen, tabelle, nachbarn, k), tabelle, nachbarn, k,
+                kontext + ", Greedy-Edge");
+        }
+        System.out.println("NachbarlistenOptimiererTest: OK");
+    }
+
+    private static void pruefeVerbesserung(int[] konstruktion, RoutenDistanzTabelle tabelle, int[] nachbarn, int k,
+                                           String kontext) {
+        int[] tour = konstruktion.clone();
+        NachbarlistenOptimierer.verbessere(tour, tabelle, nachbarn, k);
+
+        pruefePermutation(tour, tabelle.getAnzahl(), kontext);
+        Pruefung.pruefeGleich(konstruktion[0], tour[0], kontext + ": erste Anlage");
+        float vorher = ZweiOptOptimierer.berechneLaenge(konstruktion, tabelle);
+        float nachher = ZweiOptOptimierer.berechneLaenge(tour, tabelle);
+        Pruefung.pruefe(nachher <= vorher + TOLERANZ_KM, kontext + ": laenger als die Konstruktion ("
+            + nachher + " > " + vorher + ")");
+        pruefeZweiOptOptimal(tour, tabelle, nachbarn, k, kontext);
+    }
+
+    static void pruefePermutation(int[] tour, int anzahl, String kontext) {
+        Pruefung.pruefeGleich(anzahl, tour.length, kontext + ": Laenge der Route");
+        boolean[] gesehen = new boolean[anzahl];
+        for (int anlage : tour) {
+            Pruefung.pruefe(anlage >= 0 && anlage < anzahl && !gesehen[anlage], kontext + ": keine Permutation");
+            gesehen[anlage] = true;
+        }
+    }
+
+    /**
+     * Prueft alle Umkehrungen tour[i+1..j] der offenen Route unabhaengig von der Suche.
+     * Ein Zug gehoert zur Nachbarlisten-Nachbarschaft, wenn eine der neuen Kanten von einem
+     * Endpunkt x zu einem Nachbarn y in dessen Liste fuehrt und kuerzer ist als die Kante, die x
+     * dabei verliert (Gewinnkriterium, nach dem die Suche Kandidaten abbricht).
+     */
+    private static void pruefeZweiOptOptimal(int[] tour, RoutenDistanzTabelle tabelle, int[] nachbarn, int k,
+                                             String kontext) {
+        int n = tour.length;
+        for (int i = 0; i < n - 2; i++) {
+            int a = tour[i];
+            int b = tour[i + 1];
+            float alt1 = tabelle.distanz(a, b);
+            for (int j = i + 2; j < n; j++) {
+                int c = tour[j];
+                float neu1 = tabelle.distanz(a, c);
+                boolean imNachbarn = istKandidat(a, c, neu1, alt1, nachbarn, k);
+                float gewinn = alt1 - neu1;
+                if (j + 1 < n) {
+                    int d = tour[j + 1];
+                    float alt2 = tabelle.distanz(c, d);
+                    float neu2 = tabelle.distanz(b, d);
+                    gewinn += alt2 - neu2;
+                    imNachbarn = imNachbarn || istKandidat(c, a, neu1, alt2, nachbarn, k)
+                        || istKandidat(b, d, neu2, alt1, nachbarn, k) || istKandidat(d, b, neu2, alt2, nachbarn, k);
+                }
+                Pruefung.pruefe(!imNachbarn || gewinn <= TOLERANZ_KM,
+                    kontext + ": verbessernder 2-Opt-Zug " + i + ".." + j + " (" + gewinn + " km)");
+            }
+        }
+    }
+
+    private static boolean istKandidat(int x, int y, float neu, float alt, int[] nachbarn, int k) {
+        if (neu >= alt) {
+            return false;
+        }
+        for (int r = 0; r < k; r++) {
+            if (nachbarn[x * k + r] == y) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,80 @@
+package util;
+
+import model.Windkraftanlage;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Prueft die Parameterstudie: Schnitte der SingleLinkageHierarchie gegen Union-Find-Cluster
+ * bei mehreren Limits und die Ablehnung ungueltiger Rasterwerte.
+ */
+public final class ParameterStudieTest {
+
+    /** Limits in km, vom Einzelcluster bis oberhalb des Durchmessers */
+    private static final float[] LIMITS = {0.01f, 0.5f, 2f, 5f, 10f, 20f, 50f, 500f};
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private ParameterStudieTest() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Startet die Pruefungen.
+     *
+     * @param args nicht verwendet
+     */
+    public static void main(String[] args) {
+        pruefeSchnittGegenUnionFind();
+        pruefeUngueltigeWerte();
+        System.out.println("ParameterStudieTest: OK");
+    }
+
+    /**
+     * Gleiche Cluster in gleicher Reihenfolge wie erkenneClustersMitUnionFind.
+     */
+    private static void pruefeSchnittGegenUnionFind() {
+        Random zufall = new Random(49);
+        for (int lauf = 0; lauf < 20; lauf++) {
+            int anzahl = 1 + zufall.nextInt(120);
+            List<Windkraftanlage> anlagen = Pruefung.erstelleAnlagen(anzahl, 53f, 9f, 0.1f + zufall.nextFloat(), zufall);
+            SingleLinkageHierarchie hierarchie = SingleLinkageHierarchie.baue(anlagen);
+            for (float limit : LIMITS) {
+                List<List<Windkraftanlage>> erwartet = WartungsClusterDetector.erkenneClustersMitUnionFind(anlagen, limit);
+                List<List<Windkraftanlage>> ist = hierarchie.schneideBei(limit);
+                String kontext = "Lauf " + lauf + ", Limit " + limit;
+                Pruefung.pruefeGleich(erwartet.size(), ist.size(), kontext + ": Anzahl Cluster");
+                for (int c = 0; c < erwartet.size(); c++) {
+                    Pruefung.pruefe(erwartet.get(c).equals(ist.get(c)), kontext + ": Cluster " + c);
+                }
+            }
+        }
+    }
+
+    /**
+     * Null, negative und gebrochene Ganzzahlwerte werden mit Studien-Praefix abgelehnt.
+     */
+    private static void pruefeUngueltigeWerte() {
+        String[][] faelle = {
+            {Konstanten.STUDIE_PARAM_ANLAGEN_PRO_TAG + "=0"},
+            {Konstanten.STUDIE_PARAM_TOP_HERSTELLER + "=2.5"},
+            {Konstanten.STUDIE_PARAM_GESCHWINDIGKEIT + "=60,-1"},
+            {Konstanten.STUDIE_PARAM_TRANSPORTSTUNDEN + "=0"},
+            {Konstanten.STUDIE_PARAM_GESCHWINDIGKEIT + "=abc"},
+        };
+        for (String[] fall : faelle) {
+            try {
+                ParameterStudie.erstelleSzenarien(fall);
+                Pruefung.pruefe(false, "Keine Ablehnung fuer " + fall[0]);
+            } catch (IllegalArgumentException erwartet) {
+                Pruefung.pruefe(erwartet.getMessage().startsWith(Konstanten.STUDIE_UNGUELTIGER_WERT),
+                    "Praefix fuer " + fall[0] + ": " + erwartet.getMessage());
+            }
+        }
+        Pruefung.pruefeGleich(4, ParameterStudie.erstelleSzenarien(new String[] {
+            Konstanten.STUDIE_PARAM_ANLAGEN_PRO_TAG + "=1,4", Konstanten.STUDIE_PARAM_GESCHWINDIGKEIT + "=40,80"}).size(),
+            "Kartesisches Produkt");
+    }
+}
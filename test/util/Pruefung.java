@@ -0,0 +1,146 @@
+package util;
+
+import model.Windkraftanlage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Hilfsfunktionen fuer die main-basierten Pruefungen unter test/.
+ * Eine fehlgeschlagene Pruefung wirft AssertionError (unabhaengig von -ea).
+ *
+ * Design-Prinzipien:
+ * - KISS: Keine Test-Bibliothek noetig, Pruefungen laufen mit javac und java
+ * - Wiederverwendung: Gemeinsame Erzeugung zufaelliger Anlagen fuer alle Pruefungen
+ *
+ * Pre: -
+ * Post: Rueckkehr nur bei erfuellter Bedingung
+ */
+public final class Pruefung {
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private Pruefung() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Prueft eine Bedingung.
+     *
+     * @param bedingung Erwartete Bedingung
+     * @param meldung Meldung bei Verletzung
+     */
+    public static void pruefe(boolean bedingung, String meldung) {
+        if (!bedingung) {
+            throw new AssertionError(meldung);
+        }
+    }
+
+    /**
+     * Prueft zwei ganze Zahlen auf Gleichheit.
+     *
+     * @param erwartet Erwarteter Wert
+     * @param ist Tatsaechlicher Wert
+     * @param meldung Meldung bei Verletzung
+     */
+    public static void pruefeGleich(long erwartet, long ist, String meldung) {
+        if (erwartet != ist) {
+            throw new AssertionError(meldung + ": erwartet " + erwartet + ", ist " + ist);
+        }
+    }
+
+    /**
+     * Prueft zwei Zahlen auf Gleichheit bis auf eine absolute Toleranz.
+     *
+     * @param erwartet Erwarteter Wert
+     * @param ist Tatsaechlicher Wert
+     * @param toleranz Erlaubte Abweichung
+     * @param meldung Meldung bei Verletzung
+     */
+    public static void pruefeNahe(double erwartet, double ist, double toleranz, String meldung) {
+        if (!(Math.abs(erwartet - ist) <= toleranz)) {
+            throw new AssertionError(meldung + ": erwartet " + erwartet + ", ist " + ist);
+        }
+    }
+
+    /**
+     * Erstellt eine Anlage mit ID und Koordinaten.
+     *
+     * @param objektId Objekt-ID
+     * @param breitengrad Breitengrad
+     * @param laengengrad Laengengrad
+     * @return Neue Anlage
+     */
+    public static Windkraftanlage erstelleAnlage(int objektId, float breitengrad, float laengengrad) {
+        Windkraftanlage anlage = new Windkraftanlage();
+        anlage.setObjektId(objektId);
+        anlage.setBreitengrad(breitengrad);
+        anlage.setLaengengrad(laengengrad);
+        return anlage;
+    }
+
+    /**
+     * Erstellt zufaellige Anlagen in einem Rechteck um einen Mittelpunkt (IDs ab 1).
+     *
+     * @param anzahl Anzahl Anlagen
+     * @param breitengrad Mittlerer Breitengrad
+     * @param laengengrad Mittlerer Laengengrad
+     * @param ausdehnungGrad Kantenlaenge des Rechtecks in Grad
+     * @param zufall Zufallsquelle
+     * @return Neue Anlagen
+     */
+    public static List<Windkraftanlage> erstelleAnlagen(int anzahl, float breitengrad, float laengengrad,
+                                                        float ausdehnungGrad, Random zufall) {
+        List<Windkraftanlage> anlagen = new ArrayList<>(anzahl);
+        for (int i = 0; i < anzahl; i++) {
+            anlagen.add(erstelleAnlage(i + 1,
+                breitengrad + (zufall.nextFloat() - 0.5f) * ausdehnungGrad,
+                laengengrad + (zufall.nextFloat() - 0.5f) * ausdehnungGrad));
+        }
+        return anlagen;
+    }
+
+    /**
+     * Erstellt ein quadratisches Strassengitter (Kanten zu rechtem und oberem Nachbarn) mit
+     * Kantenlaenge = Luftlinie * umweg, damit sich Fahr- und Haversine-Distanzen unterscheiden.
+     * Gleiche Argumente liefern ein gleiches Netz mit leerem Distanz-Cache.
+     *
+     * @param seite Knoten je Seite
+     * @param breitengrad Breitengrad der Ecke unten links
+     * @param laengengrad Laengengrad der Ecke unten links
+     * @param rasterGrad Knotenabstand in Grad
+     * @param umweg Faktor der Kantenlaenge gegenueber der Luftlinie
+     * @return Neues Strassennetz
+     */
+    public static StrassenNetz erstelleGitterNetz(int seite, float breitengrad, float laengengrad, float rasterGrad,
+                                                  float umweg) {
+        float[] breite = new float[seite * seite];
+        float[] laenge = new float[seite * seite];
+        for (int z = 0; z < seite; z++) {
+            for (int s = 0; s < seite; s++) {
+                breite[z * seite + s] = breitengrad + z * rasterGrad;
+                laenge[z * seite + s] = laengengrad + s * rasterGrad;
+            }
+        }
+        int kanten = 2 * seite * (seite - 1);
+        int[] kanteVon = new int[kanten];
+        int[] kanteNach = new int[kanten];
+        float[] kanteKm = new float[kanten];
+        int e = 0;
+        for (int v = 0; v < seite * seite; v++) {
+            int[] nachbarn = {v % seite + 1 < seite ? v + 1 : -1, v + seite < seite * seite ? v + seite : -1};
+            for (int w : nachbarn) {
+                if (w >= 0) {
+                    kanteVon[e] = v;
+                    kanteNach[e] = w;
+                    kanteKm[e] = umweg * RoutenOptimierer.berechneDistanz(erstelleAnlage(0, breite[v], laenge[v]),
+                        erstelleAnlage(0, breite[w], laenge[w]));
+                    e++;
+                }
+            }
+        }
+        return new StrassenNetz(breite, laenge, kanteVon, kanteNach, kanteKm, seite);
+    }
+}
@@ -0,0 +1,211 @@
+package util;
+
+import model.Windkraftanlage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Prueft den Routen-Cache: jeder Schluesselteil (IDs, Koordinaten, Startanlage, Parameter,
+ * Strassennetz, Wartungsfenster) fuehrt zu einer anderen Datei, abgeschnittene oder
+ * beschaedigte Dateien werden verworfen und neu berechnet, und das Aufraeumen behaelt nur
+ * die zuletzt benutzten Routen-Dateien.
+ */
+public final class RoutenDateiSpeicherTest {
+
+    /** Zeitbudget der geprueften Optimierung in Millisekunden */
+    private static final long ZEITBUDGET_MS = 50L;
+
+    /** Groesse des Datei-Kopfes in Bytes (magic, version, hash, anzahl) */
+    private static final int KOPF_GROESSE = 20;
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private RoutenDateiSpeicherTest() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Startet die Pruefungen.
+     *
+     * @param args nicht verwendet
+     * @throws IOException bei Fehlern mit Cache- oder temporaeren Dateien
+     */
+    public static void main(String[] args) throws IOException {
+        pruefeSchluessel();
+        pruefeBeschaedigteDateien();
+        pruefeAufraeumen();
+        System.out.println("RoutenDateiSpeicherTest: OK");
+    }
+
+    /**
+     * Jede Aenderung eines Schluesselteils ergibt einen neuen Hash und damit einen Cache-Fehlgriff,
+     * die Reihenfolge der Anlagen hinter der Startanlage dagegen nicht.
+     */
+    private static void pruefeSchluessel() throws IOException {
+        Random zufall = new Random(40);
+        List<Windkraftanlage> cluster = Pruefung.erstelleAnlagen(10, 52.19f, 9.19f, 0.3f, zufall);
+        long basis = hash(cluster, ZEITBUDGET_MS, true, true);
+
+        List<Windkraftanlage> vertauscht = new ArrayList<>(cluster);
+        Collections.swap(vertauscht, 3, 4);
+        Pruefung.pruefe(hash(vertauscht, ZEITBUDGET_MS, true, true) == basis, "Reihenfolge hinter der Startanlage");
+
+        Map<String, Long> varianten = new LinkedHashMap<>();
+        List<Windkraftanlage> andereId = new ArrayList<>(cluster);
+        Windkraftanlage alt = andereId.get(5);
+        andereId.set(5, Pruefung.erstelleAnlage(99, alt.getBreitengrad(), alt.getLaengengrad()));
+        varianten.put("Objekt-ID", hash(andereId, ZEITBUDGET_MS, true, true));
+        List<Windkraftanlage> verschoben = new ArrayList<>(cluster);
+        verschoben.set(5, Pruefung.erstelleAnlage(alt.getObjektId(), alt.getBreitengrad() + 1e-4f, alt.getLaengengrad()));
+        varianten.put("Koordinaten", hash(verschoben, ZEITBUDGET_MS, true, true));
+        varianten.put("Anlage entfernt", hash(cluster.subList(0, cluster.size() - 1), ZEITBUDGET_MS, true, true));
+        List<Windkraftanlage> andererStart = new ArrayList<>(cluster);
+        Collections.swap(andererStart, 0, 1);
+        varianten.put("Startanlage", hash(andererStart, ZEITBUDGET_MS, true, true));
+        varianten.put("Zeitbudget", hash(cluster, ZEITBUDGET_MS + 1, true, true));
+        varianten.put("Mehrfachstart", hash(cluster, ZEITBUDGET_MS, false, true));
+        varianten.put("Tagesoptimierung", hash(cluster, ZEITBUDGET_MS, true, false));
+
+        StrassenNetz.setzeStandard(Pruefung.erstelleGitterNetz(20, 52f, 9f, 0.02f, 1.4f));
+        try {
+            varianten.put("Strassennetz", hash(cluster, ZEITBUDGET_MS, true, true));
+        } finally {
+            StrassenNetz.setzeStandard(null);
+        }
+        Map<Integer, int[]> werte = new HashMap<>();
+        werte.put(cluster.get(2).getObjektId(), new int[] {1, 5});
+        WartungsFenster.setzeStandard(new WartungsFenster(werte, 7L));
+        try {
+            varianten.put("Wartungsfenster", hash(cluster, ZEITBUDGET_MS, true, true));
+            WartungsFenster.setzeStandard(new WartungsFenster(werte, 8L));
+            varianten.put("Fenster-Fingerabdruck", hash(cluster, ZEITBUDGET_MS, true, true));
+        } finally {
+            WartungsFenster.setzeStandard(null);
+        }
+
+        Set<Long> gesehen = new HashSet<>();
+        gesehen.add(basis);
+        for (Map.Entry<String, Long> variante : varianten.entrySet()) {
+            Pruefung.pruefe(gesehen.add(variante.getValue()), variante.getKey() + ": gleicher Hash");
+        }
+
+        // Ueber die Dateien: nach dem Speichern der Basis legt jede Variante eine eigene Datei an
+        Path basisDatei = RoutenDateiSpeicher.ermittleDateipfad(basis);
+        RoutenDateiSpeicher.ladeOderErstelleRoute(cluster, ZEITBUDGET_MS, true, true);
+        Pruefung.pruefe(Files.isRegularFile(basisDatei), "Basisroute nicht gespeichert");
+        byte[] basisInhalt = Files.readAllBytes(basisDatei);
+        Map<String, List<Windkraftanlage>> dateiVarianten = new LinkedHashMap<>();
+        dateiVarianten.put("Objekt-ID", andereId);
+        dateiVarianten.put("Koordinaten", verschoben);
+        dateiVarianten.put("Startanlage", andererStart);
+        for (Map.Entry<String, List<Windkraftanlage>> variante : dateiVarianten.entrySet()) {
+            Path datei = RoutenDateiSpeicher.ermittleDateipfad(varianten.get(variante.getKey()));
+            Files.deleteIfExists(datei);
+            List<Windkraftanlage> route = RoutenDateiSpeicher.ladeOderErstelleRoute(variante.getValue(),
+                ZEITBUDGET_MS, true, true);
+            Pruefung.pruefe(route.get(0) == variante.getValue().get(0), variante.getKey() + ": Startanlage");
+            Pruefung.pruefe(Files.isRegularFile(datei), variante.getKey() + ": keine eigene Datei");
+        }
+        Pruefung.pruefe(Arrays.equals(basisInhalt, Files.readAllBytes(basisDatei)), "Basisdatei veraendert");
+    }
+
+    /**
+     * Abgeschnittene, verlaengerte und beschaedigte Dateien liefern null und werden durch eine
+     * neu berechnete, gueltige Datei ersetzt.
+     */
+    private static void pruefeBeschaedigteDateien() throws IOException {
+        Random zufall = new Random(400);
+        List<Windkraftanlage> cluster = Pruefung.erstelleAnlagen(12, 53.5f, 10f, 0.3f, zufall);
+        long hash = hash(cluster, ZEITBUDGET_MS, true, true);
+        Path datei = RoutenDateiSpeicher.ermittleDateipfad(hash);
+        RoutenDateiSpeicher.ladeOderErstelleRoute(cluster, ZEITBUDGET_MS, true, true);
+        byte[] gueltig = Files.readAllBytes(datei);
+        Pruefung.pruefe(RoutenDateiSpeicher.ladeRoute(datei, cluster, hash) != null, "Gueltige Datei abgelehnt");
+
+        Map<String, byte[]> faelle = new LinkedHashMap<>();
+        faelle.put("leer", new byte[0]);
+        faelle.put("nur Teil des Kopfes", Arrays.copyOf(gueltig, KOPF_GROESSE - 2));
+        faelle.put("ohne Pruefsumme", Arrays.copyOf(gueltig, gueltig.length - 8));
+        faelle.put("ein Byte zu kurz", Arrays.copyOf(gueltig, gueltig.length - 1));
+        faelle.put("verlaengert", Arrays.copyOf(gueltig, gueltig.length + 4));
+        byte[] vertauscht = gueltig.clone();
+        ByteBuffer puffer = ByteBuffer.wrap(vertauscht);
+        int zweite = puffer.getInt(KOPF_GROESSE + 4);
+        puffer.putInt(KOPF_GROESSE + 4, puffer.getInt(KOPF_GROESSE + 8));
+        puffer.putInt(KOPF_GROESSE + 8, zweite);
+        faelle.put("zwei IDs vertauscht", vertauscht);
+        byte[] bitfehler = gueltig.clone();
+        bitfehler[KOPF_GROESSE + 7] ^= 1;
+        faelle.put("Bitfehler in einer ID", bitfehler);
+        byte[] pruefsumme = gueltig.clone();
+        pruefsumme[pruefsumme.length - 1] ^= 1;
+        faelle.put("Bitfehler in der Pruefsumme", pruefsumme);
+        byte[] version = gueltig.clone();
+        version[7] ^= 1;
+        faelle.put("falsche Version", version);
+
+        for (Map.Entry<String, byte[]> fall : faelle.entrySet()) {
+            Files.write(datei, fall.getValue());
+            Pruefung.pruefe(RoutenDateiSpeicher.ladeRoute(datei, cluster, hash) == null, fall.getKey() + ": angenommen");
+            List<Windkraftanlage> route = RoutenDateiSpeicher.ladeOderErstelleRoute(cluster, ZEITBUDGET_MS, true, true);
+            Pruefung.pruefeGleich(cluster.size(), new HashSet<>(route).size(), fall.getKey() + ": Anlagen der Route");
+            Pruefung.pruefe(route.get(0) == cluster.get(0), fall.getKey() + ": Startanlage");
+            Pruefung.pruefe(RoutenDateiSpeicher.ladeRoute(datei, cluster, hash) != null,
+                fall.getKey() + ": nicht neu gespeichert");
+        }
+    }
+
+    /**
+     * Das Aufraeumen loescht die aeltesten Routen-Dateien und laesst andere Dateien stehen.
+     */
+    private static void pruefeAufraeumen() throws IOException {
+        Path verzeichnis = Files.createTempDirectory("routencache");
+        try {
+            List<Path> routen = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                Path datei = verzeichnis.resolve(String.format(Konstanten.ROUTEN_CACHE_DATEI_FORMAT, (long) i));
+                Files.write(datei, new byte[] {1});
+                Files.setLastModifiedTime(datei, FileTime.fromMillis(1_000_000L * (i + 1)));
+                routen.add(datei);
+            }
+            Path andere = verzeichnis.resolve("graph_0.bin");
+            Files.write(andere, new byte[] {1});
+            Files.setLastModifiedTime(andere, FileTime.fromMillis(0L));
+
+            Pruefung.pruefeGleich(6, RoutenDateiSpeicher.raeumeAuf(verzeichnis, 4), "Geloeschte Dateien");
+            for (int i = 0; i < routen.size(); i++) {
+                Pruefung.pruefe(Files.exists(routen.get(i)) == (i >= 6), "Routen-Datei " + i);
+            }
+            Pruefung.pruefe(Files.exists(andere), "Fremde Datei geloescht");
+            Pruefung.pruefeGleich(0, RoutenDateiSpeicher.raeumeAuf(verzeichnis, 4), "Zweites Aufraeumen");
+        } finally {
+            try (DirectoryStream<Path> eintraege = Files.newDirectoryStream(verzeichnis)) {
+                for (Path datei : eintraege) {
+                    Files.delete(datei);
+                }
+            }
+            Files.delete(verzeichnis);
+        }
+    }
+
+    private static long hash(List<Windkraftanlage> cluster, long zeitbudgetMs, boolean mehrfachstart,
+                             boolean tageOptimierung) {
+        return RoutenDateiSpeicher.berechneClusterHash(cluster, zeitbudgetMs, mehrfachstart, tageOptimierung);
+    }
+}
@@ -0,0 +1,78 @@
+package util;
+
+import model.Windkraftanlage;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Prueft die RoutenDistanzTabelle mit aktivem Strassennetz: Matrix und Einzelabfragen ueber der
+ * Matrixgrenze liefern dieselben Fahrdistanzen wie RoutenOptimierer.berechneFahrDistanz, sodass
+ * die optimierte und die ausgegebene Routenlaenge uebereinstimmen.
+ */
+public final class RoutenDistanzTabelleTest {
+
+    /** Toleranz in km (Summationsreihenfolge von Matrix und Einzelabfrage) */
+    private static final double TOLERANZ_KM = 1e-3;
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private RoutenDistanzTabelleTest() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Startet die Pruefungen.
+     *
+     * @param args nicht verwendet
+     */
+    public static void main(String[] args) {
+        Random zufall = new Random(45);
+        List<Windkraftanlage> anlagen = Pruefung.erstelleAnlagen(60, 52.3f, 9.3f, 0.5f, zufall);
+        anlagen.add(new Windkraftanlage());
+
+        StrassenNetz.setzeStandard(Pruefung.erstelleGitterNetz(40, 52f, 9f, 0.02f, 1.4f));
+        try {
+            RoutenDistanzTabelle matrix = new RoutenDistanzTabelle(anlagen, anlagen.size());
+            RoutenDistanzTabelle einzeln = new RoutenDistanzTabelle(anlagen, 0);
+            int mitUmweg = 0;
+            for (int a = 0; a < anlagen.size(); a++) {
+                for (int b = 0; b < anlagen.size(); b++) {
+                    String kontext = "Paar " + a + "-" + b;
+                    if (anlagen.get(a).getBreitengrad() == null || anlagen.get(b).getBreitengrad() == null) {
+                        Pruefung.pruefe(einzeln.distanz(a, b) == Float.MAX_VALUE, kontext + ": ohne Koordinaten");
+                        continue;
+                    }
+                    float fahrt = RoutenOptimierer.berechneFahrDistanz(anlagen.get(a), anlagen.get(b));
+                    Pruefung.pruefeNahe(fahrt, matrix.distanz(a, b), TOLERANZ_KM, kontext + ": Matrix");
+                    Pruefung.pruefeNahe(fahrt, einzeln.distanz(a, b), TOLERANZ_KM, kontext + ": einzeln");
+                    if (fahrt > 1.1f * RoutenOptimierer.berechneDistanz(anlagen.get(a), anlagen.get(b))) {
+                        mitUmweg++;
+                    }
+                }
+            }
+            Pruefung.pruefe(mitUmweg > 0, "Strassennetz wird nicht verwendet");
+
+            // Optimierte Laenge ueber der Matrixgrenze gleich der ausgegebenen Laenge
+            List<Windkraftanlage> route = anlagen.subList(0, anlagen.size() - 1);
+            RoutenDistanzTabelle tabelle = new RoutenDistanzTabelle(route, 0);
+            int[] tour = new int[route.size()];
+            for (int i = 0; i < tour.length; i++) {
+                tour[i] = i;
+            }
+            Pruefung.pruefeNahe(RoutenOptimierer.berechneGesamtDistanz(route), ZweiOptOptimierer.berechneLaenge(tour, tabelle),
+                TOLERANZ_KM * tour.length, "Routenlaenge ueber der Matrixgrenze");
+        } finally {
+            StrassenNetz.setzeStandard(null);
+        }
+
+        // Ohne Netz: bitgleich zu RoutenOptimierer.berechneDistanz
+        RoutenDistanzTabelle haversine = new RoutenDistanzTabelle(anlagen, 0);
+        for (int a = 0; a + 1 < anlagen.size(); a++) {
+            Pruefung.pruefe(haversine.distanz(a, a + 1)
+                == RoutenOptimierer.berechneDistanz(anlagen.get(a), anlagen.get(a + 1)), "Haversine " + a);
+        }
+        System.out.println("RoutenDistanzTabelleTest: OK");
+    }
+}
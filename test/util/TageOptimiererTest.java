@@ -0,0 +1,72 @@
+package util;
+
+import model.Windkraftanlage;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Prueft die ereignisbasierte Dauerberechnung von TageOptimierer gegen die vollstaendige
+ * Tagesaufteilung aus WartungsZeitBerechner und die Zuege auf Dauer und Startanlage.
+ */
+public final class TageOptimiererTest {
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private TageOptimiererTest() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Startet die Pruefungen.
+     *
+     * @param args nicht verwendet
+     */
+    public static void main(String[] args) {
+        pruefeDauerGegenTagesaufteilung();
+        pruefeVerbesserung();
+        System.out.println("TageOptimiererTest: OK");
+    }
+
+    /**
+     * berechneDauer (O(L) ueber lange Kanten) entspricht der O(n)-DP fuer beliebige Tagesgroessen.
+     */
+    private static void pruefeDauerGegenTagesaufteilung() {
+        Random zufall = new Random(11);
+        for (int versuch = 0; versuch < 5000; versuch++) {
+            int n = 1 + zufall.nextInt(versuch % 2 == 0 ? 20 : 400);
+            int anlagenProTag = 1 + zufall.nextInt(6);
+            int[] reisetage = new int[n];
+            TageOptimierer.Ereignisse ereignisse = new TageOptimierer.Ereignisse(n);
+            for (int e = 1; e < n; e++) {
+                if (zufall.nextInt(versuch % 3 == 0 ? 50 : 5) == 0) {
+                    reisetage[e] = 1 + zufall.nextInt(3);
+                    ereignisse.fuegeHinzu(e, reisetage[e]);
+                }
+            }
+            int erwartet = WartungsZeitBerechner.loeseTagesaufteilung(reisetage, null, anlagenProTag);
+            int ist = TageOptimierer.berechneDauer(n, ereignisse, new int[anlagenProTag]);
+            Pruefung.pruefeGleich(erwartet, ist, "Dauer n=" + n + " proTag=" + anlagenProTag);
+        }
+    }
+
+    /**
+     * Die Verbesserung erhoeht die Dauer nie, behaelt die Startanlage und liefert eine Permutation.
+     */
+    private static void pruefeVerbesserung() {
+        Random zufall = new Random(5);
+        for (int versuch = 0; versuch < 30; versuch++) {
+            // Weite Streuung, damit lange Kanten mit Reisetagen entstehen
+            List<Windkraftanlage> route = Pruefung.erstelleAnlagen(10 + zufall.nextInt(60), 51f, 10f, 6f, zufall);
+            int vorher = WartungsZeitBerechner.berechneGesamtdauer(route);
+            List<Windkraftanlage> verbessert = RoutenOptimierer.verbessereRouteNachTagen(route);
+            int nachher = WartungsZeitBerechner.berechneGesamtdauer(verbessert);
+
+            Pruefung.pruefe(nachher <= vorher, "Dauer darf nicht steigen");
+            Pruefung.pruefe(verbessert.get(0) == route.get(0), "Startanlage bleibt");
+            Pruefung.pruefeGleich(route.size(), verbessert.size(), "Anzahl Anlagen");
+            Pruefung.pruefe(verbessert.containsAll(route), "Permutation");
+        }
+    }
+}
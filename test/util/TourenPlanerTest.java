@@ -0,0 +1,116 @@
+package util;
+
+import model.Tagestour;
+import model.Windkraftanlage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Prueft die Tourenplanung auf ihre Zusicherungen: jede Anlage genau einmal, Tagesgrenzen
+ * (Anlagen und km) je Tour, je Team fortlaufende, eindeutige Tage und disjunkte Teams,
+ * auch fuer Tagesgrenzen ab 128 Anlagen.
+ */
+public final class TourenPlanerTest {
+
+    /** Toleranz fuer die Summe der float-Kantenlaengen in km */
+    private static final float TOLERANZ_KM = 1e-3f;
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private TourenPlanerTest() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Startet die Pruefungen.
+     *
+     * @param args nicht verwendet
+     */
+    public static void main(String[] args) {
+        Random zufall = new Random(41);
+        for (int versuch = 0; versuch < 30; versuch++) {
+            int n = 1 + zufall.nextInt(versuch < 20 ? 60 : 400);
+            List<Windkraftanlage> anlagen = Pruefung.erstelleAnlagen(n, 52f, 9f, 0.2f + 2f * zufall.nextFloat(), zufall);
+            int teams = 1 + zufall.nextInt(4);
+            int proTag = 1 + zufall.nextInt(6);
+            float maxKm = 5f + 80f * zufall.nextFloat();
+            pruefePlan(anlagen, TourenPlaner.plane(anlagen, teams, proTag, maxKm), teams, proTag, maxKm,
+                "Versuch " + versuch);
+        }
+
+        // Grosse Tagesgrenze: Tourgroessen ueber 127 bzw. 255 Anlagen
+        List<Windkraftanlage> dicht = Pruefung.erstelleAnlagen(700, 52f, 9f, 0.05f, zufall);
+        pruefePlan(dicht, TourenPlaner.plane(dicht, 2, 300, 200f), 2, 300, 200f, "Grosse Tagesgrenze");
+
+        // Standardgrenzen
+        List<Windkraftanlage> standard = Pruefung.erstelleAnlagen(150, 52f, 9f, 1f, zufall);
+        pruefePlan(standard, TourenPlaner.plane(standard, 3), 3, Konstanten.ANLAGEN_PRO_TAG,
+            Konstanten.MAX_TRANSPORT_DISTANZ_KM, "Standardgrenzen");
+        System.out.println("TourenPlanerTest: OK");
+    }
+
+    private static void pruefePlan(List<Windkraftanlage> anlagen, List<Tagestour> plan, int teams, int proTag,
+                                   float maxKm, String kontext) {
+        Map<Windkraftanlage, Integer> teamVon = new IdentityHashMap<>();
+        Set<Long> teamTage = new HashSet<>();
+        int[] letzterTag = new int[teams + 1];
+        for (Tagestour tour : plan) {
+            List<Windkraftanlage> besucht = tour.getAnlagen();
+            Pruefung.pruefe(!besucht.isEmpty(), kontext + ": leere Tour");
+            Pruefung.pruefe(besucht.size() <= proTag,
+                kontext + ": " + besucht.size() + " Anlagen an einem Tag, erlaubt " + proTag);
+            Pruefung.pruefe(tour.getFahrstreckeKm() <= maxKm + TOLERANZ_KM,
+                kontext + ": " + tour.getFahrstreckeKm() + " km an einem Tag, erlaubt " + maxKm);
+            Pruefung.pruefeNahe(berechneLaenge(besucht), tour.getFahrstreckeKm(), TOLERANZ_KM,
+                kontext + ": Fahrstrecke der Tour");
+
+            Pruefung.pruefe(tour.getTeam() >= 1 && tour.getTeam() <= teams, kontext + ": Team " + tour.getTeam());
+            Pruefung.pruefe(teamTage.add(((long) tour.getTeam() << 32) | tour.getTag()),
+                kontext + ": Team " + tour.getTeam() + " an Tag " + tour.getTag() + " doppelt");
+            Pruefung.pruefe(tour.getTag() > letzterTag[tour.getTeam()],
+                kontext + ": Tage von Team " + tour.getTeam() + " nicht aufsteigend");
+            letzterTag[tour.getTeam()] = tour.getTag();
+
+            for (Windkraftanlage anlage : besucht) {
+                Pruefung.pruefe(teamVon.put(anlage, tour.getTeam()) == null,
+                    kontext + ": Anlage " + anlage.getObjektId() + " mehrfach geplant");
+            }
+        }
+        Pruefung.pruefeGleich(anlagen.size(), teamVon.size(), kontext + ": Anzahl geplanter Anlagen");
+        for (Windkraftanlage anlage : anlagen) {
+            Pruefung.pruefe(teamVon.containsKey(anlage), kontext + ": Anlage " + anlage.getObjektId() + " fehlt");
+        }
+
+        // Teams: disjunkte Anlagenmengen, Dauer ist der spaeteste Tag
+        List<Set<Windkraftanlage>> jeTeam = new ArrayList<>();
+        for (int team = 0; team <= teams; team++) {
+            jeTeam.add(new HashSet<>());
+        }
+        for (Map.Entry<Windkraftanlage, Integer> eintrag : teamVon.entrySet()) {
+            jeTeam.get(eintrag.getValue()).add(eintrag.getKey());
+        }
+        int summe = 0;
+        int dauer = 0;
+        for (int team = 1; team <= teams; team++) {
+            summe += jeTeam.get(team).size();
+            dauer = Math.max(dauer, letzterTag[team]);
+        }
+        Pruefung.pruefeGleich(anlagen.size(), summe, kontext + ": Teams nicht disjunkt");
+        Pruefung.pruefeGleich(dauer, TourenPlaner.berechneDauerTage(plan), kontext + ": Dauer");
+    }
+
+    private static float berechneLaenge(List<Windkraftanlage> tour) {
+        float summe = 0f;
+        for (int i = 0; i + 1 < tour.size(); i++) {
+            summe += RoutenOptimierer.berechneDistanz(tour.get(i), tour.get(i + 1));
+        }
+        return summe;
+    }
+}
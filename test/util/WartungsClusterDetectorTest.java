@@ -0,0 +1,53 @@
+package util;
+
+import model.Windkraftanlage;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Prueft die parallele Cluster-Erkennung gegen die Tiefensuche: auf zufaelligen Graphen
+ * auch ueber mehrere Bloecke dieselben Cluster in derselben Reihenfolge.
+ */
+public final class WartungsClusterDetectorTest {
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private WartungsClusterDetectorTest() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Startet die Pruefungen.
+     *
+     * @param args nicht verwendet
+     */
+    public static void main(String[] args) {
+        Random zufall = new Random(29);
+        for (int lauf = 0; lauf < 12; lauf++) {
+            // Bis zum Dreifachen der Blockgroesse, damit die Aufgaben tatsaechlich geteilt werden
+            int anzahl = 1 + zufall.nextInt(lauf < 8 ? 300 : 3 * Konstanten.CLUSTER_PARALLEL_BLOCKGROESSE);
+            float ausdehnungGrad = 0.5f + 4f * zufall.nextFloat();
+            float maxKm = 1f + 10f * zufall.nextFloat();
+            List<Windkraftanlage> anlagen = Pruefung.erstelleAnlagen(anzahl, 52f, 9f, ausdehnungGrad, zufall);
+            anlagen.add(new Windkraftanlage());
+            WindkraftanlageGraph graph = new WindkraftanlageGraph(maxKm);
+            graph.baueGraphAuf(anlagen);
+
+            List<List<Windkraftanlage>> erwartet = WartungsClusterDetector.erkenneClusters(graph);
+            List<List<Windkraftanlage>> ist = WartungsClusterDetector.erkenneClustersParallel(graph);
+            String kontext = "Lauf " + lauf + " (" + anzahl + " Anlagen, " + maxKm + " km)";
+            Pruefung.pruefeGleich(erwartet.size(), ist.size(), kontext + ": Anzahl Cluster");
+            for (int c = 0; c < erwartet.size(); c++) {
+                Pruefung.pruefe(erwartet.get(c).get(0) == ist.get(c).get(0), kontext + ": erste Anlage von Cluster " + c);
+                Pruefung.pruefeGleich(erwartet.get(c).size(), ist.get(c).size(), kontext + ": Groesse von Cluster " + c);
+                Pruefung.pruefe(new HashSet<>(erwartet.get(c)).equals(new HashSet<>(ist.get(c))),
+                    kontext + ": Mitglieder von Cluster " + c);
+            }
+        }
+        Pruefung.pruefe(WartungsClusterDetector.erkenneClustersParallel(null).isEmpty(), "Ohne Graph");
+        System.out.println("WartungsClusterDetectorTest: OK");
+    }
+}
@@ -0,0 +1,131 @@
+package util;
+
+import model.Windkraftanlage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prueft mehrere Wartungsfenster je Anlage: Zusammenfassen der Zeilen einer ID beim Einlesen,
+ * Nachschlagen und den Terminplan bei einer Sperrzeit mitten in der Saison.
+ */
+public final class WartungsFensterTest {
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private WartungsFensterTest() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Startet die Pruefungen.
+     *
+     * @param args nicht verwendet
+     * @throws IOException bei Fehlern mit der temporaeren Datei
+     */
+    public static void main(String[] args) throws IOException {
+        pruefeEinlesen();
+        pruefeSperrzeitImTerminplan();
+        System.out.println("WartungsFensterTest: OK");
+    }
+
+    /**
+     * Mehrere Zeilen einer ID werden vereinigt statt ueberschrieben.
+     */
+    private static void pruefeEinlesen() throws IOException {
+        Path datei = Files.createTempFile("wartungsfenster", ".csv");
+        try {
+            Files.write(datei, Arrays.asList(
+                "OBJECTID,FruehesterTag,SpaetesterTag",
+                "7,20,30",
+                "7,1,5",
+                "7,25,40",
+                "7,6,8",
+                "8,3,3"), StandardCharsets.UTF_8);
+            WartungsFenster fenster = WartungsFenster.lese(datei);
+            Pruefung.pruefe(Arrays.equals(new int[] {1, 8, 20, 40}, fenster.getFenster(7)),
+                "Fenster von ID 7: " + Arrays.toString(fenster.getFenster(7)));
+            Pruefung.pruefe(Arrays.equals(new int[] {3, 3}, fenster.getFenster(8)), "Fenster von ID 8");
+            Pruefung.pruefe(fenster.getFenster(9) == null, "ID ohne Fenster");
+            Pruefung.pruefeGleich(1, fenster.getFruehesterTag(7), "Fruehester Tag");
+            Pruefung.pruefeGleich(40, fenster.getSpaetesterTag(7), "Spaetester Tag");
+
+            Pruefung.pruefe(fenster.istErlaubt(7, 8), "Tag 8 erlaubt");
+            Pruefung.pruefe(!fenster.istErlaubt(7, 9), "Tag 9 gesperrt");
+            Pruefung.pruefe(!fenster.istErlaubt(7, 41), "Tag 41 nach allen Fenstern");
+            Pruefung.pruefeGleich(20, fenster.naechsterErlaubterTag(7, 9), "Warten ueber die Sperrzeit");
+            Pruefung.pruefeGleich(25, fenster.naechsterErlaubterTag(7, 25), "Im Fenster");
+            Pruefung.pruefeGleich(45, fenster.naechsterErlaubterTag(7, 45), "Hinter allen Fenstern");
+            Pruefung.pruefeGleich(12, fenster.naechsterErlaubterTag(9, 12), "Ohne Fenster");
+        } finally {
+            Files.deleteIfExists(datei);
+        }
+    }
+
+    /**
+     * Ein voller erster Tag schiebt die Anlage mit Sperrzeit an Tag 2-5 auf Tag 6, die folgende
+     * Anlage ohne Fenster kommt an denselben Tag. Mit nur der Huelle [1, 10] waere es Tag 2.
+     */
+    private static void pruefeSperrzeitImTerminplan() {
+        int proTag = Konstanten.ANLAGEN_PRO_TAG;
+        List<Windkraftanlage> route = new ArrayList<>();
+        for (int i = 0; i < proTag + 2; i++) {
+            // Nah beieinander: keine Reisetage
+            route.add(Pruefung.erstelleAnlage(100 + i, 53f + i * 0.001f, 9f));
+        }
+        int gesperrt = route.get(proTag).getObjektId();
+        Map<Integer, int[]> werte = new HashMap<>();
+        werte.put(gesperrt, new int[] {1, 1, 6, 10});
+        WartungsFenster fenster = new WartungsFenster(werte, 1L);
+
+        int[] termine = WartungsZeitBerechner.berechneTerminplan(route, fenster);
+        for (int i = 0; i < proTag; i++) {
+            Pruefung.pruefeGleich(1, termine[i], "Erster Tag, Position " + i);
+        }
+        Pruefung.pruefeGleich(6, termine[proTag], "Anlage nach der Sperrzeit");
+        Pruefung.pruefeGleich(6, termine[proTag + 1], "Folgende Anlage am selben Tag");
+        Pruefung.pruefe(fenster.istErlaubt(gesperrt, termine[proTag]), "Termin im Fenster");
+
+        // Optimierer: Anlage mit Sperrzeit an den Anfang des ersten Tages, dann ohne Verzug
+        int[] tour = new int[route.size()];
+        int[] frueh = new int[route.size()];
+        int[] spaet = new int[route.size()];
+        int[][] erlaubt = new int[route.size()][];
+        werte.put(gesperrt, new int[] {1, 1, 30, 40});
+        for (int i = 0; i < tour.length; i++) {
+            int id = route.get(i).getObjektId();
+            tour[i] = i;
+            frueh[i] = ZeitfensterOptimierer.ersterSlot(fenster.getFruehesterTag(id));
+            spaet[i] = ZeitfensterOptimierer.letzterSlot(fenster.getSpaetesterTag(id));
+            erlaubt[i] = ZeitfensterOptimierer.alsSlotFenster(fenster.getFenster(id));
+        }
+        RoutenDistanzTabelle tabelle = new RoutenDistanzTabelle(route);
+        Pruefung.pruefeGleich(0, ZeitfensterOptimierer.berechneVerzug(tour, tabelle, frueh, spaet),
+            "Huelle sieht keinen Verzug");
+        Pruefung.pruefe(ZeitfensterOptimierer.berechneVerzug(tour, tabelle, frueh, spaet, erlaubt) == 0,
+            "Wartet bis Tag 30 ohne Verzug");
+        // Spaetes Ende zwingt zum ersten Fenster: Anlage muss an Tag 1
+        werte.put(gesperrt, new int[] {1, 1, 30, 30});
+        werte.put(route.get(proTag + 1).getObjektId(), new int[] {1, 2});
+        for (int i = 0; i < tour.length; i++) {
+            int id = route.get(i).getObjektId();
+            frueh[i] = ZeitfensterOptimierer.ersterSlot(fenster.getFruehesterTag(id));
+            spaet[i] = ZeitfensterOptimierer.letzterSlot(fenster.getSpaetesterTag(id));
+            erlaubt[i] = ZeitfensterOptimierer.alsSlotFenster(fenster.getFenster(id));
+        }
+        int vorher = ZeitfensterOptimierer.berechneVerzug(tour, tabelle, frueh, spaet, erlaubt);
+        Pruefung.pruefe(vorher > 0, "Warten bis Tag 30 verspaetet die Folgeanlage");
+        int nachher = ZeitfensterOptimierer.verbessere(tour, tabelle, frueh, spaet, erlaubt);
+        Pruefung.pruefeGleich(0, nachher, "Verbesserte Tour ohne Verzug");
+        Pruefung.pruefeGleich(0, ZeitfensterOptimierer.berechneVerzug(tour, tabelle, frueh, spaet, erlaubt),
+            "Verzug der verbesserten Tour");
+    }
+}
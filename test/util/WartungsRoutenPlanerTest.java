@@ -0,0 +1,128 @@
+package util;
+
+import model.Windkraftanlage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Prueft die Wartungsplanung mehrerer Hersteller: parallel und nacheinander geplant ergeben
+ * dieselben Tage und dieselbe Ausgabe (Cluster, Routen, Kilometer), nur die Zeitangaben
+ * unterscheiden sich.
+ */
+public final class WartungsRoutenPlanerTest {
+
+    /** Anlagentypen der geprueften Hersteller */
+    private static final String[] TYPEN = {"Enercon E-82", "Vestas V90", "Nordex N117"};
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private WartungsRoutenPlanerTest() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Startet die Pruefungen.
+     *
+     * @param args nicht verwendet
+     * @throws IOException bei Fehlern mit Cache-Dateien
+     */
+    public static void main(String[] args) throws IOException {
+        List<Windkraftanlage> anlagen = erstelleWindparks(new Random(44));
+        Set<Path> vorher = listeRoutenDateien();
+
+        // Ohne Cache-Treffer aus dem jeweils anderen Lauf, sonst wuerde nur die Datei verglichen
+        StringBuilder sequentiell = new StringBuilder();
+        Map<String, Integer> tageSequentiell = plane(anlagen, false, sequentiell);
+        loescheNeueRoutenDateien(vorher);
+        StringBuilder parallel = new StringBuilder();
+        Map<String, Integer> tageParallel = plane(anlagen, true, parallel);
+        loescheNeueRoutenDateien(vorher);
+
+        Pruefung.pruefeGleich(TYPEN.length, tageSequentiell.size(), "Anzahl Hersteller");
+        Pruefung.pruefe(tageSequentiell.equals(tageParallel), "Tage: " + tageSequentiell + " / " + tageParallel);
+        Pruefung.pruefe(sequentiell.toString().contains("km"), "Ausgabe ohne Kilometer");
+        Pruefung.pruefe(sequentiell.toString().equals(parallel.toString()), "Ausgabe unterscheidet sich");
+        System.out.println("WartungsRoutenPlanerTest: OK");
+    }
+
+    /**
+     * Je Hersteller mehrere raeumlich getrennte Windparks unterschiedlicher Groesse, damit
+     * in beiden Phasen mehrere Aufgaben entstehen.
+     */
+    private static List<Windkraftanlage> erstelleWindparks(Random zufall) {
+        List<Windkraftanlage> anlagen = new ArrayList<>();
+        int id = 440_000;
+        for (int h = 0; h < TYPEN.length; h++) {
+            for (int park = 0; park < 4; park++) {
+                float breite = 48f + 2f * h + 0.5f * park;
+                float laenge = 7f + 1.5f * park;
+                int anzahl = 3 + zufall.nextInt(40);
+                for (int i = 0; i < anzahl; i++) {
+                    Windkraftanlage anlage = Pruefung.erstelleAnlage(id++,
+                        breite + (zufall.nextFloat() - 0.5f) * 0.1f, laenge + (zufall.nextFloat() - 0.5f) * 0.1f);
+                    anlage.setTyp(TYPEN[h]);
+                    anlagen.add(anlage);
+                }
+            }
+        }
+        return anlagen;
+    }
+
+    /**
+     * Plant alle Hersteller und sammelt die Ausgabe ohne Zeitangaben.
+     */
+    private static Map<String, Integer> plane(List<Windkraftanlage> anlagen, boolean parallel,
+                                              StringBuilder ausgabe) {
+        PrintStream standard = System.out;
+        ByteArrayOutputStream puffer = new ByteArrayOutputStream();
+        Map<String, Integer> tage;
+        try {
+            System.setOut(new PrintStream(puffer, true, StandardCharsets.UTF_8));
+            tage = WartungsRoutenPlaner.planeWartungFuerTopHersteller(anlagen, Integer.MAX_VALUE, parallel);
+        } finally {
+            System.setOut(standard);
+        }
+        for (String zeile : puffer.toString(StandardCharsets.UTF_8).split("\\R")) {
+            if (!zeile.contains("Berechnungszeit")) {
+                ausgabe.append(zeile).append('\n');
+            }
+        }
+        return tage;
+    }
+
+    private static Set<Path> listeRoutenDateien() throws IOException {
+        Set<Path> dateien = new HashSet<>();
+        Path verzeichnis = Paths.get(Konstanten.CACHE_VERZEICHNIS);
+        if (!Files.isDirectory(verzeichnis)) {
+            return dateien;
+        }
+        try (DirectoryStream<Path> eintraege = Files.newDirectoryStream(verzeichnis, Konstanten.ROUTEN_CACHE_DATEI_MUSTER)) {
+            for (Path datei : eintraege) {
+                dateien.add(datei);
+            }
+        }
+        return dateien;
+    }
+
+    private static void loescheNeueRoutenDateien(Set<Path> vorher) throws IOException {
+        for (Path datei : listeRoutenDateien()) {
+            if (!vorher.contains(datei)) {
+                Files.delete(datei);
+            }
+        }
+    }
+}
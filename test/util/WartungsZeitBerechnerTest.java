@@ -0,0 +1,86 @@
+package util;
+
+import model.Windkraftanlage;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Prueft die Tagesaufteilung (loeseTagesaufteilung) gegen vollstaendige Aufzaehlung aller
+ * Aufteilungen und die oeffentlichen Tageszahlen auf Konsistenz.
+ */
+public final class WartungsZeitBerechnerTest {
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private WartungsZeitBerechnerTest() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Startet die Pruefungen.
+     *
+     * @param args nicht verwendet
+     */
+    public static void main(String[] args) {
+        pruefeTagesaufteilungGegenAufzaehlung();
+        pruefeTageszahlenKonsistent();
+        System.out.println("WartungsZeitBerechnerTest: OK");
+    }
+
+    /**
+     * DP-Ergebnis und Rekonstruktion entsprechen dem Minimum ueber alle Aufteilungen.
+     */
+    private static void pruefeTagesaufteilungGegenAufzaehlung() {
+        Random zufall = new Random(42);
+        for (int versuch = 0; versuch < 2000; versuch++) {
+            int n = 1 + zufall.nextInt(12);
+            int anlagenProTag = 1 + zufall.nextInt(5);
+            int[] reisetage = new int[n];
+            for (int i = 1; i < n; i++) {
+                reisetage[i] = zufall.nextInt(4) == 0 ? 1 + zufall.nextInt(3) : 0;
+            }
+            int[] naechsterAnfang = new int[n];
+            int dauer = WartungsZeitBerechner.loeseTagesaufteilung(reisetage, naechsterAnfang, anlagenProTag);
+            Pruefung.pruefeGleich(minimumAufzaehlung(reisetage, 0, anlagenProTag), dauer, "Minimale Dauer");
+
+            // Rekonstruierte Aufteilung hat genau die gemeldete Dauer
+            int rekonstruiert = 0;
+            for (int i = 0; i < n; i = naechsterAnfang[i]) {
+                Pruefung.pruefe(naechsterAnfang[i] > i && naechsterAnfang[i] - i <= anlagenProTag, "Tagesgroesse");
+                rekonstruiert += 1 + (i > 0 ? reisetage[i] : 0);
+            }
+            Pruefung.pruefeGleich(dauer, rekonstruiert, "Rekonstruktion");
+        }
+    }
+
+    /**
+     * Gesamtdauer = Wartungstage + Reisetage, Wartungstage = Anzahl Tagesanfaenge.
+     */
+    private static void pruefeTageszahlenKonsistent() {
+        Random zufall = new Random(7);
+        for (int versuch = 0; versuch < 50; versuch++) {
+            // Weite Streuung erzeugt Kanten ueber dem Transportlimit
+            List<Windkraftanlage> route = Pruefung.erstelleAnlagen(1 + zufall.nextInt(30), 51f, 10f, 8f, zufall);
+            int wartungstage = WartungsZeitBerechner.berechneWartungstage(route);
+            Pruefung.pruefeGleich(WartungsZeitBerechner.berechneTagesanfaenge(route).length, wartungstage,
+                "Wartungstage");
+            Pruefung.pruefeGleich(wartungstage + WartungsZeitBerechner.berechneZusaetzlicheReisetage(route),
+                WartungsZeitBerechner.berechneGesamtdauer(route), "Gesamtdauer");
+        }
+    }
+
+    /**
+     * Minimum ueber alle Aufteilungen ab Position i (exponentiell, nur fuer kleine n).
+     */
+    private static int minimumAufzaehlung(int[] reisetage, int i, int anlagenProTag) {
+        int n = reisetage.length;
+        int beste = Integer.MAX_VALUE;
+        for (int ende = i + 1; ende <= Math.min(n, i + anlagenProTag); ende++) {
+            int rest = ende == n ? 0 : reisetage[ende] + minimumAufzaehlung(reisetage, ende, anlagenProTag);
+            beste = Math.min(beste, 1 + rest);
+        }
+        return beste;
+    }
+}
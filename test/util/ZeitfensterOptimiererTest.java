@@ -0,0 +1,195 @@
+package util;
+
+import model.Windkraftanlage;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Prueft die Segment-Verkettung des ZeitfensterOptimierer gegen eine schrittweise Simulation
+ * (Zeitsprung-Modell nach Vidal: Verspaetung wird als Verzug gezaehlt, die Zeit auf das
+ * Fensterende zurueckgesetzt) und die Verbesserung auf Verzug, Startanlage und Permutation,
+ * auch fuer Anlagen mit mehreren Fenstern (Sperrzeiten).
+ */
+public final class ZeitfensterOptimiererTest {
+
+    /**
+     * Privater Konstruktor verhindert Instanziierung der Utility-Klasse.
+     */
+    private ZeitfensterOptimiererTest() {
+        // Utility-Klasse, keine Instanzen
+    }
+
+    /**
+     * Startet die Pruefungen.
+     *
+     * @param args nicht verwendet
+     */
+    public static void main(String[] args) {
+        pruefeEinzelneFenster();
+        pruefeMehrereFenster();
+        System.out.println("ZeitfensterOptimiererTest: OK");
+    }
+
+    /**
+     * Ein Fenster je Anlage: Segment-Verkettung gegen Simulation.
+     */
+    private static void pruefeEinzelneFenster() {
+        Random zufall = new Random(17);
+        for (int versuch = 0; versuch < 200; versuch++) {
+            int n = 2 + zufall.nextInt(versuch < 150 ? 15 : 120);
+            // Weite Streuung, damit Kanten mit Reisetagen vorkommen
+            List<Windkraftanlage> anlagen = Pruefung.erstelleAnlagen(n, 51f, 10f, 5f, zufall);
+            RoutenDistanzTabelle tabelle = new RoutenDistanzTabelle(anlagen);
+            int[] frueh = new int[n];
+            int[] spaet = new int[n];
+            for (int i = 0; i < n; i++) {
+                if (zufall.nextInt(3) == 0) {
+                    frueh[i] = 0;
+                    spaet[i] = WartungsFenster.OFFEN;
+                } else {
+                    int tag = 1 + zufall.nextInt(Math.max(1, n / 2));
+                    frueh[i] = ZeitfensterOptimierer.ersterSlot(tag);
+                    spaet[i] = ZeitfensterOptimierer.letzterSlot(tag + zufall.nextInt(4));
+                }
+            }
+            int[] tour = mischeTour(n, zufall);
+
+            int vorher = ZeitfensterOptimierer.berechneVerzug(tour, tabelle, frueh, spaet);
+            Pruefung.pruefeGleich(simuliereVerzug(tour, tabelle, frueh, spaet), vorher, "Verzug vor Verbesserung");
+
+            int start = tour[0];
+            int nachher = ZeitfensterOptimierer.verbessere(tour, tabelle, frueh, spaet);
+            Pruefung.pruefeGleich(simuliereVerzug(tour, tabelle, frueh, spaet), nachher, "Verzug nach Verbesserung");
+            Pruefung.pruefe(nachher <= vorher, "Verzug darf nicht steigen: " + vorher + " -> " + nachher);
+            Pruefung.pruefeGleich(start, tour[0], "Startanlage");
+            int[] sortiert = tour.clone();
+            Arrays.sort(sortiert);
+            for (int i = 0; i < n; i++) {
+                Pruefung.pruefeGleich(i, sortiert[i], "Permutation");
+            }
+        }
+    }
+
+    /**
+     * Bis zu drei Fenster je Anlage mit Luecken dazwischen: exakter Verzug gegen Simulation,
+     * Verbesserung ohne Anstieg, Startanlage und Permutation.
+     */
+    private static void pruefeMehrereFenster() {
+        Random zufall = new Random(48);
+        int mitLuecke = 0;
+        for (int versuch = 0; versuch < 150; versuch++) {
+            int n = 2 + zufall.nextInt(versuch < 100 ? 15 : 80);
+            List<Windkraftanlage> anlagen = Pruefung.erstelleAnlagen(n, 51f, 10f, 5f, zufall);
+            RoutenDistanzTabelle tabelle = new RoutenDistanzTabelle(anlagen);
+            int[] frueh = new int[n];
+            int[] spaet = new int[n];
+            int[][] erlaubt = new int[n][];
+            for (int i = 0; i < n; i++) {
+                if (zufall.nextInt(4) == 0) {
+                    frueh[i] = 0;
+                    spaet[i] = WartungsFenster.OFFEN;
+                    continue;
+                }
+                int anzahl = 1 + zufall.nextInt(3);
+                int[] tage = new int[2 * anzahl];
+                int tag = 1 + zufall.nextInt(Math.max(1, n / 3));
+                for (int k = 0; k < anzahl; k++) {
+                    tage[2 * k] = tag;
+                    tage[2 * k + 1] = tag + zufall.nextInt(3);
+                    tag = tage[2 * k + 1] + 2 + zufall.nextInt(5);
+                }
+                erlaubt[i] = ZeitfensterOptimierer.alsSlotFenster(tage);
+                frueh[i] = erlaubt[i][0];
+                spaet[i] = erlaubt[i][erlaubt[i].length - 1];
+                mitLuecke += anzahl > 1 ? 1 : 0;
+            }
+            int[] tour = mischeTour(n, zufall);
+
+            int vorher = ZeitfensterOptimierer.berechneVerzug(tour, tabelle, frueh, spaet, erlaubt);
+            Pruefung.pruefeGleich(simuliereVerzug(tour, tabelle, erlaubt, frueh, spaet), vorher,
+                "Verzug mit Luecken vor Verbesserung");
+            Pruefung.pruefe(ZeitfensterOptimierer.berechneVerzug(tour, tabelle, frueh, spaet) <= vorher,
+                "Huelle ist untere Schranke");
+            int start = tour[0];
+            int nachher = ZeitfensterOptimierer.verbessere(tour, tabelle, frueh, spaet, erlaubt);
+            Pruefung.pruefeGleich(simuliereVerzug(tour, tabelle, erlaubt, frueh, spaet), nachher,
+                "Verzug mit Luecken nach Verbesserung");
+            Pruefung.pruefe(nachher <= vorher, "Verzug mit Luecken darf nicht steigen: " + vorher + " -> " + nachher);
+            Pruefung.pruefeGleich(start, tour[0], "Startanlage mit Luecken");
+            int[] sortiert = tour.clone();
+            Arrays.sort(sortiert);
+            for (int i = 0; i < n; i++) {
+                Pruefung.pruefeGleich(i, sortiert[i], "Permutation mit Luecken");
+            }
+        }
+        Pruefung.pruefe(mitLuecke > 0, "Keine Anlage mit Luecke erzeugt");
+    }
+
+    private static int[] mischeTour(int n, Random zufall) {
+        int[] tour = new int[n];
+        for (int i = 0; i < n; i++) {
+            tour[i] = i;
+        }
+        for (int i = n - 1; i > 1; i--) {
+            int j = 1 + zufall.nextInt(i);
+            int tausch = tour[i];
+            tour[i] = tour[j];
+            tour[j] = tausch;
+        }
+        return tour;
+    }
+
+    /**
+     * Referenz mit Luecken: Start im ersten Fenster, das die Ankunft noch enthaelt oder spaeter
+     * beginnt; hinter allen Fenstern Zeitsprung auf das Ende des letzten.
+     */
+    private static int simuliereVerzug(int[] tour, RoutenDistanzTabelle tabelle, int[][] erlaubt,
+                                       int[] frueh, int[] spaet) {
+        long zeit = 0;
+        long verzug = 0;
+        for (int i = 0; i < tour.length; i++) {
+            if (i > 0) {
+                int reisetage = WartungsZeitBerechner.berechneReisetage(tabelle.distanz(tour[i - 1], tour[i]));
+                int reise = reisetage == 0 ? 0 : (reisetage + 1) * Konstanten.ANLAGEN_PRO_TAG - 1;
+                zeit += 1 + reise;
+            }
+            int[] fenster = erlaubt[tour[i]] != null ? erlaubt[tour[i]] : new int[] {frueh[tour[i]], spaet[tour[i]]};
+            long beginn = -1;
+            for (int k = fenster.length - 2; k >= 0; k -= 2) {
+                if (zeit <= fenster[k + 1]) {
+                    beginn = Math.max(zeit, fenster[k]);
+                }
+            }
+            if (beginn < 0) {
+                verzug += zeit - fenster[fenster.length - 1];
+                beginn = fenster[fenster.length - 1];
+            }
+            zeit = beginn;
+        }
+        return (int) verzug;
+    }
+
+    /**
+     * Referenz: Anlage fuer Anlage in Slots, Warten bis Fensteranfang, Verspaetung wird gezaehlt
+     * und die Zeit auf das Fensterende gesetzt.
+     */
+    private static int simuliereVerzug(int[] tour, RoutenDistanzTabelle tabelle, int[] frueh, int[] spaet) {
+        long zeit = 0;
+        long verzug = 0;
+        for (int i = 0; i < tour.length; i++) {
+            if (i > 0) {
+                int reisetage = WartungsZeitBerechner.berechneReisetage(tabelle.distanz(tour[i - 1], tour[i]));
+                int reise = reisetage == 0 ? 0 : (reisetage + 1) * Konstanten.ANLAGEN_PRO_TAG - 1;
+                zeit += 1 + reise;
+            }
+            zeit = Math.max(zeit, frueh[tour[i]]);
+            if (zeit > spaet[tour[i]]) {
+                verzug += zeit - spaet[tour[i]];
+                zeit = spaet[tour[i]];
+            }
+        }
+        return (int) verzug;
+    }
+}